@@ -17,6 +17,7 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.text.MessageFormat;
+import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -89,7 +90,9 @@ public final class JacksonCborFactory implements CborFactory {
     public JsonValue readFrom(final ByteBuffer byteBuffer) {
         // ensure that buffers position is zero so that offsets determined by CBORParser map directly to positions in
         // this buffer.
-        final ByteBuffer slicedByteBuffer = byteBuffer.slice();
+        // the buffer is read-only so that the parsed values copy their CBOR representation instead of referencing
+        // the array of a heap buffer which is likely to be re-used by the caller.
+        final ByteBuffer slicedByteBuffer = byteBuffer.slice().asReadOnlyBuffer();
         try {
             final CBORParser parser = JACKSON_CBOR_FACTORY.createParser(ByteBufferInputStream.of(slicedByteBuffer));
             return parseValue(parser, slicedByteBuffer);
@@ -116,6 +119,20 @@ public final class JacksonCborFactory implements CborFactory {
         writeToOutputStream(jsonValue, byteBufferOutputStream);
     }
 
+    @Override
+    public void writeFieldsToByteBuffer(final Collection<JsonField> jsonFields, final ByteBuffer byteBuffer)
+            throws IOException {
+
+        try (final JacksonSerializationContext serializationContext =
+                new JacksonSerializationContext(JACKSON_CBOR_FACTORY, byteBuffer)) {
+            writeStartObjectWithLength(serializationContext, jsonFields.size());
+            for (final JsonField jsonField : jsonFields) {
+                jsonField.writeKeyAndValue(serializationContext);
+            }
+            serializationContext.getJacksonGenerator().writeEndObject();
+        }
+    }
+
     @Override
     public byte[] createCborRepresentation(final Map<String, JsonField> jsonFieldMap, final int guessedSerializedSize)
             throws IOException {
@@ -235,6 +252,10 @@ public final class JacksonCborFactory implements CborFactory {
             map.put(key, jsonField);
         }
         final long endOffset = parser.getTokenLocation().getByteOffset();
+        if (byteBuffer.hasArray()) {
+            return JsonFactory.createJsonObject(map, byteBuffer.array(), getArrayOffset(startOffset, byteBuffer),
+                    getLength(startOffset, endOffset));
+        }
         return JsonFactory.createJsonObject(map, getBytesFromInputSource(startOffset, endOffset, byteBuffer));
     }
 
@@ -246,9 +267,24 @@ public final class JacksonCborFactory implements CborFactory {
             list.add(jsonValue);
         }
         final long endOffset = parser.getTokenLocation().getByteOffset();
+        if (byteBuffer.hasArray()) {
+            return JsonFactory.createJsonArray(list, byteBuffer.array(), getArrayOffset(startOffset, byteBuffer),
+                    getLength(startOffset, endOffset));
+        }
         return JsonFactory.createJsonArray(list, getBytesFromInputSource(startOffset, endOffset, byteBuffer));
     }
 
+    private static int getArrayOffset(final long startOffset, final ByteBuffer byteBuffer) {
+        return byteBuffer.arrayOffset() + (int) startOffset;
+    }
+
+    private static int getLength(final long startOffset, final long endOffset) {
+        assert endOffset > startOffset;
+        assert endOffset < Integer.MAX_VALUE;
+
+        return (int) (endOffset - startOffset);
+    }
+
     private static byte[] getBytesFromInputSource(final long startOffset, final long endOffset,
             final ByteBuffer byteBuffer) {
         assert endOffset > startOffset;
@@ -200,6 +200,20 @@ public final class CborJsonTest {
                 .isEqualToIgnoringCase(expectedString);
     }
 
+    @Test
+    public void writeFieldsWritesExpectedObject() throws IOException {
+        final JsonObject nested = JsonFactory.newObjectBuilder(KNOWN_FIELDS.values()).build();
+        final List<JsonField> fields = new ArrayList<>(KNOWN_FIELDS.values());
+        fields.add(toField("nested", nested));
+        final ByteBuffer byteBuffer = ByteBuffer.allocate(512);
+
+        cborFactory.writeFieldsToByteBuffer(fields, byteBuffer);
+        byteBuffer.flip();
+
+        assertThat(BinaryToHexConverter.toHexString(byteBuffer))
+                .isEqualToIgnoringCase(CborTestUtils.serializeToHexString(JsonFactory.newObjectBuilder(fields).build()));
+    }
+
     @Test
     public void validateImmutableJsonObjectInternalCachingBehaviour() throws IOException {
         final JsonObject objectWithSelfGeneratedCache = JsonFactory.newObjectBuilder(KNOWN_FIELDS.values()).build();
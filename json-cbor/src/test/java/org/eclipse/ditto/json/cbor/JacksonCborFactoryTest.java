@@ -85,6 +85,27 @@ public final class JacksonCborFactoryTest {
         assertThat(result).isEqualTo(testValue);
     }
 
+    @Test
+    public void readFromByteArrayWithOffsetKeepsCborRepresentation() throws IOException {
+        final int paddingFront = 20;
+        final byte[] arrayWithOffset = new byte[paddingFront + testBytes.length + paddingFront];
+        System.arraycopy(testBytes, 0, arrayWithOffset, paddingFront, testBytes.length);
+
+        final JsonValue result = cborFactory.readFrom(arrayWithOffset, paddingFront, testBytes.length);
+
+        assertThat(cborFactory.toByteArray(result)).isEqualTo(testBytes);
+    }
+
+    @Test
+    public void readFromByteBufferCopiesCborRepresentation() throws IOException {
+        final byte[] bytes = testBytes.clone();
+
+        final JsonValue result = cborFactory.readFrom(ByteBuffer.wrap(bytes));
+        Arrays.fill(bytes, (byte) 0);
+
+        assertThat(cborFactory.toByteArray(result)).isEqualTo(testBytes);
+    }
+
     @Test
     public void readFromByteBuffer() {
         final JsonValue result = cborFactory.readFrom(ByteBuffer.wrap(testBytes));
@@ -14,6 +14,7 @@ package org.eclipse.ditto.json;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -42,6 +43,8 @@ public interface CborFactory {
 
     /**
      * Deserializes a {@code JsonValue} by parsing the passed {@code bytes} with CBOR.
+     * The CBOR representations of the parsed objects and arrays may reference {@code bytes}, thus they must not be
+     * modified afterwards.
      *
      * @param bytes the bytes to parse with CBOR.
      * @return the parsed JsonValue.
@@ -51,6 +54,8 @@ public interface CborFactory {
     /**
      * Deserializes a {@code JsonValue} by parsing the passed {@code bytes} with CBOR applying a {@code offset} and
      * {@code length}.
+     * The CBOR representations of the parsed objects and arrays may reference {@code bytes}, thus they must not be
+     * modified afterwards.
      *
      * @param bytes the bytes to parse with CBOR.
      * @param offset the offset where to start reading from.
@@ -61,6 +66,7 @@ public interface CborFactory {
 
     /**
      * Deserializes a {@code JsonValue} by parsing the passed {@code byteBuffer} with CBOR.
+     * The parsed objects and arrays copy their CBOR representation so that the buffer may be re-used afterwards.
      *
      * @param byteBuffer the ByteBuffer to parse with CBOR.
      * @return the parsed JsonValue.
@@ -94,6 +100,26 @@ public interface CborFactory {
      */
     void writeToByteBuffer(JsonValue jsonValue, ByteBuffer byteBuffer) throws IOException;
 
+    /**
+     * Serializes a CBOR object consisting of the passed {@code jsonFields} into the passed {@code byteBuffer} without
+     * creating a JsonObject and its CBOR representation first. Values which already have a CBOR representation are
+     * copied as they are.
+     * <p>
+     * The default implementation builds a JsonObject of the fields and serializes it with
+     * {@link #writeToByteBuffer(JsonValue, ByteBuffer)}.
+     * </p>
+     *
+     * @param jsonFields the fields of the object to serialize into CBOR.
+     * @param byteBuffer the ByteBuffer to serialize into.
+     * @throws IOException in case writing the fields to the backing OutputStream causes an IOException.
+     * @since 2.0.0
+     */
+    default void writeFieldsToByteBuffer(final Collection<JsonField> jsonFields, final ByteBuffer byteBuffer)
+            throws IOException {
+
+        writeToByteBuffer(JsonFactory.newObject(jsonFields), byteBuffer);
+    }
+
     /**
      * Creates the CBOR representation of the passed JSON fieldMap and the estimated required serialized size of it.
      *
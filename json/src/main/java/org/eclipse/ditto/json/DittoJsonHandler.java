@@ -23,6 +23,19 @@ import com.eclipsesource.json.JsonHandler;
  */
 abstract class DittoJsonHandler<A, O, V> extends JsonHandler<A, O> {
 
+    /**
+     * Indicates the end of an object member value like {@link #endObjectValue(Object, String)} but provides the
+     * member name as {@code JsonKey}. Parsers which intern keys (see {@link JsonKeyCache}) call this method so that
+     * handlers can re-use the key instead of creating a new one.
+     * This default implementation delegates to {@link #endObjectValue(Object, String)}.
+     *
+     * @param object the object handler returned by {@link #startObject()}.
+     * @param key the key of the member.
+     */
+    public void endObjectValue(final O object, final JsonKey key) {
+        endObjectValue(object, key.toString());
+    }
+
     /**
      * Returns the value of this handler or {@code null}.
      *
@@ -297,15 +297,29 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
 
         private String jsonArrayStringRepresentation;
         private byte[] cborArrayRepresentation;
+        private final int cborOffset;
+        private final int cborLength; // -1 for the whole array
         private int hashCode;
         private SoftReference<List<JsonValue>> valuesReference;
 
         private SoftReferencedValueList(final List<JsonValue> jsonValueList,
                 @Nullable final String stringRepresentation,
                 @Nullable final byte[] cborArrayRepresentation) {
+
+            this(jsonValueList, stringRepresentation, cborArrayRepresentation, 0,
+                    -1);
+        }
+
+        private SoftReferencedValueList(final List<JsonValue> jsonValueList,
+                @Nullable final String stringRepresentation,
+                @Nullable final byte[] cborArrayRepresentation,
+                final int cborOffset,
+                final int cborLength) {
             valuesReference = new SoftReference<>(Collections.unmodifiableList(new ArrayList<>(jsonValueList)));
             jsonArrayStringRepresentation = stringRepresentation;
             this.cborArrayRepresentation = cborArrayRepresentation;
+            this.cborOffset = cborOffset;
+            this.cborLength = cborLength;
             if (jsonArrayStringRepresentation == null && cborArrayRepresentation == null) {
                 if (CBOR_FACTORY.isCborAvailable()) {
                     try {
@@ -346,6 +360,11 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
             return new SoftReferencedValueList(jsonValueList, stringRepresentation, cborRepresentation);
         }
 
+        static SoftReferencedValueList of(final List<JsonValue> jsonValueList,
+                final byte[] cborRepresentation, final int cborOffset, final int cborLength) {
+            return new SoftReferencedValueList(jsonValueList, null, cborRepresentation, cborOffset, cborLength);
+        }
+
         private String createStringRepresentation(final Iterable<JsonValue> jsonValues) {
             final StringBuilder stringBuilder = new StringBuilder(guessSerializedSize());
             stringBuilder.append('[');
@@ -401,7 +420,7 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
 
         private List<JsonValue> recoverValues() {
             if (CBOR_FACTORY.isCborAvailable() && cborArrayRepresentation != null) {
-                return parseToList(cborArrayRepresentation);
+                return parseToList(cborArrayRepresentation, cborOffset, getCborLength(cborArrayRepresentation));
             }
             if (jsonArrayStringRepresentation != null) {
                 return parseToList(jsonArrayStringRepresentation);
@@ -415,8 +434,10 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
             return jsonHandler.getValue();
         }
 
-        private static List<JsonValue> parseToList(final byte[] cborArrayRepresentation) {
-            final JsonValue jsonArray = CBOR_FACTORY.readFrom(cborArrayRepresentation);
+        private static List<JsonValue> parseToList(final byte[] cborArrayRepresentation, final int offset,
+                final int length) {
+
+            final JsonValue jsonArray = CBOR_FACTORY.readFrom(cborArrayRepresentation, offset, length);
             List<JsonValue> list = new LinkedList<>();
             for (JsonValue jsonValue : jsonArray.asArray()) {
                 list.add(jsonValue);
@@ -450,12 +471,29 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
                 return false;
             }
             if (cborArrayRepresentation != null && that.cborArrayRepresentation != null &&
-                    Arrays.equals(cborArrayRepresentation, that.cborArrayRepresentation)) {
+                    hasEqualCborRepresentation(that)) {
                 return true;
             }
             return Objects.equals(values(), that.values());
         }
 
+        private int getCborLength(final byte[] cbor) {
+            return 0 <= cborLength ? cborLength : cbor.length;
+        }
+
+        private boolean hasEqualCborRepresentation(final SoftReferencedValueList that) {
+            final int length = getCborLength(cborArrayRepresentation);
+            if (length != that.getCborLength(that.cborArrayRepresentation)) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (cborArrayRepresentation[cborOffset + i] != that.cborArrayRepresentation[that.cborOffset + i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
         @Override
         public int hashCode() {
             int result = hashCode;
@@ -474,10 +512,16 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
         }
 
         void writeValue(final SerializationContext serializationContext) throws IOException {
-            if (CBOR_FACTORY.isCborAvailable() && cborArrayRepresentation == null) {
-                cborArrayRepresentation = CBOR_FACTORY.createCborRepresentation(this.values(), guessSerializedSize());
+            byte[] cbor = cborArrayRepresentation;
+            if (CBOR_FACTORY.isCborAvailable() && cbor == null) {
+                cbor = CBOR_FACTORY.createCborRepresentation(this.values(), guessSerializedSize());
+                cborArrayRepresentation = cbor;
+            }
+            if (null == cbor) {
+                serializationContext.writeCachedElement(null);
+            } else {
+                serializationContext.writeCachedElement(cbor, cborOffset, getCborLength(cbor));
             }
-            serializationContext.writeCachedElement(cborArrayRepresentation);
         }
 
         private int guessSerializedSize() {
@@ -487,7 +531,7 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
                 return jsonArrayStringRepresentation.length();
             }
             if (cborArrayRepresentation != null) {
-                return cborArrayRepresentation.length;
+                return getCborLength(cborArrayRepresentation);
             }
             return 512;
         }
@@ -497,7 +541,7 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
                 return jsonArrayStringRepresentation.length();
             }
             if (cborArrayRepresentation != null) {
-                return cborArrayRepresentation.length * CBOR_MAX_COMPRESSION_RATIO;
+                return getCborLength(cborArrayRepresentation) * CBOR_MAX_COMPRESSION_RATIO;
             }
             assert false; // this should never happen
             return Long.MAX_VALUE;
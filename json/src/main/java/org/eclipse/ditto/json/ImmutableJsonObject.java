@@ -19,7 +19,6 @@ import java.lang.ref.SoftReference;
 import java.text.MessageFormat;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.Iterator;
@@ -512,6 +511,12 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         if (this == o) {
             return true;
         }
+        if (o instanceof PersistentJsonObject) {
+            return fieldMap.fields().equals(((PersistentJsonObject) o).asMap());
+        }
+        if (o instanceof LazyJsonObject) {
+            return o.equals(this);
+        }
         if (o == null || getClass() != o.getClass()) {
             return false;
         }
@@ -555,16 +560,28 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
 
         private String jsonObjectStringRepresentation;
         private byte[] cborObjectRepresentation;
+        private final int cborOffset;
+        private final int cborLength; // -1 for the whole array
         private int hashCode;
         private SoftReference<Map<String, JsonField>> fieldsReference;
 
         private SoftReferencedFieldMap(final Map<String, JsonField> jsonFieldMap,
                 @Nullable final String stringRepresentation, @Nullable final byte[] cborObjectRepresentation) {
 
+            this(jsonFieldMap, stringRepresentation, cborObjectRepresentation, 0,
+                    -1);
+        }
+
+        private SoftReferencedFieldMap(final Map<String, JsonField> jsonFieldMap,
+                @Nullable final String stringRepresentation, @Nullable final byte[] cborObjectRepresentation,
+                final int cborOffset, final int cborLength) {
+
             requireNonNull(jsonFieldMap, "The fields of JSON object must not be null!");
             fieldsReference = new SoftReference<>(Collections.unmodifiableMap(new LinkedHashMap<>(jsonFieldMap)));
             jsonObjectStringRepresentation = stringRepresentation;
             this.cborObjectRepresentation = cborObjectRepresentation;
+            this.cborOffset = cborOffset;
+            this.cborLength = cborLength;
             if (jsonObjectStringRepresentation == null && cborObjectRepresentation == null) {
                 if (CBOR_FACTORY.isCborAvailable()) {
                     try {
@@ -605,6 +622,11 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
             return new SoftReferencedFieldMap(jsonFieldMap, stringRepresentation, cborObjectRepresentation);
         }
 
+        static SoftReferencedFieldMap of(final Map<String, JsonField> jsonFieldMap,
+                final byte[] cborObjectRepresentation, final int cborOffset, final int cborLength) {
+            return new SoftReferencedFieldMap(jsonFieldMap, null, cborObjectRepresentation, cborOffset, cborLength);
+        }
+
         private String createStringRepresentation(final Map<String, JsonField> jsonFieldMap) {
             final StringBuilder stringBuilder = new StringBuilder(guessSerializedSize());
             stringBuilder.append('{');
@@ -677,7 +699,7 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
 
         private Map<String, JsonField> recoverFields() {
             if (CBOR_FACTORY.isCborAvailable() && cborObjectRepresentation != null) {
-                return parseToMap(cborObjectRepresentation);
+                return parseToMap(cborObjectRepresentation, cborOffset, getCborLength(cborObjectRepresentation));
             }
             if (jsonObjectStringRepresentation != null) {
                 return parseToMap(jsonObjectStringRepresentation);
@@ -691,8 +713,10 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
             return jsonHandler.getValue();
         }
 
-        private static Map<String, JsonField> parseToMap(final byte[] cborObjectRepresentation) {
-            final JsonValue jsonObject = CBOR_FACTORY.readFrom(cborObjectRepresentation);
+        private static Map<String, JsonField> parseToMap(final byte[] cborObjectRepresentation, final int offset,
+                final int length) {
+
+            final JsonValue jsonObject = CBOR_FACTORY.readFrom(cborObjectRepresentation, offset, length);
             final Map<String, JsonField> map = new LinkedHashMap<>();
             for (final JsonField jsonValue : jsonObject.asObject()) {
                 map.put(jsonValue.getKey().toString(), jsonValue);
@@ -719,12 +743,29 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
                 return false;
             }
             if (cborObjectRepresentation != null && that.cborObjectRepresentation != null &&
-                    Arrays.equals(cborObjectRepresentation, that.cborObjectRepresentation)) {
+                    hasEqualCborRepresentation(that)) {
                 return true;
             }
             return Objects.equals(fields(), that.fields());
         }
 
+        private int getCborLength(final byte[] cbor) {
+            return 0 <= cborLength ? cborLength : cbor.length;
+        }
+
+        private boolean hasEqualCborRepresentation(final SoftReferencedFieldMap that) {
+            final int length = getCborLength(cborObjectRepresentation);
+            if (length != that.getCborLength(that.cborObjectRepresentation)) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (cborObjectRepresentation[cborOffset + i] != that.cborObjectRepresentation[that.cborOffset + i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
         @Override
         public int hashCode() {
             int result = hashCode;
@@ -743,10 +784,16 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         }
 
         void writeValue(final SerializationContext serializationContext) throws IOException {
-            if (CBOR_FACTORY.isCborAvailable() && cborObjectRepresentation == null) {
-                cborObjectRepresentation = CBOR_FACTORY.createCborRepresentation(this.fields(), guessSerializedSize());
+            byte[] cbor = cborObjectRepresentation;
+            if (CBOR_FACTORY.isCborAvailable() && cbor == null) {
+                cbor = CBOR_FACTORY.createCborRepresentation(this.fields(), guessSerializedSize());
+                cborObjectRepresentation = cbor;
+            }
+            if (null == cbor) {
+                serializationContext.writeCachedElement(null);
+            } else {
+                serializationContext.writeCachedElement(cbor, cborOffset, getCborLength(cbor));
             }
-            serializationContext.writeCachedElement(cborObjectRepresentation);
         }
 
         private int guessSerializedSize() {
@@ -755,7 +802,7 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
                 return jsonObjectStringRepresentation.length();
             }
             if (cborObjectRepresentation != null) {
-                return cborObjectRepresentation.length;
+                return getCborLength(cborObjectRepresentation);
             }
             return 512;
         }
@@ -765,7 +812,7 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
                 return jsonObjectStringRepresentation.length();
             }
             if (cborObjectRepresentation != null) {
-                return cborObjectRepresentation.length * CBOR_MAX_COMPRESSION_RATIO;
+                return getCborLength(cborObjectRepresentation) * CBOR_MAX_COMPRESSION_RATIO;
             }
             assert false; // this should never happen
             return Long.MAX_VALUE;
@@ -848,11 +895,16 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
 
         @Override
         public void endObjectValue(final List<JsonField> jsonFields, final String name) {
+            endObjectValue(jsonFields, JsonKey.of(name));
+        }
+
+        @Override
+        public void endObjectValue(final List<JsonField> jsonFields, final JsonKey key) {
             final List<JsonField> jsonObjectBuilder = jsonObjectBuilders.peek();
             if (null != jsonObjectBuilder) {
-                defaultHandler.endObjectValue(jsonObjectBuilder, name);
+                defaultHandler.endObjectValue(jsonObjectBuilder, key);
             } else {
-                jsonFields.add(JsonField.newInstance(name, defaultHandler.getValue()));
+                jsonFields.add(JsonField.newInstance(key, defaultHandler.getValue()));
             }
         }
 
@@ -14,9 +14,9 @@ package org.eclipse.ditto.json;
 
 import static java.util.Objects.requireNonNull;
 
-import java.io.ByteArrayInputStream;
-import java.io.InputStreamReader;
+import java.io.InputStream;
 import java.io.Reader;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
 import java.util.Arrays;
@@ -201,6 +201,60 @@ public final class JsonFactory {
         return JsonValueParser.fromReader().apply(reader);
     }
 
+    /**
+     * Reads the given UTF-8 encoded bytes and creates a JSON value based on the read data. The bytes are parsed
+     * directly without decoding them to a string first.
+     *
+     * @param jsonData the UTF-8 encoded JSON document to read.
+     * @return a JSON value representing the read document.
+     * @throws NullPointerException if {@code jsonData} is {@code null}.
+     * @throws JsonParseException if {@code jsonData} is empty or if it is no valid JSON.
+     * @since 2.0.0
+     */
+    public static JsonValue readFrom(final byte[] jsonData) {
+        requireNonNull(jsonData, "The JSON data to read from must not be null!");
+        if (0 == jsonData.length) {
+            throw new JsonParseException("The JSON data to read from must not be empty!");
+        }
+
+        return JsonValueParser.fromBytes().apply(jsonData);
+    }
+
+    /**
+     * Reads the remaining UTF-8 encoded bytes of the given buffer and creates a JSON value based on the read data.
+     * The bytes are parsed directly without decoding them to a string first. The position of the buffer is not
+     * changed.
+     *
+     * @param byteBuffer the buffer containing the UTF-8 encoded JSON document to read.
+     * @return a JSON value representing the read document.
+     * @throws NullPointerException if {@code byteBuffer} is {@code null}.
+     * @throws JsonParseException if {@code byteBuffer} has no remaining bytes or if they are no valid JSON.
+     * @since 2.0.0
+     */
+    public static JsonValue readFrom(final ByteBuffer byteBuffer) {
+        requireNonNull(byteBuffer, "The JSON byte buffer to read from must not be null!");
+        if (!byteBuffer.hasRemaining()) {
+            throw new JsonParseException("The JSON byte buffer to read from must not be empty!");
+        }
+
+        return JsonValueParser.fromByteBuffer().apply(byteBuffer);
+    }
+
+    /**
+     * Reads the entire given stream of UTF-8 encoded bytes and parses it as JSON value. The stream is read in chunks
+     * and parsed directly without decoding it to a string first. It is not closed by this method.
+     *
+     * @param inputStream the stream to read the JSON value from.
+     * @return a JSON value which represents the read stream.
+     * @throws NullPointerException if {@code inputStream} is {@code null}.
+     * @throws JsonParseException if an I/O error occurred or if the input is no valid JSON.
+     * @since 2.0.0
+     */
+    public static JsonValue readFrom(final InputStream inputStream) {
+        requireNonNull(inputStream, "The input stream to read from must not be null!");
+        return JsonValueParser.fromInputStream().apply(inputStream);
+    }
+
     /**
      * Returns a new mutable builder for a {@code JsonObject}.
      *
@@ -234,6 +288,52 @@ public final class JsonFactory {
         return ImmutableJsonObject.empty();
     }
 
+    /**
+     * Returns an empty persistent JSON object.
+     * In contrast to the JSON objects created by {@link #newObject()}, altering methods of persistent JSON objects
+     * share the structure of the original object with the altered object instead of copying all fields.
+     * They should be preferred if a JSON object with many fields is altered repeatedly, e.g. when applying events
+     * or patches to a large Thing.
+     *
+     * @return an empty persistent JSON object.
+     * @since 2.0.0
+     */
+    public static JsonObject newPersistentObject() {
+        return PersistentJsonObject.empty();
+    }
+
+    /**
+     * Returns a persistent JSON object which contains the given fields in their iteration order.
+     *
+     * @param jsonFields the fields of the returned JSON object.
+     * @return the persistent JSON object.
+     * @throws NullPointerException if {@code jsonFields} is {@code null}.
+     * @see #newPersistentObject()
+     * @since 2.0.0
+     */
+    public static JsonObject newPersistentObject(final Iterable<JsonField> jsonFields) {
+        return PersistentJsonObject.of(jsonFields);
+    }
+
+    /**
+     * Returns a JSON object which is backed by the given UTF-8 encoded bytes. The bytes are indexed once but values
+     * are only parsed when they are accessed, e. g. via {@link JsonObject#getValue(CharSequence)}. This is the
+     * preferred way to create a JSON object if only a few of its fields are read. Untouched nested objects are
+     * serialized as their original bytes.
+     * <p>
+     * The bytes are not copied, thus they must not be modified afterwards.
+     * </p>
+     *
+     * @param jsonObjectBytes the UTF-8 encoded bytes of a JSON object.
+     * @return the lazy JSON object.
+     * @throws NullPointerException if {@code jsonObjectBytes} is {@code null}.
+     * @throws JsonParseException if {@code jsonObjectBytes} do not contain a JSON object.
+     * @since 2.0.0
+     */
+    public static JsonObject newLazyObject(final byte[] jsonObjectBytes) {
+        return LazyJsonObject.of(jsonObjectBytes);
+    }
+
     /**
      * Creates a JSON object from the given string.
      *
@@ -287,8 +387,7 @@ public final class JsonFactory {
         if (isJsonNullLiteralData(jsonData)) {
             return nullObject();
         } else {
-            final Reader reader = new InputStreamReader(new ByteArrayInputStream(jsonData));
-            final JsonValue jsonValue = JsonValueParser.fromReader().apply(reader);
+            final JsonValue jsonValue = JsonValueParser.fromBytes().apply(jsonData);
             if (!jsonValue.isObject()) {
                 final String msgPattern = "<{0}> is not a valid JSON object!";
                 throw JsonParseException.newBuilder()
@@ -882,6 +981,27 @@ public final class JsonFactory {
                 ImmutableJsonArray.SoftReferencedValueList.of(jsonValueList, cborRepresentation));
     }
 
+    /**
+     * Creates a {@link JsonArray} backed with an already serialized CBOR representation which is located within the
+     * passed bytes. The bytes are not copied, thus they must not be modified afterwards.
+     * <p>
+     * <b>This is a Ditto internal API is not intended for re-use.</b>
+     * It therefore is not treated as API which is held binary compatible to previous versions.
+     * </p>
+     *
+     * @param jsonValueList the JSON values to create the JsonArray from.
+     * @param cborBytes the bytes containing the CBOR serialized representation of the JsonArray.
+     * @param offset the offset of the CBOR representation within {@code cborBytes}.
+     * @param length the length of the CBOR representation.
+     * @return the created JsonArray.
+     * @since 2.0.0
+     */
+    public static JsonArray createJsonArray(final List<JsonValue> jsonValueList, final byte[] cborBytes,
+            final int offset, final int length) {
+        return new ImmutableJsonArray(
+                ImmutableJsonArray.SoftReferencedValueList.of(jsonValueList, cborBytes, offset, length));
+    }
+
     /**
      * Creates a {@link JsonObject} backed with an already serialized CBOR representation as the passed bytes.
      * <p>
@@ -900,6 +1020,27 @@ public final class JsonFactory {
                 ImmutableJsonObject.SoftReferencedFieldMap.of(jsonFieldMap, null, cborObjectRepresentation));
     }
 
+    /**
+     * Creates a {@link JsonObject} backed with an already serialized CBOR representation which is located within the
+     * passed bytes. The bytes are not copied, thus they must not be modified afterwards.
+     * <p>
+     * <b>This is a Ditto internal API is not intended for re-use.</b>
+     * It therefore is not treated as API which is held binary compatible to previous versions.
+     * </p>
+     *
+     * @param jsonFieldMap the JSON fields to create the JsonObject from.
+     * @param cborBytes the bytes containing the CBOR serialized representation of the JsonObject.
+     * @param offset the offset of the CBOR representation within {@code cborBytes}.
+     * @param length the length of the CBOR representation.
+     * @return the created JsonObject.
+     * @since 2.0.0
+     */
+    public static JsonObject createJsonObject(final Map<String, JsonField> jsonFieldMap, final byte[] cborBytes,
+            final int offset, final int length) {
+        return new ImmutableJsonObject(
+                ImmutableJsonObject.SoftReferencedFieldMap.of(jsonFieldMap, cborBytes, offset, length));
+    }
+
     /**
      * Converts the specified char sequence to a {@link JsonPointer} which is guaranteed to be not empty.
      *
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A bounded cache of {@link JsonKey}s which is looked up by the raw UTF-8 bytes of a key.
+ * This allows parsers to re-use the same {@code JsonKey} (and its {@code String}) for keys which occur in many
+ * documents like {@code "topic"}, {@code "headers"} or {@code "correlation-id"} without decoding them again.
+ * <p>
+ * The cache is direct-mapped: each key occupies the entry determined by its hash, a colliding key simply replaces the
+ * previous one. Entries are immutable so that the cache can be shared between threads without locking.
+ * </p>
+ */
+@ThreadSafe
+final class JsonKeyCache {
+
+    /**
+     * Keys longer than this amount of bytes are not cached.
+     */
+    static final int MAX_KEY_LENGTH = 64;
+
+    private static final int DEFAULT_CAPACITY = 2048;
+    private static final JsonKeyCache SHARED_INSTANCE = new JsonKeyCache(DEFAULT_CAPACITY);
+
+    private final Entry[] entries;
+    private final int mask;
+
+    private JsonKeyCache(final int capacity) {
+        final int powerOfTwoCapacity = Integer.highestOneBit(Math.max(1, capacity - 1) << 1);
+        entries = new Entry[powerOfTwoCapacity];
+        mask = powerOfTwoCapacity - 1;
+    }
+
+    /**
+     * Returns the instance which is shared by all parsers.
+     *
+     * @return the instance.
+     */
+    static JsonKeyCache getSharedInstance() {
+        return SHARED_INSTANCE;
+    }
+
+    /**
+     * Returns a new cache with the given capacity which is rounded up to the next power of two.
+     *
+     * @param capacity the maximum amount of cached keys.
+     * @return the cache.
+     */
+    static JsonKeyCache newInstance(final int capacity) {
+        return new JsonKeyCache(capacity);
+    }
+
+    /**
+     * Returns the cached key for the given UTF-8 encoded bytes or decodes and caches it.
+     * The bytes must not contain any JSON escape sequences.
+     *
+     * @param bytes the array containing the UTF-8 encoded key.
+     * @param offset the offset of the key within {@code bytes}.
+     * @param length the amount of bytes of the key.
+     * @return the key.
+     * @throws IllegalArgumentException if {@code length} is 0.
+     */
+    JsonKey getOrDecode(final byte[] bytes, final int offset, final int length) {
+        if (MAX_KEY_LENGTH < length) {
+            return JsonKey.of(new String(bytes, offset, length, StandardCharsets.UTF_8));
+        }
+        final int hash = hash(bytes, offset, length);
+        final int index = hash & mask;
+        final Entry entry = entries[index];
+        if (null != entry && entry.matches(hash, bytes, offset, length)) {
+            return entry.key;
+        }
+        final JsonKey key = JsonKey.of(new String(bytes, offset, length, StandardCharsets.UTF_8));
+        entries[index] = new Entry(hash, Arrays.copyOfRange(bytes, offset, offset + length), key);
+        return key;
+    }
+
+    private static int hash(final byte[] bytes, final int offset, final int length) {
+        int result = 1;
+        for (int i = offset; i < offset + length; i++) {
+            result = 31 * result + bytes[i];
+        }
+        return result ^ (result >>> 16);
+    }
+
+    @Immutable
+    private static final class Entry {
+
+        private final int hash;
+        private final byte[] utf8Bytes;
+        private final JsonKey key;
+
+        private Entry(final int hash, final byte[] utf8Bytes, final JsonKey key) {
+            this.hash = hash;
+            this.utf8Bytes = utf8Bytes;
+            this.key = key;
+        }
+
+        private boolean matches(final int otherHash, final byte[] bytes, final int offset, final int length) {
+            if (hash != otherHash || utf8Bytes.length != length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (utf8Bytes[i] != bytes[offset + i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+    }
+
+}
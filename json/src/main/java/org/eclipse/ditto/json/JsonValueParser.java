@@ -15,7 +15,10 @@ package org.eclipse.ditto.json;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.text.MessageFormat;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -28,6 +31,8 @@ import com.eclipsesource.json.ParseException;
 
 /**
  * This class provides access to functionality for parsing a {@link JsonValue} from various inputs.
+ * Character based inputs are parsed with {@code minimal-json}, UTF-8 encoded binary inputs are parsed directly by
+ * {@link Utf8JsonParser} without decoding them to a {@code String} first.
  */
 @Immutable
 final class JsonValueParser {
@@ -78,12 +83,129 @@ final class JsonValueParser {
         return JsonValueParser::tryToReadJsonValueFrom;
     }
 
+    /**
+     * Returns a parser which accepts UTF-8 encoded bytes and which uses the given handler for object creation.
+     * The parsed JsonValue can be obtained from the given handler finally.
+     *
+     * @param jsonHandler receives parser events in order to create a {@link JsonValue}.
+     * @param <A> the type to be used for parsing JSON arrays.
+     * @param <O> the type to be used for parsing JSON objects.
+     * @param <V> the type of the value this handler returns.
+     * @return the parse Function.
+     * @throws NullPointerException if {@code jsonHandler} is {@code null}.
+     * @throws JsonParseException if the bytes cannot be parsed.
+     * @see DittoJsonHandler#getValue()
+     * @since 2.0.0
+     */
+    public static <A, O, V> Consumer<byte[]> fromBytes(final DittoJsonHandler<A, O, V> jsonHandler) {
+        requireNonNull(jsonHandler, "The JSON handler must not be null!");
+        return bytes -> tryToParseJsonValue(bytes, 0, null != bytes ? bytes.length : 0, jsonHandler);
+    }
+
+    /**
+     * Returns a Function for parsing UTF-8 encoded bytes to an instance of {@link JsonValue}.
+     *
+     * @return the function.
+     * @since 2.0.0
+     */
+    public static Function<byte[], JsonValue> fromBytes() {
+        return bytes -> tryToParseJsonValue(bytes, 0, null != bytes ? bytes.length : 0,
+                DefaultDittoJsonHandler.newInstance());
+    }
+
+    /**
+     * Parses the given range of UTF-8 encoded bytes to an instance of {@link JsonValue}.
+     *
+     * @param bytes the array containing the bytes to be parsed.
+     * @param offset the offset of the JSON value within {@code bytes}.
+     * @param length the amount of bytes of the JSON value.
+     * @return the JSON value.
+     * @throws JsonParseException if the bytes cannot be parsed.
+     */
+    static JsonValue parseBytes(final byte[] bytes, final int offset, final int length) {
+        return tryToParseJsonValue(bytes, offset, length, DefaultDittoJsonHandler.newInstance());
+    }
+
+    /**
+     * Returns a Function for parsing the remaining UTF-8 encoded bytes of a {@code ByteBuffer} to an instance of
+     * {@link JsonValue}. The position of the buffer is not changed.
+     *
+     * @return the function.
+     * @since 2.0.0
+     */
+    public static Function<ByteBuffer, JsonValue> fromByteBuffer() {
+        return JsonValueParser::tryToParseJsonValue;
+    }
+
+    /**
+     * Returns a Function for obtaining an instance of {@link JsonValue} from an {@code InputStream} providing UTF-8
+     * encoded bytes. The stream is read in chunks until its end but it is not closed.
+     *
+     * @return the function.
+     * @since 2.0.0
+     */
+    public static Function<InputStream, JsonValue> fromInputStream() {
+        return JsonValueParser::tryToReadJsonValueFrom;
+    }
+
+    private static <T> T tryToParseJsonValue(final byte[] bytes, final int offset, final int length,
+            final DittoJsonHandler<?, ?, T> dittoJsonHandler) {
+
+        try {
+            requireNonNull(bytes, "The JSON bytes to be parsed must not be null!");
+            Utf8JsonParser.parse(dittoJsonHandler, bytes, offset, length);
+            return dittoJsonHandler.getValue();
+        } catch (final JsonParseException e) {
+            throw e;
+        } catch (final UnsupportedOperationException | StackOverflowError | IllegalArgumentException |
+                NullPointerException e) {
+            throw JsonParseException.newBuilder()
+                    .message("Failed to parse JSON bytes!")
+                    .cause(e)
+                    .build();
+        }
+    }
+
+    private static JsonValue tryToParseJsonValue(final ByteBuffer byteBuffer) {
+        try {
+            requireNonNull(byteBuffer, "The byte buffer to be parsed must not be null!");
+            final DefaultDittoJsonHandler dittoJsonHandler = DefaultDittoJsonHandler.newInstance();
+            Utf8JsonParser.parse(dittoJsonHandler, byteBuffer);
+            return dittoJsonHandler.getValue();
+        } catch (final JsonParseException e) {
+            throw e;
+        } catch (final UnsupportedOperationException | StackOverflowError | IllegalArgumentException |
+                NullPointerException e) {
+            throw JsonParseException.newBuilder()
+                    .message("Failed to parse JSON from byte buffer!")
+                    .cause(e)
+                    .build();
+        }
+    }
+
+    private static JsonValue tryToReadJsonValueFrom(final InputStream inputStream) {
+        try {
+            requireNonNull(inputStream, "The input stream must not be null!");
+            final DefaultDittoJsonHandler dittoJsonHandler = DefaultDittoJsonHandler.newInstance();
+            Utf8JsonParser.parse(dittoJsonHandler, inputStream);
+            return dittoJsonHandler.getValue();
+        } catch (final JsonParseException e) {
+            throw e;
+        } catch (final UncheckedIOException | StackOverflowError | IllegalArgumentException | NullPointerException e) {
+            throw JsonParseException.newBuilder()
+                    .message("Failed to parse JSON value from input stream!")
+                    .cause(e)
+                    .build();
+        }
+    }
+
     private static <T> T tryToParseJsonValue(final String jsonString,
             final DittoJsonHandler<?, ?, T> dittoJsonHandler) {
 
         try {
             return parseJsonValue(jsonString, dittoJsonHandler);
-        } catch (final ParseException | UnsupportedOperationException | StackOverflowError | IllegalArgumentException | NullPointerException e) {
+        } catch (final ParseException | UnsupportedOperationException | StackOverflowError |
+                IllegalArgumentException | NullPointerException e) {
             // "ditto-json" library also throws IllegalArgumentException when for example strings which may not be empty
             // (e.g. keys) are empty
             // "ditto-json" library also throws NullPointerException when for example non-nullable objects are null
@@ -103,7 +225,8 @@ final class JsonValueParser {
     private static JsonValue tryToReadJsonValueFrom(final Reader reader) {
         try {
             return readJsonValueFrom(reader);
-        } catch (final ParseException | IOException | StackOverflowError | IllegalArgumentException | NullPointerException e) {
+        } catch (final ParseException | IOException | StackOverflowError | IllegalArgumentException |
+                NullPointerException e) {
             // "ditto-json" library also throws IllegalArgumentException when for example strings which may not be empty
             // (e.g. keys) are empty
             // "ditto-json" library also throws NullPointerException when for example non-nullable objects are null
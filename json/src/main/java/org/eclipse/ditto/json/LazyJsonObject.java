@@ -0,0 +1,752 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * An immutable JSON object which is backed by its UTF-8 encoded JSON representation.
+ * On first access the bytes are scanned once to index the position of each member value; values are only parsed
+ * when they are retrieved, e. g. via {@link #getValue(CharSequence)}. Nested JSON objects are returned as
+ * {@code LazyJsonObject}s on the same bytes so that accessing {@code headers/correlation-id} of a large message
+ * neither parses nor allocates the rest of the message.
+ * <p>
+ * All altering methods as well as iteration operate on a materialized {@link ImmutableJsonObject} whose nested
+ * JSON objects again are lazy. As long as the bytes are in compact form and contain neither escape sequences nor
+ * duplicate keys nor non-canonical numbers like {@code 1.0}, the string representation of this object and of all
+ * untouched nested objects is the original JSON.
+ * </p>
+ * <p>
+ * The bytes are completely validated when they are indexed, thus the original JSON is only reused if it is valid.
+ * Nested objects are indexed at the same time. The bytes must not be modified after an instance was created.
+ * </p>
+ */
+@Immutable
+final class LazyJsonObject extends AbstractJsonValue implements JsonObject {
+
+    private final byte[] bytes;
+    private final int offset;
+    private final int length;
+
+    private final Index index;
+
+    // lazily computed caches, see ImmutableJsonField#toString for the same pattern
+    @Nullable private JsonObject materialized;
+    @Nullable private String stringRepresentation;
+
+    private LazyJsonObject(final byte[] bytes, final int offset, final int length, final Index index) {
+        this.bytes = bytes;
+        this.offset = offset;
+        this.length = length;
+        this.index = index;
+        materialized = null;
+        stringRepresentation = null;
+    }
+
+    /**
+     * Returns a new {@code LazyJsonObject} which is backed by the given UTF-8 encoded JSON object.
+     * The bytes are indexed and validated immediately.
+     *
+     * @param bytes the UTF-8 encoded JSON object.
+     * @return the JSON object.
+     * @throws NullPointerException if {@code bytes} is {@code null}.
+     * @throws JsonParseException if {@code bytes} do not contain a valid JSON object.
+     */
+    public static LazyJsonObject of(final byte[] bytes) {
+        requireNonNull(bytes, "The JSON bytes must not be null!");
+        int start = 0;
+        int end = bytes.length;
+        while (start < end && isWhitespace(bytes[start])) {
+            start++;
+        }
+        while (end > start && isWhitespace(bytes[end - 1])) {
+            end--;
+        }
+        final Index index;
+        try {
+            index = new Indexer(bytes, start, end).index();
+        } catch (final IllegalArgumentException e) {
+            throw JsonParseException.newBuilder()
+                    .message("Failed to parse JSON bytes!")
+                    .cause(e)
+                    .build();
+        }
+        return new LazyJsonObject(bytes, start, end - start, index);
+    }
+
+    private static boolean isWhitespace(final byte b) {
+        return ' ' == b || '\t' == b || '\n' == b || '\r' == b;
+    }
+
+    private JsonObject materialize() {
+        JsonObject result = materialized;
+        if (null == result) {
+            final Map<String, JsonField> fields = new LinkedHashMap<>(index.keys.length * 4 / 3 + 1);
+            for (int slot = 0; slot < index.keys.length; slot++) {
+                final JsonKey key = index.keys[slot];
+                fields.put(key.toString(), JsonField.newInstance(key, getValueOfSlot(slot)));
+            }
+            result = ImmutableJsonObject.of(fields, index.verbatim ? toString() : null);
+            materialized = result;
+        }
+        return result;
+    }
+
+    private JsonValue getValueOfSlot(final int slot) {
+        JsonValue result = index.values[slot];
+        if (null == result) {
+            result = JsonValueParser.parseBytes(bytes, index.valueOffsets[slot], index.valueLengths[slot]);
+            index.values[slot] = result;
+        }
+        return result;
+    }
+
+    @Nullable
+    private JsonField getFieldOrNull(final JsonKey key) {
+        final Integer slot = index.slots.get(key.toString());
+        if (null == slot) {
+            return null;
+        }
+        return JsonField.newInstance(index.keys[slot], getValueOfSlot(slot));
+    }
+
+    @Override
+    public JsonObject setValue(final CharSequence key, final int value) {
+        return materialize().setValue(key, value);
+    }
+
+    @Override
+    public JsonObject setValue(final CharSequence key, final long value) {
+        return materialize().setValue(key, value);
+    }
+
+    @Override
+    public JsonObject setValue(final CharSequence key, final double value) {
+        return materialize().setValue(key, value);
+    }
+
+    @Override
+    public JsonObject setValue(final CharSequence key, final boolean value) {
+        return materialize().setValue(key, value);
+    }
+
+    @Override
+    public JsonObject setValue(final CharSequence key, final String value) {
+        return materialize().setValue(key, value);
+    }
+
+    @Override
+    public JsonObject setValue(final CharSequence key, final JsonValue value) {
+        return materialize().setValue(key, value);
+    }
+
+    @Override
+    public <T> JsonObject set(final JsonFieldDefinition<T> fieldDefinition, @Nullable final T value) {
+        return materialize().set(fieldDefinition, value);
+    }
+
+    @Override
+    public JsonObject set(final JsonField field) {
+        return materialize().set(field);
+    }
+
+    @Override
+    public JsonObject setAll(final Iterable<JsonField> jsonFields) {
+        return materialize().setAll(jsonFields);
+    }
+
+    @Override
+    public boolean contains(final CharSequence key) {
+        requireNonNull(key, "The key or pointer to check the existence of a value for must not be null!");
+        return getFieldForPointer(JsonPointer.of(key)).isPresent();
+    }
+
+    @Override
+    public JsonObject get(final JsonPointer pointer) {
+        return materialize().get(pointer);
+    }
+
+    @Override
+    public JsonObject get(final JsonFieldDefinition fieldDefinition) {
+        return materialize().get(fieldDefinition);
+    }
+
+    @Override
+    public JsonObject get(final JsonFieldSelector fieldSelector) {
+        return materialize().get(fieldSelector);
+    }
+
+    @Override
+    public Optional<JsonValue> getValue(final CharSequence key) {
+        requireNonNull(key, "The key or pointer of the value to be retrieved must not be null!");
+        return getValueForPointer(JsonPointer.of(key));
+    }
+
+    private Optional<JsonValue> getValueForPointer(final JsonPointer pointer) {
+        if (pointer.isEmpty()) {
+            return Optional.of(this);
+        }
+        return getFieldForPointer(pointer).map(JsonField::getValue);
+    }
+
+    private Optional<JsonField> getFieldForPointer(final JsonPointer pointer) {
+        JsonObject current = this;
+        JsonField result = null;
+        for (final JsonKey key : pointer) {
+            if (null != result) {
+                final JsonValue value = result.getValue();
+                if (!value.isObject()) {
+                    return Optional.empty();
+                }
+                current = value.asObject();
+            }
+            if (current instanceof LazyJsonObject) {
+                result = ((LazyJsonObject) current).getFieldOrNull(key);
+            } else {
+                result = current.getField(key).orElse(null);
+            }
+            if (null == result) {
+                return Optional.empty();
+            }
+        }
+        return Optional.ofNullable(result);
+    }
+
+    @Override
+    public <T> Optional<T> getValue(final JsonFieldDefinition<T> fieldDefinition) {
+        requireNonNull(fieldDefinition, "The JSON field definition which supplies the pointer must not be null!");
+        return getValueForPointer(fieldDefinition.getPointer()).map(fieldDefinition::mapValue);
+    }
+
+    @Override
+    public <T> T getValueOrThrow(final JsonFieldDefinition<T> fieldDefinition) {
+        return getValue(fieldDefinition).orElseThrow(() -> new JsonMissingFieldException(fieldDefinition));
+    }
+
+    @Override
+    public JsonObject remove(final CharSequence key) {
+        return materialize().remove(key);
+    }
+
+    @Override
+    public List<JsonKey> getKeys() {
+        return Collections.unmodifiableList(Arrays.asList(index.keys));
+    }
+
+    @Override
+    public Optional<JsonField> getField(final CharSequence key) {
+        requireNonNull(key, "The key or pointer of the field to be retrieved must not be null!");
+        return getFieldForPointer(JsonPointer.of(key));
+    }
+
+    @Override
+    public boolean isObject() {
+        return true;
+    }
+
+    @Override
+    public JsonObject asObject() {
+        return this;
+    }
+
+    @Override
+    public Iterator<JsonField> iterator() {
+        return materialize().iterator();
+    }
+
+    @Override
+    public Stream<JsonField> stream() {
+        return materialize().stream();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return 0 == getSize();
+    }
+
+    @Override
+    public int getSize() {
+        return index.keys.length;
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o instanceof LazyJsonObject) {
+            final LazyJsonObject that = (LazyJsonObject) o;
+            return hasSameBytes(that) || materialize().equals(that.materialize());
+        }
+        if (o instanceof ImmutableJsonObject || o instanceof PersistentJsonObject) {
+            return materialize().equals(o);
+        }
+        return false;
+    }
+
+    private boolean hasSameBytes(final LazyJsonObject that) {
+        if (length != that.length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (bytes[offset + i] != that.bytes[that.offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return materialize().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        String result = stringRepresentation;
+        if (null == result) {
+            if (index.verbatim) {
+                result = new String(bytes, offset, length, StandardCharsets.UTF_8);
+            } else {
+                result = materialize().toString();
+            }
+            stringRepresentation = result;
+        }
+        return result;
+    }
+
+    @Override
+    public void writeValue(final SerializationContext serializationContext) throws IOException {
+        materialize().writeValue(serializationContext);
+    }
+
+    @Override
+    public long getUpperBoundForStringSize() {
+        if (index.verbatim) {
+            // a UTF-8 encoded string never has less bytes than chars
+            return length;
+        }
+        return materialize().getUpperBoundForStringSize();
+    }
+
+    /**
+     * The positions of the member values of a JSON object within its bytes.
+     * The values are cached once they were parsed, nested objects are known from the start.
+     */
+    private static final class Index {
+
+        private final JsonKey[] keys;
+        private final int[] valueOffsets;
+        private final int[] valueLengths;
+        private final Map<String, Integer> slots;
+        private final JsonValue[] values;
+
+        /**
+         * Indicates whether the bytes are equal to the string representation of the parsed object, i. e. there is
+         * neither whitespace outside of strings nor any escape sequence, duplicate key or non-canonical number.
+         */
+        private final boolean verbatim;
+
+        private Index(final JsonKey[] keys, final int[] valueOffsets, final int[] valueLengths,
+                final Map<String, Integer> slots, final JsonValue[] values, final boolean verbatim) {
+
+            this.keys = keys;
+            this.valueOffsets = valueOffsets;
+            this.valueLengths = valueLengths;
+            this.slots = slots;
+            this.values = values;
+            this.verbatim = verbatim;
+        }
+
+    }
+
+    /**
+     * Scans and validates the bytes of a JSON object once to determine the position of each member value.
+     * Nested objects are indexed recursively, all other values are validated without being parsed.
+     */
+    @NotThreadSafe
+    private static final class Indexer {
+
+        // every integer with at most 18 digits is a long which is written as it is read
+        private static final int MAX_SAFE_LONG_DIGITS = 18;
+
+        private final byte[] bytes;
+        private final int end;
+        private int position;
+        private boolean verbatim;
+
+        private Indexer(final byte[] bytes, final int start, final int end) {
+            this.bytes = bytes;
+            this.end = end;
+            position = start;
+            verbatim = true;
+        }
+
+        private Index index() {
+            final Index result = readObject();
+            skipWhitespace();
+            if (position < end) {
+                throw error("Unexpected character");
+            }
+            return result;
+        }
+
+        private Index readObject() {
+            final boolean outerVerbatim = verbatim;
+            verbatim = true;
+            final List<JsonKey> keys = new ArrayList<>();
+            final List<int[]> valueRanges = new ArrayList<>();
+            final List<JsonValue> values = new ArrayList<>();
+            final Map<String, Integer> slots = new HashMap<>();
+
+            expect('{');
+            skipWhitespace();
+            if (!tryRead('}')) {
+                do {
+                    skipWhitespace();
+                    final JsonKey key = readKey();
+                    skipWhitespace();
+                    expect(':');
+                    skipWhitespace();
+                    final int valueStart = position;
+                    final JsonValue value = skipValue();
+                    final int[] valueRange = {valueStart, position - valueStart};
+                    final Integer existingSlot = slots.get(key.toString());
+                    if (null != existingSlot) {
+                        // like LinkedHashMap#put: the last value wins but the position of the first is kept
+                        valueRanges.set(existingSlot, valueRange);
+                        values.set(existingSlot, value);
+                        verbatim = false;
+                    } else {
+                        slots.put(key.toString(), keys.size());
+                        keys.add(key);
+                        valueRanges.add(valueRange);
+                        values.add(value);
+                    }
+                    skipWhitespace();
+                } while (tryRead(','));
+                expect('}');
+            }
+
+            final int[] valueOffsets = new int[valueRanges.size()];
+            final int[] valueLengths = new int[valueRanges.size()];
+            for (int i = 0; i < valueRanges.size(); i++) {
+                valueOffsets[i] = valueRanges.get(i)[0];
+                valueLengths[i] = valueRanges.get(i)[1];
+            }
+            final Index result = new Index(keys.toArray(new JsonKey[0]), valueOffsets, valueLengths, slots,
+                    values.toArray(new JsonValue[0]), verbatim);
+
+            // an object is only verbatim if all of its nested values are
+            verbatim &= outerVerbatim;
+            return result;
+        }
+
+        private JsonKey readKey() {
+            final int quoteOffset = position;
+            expect('"');
+            if (skipStringContent()) {
+                final int keyLength = position - quoteOffset - 2;
+                return JsonKeyCache.getSharedInstance().getOrDecode(bytes, quoteOffset + 1, keyLength);
+            }
+            // escape sequences and multi byte characters are decoded like by the parser of string values
+            final JsonValue keyString = JsonValueParser.parseBytes(bytes, quoteOffset, position - quoteOffset);
+            return JsonKey.of(keyString.asString());
+        }
+
+        /**
+         * Skips and validates a value.
+         *
+         * @return the lazy JSON object if the value is an object, the JSON array if the value is an array which is
+         * not verbatim, {@code null} for all other values which are parsed when they are retrieved.
+         */
+        @Nullable
+        private JsonValue skipValue() {
+            if (position >= end) {
+                throw error("Unexpected end of input");
+            }
+            final byte b = bytes[position];
+            if ('{' == b) {
+                final int start = position;
+                final Index nestedIndex = readObject();
+                return new LazyJsonObject(bytes, start, position - start, nestedIndex);
+            }
+            if ('[' == b) {
+                return readArray();
+            }
+            if ('"' == b) {
+                position++;
+                skipStringContent();
+            } else if ('t' == b) {
+                skipLiteral("true");
+            } else if ('f' == b) {
+                skipLiteral("false");
+            } else if ('n' == b) {
+                skipLiteral("null");
+            } else if ('-' == b || isDigit(b)) {
+                skipNumber();
+            } else {
+                throw error("Expected value");
+            }
+            return null;
+        }
+
+        /**
+         * Skips and validates an array.
+         * The parser keeps the string representation of nested values as they are read, thus an array which is not
+         * verbatim is created from its elements right away.
+         *
+         * @return the JSON array if it is not verbatim, {@code null} otherwise.
+         */
+        @Nullable
+        private JsonValue readArray() {
+            final boolean outerVerbatim = verbatim;
+            verbatim = true;
+            final List<int[]> elementRanges = new ArrayList<>();
+            final List<JsonValue> elements = new ArrayList<>();
+
+            expect('[');
+            skipWhitespace();
+            if (!tryRead(']')) {
+                do {
+                    skipWhitespace();
+                    final int elementStart = position;
+                    elements.add(skipValue());
+                    elementRanges.add(new int[]{elementStart, position - elementStart});
+                    skipWhitespace();
+                } while (tryRead(','));
+                expect(']');
+            }
+
+            final JsonValue result;
+            if (verbatim) {
+                result = null;
+            } else {
+                for (int i = 0; i < elements.size(); i++) {
+                    if (null == elements.get(i)) {
+                        final int[] elementRange = elementRanges.get(i);
+                        elements.set(i, JsonValueParser.parseBytes(bytes, elementRange[0], elementRange[1]));
+                    }
+                }
+                result = ImmutableJsonArray.of(elements);
+            }
+            verbatim &= outerVerbatim;
+            return result;
+        }
+
+        private void skipLiteral(final String literal) {
+            for (int i = 0; i < literal.length(); i++) {
+                if (position >= end) {
+                    throw error("Unexpected end of input");
+                }
+                if (literal.charAt(i) != bytes[position]) {
+                    throw error("Expected '" + literal + "'");
+                }
+                position++;
+            }
+        }
+
+        private void skipNumber() {
+            final int start = position;
+            tryRead('-');
+            if (!tryRead('0')) {
+                skipDigits();
+            }
+            if (tryRead('.')) {
+                skipDigits();
+            }
+            if (tryRead('e') || tryRead('E')) {
+                if (!tryRead('+')) {
+                    tryRead('-');
+                }
+                skipDigits();
+            }
+            if (verbatim) {
+                verbatim = isCanonicalNumber(start, position);
+            }
+        }
+
+        private void skipDigits() {
+            if (position >= end || !isDigit(bytes[position])) {
+                throw error(position < end ? "Expected digit" : "Unexpected end of input");
+            }
+            do {
+                position++;
+            } while (position < end && isDigit(bytes[position]));
+        }
+
+        private static boolean isDigit(final byte b) {
+            return '0' <= b && '9' >= b;
+        }
+
+        /**
+         * Checks whether a valid number literal is written the way its parsed JSON value writes it, e. g.
+         * {@code 1.0}, {@code 1E2} and {@code -0} are not.
+         */
+        private boolean isCanonicalNumber(final int literalStart, final int literalEnd) {
+            boolean integral = true;
+            for (int i = literalStart; i < literalEnd && integral; i++) {
+                final byte b = bytes[i];
+                integral = '.' != b && 'e' != b && 'E' != b;
+            }
+            final boolean negative = '-' == bytes[literalStart];
+            final int digits = literalEnd - literalStart - (negative ? 1 : 0);
+            if (integral && MAX_SAFE_LONG_DIGITS >= digits) {
+                return !(negative && 1 == digits && '0' == bytes[literalStart + 1]);
+            }
+            final int literalLength = literalEnd - literalStart;
+            final String literal = new String(bytes, literalStart, literalLength, StandardCharsets.US_ASCII);
+            return literal.equals(JsonValueParser.parseBytes(bytes, literalStart, literalLength).toString());
+        }
+
+        /**
+         * Skips and validates the content of a string and its closing quote.
+         *
+         * @return whether the string consists of ASCII characters without escape sequences.
+         */
+        private boolean skipStringContent() {
+            boolean plain = true;
+            while (position < end) {
+                final byte b = bytes[position];
+                if ('"' == b) {
+                    position++;
+                    return plain;
+                }
+                if ('\\' == b) {
+                    skipEscapeSequence();
+                    verbatim = false;
+                    plain = false;
+                } else if (0 > b) {
+                    skipMultiByteCharacter();
+                    plain = false;
+                } else if (0x20 > b) {
+                    throw error("Expected valid string character");
+                } else {
+                    position++;
+                }
+            }
+            throw error("Unexpected end of input");
+        }
+
+        private void skipEscapeSequence() {
+            position++;
+            if (position >= end) {
+                throw error("Unexpected end of input");
+            }
+            final byte b = bytes[position];
+            if ('u' == b) {
+                for (int i = 0; i < 4; i++) {
+                    position++;
+                    if (position >= end) {
+                        throw error("Unexpected end of input");
+                    }
+                    if (0 > Character.digit(bytes[position], 16)) {
+                        throw error("Expected hexadecimal digit");
+                    }
+                }
+            } else if (0 > "\"\\/bfnrt".indexOf(b)) {
+                throw error("Expected valid escape sequence");
+            }
+            position++;
+        }
+
+        private void skipMultiByteCharacter() {
+            final int first = bytes[position] & 0xFF;
+            final int additionalBytes;
+            final int minCodePoint;
+            int codePoint;
+            if (0xC0 == (first & 0xE0)) {
+                additionalBytes = 1;
+                minCodePoint = 0x80;
+                codePoint = first & 0x1F;
+            } else if (0xE0 == (first & 0xF0)) {
+                additionalBytes = 2;
+                minCodePoint = 0x800;
+                codePoint = first & 0x0F;
+            } else if (0xF0 == (first & 0xF8)) {
+                additionalBytes = 3;
+                minCodePoint = 0x10000;
+                codePoint = first & 0x07;
+            } else {
+                throw error("Expected valid UTF-8 byte");
+            }
+            for (int i = 0; i < additionalBytes; i++) {
+                position++;
+                if (position >= end) {
+                    throw error("Unexpected end of input");
+                }
+                final byte b = bytes[position];
+                if (0x80 != (b & 0xC0)) {
+                    throw error("Expected UTF-8 continuation byte");
+                }
+                codePoint = (codePoint << 6) | (b & 0x3F);
+            }
+            if (!Character.isValidCodePoint(codePoint)) {
+                throw error("Expected valid UTF-8 code point");
+            }
+            if (minCodePoint > codePoint || (Character.MIN_SURROGATE <= codePoint &&
+                    Character.MAX_SURROGATE >= codePoint)) {
+                // decoded by the parser but replaced when the bytes are decoded as string
+                verbatim = false;
+            }
+            position++;
+        }
+
+        private void skipWhitespace() {
+            while (position < end && isWhitespace(bytes[position])) {
+                verbatim = false;
+                position++;
+            }
+        }
+
+        private boolean tryRead(final char c) {
+            if (position < end && c == bytes[position]) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(final char c) {
+            if (!tryRead(c)) {
+                throw error(position < end ? "Expected '" + c + "'" : "Unexpected end of input");
+            }
+        }
+
+        private JsonParseException error(final String message) {
+            return JsonParseException.newBuilder()
+                    .message(MessageFormat.format("{0} at byte offset <{1}>.", message, position))
+                    .build();
+        }
+
+    }
+
+}
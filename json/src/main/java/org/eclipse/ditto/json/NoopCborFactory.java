@@ -13,6 +13,7 @@
 package org.eclipse.ditto.json;
 
 import java.nio.ByteBuffer;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -61,6 +62,11 @@ final class NoopCborFactory implements CborFactory {
         throw UNSUPPORTED_OPERATION_EXCEPTION;
     }
 
+    @Override
+    public void writeFieldsToByteBuffer(final Collection<JsonField> jsonFields, final ByteBuffer byteBuffer) {
+        throw UNSUPPORTED_OPERATION_EXCEPTION;
+    }
+
     @Override
     public byte[] createCborRepresentation(final Map<String, JsonField> jsonFieldMap, final int guessedSerializedSize) {
         throw UNSUPPORTED_OPERATION_EXCEPTION;
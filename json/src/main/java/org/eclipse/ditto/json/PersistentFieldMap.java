@@ -0,0 +1,579 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A persistent, insertion ordered map of JSON fields keyed by their key name.
+ * <p>
+ * The map consists of two structurally shared tries:
+ * </p>
+ * <ul>
+ *     <li>a hash array mapped trie (HAMT) which maps each key name to the slot of its field and</li>
+ *     <li>a 32-ary vector trie which holds the fields in insertion order by slot.</li>
+ * </ul>
+ * <p>
+ * Replacing the value of an existing key only copies the path to the slot within the vector, adding a key copies
+ * one path in each trie. Both are {@code O(log32 n)} in contrast to copying the whole map.
+ * Removed fields leave an empty slot behind; the vector gets compacted as soon as more than half of its slots are
+ * empty.
+ * </p>
+ */
+@Immutable
+final class PersistentFieldMap implements Iterable<JsonField> {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+    private static final int MAX_HASH_SHIFT = 30;
+
+    private static final PersistentFieldMap EMPTY =
+            new PersistentFieldMap(TrieNode.EMPTY, SlotVector.EMPTY, 0);
+
+    private final TrieNode index;
+    private final SlotVector slots;
+    private final int size;
+
+    private PersistentFieldMap(final TrieNode index, final SlotVector slots, final int size) {
+        this.index = index;
+        this.slots = slots;
+        this.size = size;
+    }
+
+    /**
+     * Returns an empty map.
+     *
+     * @return the empty map.
+     */
+    static PersistentFieldMap empty() {
+        return EMPTY;
+    }
+
+    int getSize() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return 0 == size;
+    }
+
+    boolean containsKey(final String key) {
+        return 0 <= index.find(key, key.hashCode(), 0);
+    }
+
+    @Nullable
+    JsonField getOrNull(final String key) {
+        final int slot = index.find(key, key.hashCode(), 0);
+        return 0 <= slot ? slots.get(slot) : null;
+    }
+
+    /**
+     * Returns a map which associates the given field with the given key. If the key is already contained, the field
+     * keeps its position in iteration order.
+     *
+     * @param key the key name of {@code jsonField}.
+     * @param jsonField the field to associate.
+     * @return the new map or this map if it already contained the same field for {@code key}.
+     */
+    PersistentFieldMap put(final String key, final JsonField jsonField) {
+        final int hash = key.hashCode();
+        final int slot = index.find(key, hash, 0);
+        if (0 <= slot) {
+            if (isSameValue(slots.get(slot), jsonField)) {
+                return this;
+            }
+            return new PersistentFieldMap(index, slots.set(slot, jsonField), size);
+        }
+        final int newSlot = slots.getLength();
+        final TrieNode newIndex = index.put(new Entry(key, hash, newSlot), 0);
+        return new PersistentFieldMap(newIndex, slots.append(jsonField), size + 1);
+    }
+
+    /*
+     * JSON objects and arrays are only compared by identity as a deep comparison would cost O(n) which is exactly what
+     * this map tries to avoid.
+     */
+    private static boolean isSameValue(@Nullable final JsonField existingField, final JsonField jsonField) {
+        if (null == existingField) {
+            return false;
+        }
+        final JsonValue existingValue = existingField.getValue();
+        final JsonValue value = jsonField.getValue();
+        if (existingValue == value) {
+            return true;
+        }
+        if (existingValue.isObject() || existingValue.isArray() || value.isObject() || value.isArray()) {
+            return false;
+        }
+        return existingValue.equals(value);
+    }
+
+    PersistentFieldMap putAll(final Iterable<JsonField> jsonFields) {
+        PersistentFieldMap result = this;
+        for (final JsonField jsonField : jsonFields) {
+            result = result.put(jsonField.getKeyName(), jsonField);
+        }
+        return result;
+    }
+
+    /**
+     * Returns a map without the given key.
+     *
+     * @param key the key name to remove.
+     * @return the new map or this map if it did not contain {@code key}.
+     */
+    PersistentFieldMap remove(final String key) {
+        final int hash = key.hashCode();
+        final int slot = index.find(key, hash, 0);
+        if (0 > slot) {
+            return this;
+        }
+        final int newSize = size - 1;
+        if (0 == newSize) {
+            return EMPTY;
+        }
+        final Object newIndex = index.remove(key, hash, 0);
+        final PersistentFieldMap result = new PersistentFieldMap(TrieNode.asRoot(newIndex), slots.set(slot, null),
+                newSize);
+        if (WIDTH < result.slots.getLength() && newSize < result.slots.getLength() / 2) {
+            return EMPTY.putAll(result);
+        }
+        return result;
+    }
+
+    /**
+     * Returns an unmodifiable {@code Map} view of this map which preserves the iteration order.
+     *
+     * @return the view.
+     */
+    Map<String, JsonField> asMap() {
+        return new MapView(this);
+    }
+
+    @Override
+    public Iterator<JsonField> iterator() {
+        return slots.iterator();
+    }
+
+    /**
+     * A key name together with its hash and the slot of its field.
+     */
+    @Immutable
+    private static final class Entry {
+
+        private final String key;
+        private final int hash;
+        private final int slot;
+
+        private Entry(final String key, final int hash, final int slot) {
+            this.key = key;
+            this.hash = hash;
+            this.slot = slot;
+        }
+
+    }
+
+    /**
+     * Node of the hash array mapped trie. Children are either {@link Entry}s, nested {@code TrieNode}s or — if the
+     * complete hash is consumed — {@link CollisionNode}s.
+     */
+    @Immutable
+    private static final class TrieNode {
+
+        private static final TrieNode EMPTY = new TrieNode(0, new Object[0]);
+
+        private final int bitmap;
+        private final Object[] children;
+
+        private TrieNode(final int bitmap, final Object[] children) {
+            this.bitmap = bitmap;
+            this.children = children;
+        }
+
+        private static TrieNode asRoot(@Nullable final Object node) {
+            if (node instanceof TrieNode) {
+                return (TrieNode) node;
+            } else if (node instanceof Entry) {
+                final Entry entry = (Entry) node;
+                return EMPTY.put(entry, 0);
+            }
+            return EMPTY;
+        }
+
+        private static int bit(final int hash, final int shift) {
+            return 1 << ((hash >>> shift) & MASK);
+        }
+
+        private int indexOf(final int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        private int find(final String key, final int hash, final int shift) {
+            final int bit = bit(hash, shift);
+            if (0 == (bitmap & bit)) {
+                return -1;
+            }
+            final Object child = children[indexOf(bit)];
+            if (child instanceof Entry) {
+                final Entry entry = (Entry) child;
+                return entry.hash == hash && entry.key.equals(key) ? entry.slot : -1;
+            } else if (child instanceof TrieNode) {
+                return ((TrieNode) child).find(key, hash, shift + BITS);
+            }
+            return ((CollisionNode) child).find(key);
+        }
+
+        private TrieNode put(final Entry entry, final int shift) {
+            final int bit = bit(entry.hash, shift);
+            final int idx = indexOf(bit);
+            if (0 == (bitmap & bit)) {
+                final Object[] newChildren = new Object[children.length + 1];
+                System.arraycopy(children, 0, newChildren, 0, idx);
+                newChildren[idx] = entry;
+                System.arraycopy(children, idx, newChildren, idx + 1, children.length - idx);
+                return new TrieNode(bitmap | bit, newChildren);
+            }
+            final Object child = children[idx];
+            final Object newChild;
+            if (child instanceof Entry) {
+                final Entry existing = (Entry) child;
+                if (existing.hash == entry.hash && existing.key.equals(entry.key)) {
+                    newChild = entry;
+                } else {
+                    newChild = merge(existing, entry, shift + BITS);
+                }
+            } else if (child instanceof TrieNode) {
+                newChild = ((TrieNode) child).put(entry, shift + BITS);
+            } else {
+                newChild = ((CollisionNode) child).put(entry);
+            }
+            final Object[] newChildren = children.clone();
+            newChildren[idx] = newChild;
+            return new TrieNode(bitmap, newChildren);
+        }
+
+        private static Object merge(final Entry first, final Entry second, final int shift) {
+            if (shift > MAX_HASH_SHIFT || first.hash == second.hash) {
+                return new CollisionNode(new Entry[]{first, second});
+            }
+            return EMPTY.put(first, shift).put(second, shift);
+        }
+
+        /*
+         * Returns either null (no children left), a single Entry (to be inlined into the parent) or a TrieNode.
+         */
+        @Nullable
+        private Object remove(final String key, final int hash, final int shift) {
+            final int bit = bit(hash, shift);
+            if (0 == (bitmap & bit)) {
+                return this;
+            }
+            final int idx = indexOf(bit);
+            final Object child = children[idx];
+            final Object newChild;
+            if (child instanceof Entry) {
+                if (!((Entry) child).key.equals(key)) {
+                    return this;
+                }
+                newChild = null;
+            } else if (child instanceof TrieNode) {
+                newChild = ((TrieNode) child).remove(key, hash, shift + BITS);
+            } else {
+                newChild = ((CollisionNode) child).remove(key);
+            }
+            if (null != newChild) {
+                if (1 == children.length && newChild instanceof Entry) {
+                    return newChild;
+                }
+                final Object[] newChildren = children.clone();
+                newChildren[idx] = newChild;
+                return new TrieNode(bitmap, newChildren);
+            }
+            if (1 == children.length) {
+                return null;
+            }
+            if (2 == children.length && children[1 - idx] instanceof Entry) {
+                return children[1 - idx];
+            }
+            final Object[] newChildren = new Object[children.length - 1];
+            System.arraycopy(children, 0, newChildren, 0, idx);
+            System.arraycopy(children, idx + 1, newChildren, idx, children.length - idx - 1);
+            return new TrieNode(bitmap ^ bit, newChildren);
+        }
+
+    }
+
+    /**
+     * Holds entries whose complete hash codes collide.
+     */
+    @Immutable
+    private static final class CollisionNode {
+
+        private final Entry[] entries;
+
+        private CollisionNode(final Entry[] entries) {
+            this.entries = entries;
+        }
+
+        private int find(final String key) {
+            for (final Entry entry : entries) {
+                if (entry.key.equals(key)) {
+                    return entry.slot;
+                }
+            }
+            return -1;
+        }
+
+        private CollisionNode put(final Entry entry) {
+            for (int i = 0; i < entries.length; i++) {
+                if (entries[i].key.equals(entry.key)) {
+                    final Entry[] newEntries = entries.clone();
+                    newEntries[i] = entry;
+                    return new CollisionNode(newEntries);
+                }
+            }
+            final Entry[] newEntries = Arrays.copyOf(entries, entries.length + 1);
+            newEntries[entries.length] = entry;
+            return new CollisionNode(newEntries);
+        }
+
+        @Nullable
+        private Object remove(final String key) {
+            for (int i = 0; i < entries.length; i++) {
+                if (entries[i].key.equals(key)) {
+                    if (2 == entries.length) {
+                        return entries[1 - i];
+                    }
+                    final Entry[] newEntries = new Entry[entries.length - 1];
+                    System.arraycopy(entries, 0, newEntries, 0, i);
+                    System.arraycopy(entries, i + 1, newEntries, i, entries.length - i - 1);
+                    return new CollisionNode(newEntries);
+                }
+            }
+            return this;
+        }
+
+    }
+
+    /**
+     * A persistent 32-ary vector trie of JSON fields. Nodes are only as large as required so that small JSON objects
+     * do not pay for full 32 element arrays. Empty slots are represented by {@code null}.
+     */
+    @Immutable
+    private static final class SlotVector {
+
+        private static final SlotVector EMPTY = new SlotVector(new Object[0], 0, 0);
+
+        private final Object[] root;
+        private final int shift;
+        private final int length;
+
+        private SlotVector(final Object[] root, final int shift, final int length) {
+            this.root = root;
+            this.shift = shift;
+            this.length = length;
+        }
+
+        private int getLength() {
+            return length;
+        }
+
+        @Nullable
+        private JsonField get(final int slot) {
+            return (JsonField) leafFor(slot)[slot & MASK];
+        }
+
+        private Object[] leafFor(final int slot) {
+            Object[] node = root;
+            for (int level = shift; level > 0; level -= BITS) {
+                node = (Object[]) node[(slot >>> level) & MASK];
+            }
+            return node;
+        }
+
+        private SlotVector set(final int slot, @Nullable final JsonField jsonField) {
+            return new SlotVector(set(root, shift, slot, jsonField), shift, length);
+        }
+
+        private static Object[] set(final Object[] node, final int level, final int slot,
+                @Nullable final JsonField jsonField) {
+
+            final Object[] result = node.clone();
+            if (0 == level) {
+                result[slot & MASK] = jsonField;
+            } else {
+                final int childIndex = (slot >>> level) & MASK;
+                result[childIndex] = set((Object[]) node[childIndex], level - BITS, slot, jsonField);
+            }
+            return result;
+        }
+
+        private SlotVector append(final JsonField jsonField) {
+            if (length == 1 << (shift + BITS)) {
+                final Object[] newRoot = append(new Object[]{root}, shift + BITS, length, jsonField);
+                return new SlotVector(newRoot, shift + BITS, length + 1);
+            }
+            return new SlotVector(append(root, shift, length, jsonField), shift, length + 1);
+        }
+
+        private static Object[] append(final Object[] node, final int level, final int slot,
+                final JsonField jsonField) {
+
+            final int childIndex = (slot >>> level) & MASK;
+            final Object[] result = Arrays.copyOf(node, Math.max(node.length, childIndex + 1));
+            if (0 == level) {
+                result[childIndex] = jsonField;
+            } else {
+                final Object[] child = childIndex < node.length ? (Object[]) node[childIndex] : new Object[0];
+                result[childIndex] = append(child, level - BITS, slot, jsonField);
+            }
+            return result;
+        }
+
+        private Iterator<JsonField> iterator() {
+            return new SlotIterator(this);
+        }
+
+    }
+
+    private static final class SlotIterator implements Iterator<JsonField> {
+
+        private final SlotVector slots;
+        private int nextSlot;
+        @Nullable private Object[] leaf;
+        @Nullable private JsonField next;
+
+        private SlotIterator(final SlotVector slots) {
+            this.slots = slots;
+            nextSlot = 0;
+            leaf = null;
+            next = advance();
+        }
+
+        @Nullable
+        private JsonField advance() {
+            while (nextSlot < slots.getLength()) {
+                final int slot = nextSlot++;
+                if (null == leaf || 0 == (slot & MASK)) {
+                    leaf = slots.leafFor(slot);
+                }
+                final JsonField jsonField = (JsonField) leaf[slot & MASK];
+                if (null != jsonField) {
+                    return jsonField;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return null != next;
+        }
+
+        @Override
+        public JsonField next() {
+            final JsonField result = next;
+            if (null == result) {
+                throw new NoSuchElementException();
+            }
+            next = advance();
+            return result;
+        }
+
+    }
+
+    /**
+     * Read-only {@code Map} view of a {@code PersistentFieldMap}. Equality and hash code follow the contract of
+     * {@link Map} and are thus compatible with the maps used by {@link ImmutableJsonObject}.
+     */
+    private static final class MapView extends AbstractMap<String, JsonField> {
+
+        private final PersistentFieldMap fieldMap;
+
+        private MapView(final PersistentFieldMap fieldMap) {
+            this.fieldMap = fieldMap;
+        }
+
+        @Override
+        public int size() {
+            return fieldMap.getSize();
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            return key instanceof String && fieldMap.containsKey((String) key);
+        }
+
+        @Override
+        @Nullable
+        public JsonField get(final Object key) {
+            return key instanceof String ? fieldMap.getOrNull((String) key) : null;
+        }
+
+        @Override
+        public Collection<JsonField> values() {
+            return new AbstractCollection<JsonField>() {
+                @Override
+                public Iterator<JsonField> iterator() {
+                    return fieldMap.iterator();
+                }
+
+                @Override
+                public int size() {
+                    return fieldMap.getSize();
+                }
+            };
+        }
+
+        @Override
+        public Set<Map.Entry<String, JsonField>> entrySet() {
+            return new AbstractSet<Map.Entry<String, JsonField>>() {
+                @Override
+                public Iterator<Map.Entry<String, JsonField>> iterator() {
+                    final Iterator<JsonField> fieldIterator = fieldMap.iterator();
+                    return new Iterator<Map.Entry<String, JsonField>>() {
+                        @Override
+                        public boolean hasNext() {
+                            return fieldIterator.hasNext();
+                        }
+
+                        @Override
+                        public Map.Entry<String, JsonField> next() {
+                            final JsonField jsonField = fieldIterator.next();
+                            return new SimpleImmutableEntry<>(jsonField.getKeyName(), jsonField);
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return fieldMap.getSize();
+                }
+            };
+        }
+
+    }
+
+}
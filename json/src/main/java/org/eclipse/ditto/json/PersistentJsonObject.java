@@ -0,0 +1,494 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * An immutable implementation of a JSON object which is backed by a {@link PersistentFieldMap}.
+ * In contrast to {@link ImmutableJsonObject} each altering method shares the structure of this object with the
+ * returned object instead of copying all fields. Altering a JSON object with {@code n} fields therefore costs
+ * {@code O(log n)} instead of {@code O(n)}.
+ * <p>
+ * Nested JSON objects which are traversed by altering methods with a JSON pointer are converted to
+ * {@code PersistentJsonObject}s as well so that subsequent deep updates share their structure, too.
+ * </p>
+ * <p>
+ * Instances are equal to {@link ImmutableJsonObject}s and {@link LazyJsonObject}s with the same fields.
+ * </p>
+ */
+@Immutable
+final class PersistentJsonObject extends AbstractJsonValue implements JsonObject {
+
+    private static final JsonKey ROOT_KEY = JsonKey.of("/");
+    private static final long CBOR_MAX_COMPRESSION_RATIO = 5; // "false" compressed to one byte
+    private static final CborFactory CBOR_FACTORY;
+
+    static {
+        final ServiceLoader<CborFactory> sl = ServiceLoader.load(CborFactory.class);
+        CBOR_FACTORY = StreamSupport.stream(sl.spliterator(), false)
+                .findFirst()
+                .orElseGet(NoopCborFactory::new); // when no Service could be found -> CBOR not available
+    }
+
+    private static final PersistentJsonObject EMPTY = new PersistentJsonObject(PersistentFieldMap.empty());
+
+    private final PersistentFieldMap fieldMap;
+
+    // lazily computed caches, see ImmutableJsonField#toString for the same pattern
+    @Nullable private String stringRepresentation;
+    @Nullable private byte[] cborRepresentation;
+    private int hashCode;
+
+    private PersistentJsonObject(final PersistentFieldMap fieldMap) {
+        this.fieldMap = fieldMap;
+        stringRepresentation = null;
+        cborRepresentation = null;
+        hashCode = 0;
+    }
+
+    /**
+     * Returns an empty JSON object.
+     *
+     * @return an empty JSON object.
+     */
+    public static PersistentJsonObject empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a new {@code PersistentJsonObject} which contains the given fields in their iteration order.
+     * Nested JSON objects are converted to {@code PersistentJsonObject}s as well.
+     * If {@code jsonFields} already is a {@code PersistentJsonObject} it is returned as is.
+     *
+     * @param jsonFields the fields of the new JSON object.
+     * @return the JSON object.
+     * @throws NullPointerException if {@code jsonFields} is {@code null}.
+     */
+    public static PersistentJsonObject of(final Iterable<JsonField> jsonFields) {
+        requireNonNull(jsonFields, "The JSON fields must not be null!");
+        if (jsonFields instanceof PersistentJsonObject) {
+            return (PersistentJsonObject) jsonFields;
+        }
+        PersistentFieldMap fieldMap = PersistentFieldMap.empty();
+        for (final JsonField jsonField : jsonFields) {
+            fieldMap = fieldMap.put(jsonField.getKeyName(), toPersistentField(jsonField));
+        }
+        return of(fieldMap);
+    }
+
+    private static JsonField toPersistentField(final JsonField jsonField) {
+        final JsonValue value = jsonField.getValue();
+        if (value.isObject() && !value.isNull() && !(value instanceof PersistentJsonObject)) {
+            return JsonField.newInstance(jsonField.getKey(), of(value.asObject()), getDefinitionOrNull(jsonField));
+        }
+        return jsonField;
+    }
+
+    private static PersistentJsonObject of(final PersistentFieldMap fieldMap) {
+        return fieldMap.isEmpty() ? EMPTY : new PersistentJsonObject(fieldMap);
+    }
+
+    @Override
+    public JsonObject setValue(final CharSequence key, final int value) {
+        return setValue(key, JsonValue.of(value));
+    }
+
+    @Override
+    public JsonObject setValue(final CharSequence key, final long value) {
+        return setValue(key, JsonValue.of(value));
+    }
+
+    @Override
+    public JsonObject setValue(final CharSequence key, final double value) {
+        return setValue(key, JsonValue.of(value));
+    }
+
+    @Override
+    public JsonObject setValue(final CharSequence key, final boolean value) {
+        return setValue(key, JsonValue.of(value));
+    }
+
+    @Override
+    public JsonObject setValue(final CharSequence key, final String value) {
+        return setValue(key, JsonValue.of(value));
+    }
+
+    @Override
+    public JsonObject setValue(final CharSequence key, final JsonValue value) {
+        final JsonPointer pointer = JsonFactory.getNonEmptyPointer(key);
+        final JsonKey leafKey = pointer.getLeaf().orElse(ROOT_KEY);
+        return setFieldInHierarchy(this, pointer, leafKey, value, null);
+    }
+
+    @Override
+    public <T> JsonObject set(final JsonFieldDefinition<T> fieldDefinition, @Nullable final T value) {
+        requireNonNull(fieldDefinition, "The JSON field definition to set the value for must not be null!");
+
+        final JsonPointer pointer = fieldDefinition.getPointer();
+        final JsonKey leafKey = pointer.getLeaf().orElseThrow(() -> {
+            final String msgTemplate = "The pointer of the field definition <{0}> must not be empty!";
+            return new IllegalArgumentException(MessageFormat.format(msgTemplate, fieldDefinition));
+        });
+        return setFieldInHierarchy(this, pointer, leafKey, JsonValue.of(value), fieldDefinition);
+    }
+
+    private static PersistentJsonObject setFieldInHierarchy(final PersistentJsonObject target,
+            final JsonPointer pointer, final JsonKey leafKey, final JsonValue value,
+            @Nullable final JsonFieldDefinition<?> fieldDefinition) {
+
+        final JsonKey rootKey = pointer.getRoot().orElse(ROOT_KEY);
+        final JsonField existingField = target.fieldMap.getOrNull(rootKey.toString());
+
+        if (1 >= pointer.getLevelCount()) {
+            final JsonFieldDefinition<?> definition = null != fieldDefinition
+                    ? fieldDefinition
+                    : getDefinitionOrNull(existingField);
+            return target.set(JsonField.newInstance(leafKey, value, definition));
+        }
+
+        final PersistentJsonObject newTarget;
+        if (null != existingField && existingField.getValue().isObject() && !existingField.getValue().isNull()) {
+            newTarget = of(existingField.getValue().asObject());
+        } else {
+            newTarget = EMPTY;
+        }
+
+        final JsonValue newValue = setFieldInHierarchy(newTarget, pointer.nextLevel(), leafKey, value,
+                fieldDefinition);
+        return target.set(JsonField.newInstance(rootKey, newValue, getDefinitionOrNull(existingField)));
+    }
+
+    @Nullable
+    private static JsonFieldDefinition<?> getDefinitionOrNull(@Nullable final JsonField jsonField) {
+        return null != jsonField ? jsonField.getDefinition().orElse(null) : null;
+    }
+
+    @Override
+    public PersistentJsonObject set(final JsonField field) {
+        requireNonNull(field, "The JSON field to be set must not be null!");
+        final PersistentFieldMap newFieldMap = fieldMap.put(field.getKeyName(), field);
+        return newFieldMap == fieldMap ? this : new PersistentJsonObject(newFieldMap);
+    }
+
+    @Override
+    public JsonObject setAll(final Iterable<JsonField> fields) {
+        requireNonNull(fields, "The JSON fields to add must not be null!");
+        final PersistentFieldMap newFieldMap = fieldMap.putAll(fields);
+        return newFieldMap == fieldMap ? this : of(newFieldMap);
+    }
+
+    @Override
+    public boolean contains(final CharSequence key) {
+        requireNonNull(key, "The key or pointer to check the existence of a value for must not be null!");
+        return getFieldForPointer(JsonPointer.of(key)).isPresent();
+    }
+
+    @Override
+    public Optional<JsonValue> getValue(final CharSequence key) {
+        requireNonNull(key, "The key or pointer of the value to be retrieved must not be null!");
+        return getValueForPointer(JsonPointer.of(key));
+    }
+
+    private Optional<JsonValue> getValueForPointer(final JsonPointer pointer) {
+        if (pointer.isEmpty()) {
+            return Optional.of(this);
+        }
+        return getFieldForPointer(pointer).map(JsonField::getValue);
+    }
+
+    private Optional<JsonField> getFieldForPointer(final JsonPointer pointer) {
+        JsonObject current = this;
+        JsonField result = null;
+        for (final JsonKey key : pointer) {
+            if (null != result) {
+                final JsonValue value = result.getValue();
+                if (!value.isObject()) {
+                    return Optional.empty();
+                }
+                current = value.asObject();
+            }
+            if (current instanceof PersistentJsonObject) {
+                result = ((PersistentJsonObject) current).fieldMap.getOrNull(key.toString());
+            } else {
+                result = current.getField(key).orElse(null);
+            }
+            if (null == result) {
+                return Optional.empty();
+            }
+        }
+        return Optional.ofNullable(result);
+    }
+
+    @Override
+    public <T> Optional<T> getValue(final JsonFieldDefinition<T> fieldDefinition) {
+        checkFieldDefinition(fieldDefinition);
+        return getValueForPointer(fieldDefinition.getPointer()).map(fieldDefinition::mapValue);
+    }
+
+    private static void checkFieldDefinition(final JsonFieldDefinition<?> fieldDefinition) {
+        requireNonNull(fieldDefinition, "The JSON field definition which supplies the pointer must not be null!");
+    }
+
+    @Override
+    public <T> T getValueOrThrow(final JsonFieldDefinition<T> fieldDefinition) {
+        return getValue(fieldDefinition).orElseThrow(() -> new JsonMissingFieldException(fieldDefinition));
+    }
+
+    @Override
+    public JsonObject get(final JsonPointer pointer) {
+        requireNonNull(pointer, "The JSON pointer must not be null!");
+
+        if (pointer.isEmpty()) {
+            return this;
+        }
+
+        final JsonKey rootKey = pointer.getRoot().orElse(ROOT_KEY);
+        final JsonField rootField = fieldMap.getOrNull(rootKey.toString());
+        if (null == rootField) {
+            return EMPTY;
+        }
+        if (1 >= pointer.getLevelCount()) {
+            return EMPTY.set(rootField);
+        }
+
+        final JsonValue rootValue = rootField.getValue();
+        final JsonValue filteredValue;
+        if (rootValue.isObject()) {
+            final JsonPointer nextPointerLevel = pointer.nextLevel();
+            final boolean containsNextLevelRootKey = nextPointerLevel.getRoot()
+                    .filter(rootValue.asObject()::contains)
+                    .isPresent();
+            if (!containsNextLevelRootKey) {
+                return EMPTY;
+            }
+            filteredValue = rootValue.asObject().get(nextPointerLevel); // Recursion
+        } else {
+            filteredValue = rootValue;
+        }
+        return EMPTY.set(JsonField.newInstance(rootKey, filteredValue, getDefinitionOrNull(rootField)));
+    }
+
+    @Override
+    public JsonObject get(final JsonFieldDefinition fieldDefinition) {
+        checkFieldDefinition(fieldDefinition);
+        return get(fieldDefinition.getPointer());
+    }
+
+    @Override
+    public JsonObject get(final JsonFieldSelector fieldSelector) {
+        requireNonNull(fieldSelector, "The JSON field selector must not be null!");
+
+        if (isEmpty()) {
+            return this;
+        }
+
+        final List<JsonPointer> pointersContainedInThis = fieldSelector.getPointers()
+                .stream()
+                .filter(this::contains)
+                .collect(Collectors.toList());
+
+        if (pointersContainedInThis.isEmpty()) {
+            return EMPTY;
+        }
+        return filterByTrie(this, JsonFieldSelectorTrie.of(pointersContainedInThis));
+    }
+
+    private static JsonObject filterByTrie(final JsonObject self, final JsonFieldSelectorTrie trie) {
+        if (trie.isEmpty()) {
+            return self;
+        }
+
+        PersistentFieldMap result = PersistentFieldMap.empty();
+        for (final JsonKey key : trie.getKeys()) {
+            final Optional<JsonField> childOptional = self.getField(key);
+            if (childOptional.isPresent()) {
+                final JsonField child = childOptional.get();
+                final JsonValue childValue = child.getValue();
+                final JsonValue filteredChildValue = childValue.isObject()
+                        ? filterByTrie(childValue.asObject(), trie.descend(key))
+                        : childValue;
+                result = result.put(key.toString(),
+                        JsonField.newInstance(key, filteredChildValue, getDefinitionOrNull(child)));
+            }
+        }
+        return of(result);
+    }
+
+    @Override
+    public JsonObject remove(final CharSequence key) {
+        requireNonNull(key, "The key or pointer of the field to be removed must not be null!");
+        return removeForPointer(JsonPointer.of(key));
+    }
+
+    private PersistentJsonObject removeForPointer(final JsonPointer pointer) {
+        if (pointer.isEmpty()) {
+            return this;
+        }
+
+        final JsonKey rootKey = pointer.getRoot().orElse(ROOT_KEY);
+        if (1 == pointer.getLevelCount()) {
+            final PersistentFieldMap newFieldMap = fieldMap.remove(rootKey.toString());
+            return newFieldMap == fieldMap ? this : of(newFieldMap);
+        }
+
+        final JsonField rootField = fieldMap.getOrNull(rootKey.toString());
+        if (null == rootField || !rootField.getValue().isObject()) {
+            return this;
+        }
+        final JsonObject rootObject = rootField.getValue().asObject();
+        final JsonPointer nextPointerLevel = pointer.nextLevel();
+        final boolean containsNextLevelRootKey = nextPointerLevel.getRoot()
+                .map(rootObject::contains)
+                .orElse(false);
+        if (!containsNextLevelRootKey) {
+            return this;
+        }
+        final JsonObject withoutValue = of(rootObject).removeForPointer(nextPointerLevel); // Recursion
+        return set(JsonField.newInstance(rootKey, withoutValue, getDefinitionOrNull(rootField)));
+    }
+
+    @Override
+    public List<JsonKey> getKeys() {
+        final List<JsonKey> keys = new ArrayList<>(fieldMap.getSize());
+        for (final JsonField jsonField : fieldMap) {
+            keys.add(jsonField.getKey());
+        }
+        return Collections.unmodifiableList(keys);
+    }
+
+    @Override
+    public Optional<JsonField> getField(final CharSequence key) {
+        requireNonNull(key, "The key or pointer of the field to be retrieved must not be null!");
+        return getFieldForPointer(JsonPointer.of(key));
+    }
+
+    @Override
+    public boolean isObject() {
+        return true;
+    }
+
+    @Override
+    public JsonObject asObject() {
+        return this;
+    }
+
+    @Override
+    public Iterator<JsonField> iterator() {
+        return fieldMap.iterator();
+    }
+
+    @Override
+    public Stream<JsonField> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return fieldMap.isEmpty();
+    }
+
+    @Override
+    public int getSize() {
+        return fieldMap.getSize();
+    }
+
+    /**
+     * Returns an unmodifiable {@code Map} view of the fields of this object which preserves their order.
+     *
+     * @return the view.
+     */
+    Map<String, JsonField> asMap() {
+        return fieldMap.asMap();
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o instanceof PersistentJsonObject) {
+            final PersistentJsonObject that = (PersistentJsonObject) o;
+            return getSize() == that.getSize() && hashCode() == that.hashCode() && asMap().equals(that.asMap());
+        }
+        if (o instanceof ImmutableJsonObject || o instanceof LazyJsonObject) {
+            return o.equals(this);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = hashCode;
+        if (0 == result) {
+            result = asMap().hashCode();
+            hashCode = result;
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        String result = stringRepresentation;
+        if (null == result) {
+            final StringBuilder stringBuilder = new StringBuilder(getSize() * 16 + 2);
+            stringBuilder.append('{');
+            String delimiter = "";
+            for (final JsonField jsonField : fieldMap) {
+                stringBuilder.append(delimiter);
+                stringBuilder.append(jsonField);
+                delimiter = ",";
+            }
+            stringBuilder.append('}');
+            result = stringBuilder.toString();
+            stringRepresentation = result;
+        }
+        return result;
+    }
+
+    @Override
+    public void writeValue(final SerializationContext serializationContext) throws IOException {
+        byte[] cbor = cborRepresentation;
+        if (CBOR_FACTORY.isCborAvailable() && null == cbor) {
+            final int guessedSize = null != stringRepresentation ? stringRepresentation.length() : 512;
+            cbor = CBOR_FACTORY.createCborRepresentation(asMap(), guessedSize);
+            cborRepresentation = cbor;
+        }
+        serializationContext.writeCachedElement(cbor);
+    }
+
+    @Override
+    public long getUpperBoundForStringSize() {
+        if (null == stringRepresentation && null != cborRepresentation) {
+            return cborRepresentation.length * CBOR_MAX_COMPRESSION_RATIO;
+        }
+        return toString().length();
+    }
+
+}
@@ -0,0 +1,523 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.util.Arrays;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A streaming JSON parser which reads UTF-8 encoded bytes directly, i. e. without decoding the whole input to a
+ * {@code String} first.
+ * Parse events are reported to a {@link DittoJsonHandler} in exactly the same order as
+ * {@code com.eclipsesource.json.JsonParser} reports them. Additionally object member names are passed as
+ * {@link JsonKey}s via {@link DittoJsonHandler#endObjectValue(Object, JsonKey)} which are interned through a
+ * {@link JsonKeyCache}.
+ * <p>
+ * Input which is available as byte array or as heap {@code ByteBuffer} is read in place; an {@code InputStream} is
+ * read in chunks.
+ * </p>
+ * <p>
+ * <em>Instances of this class are meant to parse exactly one input.</em>
+ * </p>
+ *
+ * @param <A> the type the handler uses for JSON arrays.
+ * @param <O> the type the handler uses for JSON objects.
+ */
+@NotThreadSafe
+final class Utf8JsonParser<A, O> {
+
+    private static final int STREAM_BUFFER_SIZE = 8192;
+    private static final int MIN_STREAM_BUFFER_SIZE = 512;
+    private static final int END_OF_INPUT = -1;
+
+    private final DittoJsonHandler<A, O, ?> handler;
+    private final JsonKeyCache keyCache;
+    @Nullable private final InputStream inputStream;
+    private byte[] buffer;
+    private int position;
+    private int limit;
+    private int bufferOffset;
+    private int current;
+    @Nullable private char[] chars;
+    private int charCount;
+
+    private Utf8JsonParser(final DittoJsonHandler<A, O, ?> handler, final JsonKeyCache keyCache,
+            @Nullable final InputStream inputStream, final byte[] buffer, final int offset, final int limit) {
+
+        this.handler = handler;
+        this.keyCache = keyCache;
+        this.inputStream = inputStream;
+        this.buffer = buffer;
+        position = offset;
+        this.limit = limit;
+        bufferOffset = -offset;
+        current = END_OF_INPUT;
+        // allocated on demand as small documents often contain neither escape sequences nor non-ASCII characters
+        chars = null;
+        charCount = 0;
+    }
+
+    /**
+     * Parses the given UTF-8 encoded bytes and reports the parse events to the given handler.
+     *
+     * @param handler the handler which receives the parse events.
+     * @param bytes the bytes to parse.
+     * @param offset the offset of the first byte to parse.
+     * @param length the amount of bytes to parse.
+     * @throws JsonParseException if the bytes do not represent valid JSON.
+     */
+    static <A, O> void parse(final DittoJsonHandler<A, O, ?> handler, final byte[] bytes, final int offset,
+            final int length) {
+
+        if (offset < 0 || length < 0 || offset + length > bytes.length) {
+            throw new IndexOutOfBoundsException(MessageFormat.format("Offset <{0}> and length <{1}> do not fit " +
+                    "into an array of length <{2}>!", offset, length, bytes.length));
+        }
+        new Utf8JsonParser<>(handler, JsonKeyCache.getSharedInstance(), null, bytes, offset, offset + length)
+                .parse();
+    }
+
+    /**
+     * Parses the remaining bytes of the given buffer and reports the parse events to the given handler.
+     * The position of the buffer is not changed.
+     *
+     * @param handler the handler which receives the parse events.
+     * @param byteBuffer the buffer containing the UTF-8 encoded JSON.
+     * @throws JsonParseException if the bytes do not represent valid JSON.
+     */
+    static <A, O> void parse(final DittoJsonHandler<A, O, ?> handler, final ByteBuffer byteBuffer) {
+        if (byteBuffer.hasArray()) {
+            final int offset = byteBuffer.arrayOffset() + byteBuffer.position();
+            parse(handler, byteBuffer.array(), offset, byteBuffer.remaining());
+        } else {
+            final byte[] bytes = new byte[byteBuffer.remaining()];
+            byteBuffer.duplicate().get(bytes);
+            parse(handler, bytes, 0, bytes.length);
+        }
+    }
+
+    /**
+     * Parses the given stream until its end and reports the parse events to the given handler.
+     * The stream is not closed.
+     *
+     * @param handler the handler which receives the parse events.
+     * @param inputStream the stream providing the UTF-8 encoded JSON.
+     * @throws JsonParseException if the bytes do not represent valid JSON.
+     * @throws UncheckedIOException if reading from {@code inputStream} failed.
+     */
+    static <A, O> void parse(final DittoJsonHandler<A, O, ?> handler, final InputStream inputStream) {
+        new Utf8JsonParser<>(handler, JsonKeyCache.getSharedInstance(), inputStream,
+                new byte[getStreamBufferSize(inputStream)], 0, 0).parse();
+    }
+
+    private static int getStreamBufferSize(final InputStream inputStream) {
+        // small inputs whose size is known in advance, e.g. from a ByteArrayInputStream, get a smaller buffer
+        try {
+            final int available = inputStream.available();
+            if (0 < available) {
+                return Math.min(STREAM_BUFFER_SIZE, Math.max(MIN_STREAM_BUFFER_SIZE, available));
+            }
+            return STREAM_BUFFER_SIZE;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void parse() {
+        read();
+        skipWhitespace();
+        readValue();
+        skipWhitespace();
+        if (END_OF_INPUT != current) {
+            throw error("Unexpected character");
+        }
+    }
+
+    private void readValue() {
+        switch (current) {
+            case 'n':
+                handler.startNull();
+                readLiteral("null");
+                handler.endNull();
+                break;
+            case 't':
+                handler.startBoolean();
+                readLiteral("true");
+                handler.endBoolean(true);
+                break;
+            case 'f':
+                handler.startBoolean();
+                readLiteral("false");
+                handler.endBoolean(false);
+                break;
+            case '"':
+                handler.startString();
+                handler.endString(readStringInternal());
+                break;
+            case '[':
+                readArray();
+                break;
+            case '{':
+                readObject();
+                break;
+            case '-':
+            case '0':
+            case '1':
+            case '2':
+            case '3':
+            case '4':
+            case '5':
+            case '6':
+            case '7':
+            case '8':
+            case '9':
+                handler.startNumber();
+                handler.endNumber(readNumber());
+                break;
+            default:
+                throw expected("value");
+        }
+    }
+
+    private void readLiteral(final String literal) {
+        read();
+        for (int i = 1; i < literal.length(); i++) {
+            if (current != literal.charAt(i)) {
+                throw expected("'" + literal.charAt(i) + "'");
+            }
+            read();
+        }
+    }
+
+    private void readArray() {
+        final A array = handler.startArray();
+        read();
+        skipWhitespace();
+        if (readChar(']')) {
+            handler.endArray(array);
+            return;
+        }
+        do {
+            skipWhitespace();
+            handler.startArrayValue(array);
+            readValue();
+            handler.endArrayValue(array);
+            skipWhitespace();
+        } while (readChar(','));
+        if (!readChar(']')) {
+            throw expected("',' or ']'");
+        }
+        handler.endArray(array);
+    }
+
+    private void readObject() {
+        final O object = handler.startObject();
+        read();
+        skipWhitespace();
+        if (readChar('}')) {
+            handler.endObject(object);
+            return;
+        }
+        do {
+            skipWhitespace();
+            handler.startObjectName(object);
+            final JsonKey key = readName();
+            final String name = key.toString();
+            handler.endObjectName(object, name);
+            skipWhitespace();
+            if (!readChar(':')) {
+                throw expected("':'");
+            }
+            skipWhitespace();
+            handler.startObjectValue(object, name);
+            readValue();
+            handler.endObjectValue(object, key);
+            skipWhitespace();
+        } while (readChar(','));
+        if (!readChar('}')) {
+            throw expected("',' or '}'");
+        }
+        handler.endObject(object);
+    }
+
+    private JsonKey readName() {
+        if ('"' != current) {
+            throw expected("name");
+        }
+
+        // fast path: the whole name is available in the buffer and consists of ASCII characters without escape
+        // sequences; other names are validated like string values
+        final int start = position;
+        int end = start;
+        while (end < limit) {
+            final byte b = buffer[end];
+            if ('"' == b || '\\' == b || b < 0x20) { // negative bytes are the start of multi byte sequences
+                break;
+            }
+            end++;
+        }
+        if (end < limit && '"' == buffer[end]) {
+            final JsonKey result = keyCache.getOrDecode(buffer, start, end - start);
+            position = end + 1;
+            read();
+            return result;
+        }
+        return JsonKey.of(readStringInternal());
+    }
+
+    private String readStringInternal() {
+        // fast path: ASCII string without escape sequences which is completely available in the buffer
+        final int start = position;
+        int end = start;
+        while (end < limit) {
+            final byte b = buffer[end];
+            if ('"' == b || '\\' == b || b < 0x20) { // negative bytes are the start of multi byte sequences
+                break;
+            }
+            end++;
+        }
+        if (end < limit && '"' == buffer[end]) {
+            final String result = new String(buffer, start, end - start, StandardCharsets.ISO_8859_1);
+            position = end + 1;
+            read();
+            return result;
+        }
+
+        charCount = 0;
+        read();
+        while ('"' != current) {
+            if ('\\' == current) {
+                readEscape();
+            } else if (current < 0x20) {
+                throw expected("valid string character");
+            } else if (current < 0x80) {
+                appendChar((char) current);
+                read();
+            } else {
+                readMultiByteCharacter();
+            }
+        }
+        read();
+        return getChars();
+    }
+
+    private void readEscape() {
+        read();
+        switch (current) {
+            case '"':
+            case '/':
+            case '\\':
+                appendChar((char) current);
+                break;
+            case 'b':
+                appendChar('\b');
+                break;
+            case 'f':
+                appendChar('\f');
+                break;
+            case 'n':
+                appendChar('\n');
+                break;
+            case 'r':
+                appendChar('\r');
+                break;
+            case 't':
+                appendChar('\t');
+                break;
+            case 'u':
+                int codeUnit = 0;
+                for (int i = 0; i < 4; i++) {
+                    read();
+                    final int digit = Character.digit(current, 16);
+                    if (0 > digit) {
+                        throw expected("hexadecimal digit");
+                    }
+                    codeUnit = (codeUnit << 4) | digit;
+                }
+                appendChar((char) codeUnit);
+                break;
+            default:
+                throw expected("valid escape sequence");
+        }
+        read();
+    }
+
+    private void readMultiByteCharacter() {
+        final int first = current;
+        final int additionalBytes;
+        int codePoint;
+        if (0xC0 == (first & 0xE0)) {
+            additionalBytes = 1;
+            codePoint = first & 0x1F;
+        } else if (0xE0 == (first & 0xF0)) {
+            additionalBytes = 2;
+            codePoint = first & 0x0F;
+        } else if (0xF0 == (first & 0xF8)) {
+            additionalBytes = 3;
+            codePoint = first & 0x07;
+        } else {
+            throw expected("valid UTF-8 byte");
+        }
+        for (int i = 0; i < additionalBytes; i++) {
+            read();
+            if (0x80 != (current & 0xC0)) {
+                throw expected("UTF-8 continuation byte");
+            }
+            codePoint = (codePoint << 6) | (current & 0x3F);
+        }
+        if (Character.isBmpCodePoint(codePoint)) {
+            appendChar((char) codePoint);
+        } else if (Character.isValidCodePoint(codePoint)) {
+            appendChar(Character.highSurrogate(codePoint));
+            appendChar(Character.lowSurrogate(codePoint));
+        } else {
+            throw expected("valid UTF-8 code point");
+        }
+        read();
+    }
+
+    private String getChars() {
+        return null == chars ? "" : new String(chars, 0, charCount);
+    }
+
+    private void appendChar(final char c) {
+        if (null == chars) {
+            chars = new char[64];
+        } else if (charCount == chars.length) {
+            chars = Arrays.copyOf(chars, chars.length * 2);
+        }
+        chars[charCount++] = c;
+    }
+
+    private String readNumber() {
+        final int start = position - 1;
+        charCount = 0;
+        readCharIntoNumber('-');
+        final int firstDigit = current;
+        if (!readDigitIntoNumber()) {
+            throw expected("digit");
+        }
+        if ('0' != firstDigit) {
+            while (readDigitIntoNumber()) {
+                // consume all digits
+            }
+        }
+        if (readCharIntoNumber('.')) {
+            if (!readDigitIntoNumber()) {
+                throw expected("digit");
+            }
+            while (readDigitIntoNumber()) {
+                // consume all digits
+            }
+        }
+        if (readCharIntoNumber('e') || readCharIntoNumber('E')) {
+            if (!readCharIntoNumber('+')) {
+                readCharIntoNumber('-');
+            }
+            if (!readDigitIntoNumber()) {
+                throw expected("digit");
+            }
+            while (readDigitIntoNumber()) {
+                // consume all digits
+            }
+        }
+        if (null == inputStream) {
+            // the whole input is in the buffer, so the number is decoded from it at once instead of char by char
+            final int end = END_OF_INPUT == current ? position : position - 1;
+            return new String(buffer, start, end - start, StandardCharsets.ISO_8859_1);
+        }
+        return getChars();
+    }
+
+    private boolean readCharIntoNumber(final char c) {
+        if (c != current) {
+            return false;
+        }
+        if (null != inputStream) {
+            appendChar(c);
+        }
+        read();
+        return true;
+    }
+
+    private boolean readDigitIntoNumber() {
+        if ('0' > current || '9' < current) {
+            return false;
+        }
+        if (null != inputStream) {
+            appendChar((char) current);
+        }
+        read();
+        return true;
+    }
+
+    private boolean readChar(final char c) {
+        if (c != current) {
+            return false;
+        }
+        read();
+        return true;
+    }
+
+    private void skipWhitespace() {
+        while (' ' == current || '\t' == current || '\n' == current || '\r' == current) {
+            read();
+        }
+    }
+
+    private void read() {
+        if (position == limit && !fill()) {
+            current = END_OF_INPUT;
+            return;
+        }
+        current = buffer[position++] & 0xFF;
+    }
+
+    private boolean fill() {
+        if (null == inputStream) {
+            return false;
+        }
+        try {
+            bufferOffset += limit;
+            final int read = inputStream.read(buffer, 0, buffer.length);
+            position = 0;
+            limit = Math.max(0, read);
+            return 0 < read;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private JsonParseException expected(final String expected) {
+        if (END_OF_INPUT == current) {
+            return error("Unexpected end of input");
+        }
+        return error("Expected " + expected);
+    }
+
+    private JsonParseException error(final String message) {
+        final int offset = bufferOffset + position - 1;
+        return JsonParseException.newBuilder()
+                .message(MessageFormat.format("{0} at byte offset <{1}>.", message, Math.max(0, offset)))
+                .build();
+    }
+
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link LazyJsonObject}.
+ */
+public final class LazyJsonObjectTest {
+
+    private static final String KNOWN_JSON_STRING = "{" +
+            "\"topic\":\"org.eclipse.ditto/thing-1/things/twin/commands/modify\"," +
+            "\"headers\":{\"correlation-id\":\"abc-123\",\"response-required\":true}," +
+            "\"path\":\"/features/lamp/properties\"," +
+            "\"value\":{\"on\":false,\"brightness\":42,\"ratio\":-5.0E-4,\"colour\":null," +
+            "\"tags\":[\"a\",1,[],{},1.5],\"nested\":{\"deeper\":{\"text\":\"Grüße\"}}}," +
+            "\"revision\":1337" +
+            "}";
+
+    @Test
+    public void retrievesValuesLikeEagerlyParsedObject() {
+        final JsonObject expected = JsonFactory.newObject(KNOWN_JSON_STRING);
+
+        final JsonObject underTest = lazy(KNOWN_JSON_STRING);
+
+        assertThat(underTest.getSize()).isEqualTo(expected.getSize());
+        assertThat(underTest.getKeys()).isEqualTo(expected.getKeys());
+        assertThat(underTest.getValue("headers/correlation-id")).isEqualTo(expected.getValue("headers/correlation-id"));
+        assertThat(underTest.getValue("value/tags")).isEqualTo(expected.getValue("value/tags"));
+        assertThat(underTest.getValue("value/nested/deeper/text")).contains(JsonValue.of("Grüße"));
+        assertThat(underTest.getValue("value/on/foo")).isEmpty();
+        assertThat(underTest.getValue("unknown")).isEmpty();
+        assertThat(underTest.getField("revision")).isEqualTo(expected.getField("revision"));
+        assertThat(underTest.contains("value/colour")).isTrue();
+        assertThat(underTest.get(JsonPointer.of("headers/response-required")))
+                .isEqualTo(expected.get(JsonPointer.of("headers/response-required")));
+        assertThat(underTest).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    public void isEqualToEagerlyParsedObject() {
+        final String prettyJsonString = "  {\n  \"a\" : 1,\n  \"b\" : { \"c\" : \"\\u00e4\\/\" }\n}\n";
+        final JsonObject expected = JsonFactory.newObject(prettyJsonString);
+
+        final JsonObject underTest = lazy(prettyJsonString);
+
+        assertThat(underTest).isEqualTo(expected);
+        assertThat(expected).isEqualTo(underTest);
+        assertThat(underTest).hasSameHashCodeAs(expected);
+        assertThat(underTest).isEqualTo(lazy(expected.toString()));
+        assertThat(JsonFactory.newPersistentObject(expected)).isEqualTo(underTest);
+        assertThat(underTest.toString()).isEqualTo(expected.toString());
+        assertThat(lazy(KNOWN_JSON_STRING)).isEqualTo(JsonFactory.newObject(KNOWN_JSON_STRING));
+    }
+
+    @Test
+    public void serializesCompactInputAsOriginalBytes() {
+        final JsonObject underTest = lazy(KNOWN_JSON_STRING);
+
+        assertThat(underTest.toString()).isEqualTo(KNOWN_JSON_STRING);
+        assertThat(underTest.getUpperBoundForStringSize())
+                .isGreaterThanOrEqualTo(KNOWN_JSON_STRING.length());
+    }
+
+    @Test
+    public void serializesNonCanonicalInputCanonically() {
+        final String[][] nonCanonicalAndCanonicalJsonStrings = {
+                {"{\"a\":1,\"b\":2,\"a\":3}", "{\"a\":3,\"b\":2}"},
+                {"{\"a\":1E2}", "{\"a\":100.0}"},
+                {"{\"a\":-0}", "{\"a\":0}"},
+                {"{\"a\":\"\\u0041\"}", "{\"a\":\"A\"}"},
+                {"{\"a\":[1.50,{\"b\":-0}]}", "{\"a\":[1.5,{\"b\":0}]}"},
+                {"{\"a\":[[{\"b\":1,\"b\":2}],3]}", "{\"a\":[[{\"b\":2}],3]}"},
+                {"{\"a\":{\"b\":{\"c\":1,\"c\":2}}}", "{\"a\":{\"b\":{\"c\":2}}}"},
+                {"{ \"a\" : [ 1 , { \"b\" : true } ] }", "{\"a\":[1,{\"b\":true}]}"}
+        };
+        for (final String[] jsonStrings : nonCanonicalAndCanonicalJsonStrings) {
+            final String jsonString = jsonStrings[0];
+            final JsonObject expected = JsonFactory.readFrom(jsonStrings[1]).asObject();
+
+            final JsonObject underTest = lazy(jsonString);
+
+            assertThat(underTest.toString()).as(jsonString).isEqualTo(jsonStrings[1]);
+            assertThat(underTest).as(jsonString).isEqualTo(expected);
+            assertThat(expected).as(jsonString).isEqualTo(underTest);
+            assertThat(underTest).as(jsonString).hasSameHashCodeAs(expected);
+            assertThat(underTest).as(jsonString).isEqualTo(lazy(underTest.toString()));
+            assertThat(lazy(underTest.toString()).toString()).as(jsonString).isEqualTo(jsonStrings[1]);
+        }
+    }
+
+    @Test
+    public void alteringKeepsUntouchedNestedObjectsLazy() {
+        final JsonObject underTest = lazy("{\"a\":1,\"b\":{\"c\":\"d\"},\"e\":{\"f\":[true]}}");
+
+        final JsonObject altered = underTest.setValue("a", 2).remove("b/c");
+
+        assertThat(altered.getValue("e")).containsInstanceOf(LazyJsonObject.class);
+        assertThat(altered.toString()).isEqualTo("{\"a\":2,\"b\":{},\"e\":{\"f\":[true]}}");
+    }
+
+    @Test
+    public void nonCanonicalNestedObjectDoesNotAffectSiblings() {
+        final JsonObject underTest = lazy("{\"a\":{\"x\":1,\"x\":2},\"b\":{\"y\":1}}");
+
+        assertThat(underTest.toString()).isEqualTo("{\"a\":{\"x\":2},\"b\":{\"y\":1}}");
+        assertThat(underTest.getValue("a").map(JsonValue::toString)).contains("{\"x\":2}");
+        assertThat(underTest.getValue("b")).containsInstanceOf(LazyJsonObject.class);
+        assertThat(underTest).isEqualTo(JsonFactory.newObject("{\"a\":{\"x\":2},\"b\":{\"y\":1}}"));
+    }
+
+    @Test
+    public void decodesNonAsciiAndEscapedKeysLikeParser() {
+        final String jsonString = "{\"Grüße\":1,\"\\u0041\":{\"ä\\/\":true}}";
+
+        final JsonObject underTest = lazy(jsonString);
+
+        assertThat(underTest.getKeys()).containsExactly(JsonKey.of("Grüße"), JsonKey.of("A"));
+        assertThat(underTest.getValue("A/ä\\/")).isEmpty();
+        assertThat(underTest).isEqualTo(JsonFactory.newObject(jsonString));
+        assertThat(underTest.toString()).isEqualTo(JsonFactory.newObject(jsonString).toString());
+    }
+
+    @Test
+    public void keepsPositionOfFirstAndValueOfLastDuplicateKey() {
+        final String jsonString = "{\"a\":1,\"b\":2,\"a\":3}";
+
+        final JsonObject underTest = lazy(jsonString);
+
+        assertThat(underTest).isEqualTo(JsonFactory.newObject("{\"a\":3,\"b\":2}"));
+        assertThat(underTest.getKeys()).containsExactly(JsonKey.of("a"), JsonKey.of("b"));
+        assertThat(underTest.getValue("a")).contains(JsonValue.of(3));
+    }
+
+    @Test
+    public void rejectsStructurallyInvalidInput() {
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> lazy("[1,2]"))
+                .withMessage("Expected '{' at byte offset <0>.");
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> lazy("{\"a\":{\"b\":1}"))
+                .withMessageStartingWith("Unexpected end of input");
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> lazy("{\"a\":}"))
+                .withMessageStartingWith("Expected value");
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> lazy("{\"\":1}"))
+                .withCauseExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void rejectsInvalidNestedValues() {
+        final String[] invalidJsonStrings = {
+                "{\"a\":[1}}",
+                "{\"a\":[tru]}",
+                "{\"a\":{\"b\":nul}}",
+                "{\"a\":{\"b\":[1,]}}",
+                "{\"a\":[01]}",
+                "{\"a\":[1.]}",
+                "{\"a\":[-]}",
+                "{\"a\":[1e]}",
+                "{\"a\":{\"b\":\"\\q\"}}",
+                "{\"a\":{\"b\":\"\\u12G4\"}}",
+                "{\"a\":[\"\t\"]}",
+                "{\"a\":{1:2}}",
+                "{\"a\":[}"
+        };
+        for (final String jsonString : invalidJsonStrings) {
+            assertThatExceptionOfType(JsonParseException.class)
+                    .as(jsonString)
+                    .isThrownBy(() -> lazy(jsonString));
+            assertThatExceptionOfType(JsonParseException.class)
+                    .as(jsonString)
+                    .isThrownBy(() -> JsonFactory.readFrom(jsonString));
+        }
+    }
+
+    @Test
+    public void rejectsInvalidUtf8InKeysAndValues() {
+        final byte[] invalidKey = {'{', '"', (byte) 0xC3, '"', ':', '1', '}'};
+        final byte[] invalidNestedValue = {'{', '"', 'a', '"', ':', '[', '"', (byte) 0xC3, '"', ']', '}'};
+
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> JsonFactory.newLazyObject(invalidKey))
+                .withMessageStartingWith("Expected UTF-8 continuation byte");
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> JsonFactory.newLazyObject(invalidNestedValue))
+                .withMessageStartingWith("Expected UTF-8 continuation byte");
+    }
+
+    private static JsonObject lazy(final String jsonString) {
+        return JsonFactory.newLazyObject(jsonString.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.ditto.json.assertions.DittoJsonAssertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link PersistentJsonObject}.
+ */
+public final class PersistentJsonObjectTest {
+
+    private static final JsonObject KNOWN_JSON_OBJECT = JsonObject.newBuilder()
+            .set("thingId", "org.eclipse.ditto:foo")
+            .set("attributes", JsonObject.newBuilder()
+                    .set("manufacturer", "ACME")
+                    .set("location", JsonObject.newBuilder()
+                            .set("latitude", 44.673856)
+                            .set("longitude", 8.261719)
+                            .build())
+                    .build())
+            .set("features", JsonObject.newBuilder()
+                    .set("lamp", JsonObject.newBuilder()
+                            .set("properties", JsonObject.newBuilder().set("on", true).build())
+                            .build())
+                    .build())
+            .build();
+
+    @Test
+    public void emptyInstanceReturnsExpected() {
+        final JsonObject underTest = JsonFactory.newPersistentObject();
+
+        assertThat(underTest).isObject();
+        assertThat(underTest).isEmpty();
+        assertThat(underTest).hasSize(0);
+        assertThat(underTest.toString()).isEqualTo("{}");
+        assertThat(underTest).isEqualTo(JsonObject.empty());
+    }
+
+    @Test
+    public void isEqualToImmutableJsonObjectWithSameFields() {
+        final JsonObject underTest = JsonFactory.newPersistentObject(KNOWN_JSON_OBJECT);
+
+        assertThat(underTest).isEqualTo(KNOWN_JSON_OBJECT);
+        assertThat(KNOWN_JSON_OBJECT).isEqualTo(underTest);
+        assertThat(underTest.hashCode()).isEqualTo(KNOWN_JSON_OBJECT.hashCode());
+        assertThat(underTest.toString()).isEqualTo(KNOWN_JSON_OBJECT.toString());
+    }
+
+    @Test
+    public void setValueWithPointerBehavesLikeImmutableJsonObject() {
+        final JsonPointer pointer = JsonPointer.of("features/lamp/properties/brightness");
+        final JsonObject persistent = JsonFactory.newPersistentObject(KNOWN_JSON_OBJECT);
+
+        final JsonObject expected = KNOWN_JSON_OBJECT.setValue(pointer, 80);
+        final JsonObject actual = persistent.setValue(pointer, 80);
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(actual.toString()).isEqualTo(expected.toString());
+        assertThat(actual.getValue(pointer)).contains(JsonValue.of(80));
+        assertThat(persistent.contains(pointer)).isFalse();
+    }
+
+    @Test
+    public void setValueKeepsInsertionOrder() {
+        JsonObject underTest = JsonFactory.newPersistentObject();
+        final List<JsonKey> expectedKeys = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            final JsonKey key = JsonKey.of("key" + (99 - i));
+            expectedKeys.add(key);
+            underTest = underTest.setValue(key, i);
+        }
+        underTest = underTest.setValue("key50", "replaced");
+
+        assertThat(underTest.getKeys()).containsExactlyElementsOf(expectedKeys);
+        assertThat(underTest.getValue("key50")).contains(JsonValue.of("replaced"));
+    }
+
+    @Test
+    public void removeWorksAsExpected() {
+        final JsonObject persistent = JsonFactory.newPersistentObject(KNOWN_JSON_OBJECT);
+
+        assertThat(persistent.remove("attributes/location/latitude"))
+                .isEqualTo(KNOWN_JSON_OBJECT.remove("attributes/location/latitude"));
+        assertThat(persistent.remove("features")).isEqualTo(KNOWN_JSON_OBJECT.remove("features"));
+        assertThat(persistent.remove("doesNotExist")).isSameAs(persistent);
+    }
+
+    @Test
+    public void getWithPointerAndFieldSelectorReturnExpected() {
+        final JsonObject persistent = JsonFactory.newPersistentObject(KNOWN_JSON_OBJECT);
+        final JsonPointer pointer = JsonPointer.of("attributes/location/longitude");
+        final JsonFieldSelector fieldSelector = JsonFieldSelector.newInstance("thingId", "attributes/location");
+
+        assertThat(persistent.get(pointer)).isEqualTo(KNOWN_JSON_OBJECT.get(pointer));
+        assertThat(persistent.get(fieldSelector)).isEqualTo(KNOWN_JSON_OBJECT.get(fieldSelector));
+    }
+
+    @Test
+    public void manyRandomUpdatesAreConsistentWithImmutableJsonObject() {
+        final Random random = new Random(42);
+        JsonObject expected = JsonObject.empty();
+        JsonObject actual = JsonFactory.newPersistentObject();
+        for (int i = 0; i < 5_000; i++) {
+            final String key = "k" + random.nextInt(1_500);
+            if (random.nextInt(4) == 0) {
+                expected = expected.remove(key);
+                actual = actual.remove(key);
+            } else {
+                expected = expected.setValue(key, i);
+                actual = actual.setValue(key, i);
+            }
+        }
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(actual.getKeys()).containsExactlyElementsOf(expected.getKeys());
+        assertThat(actual.stream().collect(Collectors.toList()))
+                .containsExactlyElementsOf(expected.stream().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void keysWithCollidingHashCodesAreDistinguished() {
+        // "Aa" and "BB" have the same String#hashCode
+        final JsonObject underTest = JsonFactory.newPersistentObject()
+                .setValue("Aa", 1)
+                .setValue("BB", 2);
+
+        assertThat(underTest.getValue("Aa")).contains(JsonValue.of(1));
+        assertThat(underTest.getValue("BB")).contains(JsonValue.of(2));
+        assertThat(underTest.remove("Aa").getKeys()).containsExactly(JsonKey.of("BB"));
+    }
+
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link Utf8JsonParser}.
+ */
+public final class Utf8JsonParserTest {
+
+    private static final String KNOWN_JSON_STRING = "{\n" +
+            "  \"topic\": \"org.eclipse.ditto/thing-1/things/twin/commands/modify\",\n" +
+            "  \"headers\": {\"correlation-id\": \"abc-123\", \"response-required\": true},\n" +
+            "  \"path\": \"/features/lamp/properties\",\n" +
+            "  \"value\": {\n" +
+            "    \"on\": false,\n" +
+            "    \"brightness\": 42,\n" +
+            "    \"big\": 2147483648,\n" +
+            "    \"ratio\": -0.5e-3,\n" +
+            "    \"colour\": null,\n" +
+            "    \"tags\": [\"a\", 1, [], {}, 1.5],\n" +
+            "    \"text\": \"Grüße, \\\"Welt\\\"\\n\\u00e4\\t\\/ 😀 日本\"\n" +
+            "  }\n" +
+            "}";
+
+    @Test
+    public void parsesBytesLikeStringParser() {
+        final JsonValue expected = JsonFactory.readFrom(KNOWN_JSON_STRING);
+
+        final JsonValue actual = JsonFactory.readFrom(KNOWN_JSON_STRING.getBytes(StandardCharsets.UTF_8));
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(actual.toString()).isEqualTo(expected.toString());
+        assertThat(actual.asObject().getValue("value/text"))
+                .contains(JsonValue.of("Grüße, \"Welt\"\nä\t/ 😀 日本"));
+    }
+
+    @Test
+    public void parsesByteBufferWithoutChangingItsPosition() {
+        final byte[] bytes = ("xx" + KNOWN_JSON_STRING).getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer byteBuffer = ByteBuffer.wrap(bytes);
+        byteBuffer.position(2);
+        final ByteBuffer directBuffer = ByteBuffer.allocateDirect(bytes.length - 2);
+        directBuffer.put(bytes, 2, bytes.length - 2).flip();
+
+        assertThat(JsonFactory.readFrom(byteBuffer)).isEqualTo(JsonFactory.readFrom(KNOWN_JSON_STRING));
+        assertThat(JsonFactory.readFrom(directBuffer)).isEqualTo(JsonFactory.readFrom(KNOWN_JSON_STRING));
+        assertThat(byteBuffer.position()).isEqualTo(2);
+        assertThat(directBuffer.position()).isZero();
+    }
+
+    @Test
+    public void parsesInputStreamDeliveringSingleBytes() {
+        final InputStream singleByteStream =
+                new FilterInputStream(new ByteArrayInputStream(KNOWN_JSON_STRING.getBytes(StandardCharsets.UTF_8))) {
+                    @Override
+                    public int read(final byte[] b, final int off, final int len) throws IOException {
+                        return super.read(b, off, Math.min(1, len));
+                    }
+                };
+
+        final JsonValue actual = JsonFactory.readFrom(singleByteStream);
+
+        assertThat(actual).isEqualTo(JsonFactory.readFrom(KNOWN_JSON_STRING));
+    }
+
+    @Test
+    public void parsesLiteralsAndNumbers() {
+        assertThat(parse("null")).isEqualTo(JsonFactory.nullLiteral());
+        assertThat(parse(" true ")).isEqualTo(JsonValue.of(true));
+        assertThat(parse("false")).isEqualTo(JsonValue.of(false));
+        assertThat(parse("-0")).isEqualTo(JsonValue.of(0));
+        assertThat(parse("9223372036854775807")).isEqualTo(JsonValue.of(Long.MAX_VALUE));
+        assertThat(parse("1E2")).isEqualTo(JsonValue.of(100.0));
+        assertThat(parse("\"\"")).isEqualTo(JsonValue.of(""));
+    }
+
+    @Test
+    public void internsRepeatedKeys() {
+        final JsonObject first = parse("{\"correlation-id\":1}").asObject();
+        final JsonObject second = parse("{\"correlation-id\":2}").asObject();
+
+        final List<JsonKey> firstKeys = first.getKeys();
+        final List<JsonKey> secondKeys = second.getKeys();
+
+        assertThat(firstKeys.get(0)).isSameAs(secondKeys.get(0));
+    }
+
+    @Test
+    public void reportsOffsetOfInvalidInput() {
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> parse("{\"foo\":tru}"))
+                .withMessage("Expected 'e' at byte offset <10>.");
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> parse("{\"foo\":123"))
+                .withMessageStartingWith("Unexpected end of input");
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> parse("[1,2] x"))
+                .withMessageStartingWith("Unexpected character");
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> parse("01"))
+                .withMessageStartingWith("Unexpected character");
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> parse("\"a\u0001\""))
+                .withMessageStartingWith("Expected valid string character");
+    }
+
+    @Test
+    public void validatesUtf8OfNamesLikeStringValues() {
+        assertThat(parse("{\"t\u00e4st\":\"t\u00e4st\"}")).isEqualTo(JsonObject.newBuilder()
+                .set("t\u00e4st", "t\u00e4st")
+                .build());
+
+        final byte[] invalidName = {'{', '"', 'a', (byte) 0xC3, '"', ':', '1', '}'};
+        final byte[] invalidValue = {'{', '"', 'a', '"', ':', '"', 'a', (byte) 0xC3, '"', '}'};
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> JsonValueParser.fromBytes().apply(invalidName))
+                .withMessageStartingWith("Expected UTF-8 continuation byte");
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> JsonValueParser.fromBytes().apply(invalidValue))
+                .withMessageStartingWith("Expected UTF-8 continuation byte");
+    }
+
+    @Test
+    public void wrapsExceptionsOfHandler() {
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> parse("{\"\":1}"))
+                .withCauseExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static JsonValue parse(final String json) {
+        return JsonValueParser.fromBytes().apply(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
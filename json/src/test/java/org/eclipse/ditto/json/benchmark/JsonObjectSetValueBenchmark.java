@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonPointer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH Benchmark comparing chains of deep {@code setValue(JsonPointer, ...)} calls on Thing-like JSON objects for
+ * the default {@code ImmutableJsonObject} and the structurally shared {@code PersistentJsonObject}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+public class JsonObjectSetValueBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 5;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final int CHAIN_LENGTH = 100;
+    private static final int FEATURE_COUNT = 10;
+
+    @Param({"immutable", "persistent"})
+    public String implementation;
+
+    @Param({"1000", "5000"})
+    public int propertyCount;
+
+    private JsonObject thing;
+    private JsonPointer[] attributePointers;
+    private JsonPointer[] featurePropertyPointers;
+
+    @Setup
+    public void setUp() {
+        thing = createThing(implementation, propertyCount);
+        attributePointers = new JsonPointer[CHAIN_LENGTH];
+        featurePropertyPointers = new JsonPointer[CHAIN_LENGTH];
+        for (int i = 0; i < CHAIN_LENGTH; i++) {
+            final int property = i * (propertyCount / CHAIN_LENGTH);
+            attributePointers[i] = JsonPointer.of("attributes/attr" + property);
+            featurePropertyPointers[i] =
+                    JsonPointer.of("features/feature" + i % FEATURE_COUNT + "/properties/prop" + property);
+        }
+    }
+
+    /**
+     * Creates a Thing-like JSON object with {@code propertyCount} attributes and {@code propertyCount} properties
+     * spread over the features.
+     *
+     * @param implementation either {@code "immutable"} or {@code "persistent"}.
+     * @param propertyCount the amount of attributes resp. feature properties.
+     * @return the JSON object.
+     */
+    static JsonObject createThing(final String implementation, final int propertyCount) {
+        final JsonObjectBuilder attributes = JsonObject.newBuilder();
+        for (int i = 0; i < propertyCount; i++) {
+            attributes.set("attr" + i, i);
+        }
+        final JsonObjectBuilder features = JsonObject.newBuilder();
+        for (int f = 0; f < FEATURE_COUNT; f++) {
+            final JsonObjectBuilder properties = JsonObject.newBuilder();
+            for (int i = f; i < propertyCount; i += FEATURE_COUNT) {
+                properties.set("prop" + i, "value" + i);
+            }
+            features.set("feature" + f, JsonObject.newBuilder().set("properties", properties.build()).build());
+        }
+        final JsonObject result = JsonObject.newBuilder()
+                .set("thingId", "org.eclipse.ditto:benchmark")
+                .set("policyId", "org.eclipse.ditto:benchmark")
+                .set("attributes", attributes.build())
+                .set("features", features.build())
+                .build();
+        if ("persistent".equals(implementation)) {
+            return JsonFactory.newPersistentObject(result);
+        }
+        return result;
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonObject setAttributeChain() {
+        JsonObject result = thing;
+        for (int i = 0; i < CHAIN_LENGTH; i++) {
+            result = result.setValue(attributePointers[i], i);
+        }
+        return result;
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonObject setFeaturePropertyChain() {
+        JsonObject result = thing;
+        for (int i = 0; i < CHAIN_LENGTH; i++) {
+            result = result.setValue(featurePropertyPointers[i], i);
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH Benchmark comparing parsing of UTF-8 encoded Ditto Protocol envelopes by decoding them to a {@code String} and
+ * parsing with minimal-json (the former path) with parsing the bytes directly. Additionally compares reading a single
+ * header of an envelope after fully parsing it with reading it from a lazy JSON object.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+public class JsonParserBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 5;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+    private static final JsonPointer CORRELATION_ID_POINTER = JsonPointer.of("headers/correlation-id");
+
+    @Param({"modifyAttribute", "featurePropertiesEvent", "retrieveThingResponse"})
+    public String envelope;
+
+    private byte[] envelopeBytes;
+
+    @Setup
+    public void setUp() {
+        envelopeBytes = createEnvelope(envelope).toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Creates a representative Ditto Protocol envelope.
+     *
+     * @param name one of {@code modifyAttribute}, {@code featurePropertiesEvent} or {@code retrieveThingResponse}.
+     * @return the envelope.
+     */
+    static JsonObject createEnvelope(final String name) {
+        switch (name) {
+            case "modifyAttribute":
+                return envelope("org.eclipse.ditto/thing-1/things/twin/commands/modify",
+                        "/attributes/location", JsonObject.newBuilder()
+                                .set("latitude", 44.673856)
+                                .set("longitude", 8.261719)
+                                .build(), null);
+            case "featurePropertiesEvent":
+                final JsonObjectBuilder properties = JsonObject.newBuilder();
+                for (int i = 0; i < 20; i++) {
+                    properties.set("sensor" + i, JsonObject.newBuilder()
+                            .set("value", 20.5 + i)
+                            .set("unit", "°C")
+                            .set("timestamp", "2021-03-04T12:00:00.000Z")
+                            .build());
+                }
+                return envelope("org.eclipse.ditto/thing-1/things/twin/events/modified",
+                        "/features/environment/properties", properties.build(), 42L);
+            case "retrieveThingResponse":
+                final JsonObjectBuilder attributes = JsonObject.newBuilder();
+                for (int i = 0; i < 200; i++) {
+                    attributes.set("attribute" + i, "value of attribute " + i);
+                }
+                final JsonObjectBuilder features = JsonObject.newBuilder();
+                for (int f = 0; f < 20; f++) {
+                    final JsonArrayBuilder readings = JsonArray.newBuilder();
+                    for (int i = 0; i < 10; i++) {
+                        readings.add(f * 10 + i);
+                    }
+                    features.set("feature" + f, JsonObject.newBuilder()
+                            .set("definition", JsonArray.of(JsonValue.of("org.eclipse.ditto:sensor:1.0.0")))
+                            .set("properties", JsonObject.newBuilder()
+                                    .set("readings", readings.build())
+                                    .set("enabled", f % 2 == 0)
+                                    .build())
+                            .build());
+                }
+                return envelope("org.eclipse.ditto/thing-1/things/twin/commands/retrieve", "/",
+                        JsonObject.newBuilder()
+                                .set("thingId", "org.eclipse.ditto:thing-1")
+                                .set("policyId", "org.eclipse.ditto:thing-1")
+                                .set("attributes", attributes.build())
+                                .set("features", features.build())
+                                .build(), 1337L);
+            default:
+                throw new IllegalArgumentException("Unknown envelope: " + name);
+        }
+    }
+
+    private static JsonObject envelope(final String topic, final String path, final JsonValue value,
+            final Long revision) {
+
+        final JsonObjectBuilder builder = JsonObject.newBuilder()
+                .set("topic", topic)
+                .set("headers", JsonObject.newBuilder()
+                        .set("correlation-id", "5b9b8c1e-0b1a-4a53-9b2e-3f5d0b8b7c3a")
+                        .set("content-type", "application/json")
+                        .set("response-required", true)
+                        .set("requested-acks", JsonArray.of(JsonValue.of("twin-persisted")))
+                        .set("version", 2)
+                        .build())
+                .set("path", path)
+                .set("value", value);
+        if (null != revision) {
+            builder.set("revision", revision);
+        }
+        return builder.build();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonValue decodeToStringAndParse() {
+        return JsonFactory.readFrom(new String(envelopeBytes, StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonValue parseBytes() {
+        return JsonFactory.readFrom(envelopeBytes);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonValue parseInputStream() {
+        return JsonFactory.readFrom(new ByteArrayInputStream(envelopeBytes));
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Optional<JsonValue> parseBytesAndGetCorrelationId() {
+        return JsonFactory.newObject(envelopeBytes).getValue(CORRELATION_ID_POINTER);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Optional<JsonValue> indexBytesAndGetCorrelationId() {
+        return JsonFactory.newLazyObject(envelopeBytes).getValue(CORRELATION_ID_POINTER);
+    }
+
+}
@@ -83,16 +83,16 @@ public abstract class AbstractDittoHeaders extends AbstractMap<String, String> i
     }
 
     /**
-     * Construct a new {@code AbstractDittoHeaders} from a known case insensitive map.
+     * Construct a new {@code AbstractDittoHeaders} from a known case insensitive map. The map is not copied; the
+     * caller must not modify it afterwards.
      *
      * @param headers headers indexed by lower-case keys.
-     * @param flag unused disambiguation parameter.
+     * @param authContextWithIssuer whether the authorization context header in {@code headers} is known to contain
+     * only subjects with issuer, e. g. because it was taken unchanged from other {@code AbstractDittoHeaders}.
      */
-    @SuppressWarnings("unused")
-    protected AbstractDittoHeaders(final Map<String, Header> headers, final boolean flag) {
+    protected AbstractDittoHeaders(final Map<String, Header> headers, final boolean authContextWithIssuer) {
         checkNotNull(headers, "headers");
-        final Map<String, Header> candidate = keepAuthContextSubjectsWithIssuer(headers, Header::of);
-        this.headers = candidate != headers ? candidate : new LinkedHashMap<>(candidate);
+        this.headers = authContextWithIssuer ? headers : keepAuthContextSubjectsWithIssuer(headers, Header::of);
     }
 
     @Override
@@ -550,7 +550,7 @@ public abstract class AbstractDittoHeaders extends AbstractMap<String, String> i
 
     private static Map<String, Header> indexByLowerCase(final Map<String, String> map) {
         final Map<String, Header> headers = new LinkedHashMap<>();
-        map.forEach((key, value) -> headers.put(key.toLowerCase(), Header.of(key, value)));
+        map.forEach((key, value) -> headers.put(Header.toLowerCaseKey(key), Header.of(key, value)));
         return Collections.unmodifiableMap(headers);
     }
 }
@@ -55,6 +55,10 @@ import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
  * most of the work including header value validation. Insertion order and re-insertion order is maintained via
  * a linked hash map. Since Java linked hash map does not maintain re-insertion order, each entry is removed from
  * the map before they are added.
+ * <p>
+ * The map is copied on write: A builder created from existing {@code DittoHeaders} shares their map until the first
+ * modification, and {@link #build()} hands the map over to the built headers instead of copying it. Thus building
+ * unchanged headers does not copy anything and each modified build copies the map only once.
  */
 @NotThreadSafe
 public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeadersBuilder<S, R>, R extends DittoHeaders>
@@ -72,7 +76,9 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
     }
 
     protected final S myself;
-    private final Map<String, Header> headers;
+    private Map<String, Header> headers;
+    private boolean headersShared;
+    @Nullable private Header authContextHeaderWithIssuer;
     private MetadataHeaders metadataHeaders;
     private final Map<String, HeaderDefinition> definitions;
 
@@ -94,16 +100,30 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
         checkNotNull(definitions, "header definitions");
         validateValueTypes(initialHeaders, definitions); // this constructor does validate the known value types
         myself = (S) selfType.cast(this);
-        headers = preserveCaseSensitivity(initialHeaders);
-        metadataHeaders = MetadataHeaders.newInstance();
-        metadataHeaders.addAll(extractMetadataHeaders(headers));
+        initHeaders(initialHeaders);
         this.definitions = getHeaderDefinitionsAsMap(definitions);
     }
 
-    private static MetadataHeaders extractMetadataHeaders(final Map<String, Header> headers) {
-        final CharSequence metadataHeadersCharSequence = headers.remove(DittoHeaderDefinition.PUT_METADATA.getKey());
+    private void initHeaders(final Map<String, String> initialHeaders) {
+        if (initialHeaders instanceof AbstractDittoHeaders) {
+            // share the map of the immutable headers until the first modification
+            headers = ((AbstractDittoHeaders) initialHeaders).headers;
+            headersShared = true;
+            authContextHeaderWithIssuer = headers.get(DittoHeaderDefinition.AUTHORIZATION_CONTEXT.getKey());
+        } else {
+            headers = preserveCaseSensitivity(initialHeaders);
+            headersShared = false;
+            authContextHeaderWithIssuer = null;
+        }
+        metadataHeaders = MetadataHeaders.newInstance();
+        metadataHeaders.addAll(extractMetadataHeaders());
+    }
+
+    private MetadataHeaders extractMetadataHeaders() {
         final MetadataHeaders result;
-        if (null != metadataHeadersCharSequence) {
+        if (headers.containsKey(DittoHeaderDefinition.PUT_METADATA.getKey())) {
+            final CharSequence metadataHeadersCharSequence =
+                    mutableHeaders().remove(DittoHeaderDefinition.PUT_METADATA.getKey());
             result = MetadataHeaders.parseMetadataHeaders(metadataHeadersCharSequence);
         } else {
             result = MetadataHeaders.newInstance();
@@ -111,9 +131,23 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
         return result;
     }
 
+    /*
+     * Returns the header map for modification, copying it first if it is shared with built DittoHeaders.
+     */
+    private Map<String, Header> mutableHeaders() {
+        if (headersShared) {
+            headers = new LinkedHashMap<>(headers);
+            headersShared = false;
+        }
+        return headers;
+    }
+
     private static Map<String, HeaderDefinition> getHeaderDefinitionsAsMap(
             final Collection<? extends HeaderDefinition> headerDefinitions) {
 
+        if (areAllBuiltIn(headerDefinitions)) {
+            return BUILT_IN_DEFINITIONS;
+        }
         final DittoHeaderDefinition[] dittoHeaderDefinitions = DittoHeaderDefinition.values();
         final Map<String, HeaderDefinition> result =
                 new LinkedHashMap<>(headerDefinitions.size() + dittoHeaderDefinitions.length);
@@ -124,6 +158,15 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
         return result;
     }
 
+    private static boolean areAllBuiltIn(final Collection<? extends HeaderDefinition> headerDefinitions) {
+        for (final HeaderDefinition headerDefinition : headerDefinitions) {
+            if (!(headerDefinition instanceof DittoHeaderDefinition)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Constructs a new {@code AbstractDittoHeadersBuilder} object based on an existing {@code DittoHeaders} instance
      * applying a performance optimization: skipping the validation of values types as we can be sure that they already
@@ -143,9 +186,7 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
         checkNotNull(initialHeaders, "initialHeaders");
         checkNotNull(definitions, "definitions");
         myself = (S) selfType.cast(this);
-        headers = preserveCaseSensitivity(initialHeaders);
-        metadataHeaders = MetadataHeaders.newInstance();
-        metadataHeaders.addAll(extractMetadataHeaders(headers));
+        initHeaders(initialHeaders);
         this.definitions = getHeaderDefinitionsAsMap(definitions);
     }
 
@@ -184,14 +225,14 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
         final String key = DittoHeaderDefinition.CORRELATION_ID.getKey();
         if (correlationId != null) {
             checkNotEmpty(correlationId, "correlationId");
-            final Header previousCorrelationId = headers.remove(key);
+            final Header previousCorrelationId = mutableHeaders().remove(key);
             if (previousCorrelationId != null) {
                 headers.put(key, Header.of(previousCorrelationId.getKey(), correlationId.toString()));
             } else {
                 headers.put(key, Header.of(key, correlationId.toString()));
             }
         } else {
-            headers.remove(key);
+            removeHeaderIfPresent(key);
         }
         return myself;
     }
@@ -207,7 +248,7 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
     protected void putCharSequence(final HeaderDefinition definition, @Nullable final CharSequence value) {
         if (null != value) {
             checkNotEmpty(value, definition.getKey());
-            headers.remove(definition.getKey());
+            mutableHeaders().remove(definition.getKey());
             headers.put(definition.getKey(), Header.of(definition.getKey(), value.toString()));
         } else {
             removeHeader(definition.getKey());
@@ -490,14 +531,14 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
     public S putHeader(final CharSequence key, final CharSequence value) {
         validateKey(key);
         checkNotNull(value, "value");
-        final String keyString = key.toString().toLowerCase();
+        final String keyString = Header.toLowerCaseKey(key);
         validateValueType(keyString, value);
         if (isMetadataKey(keyString)) {
             metadataHeaders = MetadataHeaders.parseMetadataHeaders(value);
         } else if (DittoHeaderDefinition.CORRELATION_ID.getKey().equals(keyString)) {
             correlationId(value);
         } else {
-            headers.remove(keyString);
+            mutableHeaders().remove(keyString);
             headers.put(keyString, Header.of(key.toString(), value.toString()));
         }
         return myself;
@@ -528,8 +569,8 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
     @Override
     public S removeHeader(final CharSequence key) {
         validateKey(key);
-        final String keyString = key.toString().toLowerCase();
-        headers.remove(keyString);
+        final String keyString = Header.toLowerCaseKey(key);
+        removeHeaderIfPresent(keyString);
         if (isMetadataKey(keyString)) {
             metadataHeaders.clear();
         }
@@ -538,23 +579,38 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
 
     @Override
     public S removePreconditionHeaders() {
-        headers.remove(DittoHeaderDefinition.IF_MATCH.getKey());
-        headers.remove(DittoHeaderDefinition.IF_NONE_MATCH.getKey());
+        removeHeaderIfPresent(DittoHeaderDefinition.IF_MATCH.getKey());
+        removeHeaderIfPresent(DittoHeaderDefinition.IF_NONE_MATCH.getKey());
         return myself;
     }
 
+    private void removeHeaderIfPresent(final String lowerCaseKey) {
+        if (headers.containsKey(lowerCaseKey)) {
+            mutableHeaders().remove(lowerCaseKey);
+        }
+    }
+
     @Override
     public R build() {
         // do it here
         putMetadataHeadersToRegularHeaders();
-        final ImmutableDittoHeaders dittoHeaders = ImmutableDittoHeaders.fromBuilder(headers);
+
+        // the authorization context header is unchanged if it is still the one taken from existing DittoHeaders
+        final boolean authContextWithIssuer =
+                headers.get(DittoHeaderDefinition.AUTHORIZATION_CONTEXT.getKey()) == authContextHeaderWithIssuer;
+        final ImmutableDittoHeaders dittoHeaders = ImmutableDittoHeaders.fromBuilder(headers, authContextWithIssuer);
+        headersShared = true;
         return doBuild(dittoHeaders);
     }
 
     private void putMetadataHeadersToRegularHeaders() {
         if (!metadataHeaders.isEmpty()) {
-            headers.put(DittoHeaderDefinition.PUT_METADATA.getKey(),
-                    Header.of(DittoHeaderDefinition.PUT_METADATA.getKey(), metadataHeaders.toJsonString()));
+            final String metadataHeadersJson = metadataHeaders.toJsonString();
+            final Header existingMetadataHeader = headers.get(DittoHeaderDefinition.PUT_METADATA.getKey());
+            if (null == existingMetadataHeader || !metadataHeadersJson.equals(existingMetadataHeader.getValue())) {
+                mutableHeaders().put(DittoHeaderDefinition.PUT_METADATA.getKey(),
+                        Header.of(DittoHeaderDefinition.PUT_METADATA.getKey(), metadataHeadersJson));
+            }
         }
     }
 
@@ -567,13 +623,9 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
     protected abstract R doBuild(DittoHeaders dittoHeaders);
 
     private static Map<String, Header> preserveCaseSensitivity(final Map<String, String> headers) {
-        if (headers instanceof AbstractDittoHeaders) {
-            return new LinkedHashMap<>(((AbstractDittoHeaders) headers).headers);
-        } else {
-            final LinkedHashMap<String, Header> result = new LinkedHashMap<>();
-            headers.forEach((k, v) -> result.put(k.toLowerCase(), Header.of(k, v)));
-            return result;
-        }
+        final LinkedHashMap<String, Header> result = new LinkedHashMap<>();
+        headers.forEach((k, v) -> result.put(Header.toLowerCaseKey(k), Header.of(k, v)));
+        return result;
     }
 
 }
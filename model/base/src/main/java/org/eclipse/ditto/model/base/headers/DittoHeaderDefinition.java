@@ -305,7 +305,24 @@ public enum DittoHeaderDefinition implements HeaderDefinition {
      * @since 2.0.0
      */
     POLICY_ENFORCER_INVALIDATED_PREEMPTIVELY("ditto-policy-enforcer-invalidated-preemptively", boolean.class,
-            false, false, HeaderValueValidators.getBooleanValidator());
+            false, false, HeaderValueValidators.getBooleanValidator()),
+
+    /**
+     * Internal header definition to mark a search result whose things were rebuilt from the search index and need
+     * not be retrieved from the things service.
+     *
+     * @since 2.0.0
+     */
+    SEARCH_RESULT_FROM_INDEX("ditto-search-result-from-index", boolean.class, false, false,
+            HeaderValueValidators.getBooleanValidator()),
+
+    /**
+     * Header definition to mark whether the count of a search count response is approximate, i. e. served from a
+     * cache or bounded by a configured maximum, or exact.
+     *
+     * @since 2.0.0
+     */
+    COUNT_APPROXIMATE("count-approximate", boolean.class, false, true, HeaderValueValidators.getBooleanValidator());
 
     /**
      * Map to speed up lookup of header definition by key.
@@ -12,6 +12,8 @@
  */
 package org.eclipse.ditto.model.base.headers;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 
 import javax.annotation.concurrent.Immutable;
@@ -27,6 +29,8 @@ import javax.annotation.concurrent.Immutable;
 @Immutable
 final class Header implements CharSequence {
 
+    private static final Map<String, String> WELL_KNOWN_KEYS = getWellKnownKeys();
+
     private final String key;
     private final String value;
 
@@ -36,7 +40,33 @@ final class Header implements CharSequence {
     }
 
     static Header of(final String key, final String value) {
-        return new Header(key, value);
+        return new Header(intern(key), value);
+    }
+
+    /**
+     * Returns the lower-case form of a header key. Keys of {@link DittoHeaderDefinition}s are returned as the
+     * shared key instances of the definitions; {@link #of(String, String)} does the same for the original key.
+     * Thus the headers of many signals do not retain copies of the well-known keys.
+     *
+     * @param key the header key.
+     * @return the lower-case key.
+     */
+    static String toLowerCaseKey(final CharSequence key) {
+        return intern(key.toString().toLowerCase());
+    }
+
+    private static String intern(final String key) {
+        final String wellKnownKey = WELL_KNOWN_KEYS.get(key);
+        return null != wellKnownKey ? wellKnownKey : key;
+    }
+
+    private static Map<String, String> getWellKnownKeys() {
+        final DittoHeaderDefinition[] definitions = DittoHeaderDefinition.values();
+        final Map<String, String> result = new HashMap<>(definitions.length * 2);
+        for (final DittoHeaderDefinition definition : definitions) {
+            result.put(definition.getKey(), definition.getKey());
+        }
+        return result;
     }
 
     String getKey() {
@@ -27,8 +27,8 @@ final class ImmutableDittoHeaders extends AbstractDittoHeaders implements DittoH
         super(headers);
     }
 
-    private ImmutableDittoHeaders(final Map<String, Header> headers, final boolean flag) {
-        super(headers, flag);
+    private ImmutableDittoHeaders(final Map<String, Header> headers, final boolean authContextWithIssuer) {
+        super(headers, authContextWithIssuer);
     }
 
     /**
@@ -42,8 +42,19 @@ final class ImmutableDittoHeaders extends AbstractDittoHeaders implements DittoH
         return new ImmutableDittoHeaders(headers);
     }
 
-    static ImmutableDittoHeaders fromBuilder(final Map<String, Header> builderHeaders) {
-        return new ImmutableDittoHeaders(builderHeaders, true);
+    /**
+     * Returns an instance of {@code ImmutableDittoHeaders} which takes over the headers of a builder without copying
+     * them.
+     *
+     * @param builderHeaders the headers indexed by lower-case keys; must not be modified afterwards.
+     * @param authContextWithIssuer whether the authorization context header is known to contain only subjects with
+     * issuer.
+     * @return the instance.
+     */
+    static ImmutableDittoHeaders fromBuilder(final Map<String, Header> builderHeaders,
+            final boolean authContextWithIssuer) {
+
+        return new ImmutableDittoHeaders(builderHeaders, authContextWithIssuer);
     }
 
     @Override
@@ -493,4 +493,41 @@ public final class DefaultDittoHeadersBuilderTest {
                 .withCauseInstanceOf(JsonParseException.class);
     }
 
+    @Test
+    public void modifyingBuilderOfExistingHeadersDoesNotChangeThem() {
+        final DittoHeaders original = DittoHeaders.newBuilder()
+                .correlationId(CORRELATION_ID)
+                .putHeader("foo", "bar")
+                .build();
+        final DittoHeadersBuilder<?, ?> builder = original.toBuilder();
+        final DittoHeaders unchanged = builder.build();
+
+        final DittoHeaders changed = builder.correlationId("other")
+                .removeHeader("foo")
+                .build();
+        builder.putHeader("baz", "qux");
+
+        assertThat(unchanged).isEqualTo(original);
+        assertThat(original).containsOnly(entry(DittoHeaderDefinition.CORRELATION_ID.getKey(), CORRELATION_ID),
+                entry("foo", "bar"));
+        assertThat(changed).containsOnly(entry(DittoHeaderDefinition.CORRELATION_ID.getKey(), "other"));
+    }
+
+    @Test
+    public void changedAuthorizationContextOfExistingHeadersKeepsOnlySubjectsWithIssuer() {
+        final DittoHeaders original = DittoHeaders.newBuilder()
+                .authorizationContext(AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                        AuthorizationSubject.newInstance("issuer:subject")))
+                .build();
+        final AuthorizationContext authContextWithDuplicate =
+                AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                        AuthorizationSubject.newInstance("issuer:subject"),
+                        AuthorizationSubject.newInstance("subject"));
+
+        final DittoHeaders changed = original.toBuilder().authorizationContext(authContextWithDuplicate).build();
+
+        assertThat(changed.getAuthorizationContext()).isEqualTo(original.getAuthorizationContext());
+        assertThat(changed).isEqualTo(original);
+    }
+
 }
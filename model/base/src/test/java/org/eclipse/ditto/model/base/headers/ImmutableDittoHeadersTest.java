@@ -117,6 +117,8 @@ public final class ImmutableDittoHeadersTest {
     private static final boolean KNOWN_ALLOW_POLICY_LOCKOUT = true;
     private static final boolean KNOWN_IS_WEAK_ACK = false;
     private static final boolean KNOWN_POLICY_ENFORCER_INVALIDATED_PREEMPTIVELY = true;
+    private static final boolean KNOWN_SEARCH_RESULT_FROM_INDEX = true;
+    private static final boolean KNOWN_COUNT_APPROXIMATE = true;
 
     static {
         KNOWN_METADATA_HEADERS = MetadataHeaders.newInstance();
@@ -171,6 +173,9 @@ public final class ImmutableDittoHeadersTest {
                 .putHeader(DittoHeaderDefinition.WEAK_ACK.getKey(), String.valueOf(KNOWN_IS_WEAK_ACK))
                 .putHeader(DittoHeaderDefinition.POLICY_ENFORCER_INVALIDATED_PREEMPTIVELY.getKey(),
                         String.valueOf(KNOWN_POLICY_ENFORCER_INVALIDATED_PREEMPTIVELY))
+                .putHeader(DittoHeaderDefinition.SEARCH_RESULT_FROM_INDEX.getKey(),
+                        String.valueOf(KNOWN_SEARCH_RESULT_FROM_INDEX))
+                .putHeader(DittoHeaderDefinition.COUNT_APPROXIMATE.getKey(), String.valueOf(KNOWN_COUNT_APPROXIMATE))
                 .build();
 
         assertThat(underTest).isEqualTo(expectedHeaderMap);
@@ -393,6 +398,8 @@ public final class ImmutableDittoHeadersTest {
                 .set(DittoHeaderDefinition.WEAK_ACK.getKey(), KNOWN_IS_WEAK_ACK)
                 .set(DittoHeaderDefinition.POLICY_ENFORCER_INVALIDATED_PREEMPTIVELY.getKey(),
                         KNOWN_POLICY_ENFORCER_INVALIDATED_PREEMPTIVELY)
+                .set(DittoHeaderDefinition.SEARCH_RESULT_FROM_INDEX.getKey(), KNOWN_SEARCH_RESULT_FROM_INDEX)
+                .set(DittoHeaderDefinition.COUNT_APPROXIMATE.getKey(), KNOWN_COUNT_APPROXIMATE)
                 .build();
         final Map<String, String> allKnownHeaders = createMapContainingAllKnownHeaders();
 
@@ -642,6 +649,9 @@ public final class ImmutableDittoHeadersTest {
         result.put(DittoHeaderDefinition.WEAK_ACK.getKey(), String.valueOf(KNOWN_IS_WEAK_ACK));
         result.put(DittoHeaderDefinition.POLICY_ENFORCER_INVALIDATED_PREEMPTIVELY.getKey(),
                 String.valueOf(KNOWN_POLICY_ENFORCER_INVALIDATED_PREEMPTIVELY));
+        result.put(DittoHeaderDefinition.SEARCH_RESULT_FROM_INDEX.getKey(),
+                String.valueOf(KNOWN_SEARCH_RESULT_FROM_INDEX));
+        result.put(DittoHeaderDefinition.COUNT_APPROXIMATE.getKey(), String.valueOf(KNOWN_COUNT_APPROXIMATE));
 
         return result;
     }
@@ -15,6 +15,7 @@ package org.eclipse.ditto.model.enforcers;
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.model.enforcers.tree.TreeBasedPolicyEnforcer;
+import org.eclipse.ditto.model.enforcers.trie.BitSetBasedPolicyEnforcer;
 import org.eclipse.ditto.model.enforcers.trie.TrieBasedPolicyEnforcer;
 import org.eclipse.ditto.model.policies.Policy;
 
@@ -66,4 +67,18 @@ public final class PolicyEnforcers {
         return TreeBasedPolicyEnforcer.createInstance(policy);
     }
 
+    /**
+     * Returns a Enforcer which compiles the Policy into bit sets of subjects per permission and resource. It takes more
+     * time to create than {@link #throughputOptimizedEvaluator(Policy)} and yields the same results, but delivers
+     * higher throughput for Policies with many subjects and resources.
+     *
+     * @param policy the Policy to initialize the evaluator with.
+     * @return the initialized compiled Enforcer.
+     * @throws NullPointerException if {@code policy} is {@code null}.
+     * @since 2.0.0
+     */
+    public static Enforcer compiledEvaluator(final Policy policy) {
+        return BitSetBasedPolicyEnforcer.newInstance(policy);
+    }
+
 }
@@ -0,0 +1,645 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.enforcers.trie;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.enforcers.DefaultEffectedSubjects;
+import org.eclipse.ditto.model.enforcers.EffectedSubjectIds;
+import org.eclipse.ditto.model.enforcers.EffectedSubjects;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.enforcers.ImmutableEffectedSubjectIds;
+import org.eclipse.ditto.model.policies.Permissions;
+import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.PolicyEntry;
+import org.eclipse.ditto.model.policies.ResourceKey;
+
+/**
+ * Policy enforcer which compiles the tries of {@link TrieBasedPolicyEnforcer} into flat arrays and thus yields the
+ * same results.
+ * <p>
+ * The subject IDs of a policy are interned into indices, so that the subjects of each permission at each resource are
+ * a {@code long[]} bit set and checking the subjects of an authorization context costs a few bitwise operations no
+ * matter how many subjects the policy has. The trie nodes are numbered in breadth-first order; the edge keys of the
+ * children of each node are stored sorted and contiguously in one array, so that seeking a resource is a binary search
+ * per path segment. Compiling takes longer than building the tries alone, which makes this enforcer suitable for
+ * policies with many subjects and resources which are evaluated often.
+ *
+ * @since 2.0.0
+ */
+@Immutable
+public final class BitSetBasedPolicyEnforcer implements Enforcer {
+
+    private static final int ROOT = 0;
+    private static final int NO_NODE = -1;
+    private static final int UNKNOWN = -1;
+
+    private final Map<String, Integer> subjectIndices;
+    private final AuthorizationSubject[] subjects;
+    private final Map<String, Integer> permissionIndices;
+    private final int bitSetLength;
+
+    /**
+     * Offsets of the children of each node in {@code childKeys} and {@code childNodes}. The children of node
+     * {@code n} are in the range from {@code childOffsets[n]} inclusive to {@code childOffsets[n + 1]} exclusive.
+     */
+    private final int[] childOffsets;
+    private final String[] childKeys;
+    private final int[] childNodes;
+
+    /**
+     * Grants and revokes obtained by propagating them down from ancestors to descendants.
+     */
+    private final CompiledGrantRevokeIndex inherited;
+
+    /**
+     * Grants and revokes where grants are propagated up from descendants to ancestors.
+     */
+    private final CompiledGrantRevokeIndex bottomUpGrant;
+
+    /**
+     * Grants and revokes where revokes are propagated up from descendants to ancestors.
+     */
+    private final CompiledGrantRevokeIndex bottomUpRevoke;
+
+    /**
+     * Views of JSON objects recently built by this enforcer.
+     */
+    private final JsonViewCache jsonViewCache;
+
+    private BitSetBasedPolicyEnforcer(final Iterable<PolicyEntry> policy) {
+        final PolicyTrie inheritedTrie = PolicyTrie.fromPolicy(policy).getTransitiveClosure();
+        final PolicyTrie bottomUpGrantTrie = inheritedTrie.getBottomUpGrantTrie();
+        final PolicyTrie bottomUpRevokeTrie = inheritedTrie.getBottomUpRevokeTrie();
+
+        // number the nodes breadth-first so that the children of each node are contiguous
+        final List<PolicyTrie[]> nodes = new ArrayList<>();
+        final List<String> keys = new ArrayList<>();
+        final List<Integer> offsets = new ArrayList<>();
+        nodes.add(new PolicyTrie[]{inheritedTrie, bottomUpGrantTrie, bottomUpRevokeTrie});
+        subjectIndices = new HashMap<>();
+        permissionIndices = new HashMap<>();
+        for (int i = 0; i < nodes.size(); ++i) {
+            final PolicyTrie[] node = nodes.get(i);
+            offsets.add(keys.size());
+            for (final PolicyTrie trie : node) {
+                intern(trie.getGrantRevokeIndex().getGranted());
+                intern(trie.getGrantRevokeIndex().getRevoked());
+            }
+            final Map<String, JsonKey> sortedChildKeys = new TreeMap<>();
+            node[0].getChildren().keySet().forEach(key -> sortedChildKeys.put(key.toString(), key));
+            sortedChildKeys.forEach((keyString, key) -> {
+                keys.add(keyString);
+                nodes.add(new PolicyTrie[]{
+                        node[0].getChildren().get(key),
+                        node[1].getChildren().get(key),
+                        node[2].getChildren().get(key)
+                });
+            });
+        }
+        offsets.add(keys.size());
+
+        childOffsets = offsets.stream().mapToInt(Integer::intValue).toArray();
+        childKeys = keys.toArray(new String[0]);
+        childNodes = new int[childKeys.length];
+        Arrays.setAll(childNodes, i -> i + 1);
+
+        subjects = new AuthorizationSubject[subjectIndices.size()];
+        subjectIndices.forEach((subjectId, index) -> subjects[index] = AuthorizationSubject.newInstance(subjectId));
+        bitSetLength = (subjects.length + Long.SIZE - 1) / Long.SIZE;
+
+        final SubjectBitSets[] inheritedGrants = compile(nodes, trie -> trie[0].getGrantRevokeIndex().getGranted());
+        inherited = new CompiledGrantRevokeIndex(inheritedGrants,
+                compile(nodes, trie -> trie[0].getGrantRevokeIndex().getRevoked()));
+        bottomUpGrant = new CompiledGrantRevokeIndex(
+                compile(nodes, trie -> trie[1].getGrantRevokeIndex().getGranted()),
+                compile(nodes, trie -> trie[1].getGrantRevokeIndex().getRevoked()));
+        // the bottom-up revoke trie keeps the grants of the inherited trie
+        bottomUpRevoke = new CompiledGrantRevokeIndex(inheritedGrants,
+                compile(nodes, trie -> trie[2].getGrantRevokeIndex().getRevoked()));
+        jsonViewCache = new JsonViewCache();
+    }
+
+    /**
+     * Constructs a bit-set-based policy enforcer from a policy.
+     *
+     * @param policy The policy to interpret.
+     * @return The policy enforcer.
+     * @throws NullPointerException if {@code policy} is {@code null}.
+     */
+    public static BitSetBasedPolicyEnforcer newInstance(final Policy policy) {
+        return new BitSetBasedPolicyEnforcer(checkNotNull(policy, "policy to interpret"));
+    }
+
+    private void intern(final PermissionSubjectsMap permissionSubjectsMap) {
+        permissionSubjectsMap.forEach((permission, subjectWeights) -> {
+            permissionIndices.putIfAbsent(permission, permissionIndices.size());
+            subjectWeights.keySet().forEach(subjectId -> subjectIndices.putIfAbsent(subjectId, subjectIndices.size()));
+        });
+    }
+
+    private SubjectBitSets[] compile(final List<PolicyTrie[]> nodes,
+            final Function<PolicyTrie[], PermissionSubjectsMap> getPermissionSubjectsMap) {
+
+        final int permissionCount = permissionIndices.size();
+        final SubjectBitSets[] result = new SubjectBitSets[nodes.size() * permissionCount];
+        for (int node = 0; node < nodes.size(); ++node) {
+            final int base = node * permissionCount;
+            getPermissionSubjectsMap.apply(nodes.get(node)).forEach((permission, subjectWeights) ->
+                    result[base + permissionIndices.get(permission)] = compile(subjectWeights));
+        }
+        return result;
+    }
+
+    private SubjectBitSets compile(final Map<String, Integer> subjectWeights) {
+        final TreeMap<Integer, long[]> bitSetsByWeight = new TreeMap<>();
+        final long[] all = new long[bitSetLength];
+        subjectWeights.forEach((subjectId, weight) -> {
+            final int index = subjectIndices.get(subjectId);
+            setBit(bitSetsByWeight.computeIfAbsent(weight, w -> new long[bitSetLength]), index);
+            setBit(all, index);
+        });
+        final int[] weights = new int[bitSetsByWeight.size()];
+        final long[][] bitSets = new long[bitSetsByWeight.size()][];
+        int i = 0;
+        for (final Map.Entry<Integer, long[]> entry : bitSetsByWeight.descendingMap().entrySet()) {
+            weights[i] = entry.getKey();
+            bitSets[i] = entry.getValue();
+            ++i;
+        }
+        return new SubjectBitSets(weights, bitSets, all);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Analogous to {@link TrieBasedPolicyEnforcer#hasUnrestrictedPermissions(ResourceKey, AuthorizationContext,
+     * Permissions)}: revokes of sub-resources are considered if the given resource is mentioned in the policy.
+     */
+    @Override
+    public boolean hasUnrestrictedPermissions(final ResourceKey resourceKey,
+            final AuthorizationContext authorizationContext, final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkPermissions(permissions);
+        return hasPermissionsWithFallback(resourceKey, bottomUpRevoke, authorizationContext, permissions);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Analogous to {@link TrieBasedPolicyEnforcer#hasPartialPermissions(ResourceKey, AuthorizationContext,
+     * Permissions)}: grants of sub-resources are considered if the given resource is mentioned in the policy.
+     */
+    @Override
+    public boolean hasPartialPermissions(final ResourceKey resourceKey, final AuthorizationContext authorizationContext,
+            final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkPermissions(permissions);
+        return hasPermissionsWithFallback(resourceKey, bottomUpGrant, authorizationContext, permissions);
+    }
+
+    @Override
+    public EffectedSubjectIds getSubjectIdsWithPermission(final ResourceKey resourceKey,
+            final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkPermissions(permissions);
+        final int node = seekToLeastAncestor(resourceKey);
+        final int[] permissionIndexes = getPermissionIndices(permissions);
+        return ImmutableEffectedSubjectIds.of(
+                getSubjectIds(inherited.getGrantedSubjects(node, permissionIndexes)),
+                getSubjectIds(inherited.getRevokedSubjects(node, permissionIndexes)));
+    }
+
+    @Override
+    public EffectedSubjects getSubjectsWithPermission(final ResourceKey resourceKey, final Permissions permissions) {
+        checkResourceKey(resourceKey);
+        checkPermissions(permissions);
+        final int node = seekToLeastAncestor(resourceKey);
+        final int[] permissionIndexes = getPermissionIndices(permissions);
+        return DefaultEffectedSubjects.of(
+                getSubjects(inherited.getGrantedSubjects(node, permissionIndexes)),
+                getSubjects(inherited.getRevokedSubjects(node, permissionIndexes)));
+    }
+
+    @Override
+    public Set<String> getSubjectIdsWithPartialPermission(final ResourceKey resourceKey,
+            final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkPermissions(permissions);
+        return getSubjectIds(getGrantedSubjectsWithFallback(resourceKey, permissions));
+    }
+
+    @Override
+    public Set<AuthorizationSubject> getSubjectsWithPartialPermission(final ResourceKey resourceKey,
+            final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkPermissions(permissions);
+        return getSubjects(getGrantedSubjectsWithFallback(resourceKey, permissions));
+    }
+
+    @Override
+    public JsonObject buildJsonView(final ResourceKey resourceKey,
+            final Iterable<JsonField> jsonFields,
+            final AuthorizationContext authorizationContext,
+            final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkNotNull(jsonFields, "JSON fields");
+        checkPermissions(permissions);
+
+        if (NO_NODE != findChild(ROOT, resourceKey.getResourceType())) {
+            final int start = seekToLeastAncestor(resourceKey);
+            if (jsonFields instanceof JsonObject) {
+                return jsonViewCache.getOrCompute(resourceKey, (JsonObject) jsonFields,
+                        authorizationContext.getAuthorizationSubjectIds(), permissions,
+                        () -> buildJsonView(start, true, jsonFields, getSubjectBitSet(authorizationContext),
+                                getPermissionIndices(permissions)));
+            }
+            return buildJsonView(start, true, jsonFields, getSubjectBitSet(authorizationContext),
+                    getPermissionIndices(permissions));
+        } else {
+            return JsonFactory.newObject();
+        }
+    }
+
+    private static void checkResourceKey(final ResourceKey resourceKey) {
+        checkNotNull(resourceKey, "resource key");
+    }
+
+    private static void checkPermissions(final Permissions permissions) {
+        checkNotNull(permissions, "permissions to check");
+    }
+
+    private boolean hasPermissionsWithFallback(final ResourceKey resourceKey,
+            final CompiledGrantRevokeIndex firstTry,
+            final AuthorizationContext authorizationContext,
+            final Collection<String> permissions) {
+
+        final long[] subjectBitSet = getSubjectBitSet(authorizationContext);
+        final int[] permissionIndexes = getPermissionIndices(permissions);
+        final int exactNode = seekToExactNode(resourceKey);
+        if (NO_NODE != exactNode) {
+            return firstTry.hasPermissions(exactNode, subjectBitSet, permissionIndexes);
+        } else {
+            return inherited.hasPermissions(seekToLeastAncestor(resourceKey), subjectBitSet, permissionIndexes);
+        }
+    }
+
+    private long[] getGrantedSubjectsWithFallback(final ResourceKey resourceKey, final Collection<String> permissions) {
+        final int[] permissionIndexes = getPermissionIndices(permissions);
+        final int exactNode = seekToExactNode(resourceKey);
+        if (NO_NODE != exactNode) {
+            return bottomUpGrant.getGrantedSubjects(exactNode, permissionIndexes);
+        } else {
+            return inherited.getGrantedSubjects(seekToLeastAncestor(resourceKey), permissionIndexes);
+        }
+    }
+
+    /**
+     * Analogous to {@link PolicyTrie#buildJsonView(Iterable, Collection, Permissions)}: values whose view equals the
+     * source are shared with the result instead of being copied.
+     */
+    private JsonObject buildJsonView(final int node, final boolean withChildren, final Iterable<JsonField> jsonFields,
+            final long[] subjectBitSet, final int[] permissionIndexes) {
+
+        if (jsonFields instanceof JsonObject && ((JsonObject) jsonFields).isNull()) {
+            return (JsonObject) jsonFields;
+        }
+
+        final JsonObject source = jsonFields instanceof JsonObject ? (JsonObject) jsonFields : null;
+        JsonObjectBuilder outputObjectBuilder = null == source ? JsonFactory.newObjectBuilder() : null;
+        int unchangedFields = 0;
+        for (final JsonField field : jsonFields) {
+            final int child = withChildren ? findChild(node, field.getKey().toString()) : NO_NODE;
+            final JsonValue jsonView = NO_NODE != child
+                    ? getViewForJsonValueOrNull(child, true, field.getValue(), subjectBitSet, permissionIndexes)
+                    : getViewForJsonValueOrNull(node, false, field.getValue(), subjectBitSet, permissionIndexes);
+            if (null == outputObjectBuilder) {
+                if (jsonView == field.getValue()) {
+                    ++unchangedFields;
+                    continue;
+                }
+                // copy on first change
+                outputObjectBuilder = JsonFactory.newObjectBuilder();
+                final Iterator<JsonField> iterator = source.iterator();
+                for (int i = 0; i < unchangedFields; ++i) {
+                    outputObjectBuilder.set(iterator.next());
+                }
+            }
+            if (null != jsonView) {
+                outputObjectBuilder.set(field.getKey(), jsonView);
+            }
+        }
+
+        return null == outputObjectBuilder ? source : outputObjectBuilder.build();
+    }
+
+    @Nullable
+    private JsonValue getViewForJsonValueOrNull(final int node, final boolean withChildren, final JsonValue jsonValue,
+            final long[] subjectBitSet, final int[] permissionIndexes) {
+
+        final JsonValue result;
+        if (!withChildren || childOffsets[node] == childOffsets[node + 1]) {
+            // all descendants of a leaf share its grants and revokes: the value is either fully visible or not at all
+            result = inherited.hasPermissions(node, subjectBitSet, permissionIndexes) ? jsonValue : null;
+        } else if (jsonValue.isObject()) {
+            final JsonObject candidate =
+                    buildJsonView(node, true, jsonValue.asObject(), subjectBitSet, permissionIndexes);
+            result = candidate.isEmpty() && !inherited.hasPermissions(node, subjectBitSet, permissionIndexes)
+                    ? null
+                    : candidate;
+        } else if (jsonValue.isArray()) {
+            final JsonArray candidate = getViewForJsonArray(node, jsonValue.asArray(), subjectBitSet,
+                    permissionIndexes);
+            result = candidate.isEmpty() && !inherited.hasPermissions(node, subjectBitSet, permissionIndexes)
+                    ? null
+                    : candidate;
+        } else if (inherited.hasPermissions(node, subjectBitSet, permissionIndexes)) {
+            result = jsonValue;
+        } else {
+            result = null;
+        }
+
+        return result;
+    }
+
+    private JsonArray getViewForJsonArray(final int node, final JsonArray jsonArray, final long[] subjectBitSet,
+            final int[] permissionIndexes) {
+
+        JsonArrayBuilder candidateBuilder = null;
+        int unchangedValues = 0;
+        for (final JsonValue value : jsonArray) {
+            final JsonValue view = getViewForJsonValueOrNull(node, true, value, subjectBitSet, permissionIndexes);
+            if (null == candidateBuilder) {
+                if (view == value) {
+                    ++unchangedValues;
+                    continue;
+                }
+                // copy on first change
+                candidateBuilder = JsonFactory.newArrayBuilder();
+                final Iterator<JsonValue> iterator = jsonArray.iterator();
+                for (int i = 0; i < unchangedValues; ++i) {
+                    candidateBuilder.add(iterator.next());
+                }
+            }
+            if (null != view) {
+                candidateBuilder.add(view);
+            }
+        }
+        return null == candidateBuilder ? jsonArray : candidateBuilder.build();
+    }
+
+    private int seekToLeastAncestor(final ResourceKey resourceKey) {
+        final Iterator<JsonKey> path = PolicyTrie.getJsonKeyIterator(resourceKey);
+        int node = ROOT;
+        while (path.hasNext()) {
+            final int child = findChild(node, path.next().toString());
+            if (NO_NODE == child) {
+                return node;
+            }
+            node = child;
+        }
+        return node;
+    }
+
+    private int seekToExactNode(final ResourceKey resourceKey) {
+        final Iterator<JsonKey> path = PolicyTrie.getJsonKeyIterator(resourceKey);
+        int node = ROOT;
+        while (path.hasNext() && NO_NODE != node) {
+            node = findChild(node, path.next().toString());
+        }
+        return node;
+    }
+
+    private int findChild(final int node, final String key) {
+        final int index = Arrays.binarySearch(childKeys, childOffsets[node], childOffsets[node + 1], key);
+        return index >= 0 ? childNodes[index] : NO_NODE;
+    }
+
+    private long[] getSubjectBitSet(final AuthorizationContext authorizationContext) {
+        final long[] subjectBitSet = new long[bitSetLength];
+        for (final AuthorizationSubject authorizationSubject : authorizationContext.getAuthorizationSubjects()) {
+            final Integer index = subjectIndices.get(authorizationSubject.getId());
+            if (null != index) {
+                setBit(subjectBitSet, index);
+            }
+        }
+        return subjectBitSet;
+    }
+
+    private int[] getPermissionIndices(final Collection<String> permissions) {
+        final int[] result = new int[permissions.size()];
+        int i = 0;
+        for (final String permission : permissions) {
+            result[i++] = permissionIndices.getOrDefault(permission, UNKNOWN);
+        }
+        return result;
+    }
+
+    private Set<String> getSubjectIds(final long[] subjectBitSet) {
+        final Set<String> result = new HashSet<>();
+        forEachBit(subjectBitSet, index -> result.add(subjects[index].getId()));
+        return result;
+    }
+
+    private Set<AuthorizationSubject> getSubjects(final long[] subjectBitSet) {
+        final Set<AuthorizationSubject> result = new HashSet<>();
+        forEachBit(subjectBitSet, index -> result.add(subjects[index]));
+        return result;
+    }
+
+    private static void setBit(final long[] bitSet, final int index) {
+        bitSet[index / Long.SIZE] |= 1L << index;
+    }
+
+    private static void forEachBit(final long[] bitSet, final IntConsumer consumer) {
+        for (int word = 0; word < bitSet.length; ++word) {
+            long bits = bitSet[word];
+            while (bits != 0L) {
+                consumer.accept(word * Long.SIZE + Long.numberOfTrailingZeros(bits));
+                bits &= bits - 1;
+            }
+        }
+    }
+
+    private static boolean intersects(final long[] bitSet1, final long[] bitSet2) {
+        for (int i = 0; i < bitSet1.length; ++i) {
+            if ((bitSet1[i] & bitSet2[i]) != 0L) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Compiled form of the {@link GrantRevokeIndex} of all trie nodes. The bit sets of permission {@code p} at node
+     * {@code n} are at index {@code n * permissionCount + p}; {@code null} means that the permission is not mentioned
+     * at the node.
+     */
+    @Immutable
+    private final class CompiledGrantRevokeIndex {
+
+        private final SubjectBitSets[] granted;
+        private final SubjectBitSets[] revoked;
+
+        private CompiledGrantRevokeIndex(final SubjectBitSets[] granted, final SubjectBitSets[] revoked) {
+            this.granted = granted;
+            this.revoked = revoked;
+        }
+
+        /**
+         * Analogous to {@link GrantRevokeIndex#hasPermissions(Collection, Collection)}.
+         */
+        private boolean hasPermissions(final int node, final long[] subjectBitSet, final int[] permissionIndexes) {
+            if (permissionIndexes.length == 0) {
+                return false;
+            }
+            final int base = node * permissionIndices.size();
+            int grantWeight = SubjectBitSets.NO_WEIGHT;
+            for (final int permission : permissionIndexes) {
+                final SubjectBitSets grantedSubjects = UNKNOWN == permission ? null : granted[base + permission];
+                final int weight = null == grantedSubjects
+                        ? SubjectBitSets.NO_WEIGHT
+                        : grantedSubjects.getMaxWeight(subjectBitSet);
+                if (SubjectBitSets.NO_WEIGHT == weight) {
+                    return false;
+                }
+                grantWeight = Math.max(grantWeight, weight);
+            }
+            int revokeWeight = SubjectBitSets.NO_WEIGHT;
+            for (final int permission : permissionIndexes) {
+                final SubjectBitSets revokedSubjects = UNKNOWN == permission ? null : revoked[base + permission];
+                if (null != revokedSubjects) {
+                    revokeWeight = Math.max(revokeWeight, revokedSubjects.getMaxWeight(subjectBitSet));
+                }
+            }
+            return SubjectBitSets.NO_WEIGHT == revokeWeight || revokeWeight < grantWeight;
+        }
+
+        /**
+         * Analogous to {@link PermissionSubjectsMap#getSubjectIntersect(Set)} of the grant map.
+         */
+        private long[] getGrantedSubjects(final int node, final int[] permissionIndexes) {
+            final int base = node * permissionIndices.size();
+            long[] result = null;
+            for (final int permission : permissionIndexes) {
+                final SubjectBitSets grantedSubjects = UNKNOWN == permission ? null : granted[base + permission];
+                if (null != grantedSubjects) {
+                    if (null == result) {
+                        result = grantedSubjects.all.clone();
+                    } else {
+                        for (int i = 0; i < result.length; ++i) {
+                            result[i] &= grantedSubjects.all[i];
+                        }
+                    }
+                }
+            }
+            return null != result ? result : new long[bitSetLength];
+        }
+
+        /**
+         * Analogous to {@link PermissionSubjectsMap#getSubjectUnion(Set)} of the revoke map.
+         */
+        private long[] getRevokedSubjects(final int node, final int[] permissionIndexes) {
+            final int base = node * permissionIndices.size();
+            final long[] result = new long[bitSetLength];
+            for (final int permission : permissionIndexes) {
+                final SubjectBitSets revokedSubjects = UNKNOWN == permission ? null : revoked[base + permission];
+                if (null != revokedSubjects) {
+                    for (int i = 0; i < result.length; ++i) {
+                        result[i] |= revokedSubjects.all[i];
+                    }
+                }
+            }
+            return result;
+        }
+
+    }
+
+    /**
+     * The subjects related to one permission at one trie node, grouped by their weight.
+     */
+    @Immutable
+    private static final class SubjectBitSets {
+
+        private static final int NO_WEIGHT = Integer.MIN_VALUE;
+
+        /**
+         * Distinct weights in descending order.
+         */
+        private final int[] weights;
+
+        /**
+         * Subjects of each weight in {@code weights}.
+         */
+        private final long[][] bitSetsByWeight;
+
+        /**
+         * Subjects of all weights.
+         */
+        private final long[] all;
+
+        private SubjectBitSets(final int[] weights, final long[][] bitSetsByWeight, final long[] all) {
+            this.weights = weights;
+            this.bitSetsByWeight = bitSetsByWeight;
+            this.all = all;
+        }
+
+        /**
+         * Returns the maximum weight of the given subjects or {@code NO_WEIGHT} if none of them is contained.
+         */
+        private int getMaxWeight(final long[] subjectBitSet) {
+            if (intersects(all, subjectBitSet)) {
+                for (int i = 0; i < weights.length; ++i) {
+                    if (intersects(bitSetsByWeight[i], subjectBitSet)) {
+                        return weights[i];
+                    }
+                }
+            }
+            return NO_WEIGHT;
+        }
+
+    }
+
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.enforcers.trie;
+
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.policies.Permissions;
+import org.eclipse.ditto.model.policies.ResourceKey;
+
+/**
+ * Small direct-mapped cache of JSON views built by one enforcer. As enforcers are immutable and created per policy
+ * revision, a view is identified by the resource key, the authorization subjects, the permissions and the JSON object
+ * instance it was built from. Subscribers sharing an authorization context thus reuse the view of the same published
+ * JSON object.
+ * <p>
+ * JSON objects are compared by identity so that a lookup never traverses them. The cache neither keeps the JSON
+ * objects alive nor prevents the garbage collector from reclaiming the views under memory pressure; together with
+ * the fixed number of slots this bounds the memory retained by the cache. On collision the older view is replaced.
+ * </p>
+ */
+@ThreadSafe
+final class JsonViewCache {
+
+    /**
+     * Number of slots; a power of 2.
+     */
+    static final int SIZE = 16;
+
+    private final AtomicReferenceArray<Entry> entries;
+
+    JsonViewCache() {
+        entries = new AtomicReferenceArray<>(SIZE);
+    }
+
+    /**
+     * Returns the cached view of a JSON object or computes and caches it.
+     *
+     * @param resourceKey the resource key the view is built for.
+     * @param jsonObject the JSON object to build the view of.
+     * @param subjectIds the authorization subject IDs the view is built for.
+     * @param permissions the permissions the view is built for.
+     * @param viewSupplier computes the view if it is not cached.
+     * @return the view.
+     */
+    JsonObject getOrCompute(final ResourceKey resourceKey, final JsonObject jsonObject, final List<String> subjectIds,
+            final Permissions permissions, final Supplier<JsonObject> viewSupplier) {
+
+        final int hash = hash(resourceKey, jsonObject, subjectIds, permissions);
+        final int slot = hash & (SIZE - 1);
+        final Entry entry = entries.get(slot);
+        if (null != entry && entry.matches(hash, resourceKey, jsonObject, subjectIds, permissions)) {
+            final JsonObject cachedView = entry.view.get();
+            if (null != cachedView) {
+                return cachedView;
+            }
+        }
+        final JsonObject view = viewSupplier.get();
+        entries.set(slot, new Entry(hash, resourceKey, jsonObject, subjectIds, permissions, view));
+        return view;
+    }
+
+    private static int hash(final ResourceKey resourceKey, final JsonObject jsonObject,
+            final List<String> subjectIds, final Permissions permissions) {
+
+        int result = resourceKey.hashCode();
+        result = 31 * result + System.identityHashCode(jsonObject);
+        result = 31 * result + subjectIds.hashCode();
+        result = 31 * result + permissions.hashCode();
+        // spread the high bits to the slot index
+        return result ^ (result >>> 16);
+    }
+
+    private static final class Entry {
+
+        private final int hash;
+        private final ResourceKey resourceKey;
+        private final WeakReference<JsonObject> jsonObject;
+        private final List<String> subjectIds;
+        private final Permissions permissions;
+        private final SoftReference<JsonObject> view;
+
+        private Entry(final int hash, final ResourceKey resourceKey, final JsonObject jsonObject,
+                final List<String> subjectIds, final Permissions permissions, final JsonObject view) {
+
+            this.hash = hash;
+            this.resourceKey = resourceKey;
+            this.jsonObject = new WeakReference<>(jsonObject);
+            this.subjectIds = subjectIds;
+            this.permissions = permissions;
+            this.view = new SoftReference<>(view);
+        }
+
+        private boolean matches(final int hash, final ResourceKey resourceKey, final JsonObject jsonObject,
+                final List<String> subjectIds, final Permissions permissions) {
+
+            return this.hash == hash &&
+                    this.jsonObject.get() == jsonObject &&
+                    this.resourceKey.equals(resourceKey) &&
+                    this.subjectIds.equals(subjectIds) &&
+                    this.permissions.equals(permissions);
+        }
+
+    }
+
+}
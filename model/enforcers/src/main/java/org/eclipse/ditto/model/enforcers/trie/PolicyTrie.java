@@ -19,7 +19,6 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -28,7 +27,7 @@ import javax.annotation.Nullable;
 import javax.annotation.concurrent.NotThreadSafe;
 
 import org.eclipse.ditto.json.JsonArray;
-import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonArrayBuilder;
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonField;
 import org.eclipse.ditto.json.JsonKey;
@@ -228,6 +227,25 @@ final class PolicyTrie {
         return children.containsKey(childKey);
     }
 
+    /**
+     * Returns the children of this node by the keys of their edges.
+     *
+     * @return An unmodifiable view of the children.
+     */
+    Map<JsonKey, PolicyTrie> getChildren() {
+        return Collections.unmodifiableMap(children);
+    }
+
+    /**
+     * Builds the view of the given JSON fields which consists of the fields whose resources the given subjects have
+     * the given permissions on. The source JSON and this trie are walked in lockstep; JSON values whose view equals the
+     * source are not copied but shared with the result, so that their cached serialized form is reused.
+     *
+     * @param jsonFields the JSON fields to build the view of.
+     * @param subjectIds the authorization subject IDs.
+     * @param permissions the required permissions.
+     * @return the view, which is {@code jsonFields} itself if it is a JSON object and fully visible.
+     */
     JsonObject buildJsonView(final Iterable<JsonField> jsonFields, final Collection<String> subjectIds,
             final Permissions permissions) {
 
@@ -237,15 +255,35 @@ final class PolicyTrie {
             return (JsonObject) jsonFields;
         }
 
-        final JsonObjectBuilder outputObjectBuilder = JsonFactory.newObjectBuilder();
+        final JsonObject source = jsonFields instanceof JsonObject ? (JsonObject) jsonFields : null;
+        JsonObjectBuilder outputObjectBuilder = null == source ? JsonFactory.newObjectBuilder() : null;
+        int unchangedFields = 0;
         for (final JsonField field : jsonFields) {
             final JsonValue jsonView = getViewForJsonFieldOrNull(field, defaultPolicyTrie, subjectIds, permissions);
+            if (null == outputObjectBuilder) {
+                if (jsonView == field.getValue()) {
+                    ++unchangedFields;
+                    continue;
+                }
+                // copy on first change
+                outputObjectBuilder = copyFirstFields(source, unchangedFields);
+            }
             if (null != jsonView) {
                 outputObjectBuilder.set(field.getKey(), jsonView);
             }
         }
 
-        return outputObjectBuilder.build();
+        return null == outputObjectBuilder ? source : outputObjectBuilder.build();
+    }
+
+    private static JsonObjectBuilder copyFirstFields(final Iterable<JsonField> jsonFields, final int count) {
+        final JsonObjectBuilder builder = JsonFactory.newObjectBuilder();
+        final Iterator<JsonField> iterator = jsonFields.iterator();
+        for (int i = 0; i < count; ++i) {
+            final JsonField field = iterator.next();
+            builder.set(field.getKey(), field.getValue());
+        }
+        return builder;
     }
 
     @Nullable
@@ -263,7 +301,10 @@ final class PolicyTrie {
             final Permissions permissions) {
 
         final JsonValue result;
-        if (jsonValue.isObject()) {
+        if (children.isEmpty()) {
+            // all descendants of a leaf share its grants and revokes: the value is either fully visible or not at all
+            result = grantRevokeIndex.hasPermissions(subjectIds, permissions) ? jsonValue : null;
+        } else if (jsonValue.isObject()) {
             result = getViewForJsonObjectOrNull(jsonValue.asObject(), subjectIds, permissions);
         } else if (jsonValue.isArray()) {
             result = getViewForJsonArrayOrNull(jsonValue.asArray(), subjectIds, permissions);
@@ -294,15 +335,32 @@ final class PolicyTrie {
     }
 
     @Nullable
-    private JsonValue getViewForJsonArrayOrNull(final JsonValueContainer<JsonValue> jsonArray,
+    private JsonValue getViewForJsonArrayOrNull(final JsonArray jsonArray,
             final Collection<String> subjectIds, final Permissions permissions) {
 
-        final JsonArray candidate = jsonArray.stream()
-                .map(value -> getViewForJsonValueOrNull(value, subjectIds, permissions))
-                .filter(Objects::nonNull)
-                .collect(JsonCollectors.valuesToArray());
+        JsonArrayBuilder candidateBuilder = null;
+        int unchangedValues = 0;
+        for (final JsonValue value : jsonArray) {
+            final JsonValue view = getViewForJsonValueOrNull(value, subjectIds, permissions);
+            if (null == candidateBuilder) {
+                if (view == value) {
+                    ++unchangedValues;
+                    continue;
+                }
+                // copy on first change
+                candidateBuilder = JsonFactory.newArrayBuilder();
+                final Iterator<JsonValue> iterator = jsonArray.iterator();
+                for (int i = 0; i < unchangedValues; ++i) {
+                    candidateBuilder.add(iterator.next());
+                }
+            }
+            if (null != view) {
+                candidateBuilder.add(view);
+            }
+        }
 
-        return filterCandidate(candidate, subjectIds, permissions);
+        return filterCandidate(null == candidateBuilder ? jsonArray : candidateBuilder.build(), subjectIds,
+                permissions);
     }
 
     /**
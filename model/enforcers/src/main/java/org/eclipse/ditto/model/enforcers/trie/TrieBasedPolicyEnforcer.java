@@ -14,6 +14,7 @@ package org.eclipse.ditto.model.enforcers.trie;
 
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 
+import java.util.List;
 import java.util.Set;
 
 import org.eclipse.ditto.json.JsonFactory;
@@ -90,11 +91,17 @@ public final class TrieBasedPolicyEnforcer implements Enforcer {
      */
     private final PolicyTrie bottomUpRevokeTrie;
 
+    /**
+     * Views of JSON objects recently built by this enforcer.
+     */
+    private final JsonViewCache jsonViewCache;
+
     private TrieBasedPolicyEnforcer(final Iterable<PolicyEntry> policy) {
         final PolicyTrie rawTree = PolicyTrie.fromPolicy(policy);
         inheritedTrie = rawTree.getTransitiveClosure();
         bottomUpGrantTrie = inheritedTrie.getBottomUpGrantTrie();
         bottomUpRevokeTrie = inheritedTrie.getBottomUpRevokeTrie();
+        jsonViewCache = new JsonViewCache();
     }
 
     /**
@@ -208,7 +215,12 @@ public final class TrieBasedPolicyEnforcer implements Enforcer {
 
         if (inheritedTrie.hasChild(typeKey)) {
             final PolicyTrie start = inheritedTrie.seekToLeastAncestor(PolicyTrie.getJsonKeyIterator(resourceKey));
-            return start.buildJsonView(jsonFields, authorizationContext.getAuthorizationSubjectIds(), permissions);
+            final List<String> subjectIds = authorizationContext.getAuthorizationSubjectIds();
+            if (jsonFields instanceof JsonObject) {
+                return jsonViewCache.getOrCompute(resourceKey, (JsonObject) jsonFields, subjectIds, permissions,
+                        () -> start.buildJsonView(jsonFields, subjectIds, permissions));
+            }
+            return start.buildJsonView(jsonFields, subjectIds, permissions);
         } else {
             return JsonFactory.newObject();
         }
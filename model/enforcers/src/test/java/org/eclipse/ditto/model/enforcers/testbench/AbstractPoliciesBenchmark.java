@@ -96,6 +96,10 @@ import org.eclipse.ditto.model.enforcers.testbench.scenarios.scenario4.Scenario4
 import org.eclipse.ditto.model.enforcers.testbench.scenarios.scenario4.Scenario4MultipleSubjects7;
 import org.eclipse.ditto.model.enforcers.testbench.scenarios.scenario4.Scenario4MultipleSubjects8;
 import org.eclipse.ditto.model.enforcers.testbench.scenarios.scenario4.Scenario4MultipleSubjects9;
+import org.eclipse.ditto.model.enforcers.testbench.scenarios.scenario6.Scenario6ManySubjects;
+import org.eclipse.ditto.model.enforcers.testbench.scenarios.scenario6.Scenario6ManySubjects1;
+import org.eclipse.ditto.model.enforcers.testbench.scenarios.scenario6.Scenario6ManySubjects2;
+import org.eclipse.ditto.model.enforcers.testbench.scenarios.scenario6.Scenario6ManySubjects3;
 import org.eclipse.ditto.model.policies.Policy;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Measurement;
@@ -121,6 +125,8 @@ public abstract class AbstractPoliciesBenchmark {
         policyAlgorithms.put(Scenario3Revoke.SCENARIO_GROUP_NAME, getPolicyAlgorithm(Scenario3Revoke.POLICY));
         policyAlgorithms.put(Scenario4MultipleSubjects.SCENARIO_GROUP_NAME,
                 getPolicyAlgorithm(Scenario4MultipleSubjects.POLICY));
+        policyAlgorithms.put(Scenario6ManySubjects.SCENARIO_GROUP_NAME,
+                getPolicyAlgorithm(Scenario6ManySubjects.POLICY));
     }
 
     /**
@@ -551,6 +557,27 @@ public abstract class AbstractPoliciesBenchmark {
         return runScenarioWithAlgorithm(scenario);
     }
 
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public boolean benchmark_Scenario6ManySubjects1(final Scenario6ManySubjects1 scenario) {
+        return runScenarioWithAlgorithm(scenario);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public boolean benchmark_Scenario6ManySubjects2(final Scenario6ManySubjects2 scenario) {
+        return runScenarioWithAlgorithm(scenario);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public boolean benchmark_Scenario6ManySubjects3(final Scenario6ManySubjects3 scenario) {
+        return runScenarioWithAlgorithm(scenario);
+    }
+
     @Benchmark
     @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
     @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
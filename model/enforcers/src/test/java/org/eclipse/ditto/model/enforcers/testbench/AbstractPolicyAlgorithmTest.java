@@ -103,6 +103,9 @@ import org.eclipse.ditto.model.enforcers.testbench.scenarios.scenario4.Scenario4
 import org.eclipse.ditto.model.enforcers.testbench.scenarios.scenario4.Scenario4MultipleSubjects8;
 import org.eclipse.ditto.model.enforcers.testbench.scenarios.scenario4.Scenario4MultipleSubjects9;
 import org.eclipse.ditto.model.enforcers.testbench.scenarios.scenario5.Scenario5Simple1;
+import org.eclipse.ditto.model.enforcers.testbench.scenarios.scenario6.Scenario6ManySubjects1;
+import org.eclipse.ditto.model.enforcers.testbench.scenarios.scenario6.Scenario6ManySubjects2;
+import org.eclipse.ditto.model.enforcers.testbench.scenarios.scenario6.Scenario6ManySubjects3;
 import org.eclipse.ditto.model.enforcers.tree.TreeBasedPolicyEnforcer;
 import org.eclipse.ditto.model.policies.Permissions;
 import org.eclipse.ditto.model.policies.PoliciesResourceType;
@@ -430,6 +433,21 @@ public abstract class AbstractPolicyAlgorithmTest {
         testScenarioWithAlgorithm(new Scenario5Simple1());
     }
 
+    @Test
+    public void test_Scenario6ManySubjects1() {
+        testScenarioWithAlgorithm(new Scenario6ManySubjects1());
+    }
+
+    @Test
+    public void test_Scenario6ManySubjects2() {
+        testScenarioWithAlgorithm(new Scenario6ManySubjects2());
+    }
+
+    @Test
+    public void test_Scenario6ManySubjects3() {
+        testScenarioWithAlgorithm(new Scenario6ManySubjects3());
+    }
+
     @Test
     public void test_JsonViewScenario1() {
         testScenarioWithAlgorithm(new JsonViewScenario1());
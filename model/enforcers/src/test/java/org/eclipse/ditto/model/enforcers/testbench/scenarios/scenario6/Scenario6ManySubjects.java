@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.enforcers.testbench.scenarios.scenario6;
+
+import java.util.function.Function;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.model.enforcers.testbench.algorithms.PolicyAlgorithm;
+import org.eclipse.ditto.model.enforcers.testbench.scenarios.Scenario;
+import org.eclipse.ditto.model.policies.PoliciesModelFactory;
+import org.eclipse.ditto.model.policies.PoliciesResourceType;
+import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.PolicyBuilder;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.policies.SubjectIssuer;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingsModelFactory;
+
+/**
+ * Scenarios of a policy with many subjects and resources: every subject may read everything except its own private
+ * attribute, and may write its own feature.
+ */
+public interface Scenario6ManySubjects extends Scenario {
+
+    String SCENARIO_GROUP_NAME = Scenario6ManySubjects.class.getSimpleName();
+
+    int SUBJECT_COUNT = 256;
+
+    Policy POLICY = createPolicy();
+
+    Thing THING = createThing(-1);
+
+    static String subject(final int index) {
+        return "sid_" + index;
+    }
+
+    static Policy createPolicy() {
+        PolicyBuilder.LabelScoped builder = PoliciesModelFactory
+                .newPolicyBuilder(PolicyId.of("benchmark", SCENARIO_GROUP_NAME))
+                .forLabel("all")
+                .setGrantedPermissions(PoliciesResourceType.thingResource("/"), "READ");
+        for (int i = 0; i < SUBJECT_COUNT; ++i) {
+            builder = builder.setSubject(SubjectIssuer.GOOGLE, subject(i));
+        }
+        for (int i = 0; i < SUBJECT_COUNT; ++i) {
+            builder = builder.forLabel("own-" + i)
+                    .setSubject(SubjectIssuer.GOOGLE, subject(i))
+                    .setRevokedPermissions(PoliciesResourceType.thingResource("/attributes/private" + i), "READ",
+                            "WRITE")
+                    .setGrantedPermissions(PoliciesResourceType.thingResource("/features/feature" + i), "WRITE");
+        }
+        return builder.build();
+    }
+
+    /**
+     * Creates a thing with the private attributes and the features of all subjects.
+     *
+     * @param omittedAttributeIndex index of the private attribute to leave out, or a negative number to include all.
+     * @return the thing.
+     */
+    static Thing createThing(final int omittedAttributeIndex) {
+        final JsonObjectBuilder attributes = JsonFactory.newObjectBuilder();
+        final JsonObjectBuilder features = JsonFactory.newObjectBuilder();
+        for (int i = 0; i < SUBJECT_COUNT; ++i) {
+            if (i != omittedAttributeIndex) {
+                attributes.set("private" + i, i);
+            }
+            features.set("feature" + i, JsonFactory.newObjectBuilder()
+                    .set("properties", JsonFactory.newObjectBuilder().set("value", i).build())
+                    .build());
+        }
+        return ThingsModelFactory.newThing(JsonFactory.newObjectBuilder()
+                .set("attributes", attributes.build())
+                .set("features", features.build())
+                .build());
+    }
+
+    default Policy getPolicy() {
+        return POLICY;
+    }
+
+    @Override
+    default String getScenarioGroup() {
+        return SCENARIO_GROUP_NAME;
+    }
+
+    @Override
+    default Function<PolicyAlgorithm, Boolean> getApplyAlgorithmFunction() {
+        return algorithm -> algorithm.hasPermissionsOnResource(getSetup());
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.enforcers.testbench.scenarios.scenario6;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.eclipse.ditto.model.enforcers.testbench.scenarios.Scenario;
+import org.eclipse.ditto.model.enforcers.testbench.scenarios.ScenarioSetup;
+import org.eclipse.ditto.model.policies.SubjectId;
+import org.eclipse.ditto.model.policies.SubjectIssuer;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+
+@State(Scope.Benchmark)
+public class Scenario6ManySubjects1 implements Scenario6ManySubjects {
+
+    private final ScenarioSetup setup;
+
+    public Scenario6ManySubjects1() {
+        final Set<String> expectedSubjectIds = IntStream.range(0, SUBJECT_COUNT)
+                .filter(i -> i != 3)
+                .mapToObj(i -> SubjectId.newInstance(SubjectIssuer.GOOGLE, Scenario6ManySubjects.subject(i)).toString())
+                .collect(Collectors.toSet());
+        setup = Scenario.newScenarioSetup(
+                true,
+                "All subjects have READ granted on '/'. "
+                        + "Each subject has READ+WRITE revoked on its own private attribute. "
+                        + "Is able to READ the private attribute of another subject",
+                getPolicy(),
+                Scenario.newAuthorizationContext(Scenario6ManySubjects.subject(150)),
+                "/attributes/private3",
+                expectedSubjectIds,
+                "READ");
+    }
+
+    @Override
+    public ScenarioSetup getSetup() {
+        return setup;
+    }
+
+}
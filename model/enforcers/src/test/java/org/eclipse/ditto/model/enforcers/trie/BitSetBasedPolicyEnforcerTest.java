@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.enforcers.trie;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.base.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.model.policies.Permissions;
+import org.eclipse.ditto.model.policies.PoliciesModelFactory;
+import org.eclipse.ditto.model.policies.PoliciesResourceType;
+import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.PolicyBuilder;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.policies.ResourceKey;
+import org.eclipse.ditto.model.policies.SubjectIssuer;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link BitSetBasedPolicyEnforcer}.
+ */
+public final class BitSetBasedPolicyEnforcerTest {
+
+    private static final int SUBJECT_COUNT = 130;
+
+    private static final List<String> RESOURCES = Arrays.asList("/", "/attributes", "/attributes/a",
+            "/attributes/a/b", "/attributes/a/b/c", "/attributes/x", "/features", "/features/f1",
+            "/features/f1/properties/p", "/features/f2", "/unknown/path");
+
+    private static final List<Permissions> PERMISSIONS = Arrays.asList(Permissions.none(),
+            Permissions.newInstance("READ"), Permissions.newInstance("WRITE"),
+            Permissions.newInstance("READ", "WRITE"), Permissions.newInstance("READ", "EXECUTE"));
+
+    private static final JsonObject THING_JSON = JsonFactory.newObjectBuilder()
+            .set("attributes", JsonFactory.newObjectBuilder()
+                    .set("a", JsonFactory.newObjectBuilder()
+                            .set("b", JsonFactory.newObjectBuilder().set("c", 1).set("d", 2).build())
+                            .set("e", JsonFactory.newArrayBuilder().add(1, 2).build())
+                            .build())
+                    .set("x", "y")
+                    .set("z", JsonFactory.newObject())
+                    .build())
+            .set("features", JsonFactory.newObjectBuilder()
+                    .set("f1", JsonFactory.newObjectBuilder()
+                            .set("properties", JsonFactory.newObjectBuilder().set("p", true).set("q", 3).build())
+                            .build())
+                    .set("f2", JsonFactory.nullObject())
+                    .build())
+            .build();
+
+    @Test
+    public void yieldsSameResultsAsTrieBasedPolicyEnforcer() {
+        final Policy policy = policyWithManySubjects();
+        final TrieBasedPolicyEnforcer expected = TrieBasedPolicyEnforcer.newInstance(policy);
+        final BitSetBasedPolicyEnforcer underTest = BitSetBasedPolicyEnforcer.newInstance(policy);
+
+        for (final String resource : RESOURCES) {
+            final ResourceKey resourceKey = PoliciesResourceType.thingResource(resource);
+            for (final Permissions permissions : PERMISSIONS) {
+                assertThat(underTest.getSubjectsWithPermission(resourceKey, permissions))
+                        .isEqualTo(expected.getSubjectsWithPermission(resourceKey, permissions));
+                assertThat(underTest.getSubjectIdsWithPermission(resourceKey, permissions))
+                        .isEqualTo(expected.getSubjectIdsWithPermission(resourceKey, permissions));
+                assertThat(underTest.getSubjectsWithPartialPermission(resourceKey, permissions))
+                        .isEqualTo(expected.getSubjectsWithPartialPermission(resourceKey, permissions));
+                assertThat(underTest.getSubjectIdsWithPartialPermission(resourceKey, permissions))
+                        .isEqualTo(expected.getSubjectIdsWithPartialPermission(resourceKey, permissions));
+                for (int i = 0; i <= SUBJECT_COUNT; i += 7) {
+                    final AuthorizationContext authorizationContext = authorizationContext(i, i + 65, -1);
+                    final String description = resource + " " + permissions + " " + authorizationContext;
+                    assertThat(underTest.hasUnrestrictedPermissions(resourceKey, authorizationContext, permissions))
+                            .describedAs(description)
+                            .isEqualTo(expected.hasUnrestrictedPermissions(resourceKey, authorizationContext,
+                                    permissions));
+                    assertThat(underTest.hasPartialPermissions(resourceKey, authorizationContext, permissions))
+                            .describedAs(description)
+                            .isEqualTo(expected.hasPartialPermissions(resourceKey, authorizationContext,
+                                    permissions));
+                    assertThat(underTest.buildJsonView(resourceKey, THING_JSON, authorizationContext, permissions))
+                            .describedAs(description)
+                            .isEqualTo(expected.buildJsonView(resourceKey, THING_JSON, authorizationContext,
+                                    permissions));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void buildJsonViewOfNullObject() {
+        final BitSetBasedPolicyEnforcer underTest = BitSetBasedPolicyEnforcer.newInstance(policyWithManySubjects());
+
+        final JsonObject createdJsonView = underTest.buildJsonView(
+                PoliciesResourceType.thingResource("/"),
+                JsonFactory.nullObject(),
+                authorizationContext(0),
+                Permissions.newInstance("READ"));
+
+        assertThat(createdJsonView).isEqualTo(JsonFactory.nullObject());
+    }
+
+    @Test
+    public void buildJsonViewOfUnknownResourceType() {
+        final BitSetBasedPolicyEnforcer underTest = BitSetBasedPolicyEnforcer.newInstance(policyWithManySubjects());
+
+        final JsonObject createdJsonView = underTest.buildJsonView(
+                ResourceKey.newInstance("foo", "bar"),
+                THING_JSON,
+                authorizationContext(0),
+                Permissions.newInstance("READ"));
+
+        assertThat(createdJsonView).isEqualTo(JsonFactory.newObject());
+    }
+
+    @Test
+    public void buildJsonViewSharesVisibleValues() {
+        final BitSetBasedPolicyEnforcer underTest = BitSetBasedPolicyEnforcer.newInstance(policyWithManySubjects());
+
+        // subject 1 may read everything except /features/f1/properties/p
+        final JsonObject createdJsonView = underTest.buildJsonView(
+                PoliciesResourceType.thingResource("/"),
+                THING_JSON,
+                authorizationContext(1),
+                Permissions.newInstance("READ"));
+
+        assertThat(createdJsonView).isEqualTo(THING_JSON.remove(JsonPointer.of("/features/f1/properties/p")));
+        assertThat(createdJsonView.getValue("attributes")).containsSame(THING_JSON.getValue("attributes").get());
+        assertThat(underTest.buildJsonView(PoliciesResourceType.thingResource("/"), THING_JSON,
+                authorizationContext(1), Permissions.newInstance("READ"))).isSameAs(createdJsonView);
+    }
+
+    /**
+     * Creates a policy whose subjects span several words of a bit set and which overrides grants and revokes on
+     * nested resources differently for odd, even and every third subject.
+     */
+    private static Policy policyWithManySubjects() {
+        PolicyBuilder.LabelScoped builder = PoliciesModelFactory.newPolicyBuilder(PolicyId.of("namespace", "id"))
+                .forLabel("all")
+                .setGrantedPermissions(PoliciesResourceType.thingResource("/"), "READ", "WRITE");
+        for (int i = 0; i < SUBJECT_COUNT; ++i) {
+            builder = builder.setSubject(SubjectIssuer.GOOGLE, subject(i));
+        }
+        builder = builder.forLabel("odd")
+                .setRevokedPermissions(PoliciesResourceType.thingResource("/attributes/a"), "WRITE")
+                .setGrantedPermissions(PoliciesResourceType.thingResource("/attributes/a/b"), "WRITE")
+                .setRevokedPermissions(PoliciesResourceType.thingResource("/features/f1/properties/p"), "READ");
+        for (int i = 1; i < SUBJECT_COUNT; i += 2) {
+            builder = builder.setSubject(SubjectIssuer.GOOGLE, subject(i));
+        }
+        builder = builder.forLabel("even")
+                .setRevokedPermissions(PoliciesResourceType.thingResource("/attributes"), "READ")
+                .setGrantedPermissions(PoliciesResourceType.thingResource("/attributes/a/b/c"), "READ")
+                .setGrantedPermissions(PoliciesResourceType.thingResource("/features/f2"), "EXECUTE");
+        for (int i = 0; i < SUBJECT_COUNT; i += 2) {
+            builder = builder.setSubject(SubjectIssuer.GOOGLE, subject(i));
+        }
+        builder = builder.forLabel("third")
+                .setRevokedPermissions(PoliciesResourceType.thingResource("/"), "WRITE")
+                .setRevokedPermissions(PoliciesResourceType.thingResource("/attributes/x"), "READ");
+        for (int i = 0; i < SUBJECT_COUNT; i += 3) {
+            builder = builder.setSubject(SubjectIssuer.GOOGLE, subject(i));
+        }
+        return builder.build();
+    }
+
+    private static AuthorizationContext authorizationContext(final int... subjectIndices) {
+        final AuthorizationSubject[] authorizationSubjects = Arrays.stream(subjectIndices)
+                .mapToObj(i -> AuthorizationSubject.newInstance(SubjectIssuer.GOOGLE + ":" + subject(i)))
+                .toArray(AuthorizationSubject[]::new);
+        return AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                Arrays.asList(authorizationSubjects));
+    }
+
+    private static String subject(final int index) {
+        return "sid_" + index;
+    }
+
+}
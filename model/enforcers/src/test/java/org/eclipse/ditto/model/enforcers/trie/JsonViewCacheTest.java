@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.enforcers.trie;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.policies.Permissions;
+import org.eclipse.ditto.model.policies.PoliciesResourceType;
+import org.eclipse.ditto.model.policies.ResourceKey;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link JsonViewCache}.
+ */
+public final class JsonViewCacheTest {
+
+    private static final ResourceKey RESOURCE_KEY = PoliciesResourceType.thingResource("/");
+    private static final List<String> SUBJECT_IDS = Collections.singletonList("ditto:subject");
+    private static final Permissions PERMISSIONS = Permissions.newInstance("READ");
+    private static final String JSON = "{\"thingId\":\"ditto:thing\",\"attributes\":{\"a\":1}}";
+
+    private AtomicInteger computations;
+    private JsonViewCache underTest;
+
+    @Before
+    public void setUp() {
+        computations = new AtomicInteger();
+        underTest = new JsonViewCache();
+    }
+
+    @Test
+    public void reusesViewOfSameInstance() {
+        final JsonObject jsonObject = JsonFactory.newObject(JSON);
+
+        final JsonObject firstView = getOrCompute(jsonObject, SUBJECT_IDS);
+        final JsonObject secondView = getOrCompute(jsonObject, SUBJECT_IDS);
+
+        assertThat(secondView).isSameAs(firstView);
+        assertThat(computations).hasValue(1);
+    }
+
+    @Test
+    public void doesNotCompareDistinctInstancesByContent() {
+        getOrCompute(JsonFactory.newObject(JSON), SUBJECT_IDS);
+        getOrCompute(JsonFactory.newObject(JSON), SUBJECT_IDS);
+
+        assertThat(computations).hasValue(2);
+    }
+
+    @Test
+    public void distinguishesAuthorizationSubjects() {
+        final JsonObject jsonObject = JsonFactory.newObject(JSON);
+
+        getOrCompute(jsonObject, SUBJECT_IDS);
+        getOrCompute(jsonObject, Collections.singletonList("ditto:other-subject"));
+
+        assertThat(computations).hasValue(2);
+    }
+
+    private JsonObject getOrCompute(final JsonObject jsonObject, final List<String> subjectIds) {
+        final Supplier<JsonObject> viewSupplier = () -> {
+            computations.incrementAndGet();
+            return jsonObject.get(JsonFactory.newFieldSelector("thingId"));
+        };
+        return underTest.getOrCompute(RESOURCE_KEY, jsonObject, subjectIds, PERMISSIONS, viewSupplier);
+    }
+
+}
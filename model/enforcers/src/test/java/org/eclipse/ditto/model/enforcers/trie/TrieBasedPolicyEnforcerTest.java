@@ -47,6 +47,51 @@ public class TrieBasedPolicyEnforcerTest {
         assertThat(createdJsonView).isEqualTo(expectedJsonView);
     }
 
+    @Test
+    public void buildJsonViewSharesVisibleValues() {
+        final TrieBasedPolicyEnforcer underTest =
+                TrieBasedPolicyEnforcer.newInstance(defaultPolicy(PolicyId.of("namespace", "id")));
+        final AuthorizationContext authorizationContext =
+                AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                        AuthorizationSubject.newInstance("dummy:test"));
+        final JsonObject foo = JsonFactory.newObject("{\"a\":1,\"b\":[1,2,{\"c\":3}]}");
+        final JsonObject fullyVisible = JsonFactory.newObjectBuilder().set("foo", foo).build();
+        final JsonObject partiallyVisible = fullyVisible.setValue("bar", 2);
+
+        assertThat(underTest.buildJsonView(ResourceKey.newInstance("foo", "/"), fullyVisible, authorizationContext,
+                Permissions.newInstance("READ"))).isSameAs(fullyVisible);
+
+        final JsonObject view = underTest.buildJsonView(ResourceKey.newInstance("foo", "/"), partiallyVisible,
+                authorizationContext, Permissions.newInstance("READ"));
+        assertThat(view).isEqualTo(fullyVisible);
+        assertThat(view.getValue("foo")).containsSame(foo);
+    }
+
+    @Test
+    public void buildJsonViewReusesViewForSameInput() {
+        final TrieBasedPolicyEnforcer underTest =
+                TrieBasedPolicyEnforcer.newInstance(defaultPolicy(PolicyId.of("namespace", "id")));
+        final ResourceKey resourceKey = ResourceKey.newInstance("foo", "/");
+        final JsonObject jsonObject = JsonFactory.newObject("{\"foo\":{\"a\":1},\"bar\":2}");
+
+        final JsonObject firstView = underTest.buildJsonView(resourceKey, jsonObject,
+                AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                        AuthorizationSubject.newInstance("dummy:test")),
+                Permissions.newInstance("READ"));
+        final JsonObject secondView = underTest.buildJsonView(resourceKey, jsonObject,
+                AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                        AuthorizationSubject.newInstance("dummy:test")),
+                Permissions.newInstance("READ"));
+        final JsonObject otherSubjectView = underTest.buildJsonView(resourceKey, jsonObject,
+                AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                        AuthorizationSubject.newInstance("itsMe")),
+                Permissions.newInstance("READ"));
+
+        assertThat(firstView).isEqualTo(JsonFactory.newObject("{\"foo\":{\"a\":1}}"));
+        assertThat(secondView).isSameAs(firstView);
+        assertThat(otherSubjectView).isEmpty();
+    }
+
     private static Policy defaultPolicy(final PolicyId policyId) {
         final Permissions permissions = Permissions.newInstance("READ", "WRITE");
         return PoliciesModelFactory.newPolicyBuilder(policyId)
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.placeholders;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Bounded cache of compiled templates or expressions keyed by their string representation.
+ * The strings to compile originate from the configuration of connections and policies, thus the number of distinct
+ * strings is usually small; the cache is cleared completely once its capacity is exceeded in order to bound its size
+ * for the unusual case of arbitrary strings being resolved.
+ *
+ * @param <T> the type of the compiled values.
+ */
+@ThreadSafe
+final class CompilationCache<T> {
+
+    private final int capacity;
+    private final Function<String, T> compiler;
+    private final Map<String, T> cache;
+
+    /**
+     * Creates a new cache.
+     *
+     * @param capacity the maximum number of entries.
+     * @param compiler the function compiling a string; exceptions thrown by it are propagated and nothing is cached.
+     */
+    CompilationCache(final int capacity, final Function<String, T> compiler) {
+        this.capacity = capacity;
+        this.compiler = compiler;
+        cache = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns the compiled value of the passed string, compiling it if not yet cached.
+     *
+     * @param string the string to compile.
+     * @return the compiled value.
+     */
+    T get(final String string) {
+        final T cached = cache.get(string);
+        if (null != cached) {
+            return cached;
+        }
+        final T compiled = compiler.apply(string);
+        if (cache.size() >= capacity) {
+            cache.clear();
+        }
+        cache.putIfAbsent(string, compiled);
+        return compiled;
+    }
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.placeholders;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A pipeline expression like {@code thing:name | fn:substring-before(':') | fn:default(thing:name)} which was parsed
+ * once into its input placeholder and the invocations of its function stages.
+ *
+ * @since 2.0.0
+ */
+@Immutable
+final class CompiledPipeline {
+
+    @Nullable private final String placeholder;
+    @Nullable private final String placeholderPrefix;
+    @Nullable private final String placeholderName;
+    private final List<PipelineFunction.Invocation> stages;
+
+    private CompiledPipeline(@Nullable final String placeholder,
+            @Nullable final String placeholderPrefix,
+            @Nullable final String placeholderName,
+            final List<PipelineFunction.Invocation> stages) {
+
+        this.placeholder = placeholder;
+        this.placeholderPrefix = placeholderPrefix;
+        this.placeholderName = placeholderName;
+        this.stages = Collections.unmodifiableList(new ArrayList<>(stages));
+    }
+
+    /**
+     * Returns a compiled pipeline whose input is resolved from a placeholder.
+     *
+     * @param placeholder the input placeholder, e.g. {@code thing:name}.
+     * @param placeholderPrefix the prefix of the placeholder or {@code null} if it has none.
+     * @param placeholderName the name of the placeholder or {@code null} if it has no prefix.
+     * @param stages the compiled function stages.
+     * @return the compiled pipeline.
+     */
+    static CompiledPipeline startingWithPlaceholder(final String placeholder,
+            @Nullable final String placeholderPrefix,
+            @Nullable final String placeholderName,
+            final List<PipelineFunction.Invocation> stages) {
+
+        return new CompiledPipeline(placeholder, placeholderPrefix, placeholderName, stages);
+    }
+
+    /**
+     * Returns a compiled pipeline whose first stage is a function receiving an unresolved input.
+     *
+     * @param stages the compiled function stages.
+     * @return the compiled pipeline.
+     */
+    static CompiledPipeline startingWithFunction(final List<PipelineFunction.Invocation> stages) {
+        return new CompiledPipeline(null, null, null, stages);
+    }
+
+    /**
+     * @return the input placeholder or {@code null} if the pipeline starts with a function.
+     */
+    @Nullable
+    String getPlaceholder() {
+        return placeholder;
+    }
+
+    /**
+     * @return the prefix of the input placeholder or {@code null} if there is none.
+     */
+    @Nullable
+    String getPlaceholderPrefix() {
+        return placeholderPrefix;
+    }
+
+    /**
+     * @return the name of the input placeholder or {@code null} if there is none.
+     */
+    @Nullable
+    String getPlaceholderName() {
+        return placeholderName;
+    }
+
+    /**
+     * Executes the function stages of this pipeline.
+     *
+     * @param pipelineInput the resolved input placeholder, or an unresolved element if the pipeline starts with a
+     * function.
+     * @param expressionResolver the resolver from which placeholders in function parameters are resolved.
+     * @return the result of the last stage.
+     */
+    PipelineElement execute(final PipelineElement pipelineInput, final ExpressionResolver expressionResolver) {
+        PipelineElement element = pipelineInput;
+        for (final PipelineFunction.Invocation stage : stages) {
+            element = stage.apply(element, expressionResolver);
+        }
+        return element;
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final CompiledPipeline that = (CompiledPipeline) o;
+        return Objects.equals(placeholder, that.placeholder) &&
+                Objects.equals(placeholderPrefix, that.placeholderPrefix) &&
+                Objects.equals(placeholderName, that.placeholderName) &&
+                Objects.equals(stages, that.stages);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(placeholder, placeholderPrefix, placeholderName, stages);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "placeholder=" + placeholder +
+                ", stages=" + stages +
+                "]";
+    }
+
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.placeholders;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.model.base.common.Placeholders;
+
+/**
+ * A template string which was split once into its literal segments and the expressions of its placeholders, so that
+ * substituting the placeholders does not need to match the template against the placeholder pattern again.
+ *
+ * @since 2.0.0
+ */
+@Immutable
+final class CompiledTemplate {
+
+    private final List<String> literals;
+    private final List<String> expressions;
+
+    private CompiledTemplate(final List<String> literals, final List<String> expressions) {
+        this.literals = Collections.unmodifiableList(literals);
+        this.expressions = Collections.unmodifiableList(expressions);
+    }
+
+    /**
+     * Splits the passed template into literal segments and placeholder expressions.
+     *
+     * @param template the template to compile.
+     * @return the compiled template.
+     */
+    static CompiledTemplate compile(final String template) {
+        final Matcher matcher = Placeholders.pattern().matcher(template);
+        final List<String> literals = new ArrayList<>();
+        final List<String> expressions = new ArrayList<>();
+        int literalStart = 0;
+
+        while (matcher.find()) {
+            final String placeholderExpression = Placeholders.groupNames()
+                    .stream()
+                    .map(matcher::group)
+                    .filter(Objects::nonNull)
+                    .findAny()
+                    .orElse("");
+            literals.add(template.substring(literalStart, matcher.start()));
+            expressions.add(placeholderExpression);
+            literalStart = matcher.end();
+        }
+        literals.add(template.substring(literalStart));
+
+        return new CompiledTemplate(literals, expressions);
+    }
+
+    /**
+     * Substitutes the placeholder expressions of this template.
+     *
+     * @param substitutionFunction the substitution function turning the content of each placeholder into a result.
+     * @return the substitution result, or the first deleted or unresolved result of the substitution function.
+     */
+    PipelineElement substitute(final Function<String, PipelineElement> substitutionFunction) {
+        if (expressions.isEmpty()) {
+            return PipelineElement.resolved(literals.get(0));
+        }
+        final StringBuilder resultBuilder = new StringBuilder();
+        for (int i = 0; i < expressions.size(); i++) {
+            final PipelineElement element = substitutionFunction.apply(expressions.get(i));
+            switch (element.getType()) {
+                case DELETED:
+                case UNRESOLVED:
+                    // abort pipeline execution: resolution failed or the string has been deleted.
+                    return element;
+                default:
+                    // proceed to append resolution result and evaluate the next pipeline expression
+            }
+            resultBuilder.append(literals.get(i));
+            element.forEach(resultBuilder::append);
+        }
+        resultBuilder.append(literals.get(expressions.size()));
+        return PipelineElement.resolved(resultBuilder.toString());
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final CompiledTemplate that = (CompiledTemplate) o;
+        return Objects.equals(literals, that.literals) && Objects.equals(expressions, that.expressions);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(literals, expressions);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "literals=" + literals +
+                ", expressions=" + expressions +
+                "]";
+    }
+
+}
@@ -13,11 +13,7 @@
 package org.eclipse.ditto.model.placeholders;
 
 
-import java.util.Objects;
 import java.util.function.Function;
-import java.util.regex.Matcher;
-
-import org.eclipse.ditto.model.base.common.Placeholders;
 
 /**
  * The ExpressionResolver is able to:
@@ -93,38 +89,7 @@ public interface ExpressionResolver {
             final String input,
             final Function<String, PipelineElement> substitutionFunction) {
 
-        final Matcher matcher = Placeholders.pattern().matcher(input);
-        final StringBuffer resultBuilder = new StringBuffer();
-
-        while (matcher.find()) {
-            final String placeholderExpression = Placeholders.groupNames()
-                    .stream()
-                    .map(matcher::group)
-                    .filter(Objects::nonNull)
-                    .findAny()
-                    .orElse("");
-            final PipelineElement element = substitutionFunction.apply(placeholderExpression);
-            switch (element.getType()) {
-                case DELETED:
-                case UNRESOLVED:
-                    // abort pipeline execution: resolution failed or the string has been deleted.
-                    return element;
-                default:
-                    // proceed to append resolution result and evaluate the next pipeline expression
-            }
-            // append resolved placeholder
-            element.map(resolvedValue -> {
-                // increment counter inside matcher for "matcher.appendTail" later
-                matcher.appendReplacement(resultBuilder, "");
-                // actually append resolved value - do not attempt to interpret as regex
-                resultBuilder.append(resolvedValue);
-                return resolvedValue;
-            });
-        }
-
-        matcher.appendTail(resultBuilder);
-        return PipelineElement.resolved(resultBuilder.toString());
-
+        return CompiledTemplate.compile(input).substitute(substitutionFunction);
     }
 
 }
@@ -40,4 +40,17 @@ interface FunctionExpression extends Expression {
      */
     PipelineElement resolve(String expression, PipelineElement resolvedInputValue,
             ExpressionResolver expressionResolver);
+
+    /**
+     * Parses the passed stage expression once into an invocation of the referenced function which may be applied to
+     * arbitrary many input values.
+     *
+     * @param expression the expression string of this stage including prefix, e.g.: {@code fn:substring-before(':')}.
+     * @return the invocation of the referenced function.
+     * @throws PlaceholderFunctionUnknownException if the expression references an unknown function.
+     * @throws PlaceholderFunctionSignatureInvalidException if the function parameters do not match the function's
+     * signature.
+     * @since 2.0.0
+     */
+    PipelineFunction.Invocation compile(String expression);
 }
@@ -14,7 +14,6 @@ package org.eclipse.ditto.model.placeholders;
 
 import static org.eclipse.ditto.model.placeholders.Expression.SEPARATOR;
 
-import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -61,6 +60,18 @@ final class ImmutableExpressionResolver implements ExpressionResolver {
     private static final Function<String, DittoRuntimeException> UNRESOLVED_INPUT_HANDLER = unresolvedInput ->
             UnresolvedPlaceholderException.newBuilder(unresolvedInput).build();
 
+    private static final int COMPILATION_CACHE_CAPACITY = 4096;
+
+    /**
+     * Templates and pipeline expressions do not depend on the resolved placeholder sources, thus their compiled forms
+     * are shared between all resolvers which are created for each resolved signal.
+     */
+    private static final CompilationCache<CompiledTemplate> COMPILED_TEMPLATES =
+            new CompilationCache<>(COMPILATION_CACHE_CAPACITY, CompiledTemplate::compile);
+
+    private static final CompilationCache<CompiledPipeline> COMPILED_PIPELINES =
+            new CompilationCache<>(COMPILATION_CACHE_CAPACITY, ImmutableExpressionResolver::compilePipeline);
+
     @Nullable private final String placeholderReplacementInValidation;
 
     private final Map<String, PlaceholderResolver<?>> placeholderResolvers;
@@ -77,37 +88,76 @@ final class ImmutableExpressionResolver implements ExpressionResolver {
         );
     }
 
+    @Override
+    public PipelineElement resolve(final String expressionTemplate) {
+        return COMPILED_TEMPLATES.get(expressionTemplate).substitute(this::resolveAsPipelineElement);
+    }
+
     @Override
     public PipelineElement resolveAsPipelineElement(final String placeholderExpression) {
+        final CompiledPipeline compiledPipeline;
+        try {
+            compiledPipeline = COMPILED_PIPELINES.get(placeholderExpression);
+        } catch (final DittoRuntimeException e) {
+            // evaluate invalid expressions stage by stage in order to fail with the error of the first failing stage
+            return resolveUncompiled(placeholderExpression);
+        }
+        final String placeholder = compiledPipeline.getPlaceholder();
+        if (null == placeholder) {
+            return compiledPipeline.execute(PipelineElement.unresolved(), this);
+        } else {
+            final PipelineElement pipelineInput = resolveSinglePlaceholder(placeholder,
+                    compiledPipeline.getPlaceholderPrefix(), compiledPipeline.getPlaceholderName());
+            return compiledPipeline.execute(pipelineInput, this);
+        }
+    }
+
+    private PipelineElement resolveUncompiled(final String placeholderExpression) {
         final List<String> pipelineStagesExpressions = getPipelineStagesExpressions(placeholderExpression);
         final String firstPlaceholderInPipe = getFirstExpressionInPipe(pipelineStagesExpressions);
         if (isFirstPlaceholderFunction(firstPlaceholderInPipe)) {
             return getPipelineFromExpressions(pipelineStagesExpressions, 0).execute(PipelineElement.unresolved(), this);
         } else {
-            final PipelineElement pipelineInput = resolveSinglePlaceholder(firstPlaceholderInPipe);
+            final PipelineElement pipelineInput = resolveSinglePlaceholder(firstPlaceholderInPipe,
+                    getPlaceholderPrefix(firstPlaceholderInPipe).orElse(null),
+                    getPlaceholderName(firstPlaceholderInPipe).orElse(null));
             return getPipelineFromExpressions(pipelineStagesExpressions, 1).execute(pipelineInput, this);
         }
     }
 
-    private Optional<Map.Entry<PlaceholderResolver<?>, String>> findPlaceholderResolver(
-            final String placeholderInPipeline) {
-        return getPlaceholderPrefix(placeholderInPipeline)
-                .flatMap(prefix -> {
-                    final String name = placeholderInPipeline.substring(prefix.length() + 1);
-                    return Optional.ofNullable(placeholderResolvers.get(prefix))
-                            .filter(resolver -> resolver.supports(name))
-                            .map(resolver -> new AbstractMap.SimpleImmutableEntry<>(resolver, name));
-                });
+    private static CompiledPipeline compilePipeline(final String placeholderExpression) {
+        final List<String> pipelineStagesExpressions = getPipelineStagesExpressions(placeholderExpression);
+        final String firstPlaceholderInPipe = getFirstExpressionInPipe(pipelineStagesExpressions);
+        if (isFirstPlaceholderFunction(firstPlaceholderInPipe)) {
+            return CompiledPipeline.startingWithFunction(compileStages(pipelineStagesExpressions, 0));
+        } else {
+            return CompiledPipeline.startingWithPlaceholder(firstPlaceholderInPipe,
+                    getPlaceholderPrefix(firstPlaceholderInPipe).orElse(null),
+                    getPlaceholderName(firstPlaceholderInPipe).orElse(null),
+                    compileStages(pipelineStagesExpressions, 1));
+        }
+    }
+
+    private static List<PipelineFunction.Invocation> compileStages(final List<String> pipelineStagesExpressions,
+            final int skip) {
+
+        return pipelineStagesExpressions.stream()
+                .skip(skip) // ignore pre-processed expressions
+                .map(ImmutableFunctionExpression.INSTANCE::compile)
+                .collect(Collectors.toList());
     }
 
-    private PipelineElement resolveSinglePlaceholder(final String placeholderInPipeline) {
-        final Map.Entry<PlaceholderResolver<?>, String> resolverPair = findPlaceholderResolver(placeholderInPipeline)
-                .orElseThrow(() -> UnresolvedPlaceholderException.newBuilder(placeholderInPipeline).build());
+    private PipelineElement resolveSinglePlaceholder(final String placeholderInPipeline,
+            @Nullable final String prefix, @Nullable final String name) {
+
+        @Nullable final PlaceholderResolver<?> resolver = null != prefix ? placeholderResolvers.get(prefix) : null;
+        if (null == resolver || !resolver.supports(name)) {
+            throw UnresolvedPlaceholderException.newBuilder(placeholderInPipeline).build();
+        }
 
         if (placeholderReplacementInValidation == null) {
             // normal mode
-            return resolverPair.getKey()
-                    .resolve(resolverPair.getValue())
+            return resolver.resolve(name)
                     .map(PipelineElement::resolved)
                     .orElseGet(PipelineElement::unresolved);
         } else {
@@ -116,7 +166,7 @@ final class ImmutableExpressionResolver implements ExpressionResolver {
         }
     }
 
-    private List<String> getPipelineStagesExpressions(final String template) {
+    private static List<String> getPipelineStagesExpressions(final String template) {
 
         if (!PIPE_PATTERN.matcher(template).matches()) {
             throw UNRESOLVED_INPUT_HANDLER.apply(template);
@@ -137,21 +187,21 @@ final class ImmutableExpressionResolver implements ExpressionResolver {
     }
 
     // the first expression can be a placeholder or a function expression
-    private String getFirstExpressionInPipe(final List<String> pipelineStagesExpressions) {
+    private static String getFirstExpressionInPipe(final List<String> pipelineStagesExpressions) {
         if (pipelineStagesExpressions.isEmpty()) {
             return "";
         }
         return pipelineStagesExpressions.get(0);
     }
 
-    private Pipeline getPipelineFromExpressions(final List<String> pipelineStagesExpressions, final int skip) {
+    private static Pipeline getPipelineFromExpressions(final List<String> pipelineStagesExpressions, final int skip) {
         final List<String> pipelineStages = pipelineStagesExpressions.stream()
                 .skip(skip) // ignore pre-processed expressions
                 .collect(Collectors.toList());
         return new ImmutablePipeline(ImmutableFunctionExpression.INSTANCE, pipelineStages);
     }
 
-    private Optional<String> getPlaceholderPrefix(final String placeholder) {
+    private static Optional<String> getPlaceholderPrefix(final String placeholder) {
         final int separatorIndex = placeholder.indexOf(SEPARATOR);
         if (separatorIndex == -1) {
             return Optional.empty();
@@ -159,6 +209,10 @@ final class ImmutableExpressionResolver implements ExpressionResolver {
         return Optional.of(placeholder.substring(0, separatorIndex).trim());
     }
 
+    private static Optional<String> getPlaceholderName(final String placeholder) {
+        return getPlaceholderPrefix(placeholder).map(prefix -> placeholder.substring(prefix.length() + 1));
+    }
+
     @Override
     public boolean equals(@Nullable final Object o) {
         if (this == o) {
@@ -40,6 +40,9 @@ final class ImmutableFunctionExpression implements FunctionExpression {
             new PipelineFunctionDelete()           // fn:delete()
     ));
 
+    private static final PipelineFunction.Invocation UNRESOLVED_INVOCATION =
+            (value, expressionResolver) -> PipelineElement.unresolved();
+
     @Override
     public String getPrefix() {
         return PREFIX;
@@ -67,18 +70,21 @@ final class ImmutableFunctionExpression implements FunctionExpression {
     public PipelineElement resolve(final String expression, final PipelineElement resolvedInputValue,
             final ExpressionResolver expressionResolver) {
 
+        return compile(expression).apply(resolvedInputValue, expressionResolver);
+    }
+
+    @Override
+    public PipelineFunction.Invocation compile(final String expression) {
+
         if (!supports(expression.replaceFirst(getPrefix() + ":", ""))) {
             throw PlaceholderFunctionUnknownException.newBuilder(expression).build();
         }
 
         return SUPPORTED.stream()
                 .filter(pf -> expression.startsWith(getPrefix() + ":" + pf.getName() + "("))
-                .map(pf -> pf.apply(resolvedInputValue,
-                        expression.replaceFirst(getPrefix() + ":" + pf.getName(), "").trim(),
-                        expressionResolver)
-                )
+                .map(pf -> pf.compile(expression.replaceFirst(getPrefix() + ":" + pf.getName(), "").trim()))
                 .findFirst()
-                .orElse(PipelineElement.unresolved());
+                .orElse(UNRESOLVED_INVOCATION);
     }
 
 }
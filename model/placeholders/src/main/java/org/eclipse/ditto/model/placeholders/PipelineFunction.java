@@ -50,8 +50,43 @@ interface PipelineFunction {
      * function.
      * @return processed output value, or an empty optional otherwise.
      */
-    PipelineElement apply(PipelineElement value, String paramsIncludingParentheses,
-            ExpressionResolver expressionResolver);
+    default PipelineElement apply(final PipelineElement value, final String paramsIncludingParentheses,
+            final ExpressionResolver expressionResolver) {
+
+        return compile(paramsIncludingParentheses).apply(value, expressionResolver);
+    }
+
+    /**
+     * Parses and validates the passed function parameters once and returns an invocation of this function which may
+     * be applied to arbitrary many values without parsing the parameters again.
+     *
+     * @param paramsIncludingParentheses the passed in function parameters including parentheses, e.g.: {@code
+     * ('fallback')}
+     * @return the invocation of this function with the parsed parameters.
+     * @throws PlaceholderFunctionSignatureInvalidException if the parameters do not match the function's signature.
+     * @since 2.0.0
+     */
+    Invocation compile(String paramsIncludingParentheses);
+
+    /**
+     * An invocation of a pipeline function whose parameters were already parsed.
+     *
+     * @since 2.0.0
+     */
+    @FunctionalInterface
+    interface Invocation {
+
+        /**
+         * Executes the invocation by passing in a value and returning a processed result.
+         *
+         * @param value the input value to process.
+         * @param expressionResolver the expressionResolver to use in order to resolve placeholders occurring in the
+         * function parameters.
+         * @return processed output value.
+         */
+        PipelineElement apply(PipelineElement value, ExpressionResolver expressionResolver);
+
+    }
 
     /**
      * Defines a function's signature.
@@ -36,12 +36,11 @@ final class PipelineFunctionDelete implements PipelineFunction {
     }
 
     @Override
-    public PipelineElement apply(final PipelineElement value, final String paramsIncludingParentheses,
-            final ExpressionResolver expressionResolver) {
+    public Invocation compile(final String paramsIncludingParentheses) {
 
         // check if signature matches (empty params!)
         validateOrThrow(paramsIncludingParentheses);
-        return PipelineElement.deleted();
+        return (value, expressionResolver) -> PipelineElement.deleted();
     }
 
     private void validateOrThrow(final String paramsIncludingParentheses) {
@@ -43,10 +43,17 @@ final class PipelineFunctionFilter implements PipelineFunction {
     }
 
     @Override
-    public PipelineElement apply(final PipelineElement value, final String paramsIncludingParentheses,
-            final ExpressionResolver expressionResolver) {
+    public Invocation compile(final String paramsIncludingParentheses) {
+
+        final List<PipelineFunctionParameterResolverFactory.CompiledParameter> compiledParameters =
+                PipelineFunctionParameterResolverFactory.forTripleStringOrPlaceholderParameter()
+                        .compile(paramsIncludingParentheses, this);
 
-        final Map<String, String> parameters = parseAndResolve(paramsIncludingParentheses, expressionResolver);
+        return (value, expressionResolver) -> apply(value,
+                resolve(compiledParameters, paramsIncludingParentheses, expressionResolver));
+    }
+
+    private static PipelineElement apply(final PipelineElement value, final Map<String, String> parameters) {
 
         return value.onResolved(valueThatShouldBeFilteredConditionally -> {
 
@@ -68,16 +75,14 @@ final class PipelineFunctionFilter implements PipelineFunction {
         });
     }
 
-    private Map<String, String> parseAndResolve(final String paramsIncludingParentheses,
+    private Map<String, String> resolve(
+            final List<PipelineFunctionParameterResolverFactory.CompiledParameter> compiledParameters,
+            final String paramsIncludingParentheses,
             final ExpressionResolver expressionResolver) {
 
-        final List<PipelineElement> parameterElements =
-                PipelineFunctionParameterResolverFactory.forTripleStringOrPlaceholderParameter()
-                        .apply(paramsIncludingParentheses, expressionResolver, this);
-
-        final PipelineElement filterValueParamElement = parameterElements.get(0);
-        final PipelineElement rqlFunctionParamElement = parameterElements.get(1);
-        final PipelineElement comparedValueParamElement = parameterElements.get(2);
+        final PipelineElement filterValueParamElement = compiledParameters.get(0).resolve(expressionResolver);
+        final PipelineElement rqlFunctionParamElement = compiledParameters.get(1).resolve(expressionResolver);
+        final PipelineElement comparedValueParamElement = compiledParameters.get(2).resolve(expressionResolver);
 
         final String filterValueParam = filterValueParamElement.toOptional().orElse("");
         final String rqlFunctionParam = rqlFunctionParamElement.toOptional().orElseThrow(() ->
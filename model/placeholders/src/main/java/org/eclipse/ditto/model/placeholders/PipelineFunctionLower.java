@@ -36,12 +36,11 @@ final class PipelineFunctionLower implements PipelineFunction {
     }
 
     @Override
-    public PipelineElement apply(final PipelineElement element, final String paramsIncludingParentheses,
-            final ExpressionResolver expressionResolver) {
+    public Invocation compile(final String paramsIncludingParentheses) {
 
         // check if signature matches (empty params!)
         validateOrThrow(paramsIncludingParentheses);
-        return element.map(String::toLowerCase);
+        return (value, expressionResolver) -> value.map(String::toLowerCase);
     }
 
     private void validateOrThrow(final String paramsIncludingParentheses) {
@@ -14,12 +14,14 @@ package org.eclipse.ditto.model.placeholders;
 
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
 /**
@@ -171,24 +173,23 @@ final class PipelineFunctionParameterResolverFactory {
             return PLACEHOLDER_GROUP_NAME_PREFIX + parameterIndex;
         }
 
-        private static Optional<PipelineElement> apply(final Matcher matcher, final int parameterIndex,
-                final ExpressionResolver expressionResolver) {
+        private static Optional<CompiledParameter> compile(final Matcher matcher, final int parameterIndex) {
 
             final String singleQuotedStringConstant = matcher.group(buildSingleQuotedConstantGroupName(parameterIndex));
 
             if (singleQuotedStringConstant != null) {
-                return Optional.of(PipelineElement.resolved(singleQuotedStringConstant));
+                return Optional.of(CompiledParameter.constant(singleQuotedStringConstant));
             } else {
                 final String doubleQuotedStringConstant =
                         matcher.group(buildDoubleQuotedConstantGroupName(parameterIndex));
                 if (doubleQuotedStringConstant != null) {
-                    return Optional.of(PipelineElement.resolved(doubleQuotedStringConstant));
+                    return Optional.of(CompiledParameter.constant(doubleQuotedStringConstant));
                 }
             }
 
             final String placeholder = matcher.group(buildPlaceholderGroupName(parameterIndex));
             if (placeholder != null) {
-                return Optional.of(expressionResolver.resolveAsPipelineElement(placeholder));
+                return Optional.of(CompiledParameter.placeholder(placeholder));
             }
 
             return Optional.empty();
@@ -198,20 +199,39 @@ final class PipelineFunctionParameterResolverFactory {
                 final ExpressionResolver resolver,
                 final PipelineFunction pipelineFunction) {
 
+            final List<CompiledParameter> compiledParameters = compile(paramsIncludingParentheses, pipelineFunction);
+            final List<PipelineElement> parameters = new ArrayList<>(compiledParameters.size());
+            for (final CompiledParameter compiledParameter : compiledParameters) {
+                parameters.add(compiledParameter.resolve(resolver));
+            }
+            return parameters;
+        }
+
+        /**
+         * Parses the passed parameters without resolving placeholders contained in them.
+         *
+         * @param paramsIncludingParentheses the parameters including parentheses.
+         * @param pipelineFunction the function the parameters belong to.
+         * @return the parsed parameters in the order of the function's signature.
+         * @throws PlaceholderFunctionSignatureInvalidException if the parameters do not match the signature.
+         */
+        public List<CompiledParameter> compile(final String paramsIncludingParentheses,
+                final PipelineFunction pipelineFunction) {
+
             final Matcher matcher = this.pattern.matcher(paramsIncludingParentheses);
 
             if (matcher.matches()) {
-                final ArrayList<PipelineElement> parameters = new ArrayList<>(numberOfParameters);
+                final List<CompiledParameter> parameters = new ArrayList<>(numberOfParameters);
                 for (int parameterIndex = 0; parameterIndex < numberOfParameters; parameterIndex++) {
-                    final PipelineElement resolvedParameter =
-                            apply(matcher, parameterIndex, resolver).orElseThrow(() -> {
+                    final CompiledParameter compiledParameter =
+                            compile(matcher, parameterIndex).orElseThrow(() -> {
                                 throw PlaceholderFunctionSignatureInvalidException.newBuilder(
                                         paramsIncludingParentheses,
                                         pipelineFunction).build();
                             });
-                    parameters.add(parameterIndex, resolvedParameter);
+                    parameters.add(parameterIndex, compiledParameter);
                 }
-                return parameters;
+                return Collections.unmodifiableList(parameters);
             }
 
             throw PlaceholderFunctionSignatureInvalidException.newBuilder(paramsIncludingParentheses, pipelineFunction)
@@ -231,7 +251,58 @@ final class PipelineFunctionParameterResolverFactory {
         public PipelineElement apply(final String paramsIncludingParentheses,
                 final ExpressionResolver resolver,
                 final PipelineFunction pipelineFunction) {
-            return parameterResolver.apply(paramsIncludingParentheses, resolver, pipelineFunction).get(0);
+            return compile(paramsIncludingParentheses, pipelineFunction).resolve(resolver);
+        }
+
+        public CompiledParameter compile(final String paramsIncludingParentheses,
+                final PipelineFunction pipelineFunction) {
+            return parameterResolver.compile(paramsIncludingParentheses, pipelineFunction).get(0);
+        }
+
+    }
+
+    /**
+     * A parsed function parameter which is either a string constant or a placeholder to be resolved on each
+     * invocation of the function.
+     */
+    @Immutable
+    static final class CompiledParameter {
+
+        @Nullable private final PipelineElement constant;
+        @Nullable private final String placeholder;
+
+        private CompiledParameter(@Nullable final PipelineElement constant, @Nullable final String placeholder) {
+            this.constant = constant;
+            this.placeholder = placeholder;
+        }
+
+        private static CompiledParameter constant(final String constant) {
+            return new CompiledParameter(PipelineElement.resolved(constant), null);
+        }
+
+        private static CompiledParameter placeholder(final String placeholder) {
+            return new CompiledParameter(null, placeholder);
+        }
+
+        /**
+         * Resolves this parameter.
+         *
+         * @param expressionResolver the resolver to resolve a placeholder parameter with.
+         * @return the constant or the resolved placeholder.
+         */
+        PipelineElement resolve(final ExpressionResolver expressionResolver) {
+            if (null != constant) {
+                return constant;
+            }
+            return expressionResolver.resolveAsPipelineElement(placeholder);
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [" +
+                    "constant=" + constant +
+                    ", placeholder=" + placeholder +
+                    "]";
         }
 
     }
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.placeholders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.mutabilitydetector.unittesting.AllowedReason;
+import org.mutabilitydetector.unittesting.MutabilityAssert;
+import org.mutabilitydetector.unittesting.MutabilityMatchers;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Tests {@link CompiledTemplate}.
+ */
+public final class CompiledTemplateTest {
+
+    @Test
+    public void assertImmutability() {
+        MutabilityAssert.assertInstancesOf(CompiledTemplate.class, MutabilityMatchers.areImmutable(),
+                AllowedReason.assumingFields("literals", "expressions")
+                        .areSafelyCopiedUnmodifiableCollectionsWithImmutableElements());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(CompiledTemplate.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void substitutesExpressionsBetweenLiterals() {
+        final List<String> expressions = new ArrayList<>();
+        final CompiledTemplate underTest =
+                CompiledTemplate.compile("a/{{ thing:id | fn:upper()}}/b/{{header:x}}${legacy}/c");
+
+        final PipelineElement result = underTest.substitute(expression -> {
+            expressions.add(expression);
+            return PipelineElement.resolved("<" + expressions.size() + ">");
+        });
+
+        assertThat(result).contains("a/<1>/b/<2><3>/c");
+        assertThat(expressions).containsExactly("thing:id | fn:upper()", "header:x", "legacy");
+    }
+
+    @Test
+    public void keepsTemplateWithoutPlaceholders() {
+        final CompiledTemplate underTest = CompiledTemplate.compile("no $placeholder {here}");
+
+        assertThat(underTest.substitute(expression -> PipelineElement.resolved("x")))
+                .contains("no $placeholder {here}");
+    }
+
+    @Test
+    public void abortsOnUnresolvedOrDeletedExpression() {
+        final CompiledTemplate underTest = CompiledTemplate.compile("{{ a:b }}-{{ c:d }}");
+
+        assertThat(underTest.substitute(expression -> PipelineElement.unresolved()))
+                .isEqualTo(PipelineElement.unresolved());
+        assertThat(underTest.substitute(expression -> expression.startsWith("c")
+                ? PipelineElement.deleted()
+                : PipelineElement.resolved(expression)))
+                .isEqualTo(PipelineElement.deleted());
+    }
+
+}
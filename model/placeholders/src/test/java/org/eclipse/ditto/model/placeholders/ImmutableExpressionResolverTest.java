@@ -121,6 +121,32 @@ public class ImmutableExpressionResolverTest {
                 .isThrownBy(() -> underTest.resolve(UNKNOWN_TOPIC_EXPRESSION));
     }
 
+    @Test
+    public void compiledTemplatesAreResolvedAgainstEachResolversOwnSources() {
+        final String template = "{{ header:one | fn:default(header:two) }}/{{ thing:name | fn:upper() }}";
+        final ImmutableExpressionResolver otherResolver = new ImmutableExpressionResolver(Arrays.asList(
+                new ImmutablePlaceholderResolver<>(PlaceholderFactory.newHeadersPlaceholder(),
+                        DittoHeaders.newBuilder().putHeader("two", "zwei").build()),
+                new ImmutablePlaceholderResolver<>(PlaceholderFactory.newThingPlaceholder(),
+                        ThingId.of(THING_NAMESPACE, "other"))));
+
+        assertThat(underTest.resolve(template)).contains("1/" + THING_NAME.toUpperCase());
+        assertThat(otherResolver.resolve(template)).contains("zwei/OTHER");
+        assertThat(underTest.resolve(template)).contains("1/" + THING_NAME.toUpperCase());
+    }
+
+    @Test
+    public void invalidExpressionsFailOnEveryResolution() {
+        final String template = "{{ thing:unknown | fn:unknown() }}";
+
+        assertThatExceptionOfType(UnresolvedPlaceholderException.class)
+                .isThrownBy(() -> underTest.resolve(template));
+        assertThatExceptionOfType(UnresolvedPlaceholderException.class)
+                .isThrownBy(() -> underTest.resolve(template));
+        assertThatExceptionOfType(PlaceholderFunctionUnknownException.class)
+                .isThrownBy(() -> underTest.resolve("{{ thing:id | fn:unknown() }}"));
+    }
+
     @Test
     public void testUnsuccessfulPlaceholderResolution() {
         assertThat(underTest.resolve(UNKNOWN_HEADER_EXPRESSION)).isEmpty();
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.placeholders.benchmark;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.placeholders.ExpressionResolver;
+import org.eclipse.ditto.model.placeholders.PlaceholderFactory;
+import org.eclipse.ditto.model.placeholders.PlaceholderFilter;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.protocoladapter.ProtocolFactory;
+import org.eclipse.ditto.protocoladapter.TopicPath;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH Benchmark resolving the placeholders of a typical connection target for one outbound message: the target
+ * address and 5 header mappings, each resolved by an expression resolver created for the message.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+public class ExpressionResolverBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 5;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final String TARGET_ADDRESS =
+            "telemetry/{{ thing:namespace }}/{{ thing:name | fn:lower() }}/{{ topic:channel }}/{{ topic:action }}";
+
+    private static final List<String> HEADER_MAPPINGS = Arrays.asList(
+            "{{ header:correlation-id }}",
+            "{{ header:content-type | fn:default('application/json') }}",
+            "{{ thing:id | fn:substring-before(':') }}",
+            "{{ header:device-id | fn:default(thing:name) | fn:upper() }}",
+            "ditto/{{ topic:criterion }}/{{ header:reply-to | fn:filter(header:response-required,'eq','true') " +
+                    "| fn:default('none') }}"
+    );
+
+    private final ThingId thingId = ThingId.of("org.eclipse.ditto", "Thing-1");
+    private final TopicPath topicPath =
+            ProtocolFactory.newTopicPath("org.eclipse.ditto/Thing-1/things/twin/commands/modify");
+    private final DittoHeaders dittoHeaders = DittoHeaders.newBuilder()
+            .correlationId("5b9b8c1e-0b1a-4a53-9b2e-3f5d0b8b7c3a")
+            .contentType("application/json")
+            .responseRequired(true)
+            .putHeader("reply-to", "replies")
+            .build();
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Map<String, String> resolveTargetAddressAndHeaderMappings() {
+        final ExpressionResolver resolver = PlaceholderFactory.newExpressionResolver(
+                PlaceholderFactory.newPlaceholderResolver(PlaceholderFactory.newHeadersPlaceholder(), dittoHeaders),
+                PlaceholderFactory.newPlaceholderResolver(PlaceholderFactory.newThingPlaceholder(), thingId),
+                PlaceholderFactory.newPlaceholderResolver(PlaceholderFactory.newTopicPathPlaceholder(), topicPath));
+
+        final Map<String, String> resolved = new HashMap<>();
+        resolved.put("address", PlaceholderFilter.apply(TARGET_ADDRESS, resolver));
+        for (final String headerMapping : HEADER_MAPPINGS) {
+            PlaceholderFilter.applyOrElseDelete(headerMapping, resolver)
+                    .ifPresent(value -> resolved.put(headerMapping, value));
+        }
+        return resolved;
+    }
+
+}
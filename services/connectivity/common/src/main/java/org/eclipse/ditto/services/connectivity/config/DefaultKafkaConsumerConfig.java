@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.config;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.services.utils.config.DittoConfigError;
+import org.eclipse.ditto.services.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * This class is the default implementation of {@link KafkaConsumerConfig}.
+ *
+ * @since 2.0.0
+ */
+@Immutable
+final class DefaultKafkaConsumerConfig implements KafkaConsumerConfig {
+
+    private static final String CONFIG_PATH = "consumer";
+    private static final String INTERNAL_CONFIG_PATH = "internal";
+
+    private final Config internalConfig;
+    private final int maxInFlight;
+    private final int commitMaxBatchSize;
+    private final Duration commitInterval;
+    private final Duration pollTimeout;
+    private final Duration restartMinBackoff;
+    private final Duration restartMaxBackoff;
+
+    private DefaultKafkaConsumerConfig(final ScopedConfig config) {
+        internalConfig = config.hasPath(INTERNAL_CONFIG_PATH)
+                ? config.getConfig(INTERNAL_CONFIG_PATH)
+                : ConfigFactory.empty();
+        maxInFlight = config.getPositiveIntOrThrow(ConfigValue.MAX_IN_FLIGHT);
+        commitMaxBatchSize = config.getPositiveIntOrThrow(ConfigValue.COMMIT_MAX_BATCH_SIZE);
+        commitInterval = config.getDuration(ConfigValue.COMMIT_INTERVAL.getConfigPath());
+        if (commitInterval.isNegative() || commitInterval.isZero()) {
+            throw new DittoConfigError("Commit interval must be greater than 0");
+        }
+        pollTimeout = config.getNonNegativeDurationOrThrow(ConfigValue.POLL_TIMEOUT);
+        restartMinBackoff = config.getNonNegativeDurationOrThrow(ConfigValue.RESTART_MIN_BACKOFF);
+        restartMaxBackoff = config.getNonNegativeDurationOrThrow(ConfigValue.RESTART_MAX_BACKOFF);
+    }
+
+    /**
+     * Returns an instance of {@code DefaultKafkaConsumerConfig} based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the Kafka consumer config at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    static DefaultKafkaConsumerConfig of(final Config config) {
+        return new DefaultKafkaConsumerConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, ConfigValue.values()));
+    }
+
+    @Override
+    public Config getInternalConfig() {
+        return internalConfig;
+    }
+
+    @Override
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    @Override
+    public int getCommitMaxBatchSize() {
+        return commitMaxBatchSize;
+    }
+
+    @Override
+    public Duration getCommitInterval() {
+        return commitInterval;
+    }
+
+    @Override
+    public Duration getPollTimeout() {
+        return pollTimeout;
+    }
+
+    @Override
+    public Duration getRestartMinBackoff() {
+        return restartMinBackoff;
+    }
+
+    @Override
+    public Duration getRestartMaxBackoff() {
+        return restartMaxBackoff;
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultKafkaConsumerConfig that = (DefaultKafkaConsumerConfig) o;
+        return maxInFlight == that.maxInFlight &&
+                commitMaxBatchSize == that.commitMaxBatchSize &&
+                Objects.equals(internalConfig, that.internalConfig) &&
+                Objects.equals(commitInterval, that.commitInterval) &&
+                Objects.equals(pollTimeout, that.pollTimeout) &&
+                Objects.equals(restartMinBackoff, that.restartMinBackoff) &&
+                Objects.equals(restartMaxBackoff, that.restartMaxBackoff);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(internalConfig, maxInFlight, commitMaxBatchSize, commitInterval, pollTimeout,
+                restartMinBackoff, restartMaxBackoff);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "internalConfig=" + internalConfig +
+                ", maxInFlight=" + maxInFlight +
+                ", commitMaxBatchSize=" + commitMaxBatchSize +
+                ", commitInterval=" + commitInterval +
+                ", pollTimeout=" + pollTimeout +
+                ", restartMinBackoff=" + restartMinBackoff +
+                ", restartMaxBackoff=" + restartMaxBackoff +
+                "]";
+    }
+
+}
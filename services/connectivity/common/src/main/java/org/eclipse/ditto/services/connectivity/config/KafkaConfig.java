@@ -29,4 +29,12 @@ public interface KafkaConfig {
      */
     Config getInternalProducerConfig();
 
+    /**
+     * Returns the configuration of Kafka consumers.
+     *
+     * @return the consumer configuration.
+     * @since 2.0.0
+     */
+    KafkaConsumerConfig getConsumerConfig();
+
 }
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.config;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+import com.typesafe.config.Config;
+
+/**
+ * Provides configuration settings of Kafka consumers.
+ *
+ * @since 2.0.0
+ */
+@Immutable
+public interface KafkaConsumerConfig {
+
+    /**
+     * Returns the Config for consumers needed by the Kafka client.
+     *
+     * @return internal consumer configuration needed by the Kafka client.
+     */
+    Config getInternalConfig();
+
+    /**
+     * Returns the maximum number of consumed records which may await their acknowledgement at the same time.
+     * No further records are polled from Kafka while this limit is reached.
+     *
+     * @return the maximum number of unacknowledged records per consumer.
+     */
+    int getMaxInFlight();
+
+    /**
+     * Returns the maximum number of acknowledged records whose offsets are committed together.
+     *
+     * @return the maximum commit batch size.
+     */
+    int getCommitMaxBatchSize();
+
+    /**
+     * Returns the maximum duration offsets of acknowledged records are held back before they are committed.
+     *
+     * @return the commit interval.
+     */
+    Duration getCommitInterval();
+
+    /**
+     * Returns the maximum duration a single poll waits for records of the Kafka broker.
+     *
+     * @return the poll timeout.
+     */
+    Duration getPollTimeout();
+
+    /**
+     * Returns the minimum back-off before a failed consumer is restarted.
+     *
+     * @return the minimum restart back-off.
+     */
+    Duration getRestartMinBackoff();
+
+    /**
+     * Returns the maximum back-off before a failed consumer is restarted.
+     *
+     * @return the maximum restart back-off.
+     */
+    Duration getRestartMaxBackoff();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code KafkaConsumerConfig}.
+     */
+    enum ConfigValue implements KnownConfigValue {
+
+        /**
+         * The maximum number of records awaiting their acknowledgement per consumer.
+         */
+        MAX_IN_FLIGHT("max-in-flight", 64),
+
+        /**
+         * The maximum number of offsets committed at once.
+         */
+        COMMIT_MAX_BATCH_SIZE("commit-max-batch-size", 100),
+
+        /**
+         * The maximum duration offsets are held back before they are committed.
+         */
+        COMMIT_INTERVAL("commit-interval", Duration.ofSeconds(1)),
+
+        /**
+         * The maximum duration a single poll waits for records.
+         */
+        POLL_TIMEOUT("poll-timeout", Duration.ofMillis(500)),
+
+        /**
+         * The minimum back-off before a failed consumer is restarted.
+         */
+        RESTART_MIN_BACKOFF("restart.min-backoff", Duration.ofSeconds(1)),
+
+        /**
+         * The maximum back-off before a failed consumer is restarted.
+         */
+        RESTART_MAX_BACKOFF("restart.max-backoff", Duration.ofSeconds(30));
+
+        private final String path;
+        private final Object defaultValue;
+
+        ConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
@@ -49,6 +49,15 @@ public interface JavaScriptConfig {
      */
     int getMaxScriptStackDepth();
 
+    /**
+     * Returns the maximum number of Rhino contexts kept for reuse by the mapping script executions.
+     * A value of 0 creates a new context for each execution.
+     *
+     * @return the context pool size.
+     * @since 2.0.0
+     */
+    int getContextPoolSize();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code JavaScriptConfig}.
@@ -68,7 +77,14 @@ public interface JavaScriptConfig {
         /**
          * The maximum call stack depth in the mapping script.
          */
-        MAX_SCRIPT_STACK_DEPTH("maxScriptStackDepth", 10);
+        MAX_SCRIPT_STACK_DEPTH("maxScriptStackDepth", 10),
+
+        /**
+         * The maximum number of Rhino contexts kept for reuse.
+         *
+         * @since 2.0.0
+         */
+        CONTEXT_POOL_SIZE("contextPoolSize", 16);
 
         private final String path;
         private final Object defaultValue;
@@ -13,13 +13,14 @@
 package org.eclipse.ditto.services.connectivity.config.mapping;
 
 import java.util.Objects;
+import java.util.Optional;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.services.connectivity.config.javascript.DefaultJavaScriptConfig;
 import org.eclipse.ditto.services.connectivity.config.javascript.JavaScriptConfig;
 import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
-import org.eclipse.ditto.services.utils.config.ScopedConfig;
 
 import com.typesafe.config.Config;
 
@@ -34,13 +35,17 @@ public final class DefaultMappingConfig implements MappingConfig {
     private final int bufferSize;
     private final int parallelism;
     private final int maxPoolSize;
+    @Nullable private final String inboundPartitionKey;
+    @Nullable private final String outboundPartitionKey;
     private final JavaScriptConfig javaScriptConfig;
     private final MapperLimitsConfig mapperLimitsConfig;
 
-    private DefaultMappingConfig(final ScopedConfig config) {
+    private DefaultMappingConfig(final ConfigWithFallback config) {
         bufferSize = config.getInt(MappingConfigValue.BUFFER_SIZE.getConfigPath());
         parallelism = config.getInt(MappingConfigValue.PARALLELISM.getConfigPath());
         maxPoolSize = config.getInt(MappingConfigValue.MAX_POOL_SIZE.getConfigPath());
+        inboundPartitionKey = emptyToNull(config.getStringOrNull(MappingConfigValue.INBOUND_PARTITION_KEY));
+        outboundPartitionKey = emptyToNull(config.getStringOrNull(MappingConfigValue.OUTBOUND_PARTITION_KEY));
         mapperLimitsConfig = DefaultMapperLimitsConfig.of(config);
         javaScriptConfig = DefaultJavaScriptConfig.of(config);
     }
@@ -74,6 +79,16 @@ public final class DefaultMappingConfig implements MappingConfig {
         return maxPoolSize;
     }
 
+    @Override
+    public Optional<String> getInboundPartitionKey() {
+        return Optional.ofNullable(inboundPartitionKey);
+    }
+
+    @Override
+    public Optional<String> getOutboundPartitionKey() {
+        return Optional.ofNullable(outboundPartitionKey);
+    }
+
     @Override
     public JavaScriptConfig getJavaScriptConfig() {
         return javaScriptConfig;
@@ -84,6 +99,11 @@ public final class DefaultMappingConfig implements MappingConfig {
         return mapperLimitsConfig;
     }
 
+    @Nullable
+    private static String emptyToNull(@Nullable final String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -96,13 +116,16 @@ public final class DefaultMappingConfig implements MappingConfig {
         return bufferSize == that.bufferSize &&
                 parallelism == that.parallelism &&
                 maxPoolSize == that.maxPoolSize &&
+                Objects.equals(inboundPartitionKey, that.inboundPartitionKey) &&
+                Objects.equals(outboundPartitionKey, that.outboundPartitionKey) &&
                 Objects.equals(javaScriptConfig, that.javaScriptConfig) &&
                 Objects.equals(mapperLimitsConfig, that.mapperLimitsConfig);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(bufferSize, parallelism, maxPoolSize, javaScriptConfig, mapperLimitsConfig);
+        return Objects.hash(bufferSize, parallelism, maxPoolSize, inboundPartitionKey, outboundPartitionKey,
+                javaScriptConfig, mapperLimitsConfig);
     }
 
     @Override
@@ -111,6 +134,8 @@ public final class DefaultMappingConfig implements MappingConfig {
                 "bufferSize=" + bufferSize +
                 ", parallelism=" + parallelism +
                 ", maxPoolSize=" + maxPoolSize +
+                ", inboundPartitionKey=" + inboundPartitionKey +
+                ", outboundPartitionKey=" + outboundPartitionKey +
                 ", javaScriptConfig=" + javaScriptConfig +
                 ", mapperLimitsConfig=" + mapperLimitsConfig +
                 "]";
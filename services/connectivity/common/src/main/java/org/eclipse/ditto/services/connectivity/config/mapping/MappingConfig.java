@@ -12,6 +12,8 @@
  */
 package org.eclipse.ditto.services.connectivity.config.mapping;
 
+import java.util.Optional;
+
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.services.connectivity.config.javascript.JavaScriptConfig;
@@ -46,6 +48,28 @@ public interface MappingConfig {
      */
     int getMaxPoolSize();
 
+    /**
+     * Returns the placeholder template of the partition key of inbound messages, e.g. {@code {{ header:device_id }}}.
+     * Inbound messages are mapped in the order of their arrival only within a partition; messages of different
+     * partitions are mapped concurrently.
+     *
+     * @return the partition key template, or an empty optional if all inbound messages are mapped in the order of
+     * their arrival.
+     * @since 2.0.0
+     */
+    Optional<String> getInboundPartitionKey();
+
+    /**
+     * Returns the placeholder template of the partition key of outbound signals, e.g. {@code {{ thing:id }}}.
+     * Outbound signals are mapped in the order of their arrival only within a partition; signals of different
+     * partitions are mapped concurrently.
+     *
+     * @return the partition key template, or an empty optional if all outbound signals are mapped in the order of
+     * their arrival.
+     * @since 2.0.0
+     */
+    Optional<String> getOutboundPartitionKey();
+
     /**
      * Returns the config of the JavaScript message mapping.
      *
@@ -79,7 +103,21 @@ public interface MappingConfig {
         /**
          * The maximum parallelism used for mapping inbound and outbound messages in mapping processor actor.
          */
-        MAX_POOL_SIZE("max-pool-size", 5);
+        MAX_POOL_SIZE("max-pool-size", 5),
+
+        /**
+         * The placeholder template of the partition key of inbound messages.
+         *
+         * @since 2.0.0
+         */
+        INBOUND_PARTITION_KEY("inbound-partition-key", null),
+
+        /**
+         * The placeholder template of the partition key of outbound signals.
+         *
+         * @since 2.0.0
+         */
+        OUTBOUND_PARTITION_KEY("outbound-partition-key", null);
 
         private final String path;
         private final Object defaultValue;
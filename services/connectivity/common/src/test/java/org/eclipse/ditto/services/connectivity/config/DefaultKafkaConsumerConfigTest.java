@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.config;
+
+import static org.mutabilitydetector.unittesting.AllowedReason.provided;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.time.Duration;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link DefaultKafkaConsumerConfig}.
+ */
+public final class DefaultKafkaConsumerConfigTest {
+
+    private static Config kafkaTestConf;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        kafkaTestConf = ConfigFactory.load("kafka-test").getConfig("kafka");
+    }
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultKafkaConsumerConfig.class,
+                areImmutable(),
+                provided(Config.class).isAlsoImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultKafkaConsumerConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void underTestReturnsDefaultValuesIfBaseConfigWasEmpty() {
+        final DefaultKafkaConsumerConfig underTest = DefaultKafkaConsumerConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.getInternalConfig().isEmpty())
+                .as("internal")
+                .isTrue();
+
+        softly.assertThat(underTest.getMaxInFlight())
+                .as(KafkaConsumerConfig.ConfigValue.MAX_IN_FLIGHT.getConfigPath())
+                .isEqualTo(KafkaConsumerConfig.ConfigValue.MAX_IN_FLIGHT.getDefaultValue());
+
+        softly.assertThat(underTest.getCommitMaxBatchSize())
+                .as(KafkaConsumerConfig.ConfigValue.COMMIT_MAX_BATCH_SIZE.getConfigPath())
+                .isEqualTo(KafkaConsumerConfig.ConfigValue.COMMIT_MAX_BATCH_SIZE.getDefaultValue());
+
+        softly.assertThat(underTest.getCommitInterval())
+                .as(KafkaConsumerConfig.ConfigValue.COMMIT_INTERVAL.getConfigPath())
+                .isEqualTo(KafkaConsumerConfig.ConfigValue.COMMIT_INTERVAL.getDefaultValue());
+
+        softly.assertThat(underTest.getPollTimeout())
+                .as(KafkaConsumerConfig.ConfigValue.POLL_TIMEOUT.getConfigPath())
+                .isEqualTo(KafkaConsumerConfig.ConfigValue.POLL_TIMEOUT.getDefaultValue());
+
+        softly.assertThat(underTest.getRestartMinBackoff())
+                .as(KafkaConsumerConfig.ConfigValue.RESTART_MIN_BACKOFF.getConfigPath())
+                .isEqualTo(KafkaConsumerConfig.ConfigValue.RESTART_MIN_BACKOFF.getDefaultValue());
+
+        softly.assertThat(underTest.getRestartMaxBackoff())
+                .as(KafkaConsumerConfig.ConfigValue.RESTART_MAX_BACKOFF.getConfigPath())
+                .isEqualTo(KafkaConsumerConfig.ConfigValue.RESTART_MAX_BACKOFF.getDefaultValue());
+    }
+
+    @Test
+    public void underTestReturnsValuesOfConfigFile() {
+        final DefaultKafkaConsumerConfig underTest = DefaultKafkaConsumerConfig.of(kafkaTestConf);
+
+        softly.assertThat(underTest.getInternalConfig().getInt("kafka-clients.max.poll.records"))
+                .as("internal.kafka-clients.max.poll.records")
+                .isEqualTo(200);
+
+        softly.assertThat(underTest.getMaxInFlight())
+                .as(KafkaConsumerConfig.ConfigValue.MAX_IN_FLIGHT.getConfigPath())
+                .isEqualTo(16);
+
+        softly.assertThat(underTest.getCommitMaxBatchSize())
+                .as(KafkaConsumerConfig.ConfigValue.COMMIT_MAX_BATCH_SIZE.getConfigPath())
+                .isEqualTo(50);
+
+        softly.assertThat(underTest.getCommitInterval())
+                .as(KafkaConsumerConfig.ConfigValue.COMMIT_INTERVAL.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(2L));
+
+        softly.assertThat(underTest.getPollTimeout())
+                .as(KafkaConsumerConfig.ConfigValue.POLL_TIMEOUT.getConfigPath())
+                .isEqualTo(Duration.ofMillis(250L));
+
+        softly.assertThat(underTest.getRestartMinBackoff())
+                .as(KafkaConsumerConfig.ConfigValue.RESTART_MIN_BACKOFF.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(2L));
+
+        softly.assertThat(underTest.getRestartMaxBackoff())
+                .as(KafkaConsumerConfig.ConfigValue.RESTART_MAX_BACKOFF.getConfigPath())
+                .isEqualTo(Duration.ofMinutes(1L));
+    }
+
+}
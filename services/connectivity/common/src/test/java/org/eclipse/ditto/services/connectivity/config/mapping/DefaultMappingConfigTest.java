@@ -80,6 +80,14 @@ public final class DefaultMappingConfigTest {
         softly.assertThat(underTest.getMaxPoolSize())
                 .describedAs(MappingConfig.MappingConfigValue.PARALLELISM.getConfigPath())
                 .isEqualTo(37);
+
+        softly.assertThat(underTest.getInboundPartitionKey())
+                .describedAs(MappingConfig.MappingConfigValue.INBOUND_PARTITION_KEY.getConfigPath())
+                .contains("{{ header:device_id }}");
+
+        softly.assertThat(underTest.getOutboundPartitionKey())
+                .describedAs(MappingConfig.MappingConfigValue.OUTBOUND_PARTITION_KEY.getConfigPath())
+                .contains("{{ thing:id }}");
     }
 
 }
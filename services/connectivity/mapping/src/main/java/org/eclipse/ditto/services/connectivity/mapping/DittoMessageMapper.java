@@ -14,8 +14,10 @@ package org.eclipse.ditto.services.connectivity.mapping;
 
 import static java.util.Collections.singletonList;
 
+import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -64,9 +66,8 @@ public final class DittoMessageMapper extends AbstractMessageMapper {
 
     @Override
     public List<Adaptable> map(final ExternalMessage message) {
-        final String payload = extractPayloadAsString(message);
         final JsonifiableAdaptable jsonifiableAdaptable = DittoJsonException.wrapJsonRuntimeException(() ->
-                ProtocolFactory.jsonifiableAdaptableFromJson(JsonFactory.newObject(payload))
+                ProtocolFactory.jsonifiableAdaptableFromJson(extractPayloadAsJsonObject(message))
         );
 
         final DittoHeaders mergedHeaders = jsonifiableAdaptable.getDittoHeaders();
@@ -112,6 +113,23 @@ public final class DittoMessageMapper extends AbstractMessageMapper {
         return DEFAULT_OPTIONS;
     }
 
+    private static JsonObject extractPayloadAsJsonObject(final ExternalMessage message) {
+        if (!message.isTextMessage() && message.isBytesMessage() &&
+                StandardCharsets.UTF_8.equals(determineCharset(message.getHeaders()))) {
+
+            final Optional<ByteBuffer> bytePayload = message.getBytePayload().filter(ByteBuffer::hasRemaining);
+            if (bytePayload.isPresent()) {
+                // UTF-8 bytes are indexed instead of decoded and parsed as a whole; the fields of the Ditto Protocol
+                // message are only parsed when they are accessed
+                final ByteBuffer byteBuffer = bytePayload.get();
+                final byte[] bytes = new byte[byteBuffer.remaining()];
+                byteBuffer.duplicate().get(bytes);
+                return JsonFactory.newLazyObject(bytes);
+            }
+        }
+        return JsonFactory.newObject(extractPayloadAsString(message));
+    }
+
     private static String extractPayloadAsString(final ExternalMessage message) {
         final Optional<String> payload;
         if (message.isTextMessage()) {
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.mapping.javascript;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.mozilla.javascript.Context;
+import org.mozilla.javascript.Script;
+import org.mozilla.javascript.Scriptable;
+
+/**
+ * Package internal holder of the compiled scripts shared by all {@link JavaScriptMessageMapperRhino} instances.
+ * The helper libraries, the Ditto scope and the mapping scripts are compiled only once for identical script text,
+ * e. g. for the mappers of all clients and mapping processors of a connection.
+ * <p>
+ * Only the compiled code is shared. Each mapper executes it in its own top-level scope, because objects of a shared
+ * scope, such as {@code Long.prototype} or objects cached by the libraries, would remain mutable by the mapping
+ * scripts of every connection even if the scope itself was sealed.
+ */
+@ThreadSafe
+final class CompiledJavaScripts {
+
+    private static final String WEBJARS_PATH = "/META-INF/resources/webjars";
+
+    private static final String WEBJARS_BYTEBUFFER = WEBJARS_PATH + "/bytebuffer/5.0.1/dist/bytebuffer.js";
+    private static final String WEBJARS_LONG = WEBJARS_PATH + "/long/3.2.0/dist/long.min.js";
+
+    private static final int MAX_COMPILED_SCRIPTS = 1_000;
+
+    private static final Map<List<String>, Script> COMPILED_SCRIPTS =
+            Collections.synchronizedMap(new LinkedHashMap<List<String>, Script>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<List<String>, Script> eldest) {
+                    return size() > MAX_COMPILED_SCRIPTS;
+                }
+            });
+
+    private CompiledJavaScripts() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Creates the scope of a mapper with the helper libraries and the default incoming and outgoing mapping functions.
+     *
+     * @param cx the current context.
+     * @param loadLongJs whether the scope should contain "Long.js".
+     * @param loadBytebufferJs whether the scope should contain "ByteBuffer.js".
+     * @return the new scope.
+     */
+    static Scriptable newMapperScope(final Context cx, final boolean loadLongJs, final boolean loadBytebufferJs) {
+        final Scriptable scope = cx.initSafeStandardObjects(); // that one disables "print, exit, quit", etc.
+        if (loadLongJs) {
+            getCompiledResource(cx, WEBJARS_LONG).exec(cx, scope);
+        }
+        if (loadBytebufferJs) {
+            getCompiledResource(cx, WEBJARS_BYTEBUFFER).exec(cx, scope);
+        }
+        getCompiledResource(cx, JavaScriptMessageMapperRhino.DITTO_SCOPE_SCRIPT).exec(cx, scope);
+        getCompiledResource(cx, JavaScriptMessageMapperRhino.INCOMING_SCRIPT).exec(cx, scope);
+        getCompiledResource(cx, JavaScriptMessageMapperRhino.OUTGOING_SCRIPT).exec(cx, scope);
+        return scope;
+    }
+
+    /**
+     * Evaluates a mapping script in the scope of a mapper. The script is compiled only if no script with the same
+     * name and text was compiled before.
+     *
+     * @param cx the current context.
+     * @param mapperScope the scope of the mapper.
+     * @param script the text of the script.
+     * @param scriptName the name of the script for error messages.
+     * @throws org.mozilla.javascript.RhinoException if the script could not be compiled or evaluated.
+     */
+    static void evaluate(final Context cx, final Scriptable mapperScope, final String script,
+            final String scriptName) {
+
+        final List<String> key = List.of(scriptName, script);
+        @Nullable Script compiledScript = COMPILED_SCRIPTS.get(key);
+        if (null == compiledScript) {
+            compiledScript = cx.compileString(script, scriptName, 1, null);
+            COMPILED_SCRIPTS.put(key, compiledScript);
+        }
+        compiledScript.exec(cx, mapperScope);
+    }
+
+    private static Script getCompiledResource(final Context cx, final String resourceName) {
+        final List<String> key = List.of(resourceName);
+        @Nullable Script compiledScript = COMPILED_SCRIPTS.get(key);
+        if (null == compiledScript) {
+            try (final Reader reader = new InputStreamReader(
+                    CompiledJavaScripts.class.getResourceAsStream(resourceName))) {
+                compiledScript = cx.compileReader(reader, resourceName, 1, null);
+            } catch (final IOException e) {
+                throw new IllegalStateException("Could not load script <" + resourceName + ">", e);
+            }
+            COMPILED_SCRIPTS.put(key, compiledScript);
+        }
+        return compiledScript;
+    }
+
+}
@@ -45,11 +45,6 @@ import org.mozilla.javascript.Scriptable;
 )
 final class JavaScriptMessageMapperRhino extends AbstractMessageMapper {
 
-    private static final String WEBJARS_PATH = "/META-INF/resources/webjars";
-
-    private static final String WEBJARS_BYTEBUFFER = WEBJARS_PATH + "/bytebuffer/5.0.1/dist/bytebuffer.js";
-    private static final String WEBJARS_LONG = WEBJARS_PATH + "/long/3.2.0/dist/long.min.js";
-
     static final String DITTO_SCOPE_SCRIPT = "/javascript/ditto-scope.js";
     static final String INCOMING_SCRIPT = "/javascript/incoming-mapping.js";
     static final String OUTGOING_SCRIPT = "/javascript/outgoing-mapping.js";
@@ -87,15 +82,13 @@ final class JavaScriptMessageMapperRhino extends AbstractMessageMapper {
                     .build();
         }
 
-        contextFactory = new SandboxingContextFactory(javaScriptConfig.getMaxScriptExecutionTime(),
-                javaScriptConfig.getMaxScriptStackDepth());
+        contextFactory = SandboxingContextFactory.getSharedInstance(javaScriptConfig);
 
         try {
-            // create scope once and load the required libraries in order to get best performance:
+            // create scope once and load the precompiled libraries in order to get best performance:
             contextFactory.call(cx -> {
-                final Scriptable scope = cx.initSafeStandardObjects(); // that one disables "print, exit, quit", etc.
-                initLibraries(cx, scope);
-                return scope;
+                initLibraries(cx);
+                return null;
             });
         } catch (final RhinoException e) {
             final boolean sourceExists = e.lineSource() != null && !e.lineSource().isEmpty();
@@ -119,22 +112,10 @@ final class JavaScriptMessageMapperRhino extends AbstractMessageMapper {
         return outgoingMapping.apply(adaptable);
     }
 
-    private void initLibraries(final Context cx, final Scriptable scope) {
-        if (getConfiguration().map(JavaScriptMessageMapperConfiguration::isLoadLongJS).orElse(false)) {
-            loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(WEBJARS_LONG)),
-                    WEBJARS_LONG);
-        }
-        if (getConfiguration().map(JavaScriptMessageMapperConfiguration::isLoadBytebufferJS).orElse(false)) {
-            loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(WEBJARS_BYTEBUFFER)),
-                    WEBJARS_BYTEBUFFER);
-        }
-
-        loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(DITTO_SCOPE_SCRIPT)),
-                DITTO_SCOPE_SCRIPT);
-        loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(INCOMING_SCRIPT)),
-                INCOMING_SCRIPT);
-        loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(OUTGOING_SCRIPT)),
-                OUTGOING_SCRIPT);
+    private void initLibraries(final Context cx) {
+        final Scriptable scope = CompiledJavaScripts.newMapperScope(cx,
+                getConfiguration().map(JavaScriptMessageMapperConfiguration::isLoadLongJS).orElse(false),
+                getConfiguration().map(JavaScriptMessageMapperConfiguration::isLoadBytebufferJS).orElse(false));
 
         final String userIncomingScript = getConfiguration()
                 .flatMap(JavaScriptMessageMapperConfiguration::getIncomingScript)
@@ -144,8 +125,8 @@ final class JavaScriptMessageMapperRhino extends AbstractMessageMapper {
             incomingMapping = DefaultIncomingMapping.get();
         } else {
             incomingMapping = new ScriptedIncomingMapping(contextFactory, scope);
-            cx.evaluateString(scope, userIncomingScript,
-                    JavaScriptMessageMapperConfigurationProperties.INCOMING_SCRIPT, 1, null);
+            CompiledJavaScripts.evaluate(cx, scope, userIncomingScript,
+                    JavaScriptMessageMapperConfigurationProperties.INCOMING_SCRIPT);
         }
 
         final String userOutgoingScript = getConfiguration()
@@ -156,8 +137,8 @@ final class JavaScriptMessageMapperRhino extends AbstractMessageMapper {
             outgoingMapping = DefaultOutgoingMapping.get();
         } else {
             outgoingMapping = new ScriptedOutgoingMapping(contextFactory, scope);
-            cx.evaluateString(scope, userOutgoingScript,
-                    JavaScriptMessageMapperConfigurationProperties.OUTGOING_SCRIPT, 1, null);
+            CompiledJavaScripts.evaluate(cx, scope, userOutgoingScript,
+                    JavaScriptMessageMapperConfigurationProperties.OUTGOING_SCRIPT);
         }
     }
 
@@ -13,7 +13,14 @@
 package org.eclipse.ditto.services.connectivity.mapping.javascript;
 
 import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.services.connectivity.config.javascript.JavaScriptConfig;
 import org.mozilla.javascript.Callable;
 import org.mozilla.javascript.Context;
 import org.mozilla.javascript.ContextFactory;
@@ -21,6 +28,10 @@ import org.mozilla.javascript.Scriptable;
 
 /**
  * Special Rhino ContextFactory responsible for sandboxing JavaScript execution.
+ * <p>
+ * Released contexts are kept in a bounded pool and reused for later executions instead of creating a new context
+ * for each execution. Rhino supports this explicitly: a context returned by {@link #makeContext()} only must not be
+ * associated with another thread.
  */
 final class SandboxingContextFactory extends ContextFactory {
 
@@ -34,8 +45,11 @@ final class SandboxingContextFactory extends ContextFactory {
      */
     private static final int OPTIMIZATION_LEVEL = -1;
 
+    private static final Map<JavaScriptConfig, SandboxingContextFactory> SHARED_INSTANCES = new ConcurrentHashMap<>();
+
     private final Duration maxScriptExecutionTime;
     private final int maxStackDepth;
+    @Nullable private final BlockingQueue<Context> contextPool;
 
     /**
      * Constructs a new ContextFactory for sandboxing Rhino executions.
@@ -44,14 +58,37 @@ final class SandboxingContextFactory extends ContextFactory {
      * Prevents endless loops and too complex scripts.
      * @param maxStackDepth the maximum call stack depth in the mapping script. Prevents recursions or other too complex
      * computation.
+     * @param contextPoolSize the maximum number of released contexts to keep for reuse; 0 disables reuse.
      */
-    SandboxingContextFactory(final Duration maxScriptExecutionTime, final int maxStackDepth) {
+    SandboxingContextFactory(final Duration maxScriptExecutionTime, final int maxStackDepth,
+            final int contextPoolSize) {
+
         this.maxScriptExecutionTime = maxScriptExecutionTime;
         this.maxStackDepth = maxStackDepth;
+        contextPool = 0 < contextPoolSize ? new ArrayBlockingQueue<>(contextPoolSize) : null;
+    }
+
+    /**
+     * Returns the ContextFactory shared by all JavaScript mappers with the same config so that they reuse the same
+     * pooled contexts.
+     *
+     * @param javaScriptConfig the JavaScript config.
+     * @return the ContextFactory.
+     */
+    static SandboxingContextFactory getSharedInstance(final JavaScriptConfig javaScriptConfig) {
+        return SHARED_INSTANCES.computeIfAbsent(javaScriptConfig,
+                config -> new SandboxingContextFactory(config.getMaxScriptExecutionTime(),
+                        config.getMaxScriptStackDepth(), config.getContextPoolSize()));
     }
 
     @Override
     protected Context makeContext() {
+        if (null != contextPool) {
+            @Nullable final Context pooledContext = contextPool.poll();
+            if (null != pooledContext) {
+                return pooledContext;
+            }
+        }
         final StartTimeAwareContext cx = new StartTimeAwareContext(this);
         cx.setOptimizationLevel(OPTIMIZATION_LEVEL);
         cx.setInstructionObserverThreshold(INSTRUCTION_OBSERVER_THRESHOLD);
@@ -60,6 +97,15 @@ final class SandboxingContextFactory extends ContextFactory {
         return cx;
     }
 
+    @Override
+    protected void onContextReleased(final Context cx) {
+        super.onContextReleased(cx);
+        if (null != contextPool) {
+            // discards the context if the pool is full
+            contextPool.offer(cx);
+        }
+    }
+
     @Override
     public boolean hasFeature(final Context cx, final int featureIndex) {
         switch (featureIndex) {
@@ -74,6 +74,10 @@ public final class DefaultJavaScriptConfigTest {
         softly.assertThat(underTest.getMaxScriptStackDepth())
                 .as(JavaScriptConfig.JavaScriptConfigValue.MAX_SCRIPT_STACK_DEPTH.getConfigPath())
                 .isEqualTo(JavaScriptConfig.JavaScriptConfigValue.MAX_SCRIPT_STACK_DEPTH.getDefaultValue());
+
+        softly.assertThat(underTest.getContextPoolSize())
+                .as(JavaScriptConfig.JavaScriptConfigValue.CONTEXT_POOL_SIZE.getConfigPath())
+                .isEqualTo(JavaScriptConfig.JavaScriptConfigValue.CONTEXT_POOL_SIZE.getDefaultValue());
     }
 
     @Test
@@ -91,5 +95,9 @@ public final class DefaultJavaScriptConfigTest {
         softly.assertThat(underTest.getMaxScriptStackDepth())
                 .as(JavaScriptConfig.JavaScriptConfigValue.MAX_SCRIPT_STACK_DEPTH.getConfigPath())
                 .isEqualTo(1);
+
+        softly.assertThat(underTest.getContextPoolSize())
+                .as(JavaScriptConfig.JavaScriptConfigValue.CONTEXT_POOL_SIZE.getConfigPath())
+                .isEqualTo(3);
     }
 }
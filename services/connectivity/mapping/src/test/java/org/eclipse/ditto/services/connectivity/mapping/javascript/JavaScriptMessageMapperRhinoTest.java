@@ -856,6 +856,53 @@ public final class JavaScriptMessageMapperRhinoTest {
         });
     }
 
+    @Test
+    public void mappersWithIdenticalScriptsDoNotShareGlobalVariables() {
+        final String incomingScriptWithCounter = "var counter = 0;\n" +
+                MAPPING_INCOMING_PLAIN.replace("let value = textPayload;", "let value = ++counter;");
+        final MessageMapper firstMapper = createIncomingMapper("first", incomingScriptWithCounter);
+        final MessageMapper secondMapper = createIncomingMapper("second", incomingScriptWithCounter);
+        final ExternalMessage message = ExternalMessageFactory.newExternalMessageBuilder(
+                Collections.singletonMap(ExternalMessage.CONTENT_TYPE_HEADER, CONTENT_TYPE_PLAIN))
+                .withText(MAPPING_INCOMING_PAYLOAD_STRING)
+                .build();
+
+        firstMapper.map(message);
+
+        assertThat(firstMapper.map(message).get(0).getPayload().getValue()).contains(JsonValue.of(2));
+        assertThat(secondMapper.map(message).get(0).getPayload().getValue()).contains(JsonValue.of(1));
+    }
+
+    @Test
+    public void mappingScriptModifyingLongPrototypeDoesNotAffectOtherMappers() {
+        final String incomingScriptModifyingLong =
+                "dcodeIO.Long.prototype.toString = function() { return \"modified\"; };\n" +
+                        MAPPING_INCOMING_PLAIN.replace("let value = textPayload;",
+                                "let value = dcodeIO.Long.fromInt(42).toString();");
+        final String incomingScriptUsingLong = MAPPING_INCOMING_PLAIN.replace("let value = textPayload;",
+                "let value = dcodeIO.Long.fromInt(42).toString();");
+        final MessageMapper modifyingMapper = createIncomingMapper("modifying", incomingScriptModifyingLong);
+        final MessageMapper otherMapper = createIncomingMapper("other", incomingScriptUsingLong);
+        final ExternalMessage message = ExternalMessageFactory.newExternalMessageBuilder(
+                Collections.singletonMap(ExternalMessage.CONTENT_TYPE_HEADER, CONTENT_TYPE_PLAIN))
+                .withText(MAPPING_INCOMING_PAYLOAD_STRING)
+                .build();
+
+        assertThat(modifyingMapper.map(message).get(0).getPayload().getValue()).contains(JsonValue.of("modified"));
+        assertThat(otherMapper.map(message).get(0).getPayload().getValue()).contains(JsonValue.of("42"));
+    }
+
+    private static MessageMapper createIncomingMapper(final String id, final String incomingScript) {
+        final MessageMapper mapper = JavaScriptMessageMapperFactory.createJavaScriptMessageMapperRhino();
+        mapper.configure(MAPPING_CONFIG, JavaScriptMessageMapperFactory
+                .createJavaScriptMessageMapperConfigurationBuilder(id, Collections.emptyMap())
+                .incomingScript(incomingScript)
+                .outgoingScript(MAPPING_OUTGOING_PLAIN)
+                .loadLongJS(true)
+                .build());
+        return mapper;
+    }
+
     @Nullable
     private static String byteBuffer2String(@Nullable final ByteBuffer buf) {
         if (buf == null) {
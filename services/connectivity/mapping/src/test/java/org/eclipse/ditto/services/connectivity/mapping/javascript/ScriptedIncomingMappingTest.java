@@ -114,7 +114,7 @@ public class ScriptedIncomingMappingTest {
     }
 
     private void testJavascript(final String scriptToTest, final Consumer<List<Adaptable>> mappedAdaptables) {
-        final SandboxingContextFactory contextFactory = new SandboxingContextFactory(Duration.ofMillis(500), 10);
+        final SandboxingContextFactory contextFactory = new SandboxingContextFactory(Duration.ofMillis(500), 10, 0);
         contextFactory.call(cx -> {
             final Scriptable scope = cx.initSafeStandardObjects(); // that one disables "print, exit, quit", etc.
             JavaScriptMessageMapperRhino.loadJavascriptLibrary(cx, scope, new InputStreamReader(
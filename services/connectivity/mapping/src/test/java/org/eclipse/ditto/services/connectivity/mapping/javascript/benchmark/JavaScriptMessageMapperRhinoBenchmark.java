@@ -12,20 +12,37 @@
  */
 package org.eclipse.ditto.services.connectivity.mapping.javascript.benchmark;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
+import org.eclipse.ditto.services.connectivity.config.mapping.DefaultMappingConfig;
+import org.eclipse.ditto.services.connectivity.config.mapping.MappingConfig;
 import org.eclipse.ditto.services.connectivity.mapping.MessageMapper;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 
+import com.typesafe.config.ConfigFactory;
+
 /**
  * JMH Benchmark for {@code JavaScriptMessageMapperRhino} mappings.
+ * <p>
+ * The throughput is reported with and without pooled Rhino contexts ({@code contextPoolSize}) and for both
+ * configuring a new mapper for each message and mapping with an already configured mapper
+ * ({@code configurePerMessage}).
  */
 @State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
 public class JavaScriptMessageMapperRhinoBenchmark {
 
     private static final int WARMUP_ITERATIONS = 10;
@@ -33,6 +50,25 @@ public class JavaScriptMessageMapperRhinoBenchmark {
     private static final int WARMUP_TIME = 1000;
     private static final int MEASUREMENT_TIME = 1000;
 
+    @Param({"0", "16"})
+    public int contextPoolSize;
+
+    @Param({"true", "false"})
+    public boolean configurePerMessage;
+
+    private final Map<Class<?>, MessageMapper> configuredMappers = new HashMap<>();
+    private MappingConfig mappingConfig;
+
+    @Setup
+    public void setup() {
+        mappingConfig = DefaultMappingConfig.of(ConfigFactory.parseString("javascript {\n" +
+                "        maxScriptSizeBytes = 50000 # 50kB\n" +
+                "        maxScriptExecutionTime = 500ms\n" +
+                "        maxScriptStackDepth = 10\n" +
+                "        contextPoolSize = " + contextPoolSize + "\n" +
+                "      }"));
+    }
+
     @Benchmark
     @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
     @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
@@ -76,7 +112,10 @@ public class JavaScriptMessageMapperRhinoBenchmark {
     }
 
     private void runScenario(final MapToDittoProtocolScenario scenario) {
-        final MessageMapper messageMapper = scenario.getMessageMapper();
+        final MessageMapper messageMapper = configurePerMessage
+                ? scenario.getMessageMapper(mappingConfig)
+                : configuredMappers.computeIfAbsent(scenario.getClass(),
+                key -> scenario.getMessageMapper(mappingConfig));
         final ExternalMessage externalMessage = scenario.getExternalMessage();
         messageMapper.map(externalMessage);
     }
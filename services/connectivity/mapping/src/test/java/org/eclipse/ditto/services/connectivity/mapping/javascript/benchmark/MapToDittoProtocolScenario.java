@@ -31,7 +31,11 @@ public interface MapToDittoProtocolScenario {
                     "        maxScriptStackDepth = 10\n" +
                     "      }"));
 
-    MessageMapper getMessageMapper();
+    default MessageMapper getMessageMapper() {
+        return getMessageMapper(MAPPING_CONFIG);
+    }
+
+    MessageMapper getMessageMapper(MappingConfig mappingConfig);
 
     ExternalMessage getExternalMessage();
 
@@ -17,6 +17,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
 
+import org.eclipse.ditto.services.connectivity.config.mapping.MappingConfig;
 import org.eclipse.ditto.services.connectivity.mapping.MessageMapper;
 import org.eclipse.ditto.services.connectivity.mapping.javascript.JavaScriptMessageMapperFactory;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
@@ -78,10 +79,10 @@ public class SimpleMapTextPayloadToDitto implements MapToDittoProtocolScenario {
     }
 
     @Override
-    public MessageMapper getMessageMapper() {
+    public MessageMapper getMessageMapper(final MappingConfig mappingConfig) {
         final MessageMapper javaScriptRhinoMapperPlain =
                 JavaScriptMessageMapperFactory.createJavaScriptMessageMapperRhino();
-        javaScriptRhinoMapperPlain.configure(MAPPING_CONFIG,
+        javaScriptRhinoMapperPlain.configure(mappingConfig,
                 JavaScriptMessageMapperFactory
                         .createJavaScriptMessageMapperConfigurationBuilder("text", Collections.emptyMap())
                         .incomingScript(MAPPING_INCOMING_PLAIN)
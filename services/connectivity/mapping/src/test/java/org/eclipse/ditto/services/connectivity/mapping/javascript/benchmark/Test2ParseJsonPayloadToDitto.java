@@ -17,6 +17,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
 
+import org.eclipse.ditto.services.connectivity.config.mapping.MappingConfig;
 import org.eclipse.ditto.services.connectivity.mapping.MessageMapper;
 import org.eclipse.ditto.services.connectivity.mapping.javascript.JavaScriptMessageMapperFactory;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
@@ -137,10 +138,10 @@ public class Test2ParseJsonPayloadToDitto implements MapToDittoProtocolScenario
     }
 
     @Override
-    public MessageMapper getMessageMapper() {
+    public MessageMapper getMessageMapper(final MappingConfig mappingConfig) {
         final MessageMapper javaScriptRhinoMapperPlain =
                 JavaScriptMessageMapperFactory.createJavaScriptMessageMapperRhino();
-        javaScriptRhinoMapperPlain.configure(MAPPING_CONFIG,
+        javaScriptRhinoMapperPlain.configure(mappingConfig,
                 JavaScriptMessageMapperFactory
                         .createJavaScriptMessageMapperConfigurationBuilder("ditto", Collections.emptyMap())
                         .incomingScript(MAPPING_INCOMING_PLAIN)
@@ -15,6 +15,9 @@ package org.eclipse.ditto.services.connectivity.messaging;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
@@ -28,13 +31,17 @@ import org.eclipse.ditto.services.connectivity.config.mapping.MappingConfig;
 import org.eclipse.ditto.services.connectivity.util.ConnectivityMdcEntryKey;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 import org.eclipse.ditto.services.utils.akka.controlflow.AbstractGraphActor;
+import org.eclipse.ditto.services.utils.akka.controlflow.PartitionedMapAsync;
 import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
 import org.eclipse.ditto.services.utils.akka.logging.ThreadSafeDittoLoggingAdapter;
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.timer.PreparedTimer;
 import org.eclipse.ditto.signals.acks.base.Acknowledgement;
 import org.eclipse.ditto.signals.acks.base.Acknowledgements;
 import org.eclipse.ditto.signals.commands.base.CommandResponse;
 
+import akka.NotUsed;
 import akka.actor.ActorRef;
 import akka.actor.Props;
 import akka.actor.Status;
@@ -58,8 +65,16 @@ public final class InboundMappingProcessorActor
      */
     private static final String MESSAGE_MAPPING_PROCESSOR_DISPATCHER = "message-mapping-processor-dispatcher";
 
+    /**
+     * Name of the timer of the time mapped messages did not wait for slower messages of other partitions.
+     */
+    static final String HEAD_OF_LINE_WAIT_SAVED_TIMER = "connectivity_mapping_head_of_line_wait_saved";
+    static final String DIRECTION_TAG = "direction";
+    static final String CONNECTION_ID_TAG = "id";
+
     private final ThreadSafeDittoLoggingAdapter logger;
 
+    private final ConnectionId connectionId;
     private final MappingConfig mappingConfig;
     private final int processorPoolSize;
     private final ActorRef inboundDispatchingActor;
@@ -78,6 +93,7 @@ public final class InboundMappingProcessorActor
 
         this.inboundMappingProcessor = inboundMappingProcessor;
         this.inboundDispatchingActor = inboundDispatchingActor;
+        connectionId = connection.getId();
 
         logger = DittoLoggerFactory.getThreadSafeDittoLoggingAdapter(this)
                 .withMdcEntry(ConnectivityMdcEntryKey.CONNECTION_ID, connection.getId());
@@ -153,16 +169,19 @@ public final class InboundMappingProcessorActor
 
     @Override
     protected Sink<ExternalMessageWithSender, ?> createSink() {
-        final Flow<ExternalMessageWithSender, Optional<InboundMappingOutcomes>, ?> flow =
-                Flow.<ExternalMessageWithSender>create()
-                        // parallelize potentially CPU-intensive payload mapping on this actor's dispatcher
-                        .mapAsync(processorPoolSize, externalMessage -> CompletableFuture.supplyAsync(
-                                () -> {
-                                    logger.debug("Received inbound Message to map: {}", externalMessage);
-                                    return mapInboundMessage(externalMessage);
-                                },
-                                getContext().getDispatcher())
-                        );
+        // parallelize potentially CPU-intensive payload mapping on this actor's dispatcher
+        final Function<ExternalMessageWithSender, CompletionStage<Optional<InboundMappingOutcomes>>> mapAsync =
+                externalMessage -> CompletableFuture.supplyAsync(
+                        () -> {
+                            logger.debug("Received inbound Message to map: {}", externalMessage);
+                            return mapInboundMessage(externalMessage);
+                        },
+                        getContext().getDispatcher());
+        final Flow<ExternalMessageWithSender, Optional<InboundMappingOutcomes>, NotUsed> flow =
+                mappingConfig.getInboundPartitionKey()
+                        .map(partitionKey -> partitionedMappingFlow(partitionKey, mapAsync))
+                        .orElseGet(() -> Flow.<ExternalMessageWithSender>create()
+                                .mapAsync(processorPoolSize, mapAsync::apply));
 
         final Sink<Optional<InboundMappingOutcomes>, ?> sink = Sink.<Optional<InboundMappingOutcomes>>foreach(
                 outcomesOptional -> outcomesOptional.ifPresent(outcomes ->
@@ -172,6 +191,36 @@ public final class InboundMappingProcessorActor
         return flow.to(sink);
     }
 
+    /**
+     * Map inbound messages in the order of their arrival only within the partitions given by a placeholder template,
+     * so that a slow mapping does not hold back the messages of other partitions.
+     */
+    private Flow<ExternalMessageWithSender, Optional<InboundMappingOutcomes>, NotUsed> partitionedMappingFlow(
+            final String partitionKey,
+            final Function<ExternalMessageWithSender, CompletionStage<Optional<InboundMappingOutcomes>>> mapAsync) {
+
+        logger.info("Mapping inbound messages partitioned by <{}>.", partitionKey);
+        final PreparedTimer headOfLineWaitSavedTimer = DittoMetrics.timer(HEAD_OF_LINE_WAIT_SAVED_TIMER)
+                .tag(DIRECTION_TAG, "inbound")
+                .tag(CONNECTION_ID_TAG, connectionId.toString());
+        return PartitionedMapAsync.of(processorPoolSize,
+                withSender -> resolvePartitionKey(partitionKey, withSender.externalMessage),
+                mapAsync,
+                saved -> headOfLineWaitSavedTimer.record(saved.toNanos(), TimeUnit.NANOSECONDS));
+    }
+
+    private String resolvePartitionKey(final String partitionKey, final ExternalMessage externalMessage) {
+        try {
+            return Resolvers.forExternalMessage(externalMessage, connectionId)
+                    .resolve(partitionKey)
+                    .toOptional()
+                    .orElse("");
+        } catch (final DittoRuntimeException e) {
+            // messages without partition key are mapped in the order of their arrival among each other
+            return "";
+        }
+    }
+
     private Optional<InboundMappingOutcomes> mapInboundMessage(final ExternalMessageWithSender withSender) {
         final ExternalMessage externalMessage = withSender.externalMessage;
         final String correlationId =
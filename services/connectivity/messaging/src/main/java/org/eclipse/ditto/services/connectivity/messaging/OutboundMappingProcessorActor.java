@@ -26,6 +26,8 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -77,9 +79,12 @@ import org.eclipse.ditto.services.models.connectivity.OutboundSignal.Mapped;
 import org.eclipse.ditto.services.models.connectivity.OutboundSignalFactory;
 import org.eclipse.ditto.services.models.signalenrichment.SignalEnrichmentFacade;
 import org.eclipse.ditto.services.utils.akka.controlflow.AbstractGraphActor;
+import org.eclipse.ditto.services.utils.akka.controlflow.PartitionedMapAsync;
 import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
 import org.eclipse.ditto.services.utils.akka.logging.ThreadSafeDittoLoggingAdapter;
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.timer.PreparedTimer;
 import org.eclipse.ditto.services.utils.pubsub.StreamingType;
 import org.eclipse.ditto.signals.acks.base.Acknowledgement;
 import org.eclipse.ditto.signals.acks.base.Acknowledgements;
@@ -294,8 +299,8 @@ public final class OutboundMappingProcessorActor
     protected Sink<OutboundSignalWithId, ?> createSink() {
         // Enrich outbound signals by extra fields if necessary.
         // Targets attached to the OutboundSignal are pre-selected by authorization, topic and filter sans enrichment.
-        final Flow<OutboundSignalWithId, OutboundSignal.MultiMapped, ?> flow = Flow.<OutboundSignalWithId>create()
-                .mapAsync(processorPoolSize, outbound -> toMultiMappedOutboundSignal(
+        final Function<OutboundSignalWithId, CompletionStage<Collection<OutboundSignal.MultiMapped>>> mapAsync =
+                outbound -> toMultiMappedOutboundSignal(
                         outbound,
                         Source.single(outbound)
                                 .via(splitByTargetExtraFieldsFlow())
@@ -303,11 +308,47 @@ public final class OutboundMappingProcessorActor
                                 .mapConcat(x -> x)
                                 .map(this::handleOutboundSignal)
                                 .flatMapConcat(x -> x)
-                ))
-                .mapConcat(x -> x);
+                );
+        final Flow<OutboundSignalWithId, Collection<OutboundSignal.MultiMapped>, NotUsed> mappingFlow =
+                mappingConfig.getOutboundPartitionKey()
+                        .map(partitionKey -> partitionedMappingFlow(partitionKey, mapAsync))
+                        .orElseGet(() -> Flow.<OutboundSignalWithId>create()
+                                .mapAsync(processorPoolSize, mapAsync::apply));
+        final Flow<OutboundSignalWithId, OutboundSignal.MultiMapped, ?> flow = mappingFlow.mapConcat(x -> x);
         return flow.to(Sink.foreach(this::forwardToPublisherActor));
     }
 
+    /**
+     * Map outbound signals in the order of their arrival only within the partitions given by a placeholder template,
+     * so that a slow mapping or enrichment does not hold back the signals of other partitions.
+     */
+    private Flow<OutboundSignalWithId, Collection<OutboundSignal.MultiMapped>, NotUsed> partitionedMappingFlow(
+            final String partitionKey,
+            final Function<OutboundSignalWithId, CompletionStage<Collection<OutboundSignal.MultiMapped>>> mapAsync) {
+
+        logger.info("Mapping outbound signals partitioned by <{}>.", partitionKey);
+        final PreparedTimer headOfLineWaitSavedTimer =
+                DittoMetrics.timer(InboundMappingProcessorActor.HEAD_OF_LINE_WAIT_SAVED_TIMER)
+                        .tag(InboundMappingProcessorActor.DIRECTION_TAG, "outbound")
+                        .tag(InboundMappingProcessorActor.CONNECTION_ID_TAG, connection.getId().toString());
+        return PartitionedMapAsync.of(processorPoolSize,
+                outbound -> resolvePartitionKey(partitionKey, outbound.getSource()),
+                mapAsync,
+                saved -> headOfLineWaitSavedTimer.record(saved.toNanos(), TimeUnit.NANOSECONDS));
+    }
+
+    private String resolvePartitionKey(final String partitionKey, final Signal<?> signal) {
+        try {
+            return Resolvers.forSignal(signal, connection.getId())
+                    .resolve(partitionKey)
+                    .toOptional()
+                    .orElse("");
+        } catch (final DittoRuntimeException e) {
+            // signals without partition key are mapped in the order of their arrival among each other
+            return "";
+        }
+    }
+
     /**
      * Create a flow that splits 1 outbound signal into many as follows.
      * <ol>
@@ -22,6 +22,7 @@ import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.protocoladapter.ProtocolAdapter;
 import org.eclipse.ditto.services.utils.akka.logging.DittoDiagnosticLoggingAdapter;
 import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.services.utils.akka.timeout.TimeoutWheel;
 import org.eclipse.ditto.signals.base.Signal;
 import org.eclipse.ditto.signals.commands.base.CommandResponse;
 import org.eclipse.ditto.signals.commands.messages.MessageCommandResponse;
@@ -30,6 +31,7 @@ import org.eclipse.ditto.signals.commands.things.ThingCommandResponse;
 
 import akka.actor.AbstractActor;
 import akka.actor.ActorRef;
+import akka.actor.Cancellable;
 import akka.actor.Props;
 import akka.actor.ReceiveTimeout;
 import akka.japi.pf.ReceiveBuilder;
@@ -43,13 +45,15 @@ public final class ResponseCollectorActor extends AbstractActor {
 
     private final DittoDiagnosticLoggingAdapter log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
     private final List<CommandResponse<?>> commandResponses = new ArrayList<>();
+    private final Cancellable timeoutCancellable;
     private int expectedCount = -1;
     private ActorRef querySender;
     private DittoRuntimeException error;
 
     @SuppressWarnings("unused") // called by static props() via Reflection
     private ResponseCollectorActor(final Duration timeout) {
-        getContext().setReceiveTimeout(timeout);
+        timeoutCancellable = TimeoutWheel.get(getContext().getSystem())
+                .schedule(timeout, getSelf(), ReceiveTimeout.getInstance());
     }
 
     static Props props(final Duration timeout) {
@@ -64,6 +68,12 @@ public final class ResponseCollectorActor extends AbstractActor {
         return new SetCount(expectedCount);
     }
 
+    @Override
+    public void postStop() throws Exception {
+        timeoutCancellable.cancel();
+        super.postStop();
+    }
+
     @Override
     public Receive createReceive() {
         return ReceiveBuilder.create()
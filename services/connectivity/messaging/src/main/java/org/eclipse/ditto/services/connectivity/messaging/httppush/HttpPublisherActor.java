@@ -56,6 +56,7 @@ import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 import org.eclipse.ditto.services.utils.akka.controlflow.TimeMeasuringFlow;
 import org.eclipse.ditto.services.utils.akka.logging.ThreadSafeDittoLoggingAdapter;
 import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.histogram.Histogram;
 import org.eclipse.ditto.services.utils.metrics.instruments.timer.PreparedTimer;
 import org.eclipse.ditto.signals.acks.base.Acknowledgement;
 import org.eclipse.ditto.signals.base.Signal;
@@ -70,6 +71,7 @@ import org.eclipse.ditto.signals.commands.messages.SendThingMessage;
 import org.eclipse.ditto.signals.commands.messages.SendThingMessageResponse;
 
 import akka.Done;
+import akka.NotUsed;
 import akka.actor.ActorRef;
 import akka.actor.Props;
 import akka.http.javadsl.model.HttpCharset;
@@ -106,7 +108,7 @@ final class HttpPublisherActor extends BasePublisherActor<HttpPublishTarget> {
      */
     static final String ACTOR_NAME = "httpPublisherActor";
 
-    private static final long READ_BODY_TIMEOUT_MS = 10000L;
+    static final long READ_BODY_TIMEOUT_MS = 10000L;
 
     private static final AcknowledgementLabel NO_ACK_LABEL = AcknowledgementLabel.of("ditto-http-diagnostic");
     private static final DittoProtocolAdapter DITTO_PROTOCOL_ADAPTER = DittoProtocolAdapter.newInstance();
@@ -131,6 +133,7 @@ final class HttpPublisherActor extends BasePublisherActor<HttpPublishTarget> {
         final Pair<Pair<SourceQueueWithComplete<Pair<HttpRequest, HttpPushContext>>, UniqueKillSwitch>,
                 CompletionStage<Done>> materialized =
                 Source.<Pair<HttpRequest, HttpPushContext>>queue(config.getMaxQueueSize(), OverflowStrategy.dropNew())
+                        .via(buildBatchingFlow())
                         .viaMat(buildHttpRequestFlow(config), Keep.left())
                         .viaMat(KillSwitches.single(), Keep.both())
                         .toMat(Sink.foreach(HttpPublisherActor::processResponse), Keep.both())
@@ -148,6 +151,19 @@ final class HttpPublisherActor extends BasePublisherActor<HttpPublishTarget> {
         return Props.create(HttpPublisherActor.class, connection, factory, clientId);
     }
 
+    private Flow<Pair<HttpRequest, HttpPushContext>, Pair<HttpRequest, HttpPushContext>, NotUsed> buildBatchingFlow() {
+        final HttpPushSpecificConfig specificConfig = HttpPushSpecificConfig.fromConnection(connection);
+        if (specificConfig.isBatchingEnabled()) {
+            logger.info("Combining up to <{}> signals within <{}> into one HTTP request.",
+                    specificConfig.getBatchMaxMessages(), specificConfig.getBatchMaxDelay());
+            final Histogram batchSizes = DittoMetrics.histogram("http_publish_batch_size")
+                    .tag("id", connection.getId().toString());
+            return HttpRequestBatcher.flow(specificConfig, batchSizes, materializer);
+        } else {
+            return Flow.create();
+        }
+    }
+
     private Flow<Pair<HttpRequest, HttpPushContext>, Pair<Try<HttpResponse>, HttpPushContext>, ?>
     buildHttpRequestFlow(final HttpPushConfig config) {
 
@@ -273,7 +289,9 @@ final class HttpPublisherActor extends BasePublisherActor<HttpPublishTarget> {
             final int ackSizeQuota,
             final CompletableFuture<CommandResponse<?>> resultFuture) {
 
-        return tryResponse -> {
+        final boolean isMessageCommand = signal instanceof MessageCommand;
+        final int maxResponseSize = isMessageCommand ? maxTotalMessageSize : ackSizeQuota;
+        return HttpPushContext.of(maxResponseSize, tryResponse -> {
             final Uri requestUri = stripUserInfo(request.getUri());
 
             final ThreadSafeDittoLoggingAdapter l;
@@ -302,7 +320,7 @@ final class HttpPublisherActor extends BasePublisherActor<HttpPublishTarget> {
                         });
             }
 
-        };
+        });
     }
 
     private CompletionStage<CommandResponse<?>> toCommandResponseOrAcknowledgement(final Signal<?> signal,
@@ -542,29 +560,38 @@ final class HttpPublisherActor extends BasePublisherActor<HttpPublishTarget> {
         return response.entity()
                 .withSizeLimit(maxBytes)
                 .toStrict(READ_BODY_TIMEOUT_MS, materializer)
-                .thenApply(strictEntity -> {
-                    final akka.http.javadsl.model.ContentType contentType = strictEntity.getContentType();
-                    final Charset charset = contentType.getCharsetOption()
-                            .map(HttpCharset::nioCharset)
-                            .orElse(StandardCharsets.UTF_8);
-                    final byte[] bytes = strictEntity.getData().toArray();
-                    final org.eclipse.ditto.model.base.headers.contenttype.ContentType dittoContentType =
-                            org.eclipse.ditto.model.base.headers.contenttype.ContentType.of(contentType.toString());
-                    if (dittoContentType.isJson()) {
-                        final String bodyString = new String(bytes, charset);
-                        try {
-                            return JsonFactory.readFrom(bodyString);
-                        } catch (final Exception e) {
-                            return JsonValue.of(bodyString);
-                        }
-                    } else if (dittoContentType.isBinary()) {
-                        final String base64bytes = Base64.getEncoder().encodeToString(bytes);
-                        return JsonFactory.newValue(base64bytes);
-                    } else {
-                        // add text payload as JSON string
-                        return JsonFactory.newValue(new String(bytes, charset));
-                    }
-                });
+                .thenApply(HttpPublisherActor::toJsonValue);
+    }
+
+    /**
+     * Convert an HTTP entity to JSON according to its content type: JSON is parsed, binary data is encoded in base64
+     * and text is added as JSON string.
+     *
+     * @param strictEntity the HTTP entity.
+     * @return the JSON value.
+     */
+    static JsonValue toJsonValue(final HttpEntity.Strict strictEntity) {
+        final akka.http.javadsl.model.ContentType contentType = strictEntity.getContentType();
+        final Charset charset = contentType.getCharsetOption()
+                .map(HttpCharset::nioCharset)
+                .orElse(StandardCharsets.UTF_8);
+        final byte[] bytes = strictEntity.getData().toArray();
+        final org.eclipse.ditto.model.base.headers.contenttype.ContentType dittoContentType =
+                org.eclipse.ditto.model.base.headers.contenttype.ContentType.of(contentType.toString());
+        if (dittoContentType.isJson()) {
+            final String bodyString = new String(bytes, charset);
+            try {
+                return JsonFactory.readFrom(bodyString);
+            } catch (final Exception e) {
+                return JsonValue.of(bodyString);
+            }
+        } else if (dittoContentType.isBinary()) {
+            final String base64bytes = Base64.getEncoder().encodeToString(bytes);
+            return JsonFactory.newValue(base64bytes);
+        } else {
+            // add text payload as JSON string
+            return JsonFactory.newValue(new String(bytes, charset));
+        }
     }
 
     private static Uri stripUserInfo(final Uri requestUri) {
@@ -12,6 +12,8 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.httppush;
 
+import java.util.function.Consumer;
+
 import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 
 import akka.http.javadsl.model.HttpResponse;
@@ -21,8 +23,33 @@ import scala.util.Try;
  * Context which passes through the {@link ExternalMessage} to publish to an HTTP endpoint and the {@code requestUri}.
  * Contains the logic to handle 1 response from the HTTP endpoint.
  */
-@FunctionalInterface
 interface HttpPushContext {
 
     void onResponse(final Try<HttpResponse> response);
+
+    /**
+     * @return the maximum number of bytes of the response body to read.
+     */
+    long getMaxResponseBytes();
+
+    /**
+     * Create a context.
+     *
+     * @param maxResponseBytes the maximum number of bytes of the response body to read.
+     * @param responseHandler the logic to handle the response.
+     * @return the context.
+     */
+    static HttpPushContext of(final long maxResponseBytes, final Consumer<Try<HttpResponse>> responseHandler) {
+        return new HttpPushContext() {
+            @Override
+            public void onResponse(final Try<HttpResponse> response) {
+                responseHandler.accept(response);
+            }
+
+            @Override
+            public long getMaxResponseBytes() {
+                return maxResponseBytes;
+            }
+        };
+    }
 }
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.httppush;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.model.connectivity.Connection;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigException;
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Class providing access to the batching configuration in the specific config of HTTP-push connections.
+ */
+@Immutable
+final class HttpPushSpecificConfig {
+
+    static final String BATCH_MAX_MESSAGES = "batchMaxMessages";
+    static final String BATCH_MAX_BYTES = "batchMaxBytes";
+    static final String BATCH_MAX_DELAY = "batchMaxDelay";
+    static final String BATCH_FORMAT = "batchFormat";
+
+    private static final int DEFAULT_BATCH_MAX_MESSAGES = 1;
+    private static final long DEFAULT_BATCH_MAX_BYTES = 1024L * 1024L;
+    private static final Duration DEFAULT_BATCH_MAX_DELAY = Duration.ofMillis(100L);
+
+    private final Config specificConfig;
+
+    private HttpPushSpecificConfig(final Map<String, String> specificConfig) {
+        final Map<String, Object> defaultMap = new HashMap<>();
+        defaultMap.put(BATCH_MAX_MESSAGES, DEFAULT_BATCH_MAX_MESSAGES);
+        defaultMap.put(BATCH_MAX_BYTES, DEFAULT_BATCH_MAX_BYTES);
+        defaultMap.put(BATCH_MAX_DELAY, DEFAULT_BATCH_MAX_DELAY);
+        defaultMap.put(BATCH_FORMAT, BatchFormat.JSON_ARRAY.getName());
+        this.specificConfig = ConfigFactory.parseMap(specificConfig)
+                .withFallback(ConfigFactory.parseMap(defaultMap));
+    }
+
+    /**
+     * Creates a new instance of HttpPushSpecificConfig based on the {@code specificConfig} of the passed
+     * {@code connection}.
+     *
+     * @param connection the Connection to extract the {@code specificConfig} map from.
+     * @return the new HttpPushSpecificConfig instance.
+     */
+    static HttpPushSpecificConfig fromConnection(final Connection connection) {
+        return new HttpPushSpecificConfig(connection.getSpecificConfig());
+    }
+
+    /**
+     * @return whether signals published to the same HTTP target should be combined into one request.
+     * @throws ConfigException if the configured maximum number of messages per batch is not an integer.
+     */
+    boolean isBatchingEnabled() {
+        return getBatchMaxMessages() > 1;
+    }
+
+    /**
+     * @return the maximum number of signals to combine into one request.
+     * @throws ConfigException if the configured value is not an integer.
+     */
+    int getBatchMaxMessages() {
+        return specificConfig.getInt(BATCH_MAX_MESSAGES);
+    }
+
+    /**
+     * @return the maximum number of payload bytes to combine into one request. A single larger payload is sent alone.
+     * @throws ConfigException if the configured value is not a size in bytes.
+     */
+    long getBatchMaxBytes() {
+        return specificConfig.getBytes(BATCH_MAX_BYTES);
+    }
+
+    /**
+     * @return how long to wait for more signals before sending an incomplete batch.
+     * @throws ConfigException if the configured value is not a duration.
+     */
+    Duration getBatchMaxDelay() {
+        return specificConfig.getDuration(BATCH_MAX_DELAY);
+    }
+
+    /**
+     * @return the format of the request body of a batch, or an empty optional if the configured format is unknown.
+     */
+    Optional<BatchFormat> getBatchFormat() {
+        return BatchFormat.forName(specificConfig.getString(BATCH_FORMAT));
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final HttpPushSpecificConfig that = (HttpPushSpecificConfig) o;
+        return Objects.equals(specificConfig, that.specificConfig);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(specificConfig);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "specificConfig=" + specificConfig +
+                "]";
+    }
+
+    /**
+     * Formats of the request body of a batch.
+     */
+    enum BatchFormat {
+
+        /**
+         * The payloads of the signals as elements of a JSON array.
+         */
+        JSON_ARRAY("json-array"),
+
+        /**
+         * The payloads of the signals as newline delimited JSON values.
+         */
+        NDJSON("ndjson");
+
+        private final String name;
+
+        BatchFormat(final String name) {
+            this.name = name;
+        }
+
+        /**
+         * @return the name of the format in the specific config.
+         */
+        String getName() {
+            return name;
+        }
+
+        private static Optional<BatchFormat> forName(final String name) {
+            return Arrays.stream(values()).filter(format -> format.name.equals(name)).findAny();
+        }
+
+    }
+
+}
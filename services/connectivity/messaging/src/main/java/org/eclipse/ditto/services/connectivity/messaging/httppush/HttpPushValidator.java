@@ -33,6 +33,8 @@ import org.eclipse.ditto.model.connectivity.Target;
 import org.eclipse.ditto.model.placeholders.PlaceholderFactory;
 import org.eclipse.ditto.services.connectivity.messaging.validation.AbstractProtocolValidator;
 
+import com.typesafe.config.ConfigException;
+
 import akka.actor.ActorSystem;
 import akka.http.javadsl.model.HttpMethod;
 import akka.http.javadsl.model.HttpMethods;
@@ -75,6 +77,7 @@ public final class HttpPushValidator extends AbstractProtocolValidator {
         validateTargetConfigs(connection, dittoHeaders);
         validatePayloadMappings(connection, actorSystem, dittoHeaders);
         validateParallelism(connection.getSpecificConfig(), dittoHeaders);
+        validateBatching(connection, dittoHeaders);
     }
 
     @Override
@@ -141,6 +144,44 @@ public final class HttpPushValidator extends AbstractProtocolValidator {
         }
     }
 
+    private void validateBatching(final Connection connection, final DittoHeaders dittoHeaders) {
+        final HttpPushSpecificConfig specificConfig = HttpPushSpecificConfig.fromConnection(connection);
+        try {
+            if (specificConfig.getBatchMaxMessages() <= 0) {
+                throw batchingValidationFailed(HttpPushSpecificConfig.BATCH_MAX_MESSAGES,
+                        "It must be a positive integer.", dittoHeaders);
+            }
+            if (specificConfig.getBatchMaxBytes() <= 0) {
+                throw batchingValidationFailed(HttpPushSpecificConfig.BATCH_MAX_BYTES,
+                        "It must be a positive size in bytes.", dittoHeaders);
+            }
+            if (specificConfig.getBatchMaxDelay().isNegative() || specificConfig.getBatchMaxDelay().isZero()) {
+                throw batchingValidationFailed(HttpPushSpecificConfig.BATCH_MAX_DELAY,
+                        "It must be a positive duration.", dittoHeaders);
+            }
+        } catch (final ConfigException e) {
+            throw ConnectionConfigurationInvalidException.newBuilder(e.getMessage())
+                    .dittoHeaders(dittoHeaders)
+                    .build();
+        }
+        if (specificConfig.getBatchFormat().isEmpty()) {
+            throw batchingValidationFailed(HttpPushSpecificConfig.BATCH_FORMAT,
+                    "Supported formats are: " + Arrays.stream(HttpPushSpecificConfig.BatchFormat.values())
+                            .map(HttpPushSpecificConfig.BatchFormat::getName)
+                            .collect(Collectors.joining(", ")), dittoHeaders);
+        }
+    }
+
+    private static ConnectionConfigurationInvalidException batchingValidationFailed(final String key,
+            final String description, final DittoHeaders headers) {
+
+        final String errorMessage = String.format("The configured value of '%s' is invalid.", key);
+        return ConnectionConfigurationInvalidException.newBuilder(errorMessage)
+                .description(description)
+                .dittoHeaders(headers)
+                .build();
+    }
+
     private static ConnectionConfigurationInvalidException parallelismValidationFailed(final String parallelismString,
             final DittoHeaders headers) {
 
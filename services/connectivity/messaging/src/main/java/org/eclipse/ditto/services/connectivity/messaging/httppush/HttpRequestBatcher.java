@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.httppush;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.services.utils.metrics.instruments.histogram.Histogram;
+
+import akka.NotUsed;
+import akka.http.javadsl.model.ContentTypes;
+import akka.http.javadsl.model.HttpEntities;
+import akka.http.javadsl.model.HttpEntity;
+import akka.http.javadsl.model.HttpHeader;
+import akka.http.javadsl.model.HttpRequest;
+import akka.http.javadsl.model.HttpResponse;
+import akka.http.javadsl.model.ResponseEntity;
+import akka.japi.Pair;
+import akka.stream.Materializer;
+import akka.stream.javadsl.Flow;
+import akka.stream.javadsl.Source;
+import scala.util.Success;
+import scala.util.Try;
+
+/**
+ * Combines the HTTP requests of signals published to the same HTTP target within a time, count and byte window into
+ * one request. The body of a combined request contains one entry per signal as JSON array or as newline delimited
+ * JSON. Each entry is a JSON object with the HTTP headers of the signal in the field {@code headers} and its payload
+ * in the field {@code body}. The HTTP headers of a combined request are the headers which all entries have in common.
+ * Once batching is enabled, every request is sent in this format, even if it contains a single signal.
+ * <p>
+ * The response to a combined request is handed to each contained signal. Should the response body be a JSON array
+ * with one element per contained signal, then each signal receives the response with its own element as body, so that
+ * the HTTP endpoint can answer each signal separately, e.g. to issue different acknowledgements. This also applies to
+ * a request with a single signal. At most as many bytes of the response body are read as all contained signals may
+ * read of a response together.
+ */
+final class HttpRequestBatcher {
+
+    static final JsonKey ENTRY_HEADERS = JsonKey.of("headers");
+    static final JsonKey ENTRY_BODY = JsonKey.of("body");
+
+    private static final akka.http.javadsl.model.ContentType NDJSON_CONTENT_TYPE =
+            ContentTypes.parse("application/x-ndjson");
+
+    private final long maxBytes;
+    private final HttpPushSpecificConfig.BatchFormat format;
+    private final Histogram batchSizes;
+    private final Materializer materializer;
+
+    private HttpRequestBatcher(final long maxBytes,
+            final HttpPushSpecificConfig.BatchFormat format,
+            final Histogram batchSizes,
+            final Materializer materializer) {
+
+        this.maxBytes = maxBytes;
+        this.format = format;
+        this.batchSizes = batchSizes;
+        this.materializer = materializer;
+    }
+
+    /**
+     * Create a flow combining HTTP requests according to the batching configuration of an HTTP-push connection.
+     *
+     * @param specificConfig the specific config of the connection.
+     * @param batchSizes histogram to record the number of signals per request in.
+     * @param materializer materializer to read the bodies of responses to combined requests with.
+     * @return the flow.
+     */
+    static Flow<Pair<HttpRequest, HttpPushContext>, Pair<HttpRequest, HttpPushContext>, NotUsed> flow(
+            final HttpPushSpecificConfig specificConfig,
+            final Histogram batchSizes,
+            final Materializer materializer) {
+
+        final HttpRequestBatcher batcher = new HttpRequestBatcher(specificConfig.getBatchMaxBytes(),
+                specificConfig.getBatchFormat().orElse(HttpPushSpecificConfig.BatchFormat.JSON_ARRAY),
+                batchSizes, materializer);
+
+        return Flow.<Pair<HttpRequest, HttpPushContext>>create()
+                .groupedWithin(specificConfig.getBatchMaxMessages(), specificConfig.getBatchMaxDelay())
+                .mapConcat(batcher::combine);
+    }
+
+    private List<Pair<HttpRequest, HttpPushContext>> combine(final List<Pair<HttpRequest, HttpPushContext>> requests) {
+        final List<Pair<HttpRequest, HttpPushContext>> result = new ArrayList<>();
+        final Map<String, List<Pair<HttpRequest, HttpPushContext>>> requestsPerTarget = new LinkedHashMap<>();
+        for (final Pair<HttpRequest, HttpPushContext> request : requests) {
+            if (request.first().entity() instanceof HttpEntity.Strict) {
+                final String target = request.first().method().name() + " " + request.first().getUri();
+                requestsPerTarget.computeIfAbsent(target, t -> new ArrayList<>()).add(request);
+            } else {
+                // the payload of a streamed entity cannot be embedded into a batch entry without reading it
+                batchSizes.record(1L);
+                result.add(request);
+            }
+        }
+        requestsPerTarget.values().forEach(requestsToTarget -> {
+            List<Pair<HttpRequest, HttpPushContext>> batch = new ArrayList<>();
+            long batchBytes = 0L;
+            for (final Pair<HttpRequest, HttpPushContext> request : requestsToTarget) {
+                final long bytes = getStrictEntity(request).getData().size();
+                if (!batch.isEmpty() && batchBytes + bytes > maxBytes) {
+                    result.add(toBatch(batch));
+                    batch = new ArrayList<>();
+                    batchBytes = 0L;
+                }
+                batch.add(request);
+                batchBytes += bytes;
+            }
+            result.add(toBatch(batch));
+        });
+        return result;
+    }
+
+    private Pair<HttpRequest, HttpPushContext> toBatch(final List<Pair<HttpRequest, HttpPushContext>> requests) {
+        batchSizes.record((long) requests.size());
+        final List<JsonValue> entries = requests.stream()
+                .map(HttpRequestBatcher::toBatchEntry)
+                .collect(Collectors.toList());
+        final HttpRequest batchRequest = requests.get(0).first()
+                .withHeaders(getCommonHeaders(requests))
+                .withEntity(toBatchEntity(entries));
+        final List<HttpPushContext> contexts = requests.stream().map(Pair::second).collect(Collectors.toList());
+        final long maxResponseBytes = contexts.stream().mapToLong(HttpPushContext::getMaxResponseBytes).sum();
+        return Pair.create(batchRequest, HttpPushContext.of(maxResponseBytes,
+                response -> onBatchResponse(response, maxResponseBytes, contexts)));
+    }
+
+    private static JsonObject toBatchEntry(final Pair<HttpRequest, HttpPushContext> request) {
+        final JsonObjectBuilder headers = JsonFactory.newObjectBuilder();
+        request.first()
+                .getHeaders()
+                .forEach(header -> headers.set(JsonField.newInstance(header.name(), JsonValue.of(header.value()))));
+        return JsonFactory.newObjectBuilder()
+                .set(JsonField.newInstance(ENTRY_HEADERS, headers.build()))
+                .set(JsonField.newInstance(ENTRY_BODY, HttpPublisherActor.toJsonValue(getStrictEntity(request))))
+                .build();
+    }
+
+    private HttpEntity.Strict toBatchEntity(final List<JsonValue> entries) {
+        if (format == HttpPushSpecificConfig.BatchFormat.NDJSON) {
+            final String body = entries.stream().map(JsonValue::toString).collect(Collectors.joining("\n", "", "\n"));
+            return HttpEntities.create(NDJSON_CONTENT_TYPE, body.getBytes(StandardCharsets.UTF_8));
+        } else {
+            return HttpEntities.create(ContentTypes.APPLICATION_JSON,
+                    JsonFactory.newArrayBuilder(entries).build().toString());
+        }
+    }
+
+    // Async callback. Must be thread-safe.
+    private void onBatchResponse(final Try<HttpResponse> tryResponse, final long maxResponseBytes,
+            final List<HttpPushContext> contexts) {
+
+        if (tryResponse.isFailure()) {
+            contexts.forEach(context -> context.onResponse(tryResponse));
+            return;
+        }
+        final HttpResponse response = tryResponse.get();
+        response.entity()
+                .withSizeLimit(maxResponseBytes)
+                .toStrict(HttpPublisherActor.READ_BODY_TIMEOUT_MS, materializer)
+                .whenComplete((strictEntity, error) -> {
+                    if (error != null) {
+                        // the request was delivered, so each signal fails on reading the body like a single response
+                        final HttpResponse failedResponse = response.withEntity(
+                                HttpEntities.createChunked(response.entity().getContentType(), Source.failed(error)));
+                        contexts.forEach(context -> context.onResponse(new Success<>(failedResponse)));
+                    } else {
+                        final List<HttpResponse> responses = splitResponse(response, strictEntity, contexts.size());
+                        for (int i = 0; i < contexts.size(); ++i) {
+                            contexts.get(i).onResponse(new Success<>(responses.get(i)));
+                        }
+                    }
+                });
+    }
+
+    private static List<HttpResponse> splitResponse(final HttpResponse response, final HttpEntity.Strict entity,
+            final int batchSize) {
+
+        final JsonValue body = HttpPublisherActor.toJsonValue(entity);
+        if (body.isArray() && body.asArray().getSize() == batchSize) {
+            return body.asArray()
+                    .stream()
+                    .map(element -> response.withEntity(entity.getContentType(),
+                            element.toString().getBytes(StandardCharsets.UTF_8)))
+                    .collect(Collectors.toList());
+        } else {
+            final HttpResponse strictResponse = response.withEntity((ResponseEntity) entity);
+            final List<HttpResponse> responses = new ArrayList<>(batchSize);
+            for (int i = 0; i < batchSize; ++i) {
+                responses.add(strictResponse);
+            }
+            return responses;
+        }
+    }
+
+    private static List<HttpHeader> getCommonHeaders(final List<Pair<HttpRequest, HttpPushContext>> requests) {
+        final List<HttpHeader> commonHeaders = toList(requests.get(0).first().getHeaders());
+        requests.subList(1, requests.size())
+                .forEach(request -> commonHeaders.retainAll(toList(request.first().getHeaders())));
+        return commonHeaders;
+    }
+
+    private static List<HttpHeader> toList(final Iterable<HttpHeader> headers) {
+        return StreamSupport.stream(headers.spliterator(), false).collect(Collectors.toList());
+    }
+
+    private static HttpEntity.Strict getStrictEntity(final Pair<HttpRequest, HttpPushContext> request) {
+        return (HttpEntity.Strict) request.first().entity();
+    }
+
+}
@@ -12,30 +12,46 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.kafka;
 
+import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.apache.kafka.clients.CommonClientConfigs;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
 import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.Deserializer;
 import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.eclipse.ditto.model.base.entity.id.EntityId;
 import org.eclipse.ditto.model.connectivity.Connection;
 import org.eclipse.ditto.services.connectivity.config.KafkaConfig;
 
 /**
- * Creates Kafka sinks.
+ * Creates Kafka sinks and sources.
  */
 final class DefaultKafkaConnectionFactory implements KafkaConnectionFactory {
 
     private static final Serializer<String> KEY_SERIALIZER = new StringSerializer();
-    private static final Serializer<String> VALUE_SERIALIZER = KEY_SERIALIZER;
+    private static final Serializer<byte[]> VALUE_SERIALIZER = new ByteArraySerializer();
+    private static final Deserializer<String> KEY_DESERIALIZER = new StringDeserializer();
+    private static final Deserializer<byte[]> VALUE_DESERIALIZER = new ByteArrayDeserializer();
 
     private final Connection connection;
     private final Map<String, Object> properties;
+    private final Map<String, Object> consumerProperties;
+    private final AtomicInteger consumerCounter;
 
-    private DefaultKafkaConnectionFactory(final Connection connection, final Map<String, Object> producerProperties) {
+    private DefaultKafkaConnectionFactory(final Connection connection, final Map<String, Object> producerProperties,
+            final Map<String, Object> consumerProperties) {
 
         this.connection = connection;
         properties = producerProperties;
+        this.consumerProperties = consumerProperties;
+        consumerCounter = new AtomicInteger();
     }
 
     /**
@@ -48,10 +64,10 @@ final class DefaultKafkaConnectionFactory implements KafkaConnectionFactory {
      */
     static DefaultKafkaConnectionFactory getInstance(final Connection connection, final KafkaConfig kafkaConfig,
             final String clientId) {
-        final ProducerPropertiesFactory settingsFactory =
-                ProducerPropertiesFactory.getInstance(connection, kafkaConfig, clientId);
+        final PropertiesFactory settingsFactory = PropertiesFactory.getInstance(connection, kafkaConfig, clientId);
 
-        return new DefaultKafkaConnectionFactory(connection, settingsFactory.getProducerProperties());
+        return new DefaultKafkaConnectionFactory(connection, settingsFactory.getProducerProperties(),
+                settingsFactory.getConsumerProperties());
     }
 
     @Override
@@ -60,8 +76,18 @@ final class DefaultKafkaConnectionFactory implements KafkaConnectionFactory {
     }
 
     @Override
-    public org.apache.kafka.clients.producer.Producer<String, String> newProducer() {
+    public org.apache.kafka.clients.producer.Producer<String, byte[]> newProducer() {
         return new KafkaProducer<>(properties, KEY_SERIALIZER, VALUE_SERIALIZER);
     }
 
+    @Override
+    public Consumer<String, byte[]> newConsumer() {
+        // each consumer needs its own client ID, otherwise the Kafka client fails to register its metrics
+        final Map<String, Object> propertiesOfConsumer = new HashMap<>(consumerProperties);
+        propertiesOfConsumer.put(CommonClientConfigs.CLIENT_ID_CONFIG,
+                consumerProperties.get(CommonClientConfigs.CLIENT_ID_CONFIG) + "-consumer-" +
+                        consumerCounter.incrementAndGet());
+        return new KafkaConsumer<>(propertiesOfConsumer, KEY_DESERIALIZER, VALUE_DESERIALIZER);
+    }
+
 }
@@ -12,7 +12,9 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.kafka;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -23,6 +25,7 @@ import javax.annotation.Nullable;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.connectivity.Connection;
 import org.eclipse.ditto.model.connectivity.ConnectionId;
+import org.eclipse.ditto.model.connectivity.Source;
 import org.eclipse.ditto.services.connectivity.config.ConnectionConfig;
 import org.eclipse.ditto.services.connectivity.config.KafkaConfig;
 import org.eclipse.ditto.services.connectivity.messaging.BaseClientActor;
@@ -48,6 +51,8 @@ public final class KafkaClientActor extends BaseClientActor {
     private final KafkaPublisherActorFactory publisherActorFactory;
     private final Set<ActorRef> pendingStatusReportsFromStreams;
     private final KafkaConnectionFactory connectionFactory;
+    private final KafkaConfig kafkaConfig;
+    private final List<ActorRef> kafkaConsumerActors;
 
     private CompletableFuture<Status.Status> testConnectionFuture = null;
     private ActorRef kafkaPublisherActor;
@@ -60,11 +65,12 @@ public final class KafkaClientActor extends BaseClientActor {
 
         super(connection, proxyActor, connectionActor);
         final ConnectionConfig connectionConfig = connectivityConfig.getConnectionConfig();
-        final KafkaConfig kafkaConfig = connectionConfig.getKafkaConfig();
+        kafkaConfig = connectionConfig.getKafkaConfig();
         connectionFactory =
                 DefaultKafkaConnectionFactory.getInstance(connection, kafkaConfig, getClientId(connection.getId()));
         publisherActorFactory = factory;
         pendingStatusReportsFromStreams = new HashSet<>();
+        kafkaConsumerActors = new ArrayList<>();
     }
 
     /**
@@ -144,6 +150,7 @@ public final class KafkaClientActor extends BaseClientActor {
 
     /**
      * Start Kafka publishers, expect "Status.Success" from each of them, then send "ClientConnected" to self.
+     * Consumers are started once the client is connected.
      *
      * @param dryRun if set to true, exchange no message between the broker and the Ditto cluster.
      * @param connectionId the ID of the connection to connect the client for.
@@ -154,7 +161,6 @@ public final class KafkaClientActor extends BaseClientActor {
 
         // start publisher
         startKafkaPublisher(dryRun, connectionId, correlationId);
-        // no command consumers as we don't support consuming from sources yet
     }
 
     private void startKafkaPublisher(final boolean dryRun, final ConnectionId connectionId,
@@ -170,12 +176,49 @@ public final class KafkaClientActor extends BaseClientActor {
         pendingStatusReportsFromStreams.add(kafkaPublisherActor);
     }
 
+    /**
+     * Start one consumer actor per address and consumer count of each source. All consumers of the connection,
+     * including the ones of other client actors, share a consumer group, so that Kafka distributes the partitions of
+     * the topics among them. No consumers are started in dry run in order not to take part in the consumer group.
+     *
+     * @param clientConnected the event of the connected client.
+     * @return the future status of the started consumers.
+     */
+    @Override
+    protected CompletionStage<Status.Status> startConsumerActors(@Nullable final ClientConnected clientConnected) {
+        stopConsumerActors();
+        if (!isDryRun()) {
+            for (final Source source : getSourcesOrEmptyList()) {
+                for (final String topic : source.getAddresses()) {
+                    for (int i = 0; i < source.getConsumerCount(); i++) {
+                        startKafkaConsumer(source, topic);
+                    }
+                }
+            }
+        }
+        return CompletableFuture.completedFuture(DONE);
+    }
+
+    private void startKafkaConsumer(final Source source, final String topic) {
+        logger.debug("Starting Kafka consumer actor for topic <{}>.", topic);
+        final Props consumerActorProps = KafkaConsumerActor.props(connection(), connectionFactory, topic,
+                getInboundMappingProcessorActor(), source, kafkaConfig.getConsumerConfig());
+        kafkaConsumerActors.add(startChildActorConflictFree(KafkaConsumerActor.ACTOR_NAME_PREFIX + topic,
+                consumerActorProps));
+    }
+
     @Override
     protected void cleanupResourcesForConnection() {
         pendingStatusReportsFromStreams.clear();
+        stopConsumerActors();
         stopPublisherActor();
     }
 
+    private void stopConsumerActors() {
+        kafkaConsumerActors.forEach(this::stopChildActor);
+        kafkaConsumerActors.clear();
+    }
+
     @Override
     protected CompletionStage<Status.Status> startPublisherActor() {
         return CompletableFuture.completedFuture(DONE);
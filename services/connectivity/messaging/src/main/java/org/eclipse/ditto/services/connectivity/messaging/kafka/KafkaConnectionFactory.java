@@ -12,11 +12,12 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.kafka;
 
+import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.producer.Producer;
 import org.eclipse.ditto.model.base.entity.id.EntityId;
 
 /**
- * Creates Kafka sinks.
+ * Creates Kafka sinks and sources.
  */
 interface KafkaConnectionFactory {
 
@@ -28,9 +29,18 @@ interface KafkaConnectionFactory {
     EntityId connectionId();
 
     /**
-     * Create a producer of Kafka messages.
+     * Create a producer of Kafka messages. Record values are sent as raw bytes.
      *
      * @return the producer.
      */
-    Producer<String, String> newProducer();
+    Producer<String, byte[]> newProducer();
+
+    /**
+     * Create a consumer of Kafka messages. The consumer is not subscribed to any topic yet.
+     *
+     * @return the consumer.
+     * @since 2.0.0
+     */
+    Consumer<String, byte[]> newConsumer();
+
 }
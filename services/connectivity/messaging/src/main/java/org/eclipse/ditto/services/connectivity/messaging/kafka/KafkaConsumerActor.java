@@ -0,0 +1,305 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.kafka;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import javax.annotation.Nullable;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.eclipse.ditto.model.base.common.CharsetDeterminer;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.connectivity.Connection;
+import org.eclipse.ditto.model.connectivity.EnforcementFilterFactory;
+import org.eclipse.ditto.model.connectivity.Source;
+import org.eclipse.ditto.model.placeholders.PlaceholderFactory;
+import org.eclipse.ditto.services.connectivity.config.KafkaConsumerConfig;
+import org.eclipse.ditto.services.connectivity.messaging.BaseConsumerActor;
+import org.eclipse.ditto.services.connectivity.messaging.internal.RetrieveAddressStatus;
+import org.eclipse.ditto.services.connectivity.util.ConnectivityMdcEntryKey;
+import org.eclipse.ditto.services.models.connectivity.EnforcementFactoryFactory;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessageBuilder;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessageFactory;
+import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.services.utils.akka.logging.ThreadSafeDittoLoggingAdapter;
+
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.stream.KillSwitches;
+import akka.stream.Materializer;
+import akka.stream.UniqueKillSwitch;
+import akka.stream.javadsl.Keep;
+import akka.stream.javadsl.RestartSource;
+import akka.stream.javadsl.Sink;
+
+/**
+ * Consumes records of a Kafka topic and forwards them to the inbound mapping processor.
+ * <p>
+ * Records are polled only on demand of a stream whose number of records awaiting their acknowledgement is bounded.
+ * The offsets of acknowledged records are committed in batches and in order per partition, so that records are
+ * consumed at least once. If the redelivery of a record is requested, the stream is restarted with a new consumer
+ * which resumes at the last committed offset.
+ * </p>
+ */
+final class KafkaConsumerActor extends BaseConsumerActor {
+
+    /**
+     * Prefix of the names of Kafka consumer actors.
+     */
+    static final String ACTOR_NAME_PREFIX = "kafkaConsumer-";
+
+    static final String KAFKA_TOPIC_HEADER = "kafka.topic";
+    static final String KAFKA_KEY_HEADER = "kafka.key";
+    static final String KAFKA_PARTITION_HEADER = "kafka.partition";
+    static final String KAFKA_OFFSET_HEADER = "kafka.offset";
+    static final String KAFKA_TIMESTAMP_HEADER = "kafka.timestamp";
+
+    private static final String CONTENT_TYPE_APPLICATION_OCTET_STREAM = "application/octet-stream";
+
+    private final ThreadSafeDittoLoggingAdapter logger;
+    @Nullable private final EnforcementFilterFactory<Map<String, String>, CharSequence> headerEnforcementFilterFactory;
+    private final UniqueKillSwitch killSwitch;
+
+    @SuppressWarnings("unused")
+    private KafkaConsumerActor(final Connection connection,
+            final KafkaConnectionFactory factory,
+            final String topic,
+            final ActorRef inboundMappingProcessor,
+            final Source source,
+            final KafkaConsumerConfig consumerConfig) {
+
+        super(connection, topic, inboundMappingProcessor, source);
+        logger = DittoLoggerFactory.getThreadSafeDittoLoggingAdapter(this)
+                .withMdcEntry(ConnectivityMdcEntryKey.CONNECTION_ID.toString(), connection.getId());
+        headerEnforcementFilterFactory = source.getEnforcement()
+                .map(enforcement -> EnforcementFactoryFactory.newEnforcementFilterFactory(enforcement,
+                        PlaceholderFactory.newHeadersPlaceholder()))
+                .orElse(null);
+        killSwitch = startConsumerStream(factory, consumerConfig);
+    }
+
+    /**
+     * Creates Akka configuration object {@link Props} for this {@code KafkaConsumerActor}.
+     *
+     * @param connection the connection the source belongs to.
+     * @param factory the factory to create Kafka consumers with.
+     * @param topic the topic to consume.
+     * @param inboundMappingProcessor the actor to forward consumed messages to.
+     * @param source the source of the connection.
+     * @param consumerConfig the configuration of Kafka consumers.
+     * @return the Akka configuration Props object.
+     */
+    static Props props(final Connection connection, final KafkaConnectionFactory factory, final String topic,
+            final ActorRef inboundMappingProcessor, final Source source, final KafkaConsumerConfig consumerConfig) {
+
+        return Props.create(KafkaConsumerActor.class, connection, factory, topic, inboundMappingProcessor, source,
+                consumerConfig);
+    }
+
+    @Override
+    public Receive createReceive() {
+        return receiveBuilder()
+                .match(ConsumedRecord.class, this::handleConsumedRecord)
+                .match(RetrieveAddressStatus.class, ram -> getSender().tell(getCurrentSourceStatus(), getSelf()))
+                .matchAny(unhandled -> {
+                    logger.info("Unhandled message: {}", unhandled);
+                    unhandled(unhandled);
+                })
+                .build();
+    }
+
+    @Override
+    public void postStop() throws Exception {
+        killSwitch.shutdown();
+        super.postStop();
+    }
+
+    @Override
+    protected ThreadSafeDittoLoggingAdapter log() {
+        return logger;
+    }
+
+    private UniqueKillSwitch startConsumerStream(final KafkaConnectionFactory factory,
+            final KafkaConsumerConfig consumerConfig) {
+
+        final ActorRef self = getSelf();
+        final akka.stream.javadsl.Source<Integer, ?> restartingSource =
+                RestartSource.onFailuresWithBackoff(consumerConfig.getRestartMinBackoff(),
+                        consumerConfig.getRestartMaxBackoff(), 0.2, () -> {
+                            final KafkaConsumerPoller poller = KafkaConsumerPoller.of(factory::newConsumer,
+                                    List.of(sourceAddress), consumerConfig.getPollTimeout(), logger);
+                            return akka.stream.javadsl.Source.unfoldResource(poller::open,
+                                    p -> Optional.of(p.poll()),
+                                    KafkaConsumerPoller::close)
+                                    .mapConcat(records -> records)
+                                    .mapAsync(consumerConfig.getMaxInFlight(), record -> consume(record, self))
+                                    .groupedWithin(consumerConfig.getCommitMaxBatchSize(),
+                                            consumerConfig.getCommitInterval())
+                                    .map(acknowledgedRecords -> {
+                                        poller.requestCommit(acknowledgedRecords);
+                                        return acknowledgedRecords.size();
+                                    });
+                        });
+
+        return restartingSource.viaMat(KillSwitches.single(), Keep.right())
+                .to(Sink.ignore())
+                .run(Materializer.createMaterializer(this::getContext));
+    }
+
+    private static CompletionStage<ConsumerRecord<String, byte[]>> consume(
+            final ConsumerRecord<String, byte[]> record, final ActorRef consumerActor) {
+
+        final ConsumedRecord consumedRecord = new ConsumedRecord(record);
+        consumerActor.tell(consumedRecord, ActorRef.noSender());
+        return consumedRecord.acknowledgement;
+    }
+
+    private void handleConsumedRecord(final ConsumedRecord consumedRecord) {
+        final ConsumerRecord<String, byte[]> record = consumedRecord.record;
+        final CompletableFuture<ConsumerRecord<String, byte[]>> acknowledgement = consumedRecord.acknowledgement;
+        Map<String, String> headers = null;
+        try {
+            logger.debug("Received record at offset <{}> of partition <{}> of topic <{}>.", record.offset(),
+                    record.partition(), record.topic());
+            headers = extractHeaders(record);
+            final ExternalMessageBuilder builder = ExternalMessageFactory.newExternalMessageBuilder(headers);
+            final ExternalMessage externalMessage =
+                    withPayload(builder, record.value(), headers.get(ExternalMessage.CONTENT_TYPE_HEADER))
+                    .withAuthorizationContext(source.getAuthorizationContext())
+                    .withEnforcement(null != headerEnforcementFilterFactory
+                            ? headerEnforcementFilterFactory.getFilter(headers)
+                            : null)
+                    .withHeaderMapping(source.getHeaderMapping().orElse(null))
+                    .withSourceAddress(sourceAddress)
+                    .withPayloadMapping(source.getPayloadMapping())
+                    .build();
+            inboundMonitor.success(externalMessage);
+            forwardToMappingActor(externalMessage,
+                    () -> acknowledge(externalMessage, record, acknowledgement),
+                    redeliver -> reject(externalMessage, record, acknowledgement, redeliver));
+        } catch (final DittoRuntimeException e) {
+            logger.info("Got DittoRuntimeException '{}' when record was parsed: {}", e.getErrorCode(),
+                    e.getMessage());
+            if (headers != null) {
+                inboundMonitor.failure(headers, e);
+                forwardToMappingActor(e.setDittoHeaders(DittoHeaders.of(headers)));
+            } else {
+                inboundMonitor.failure(e);
+            }
+            // redelivering the record would not change the result
+            acknowledgement.complete(record);
+        } catch (final Exception e) {
+            logger.info("Failed to handle Kafka record: {}", e.getMessage());
+            if (headers != null) {
+                inboundMonitor.exception(headers, e);
+            } else {
+                inboundMonitor.exception(e);
+            }
+            acknowledgement.complete(record);
+        }
+    }
+
+    private static ExternalMessageBuilder withPayload(final ExternalMessageBuilder builder,
+            @Nullable final byte[] value, @Nullable final String contentType) {
+
+        if (null == value) {
+            return builder.withText(null);
+        } else if (shouldBeInterpretedAsBytes(contentType)) {
+            return builder.withBytes(value);
+        } else {
+            return builder.withTextAndBytes(new String(value, CharsetDeterminer.getInstance().apply(contentType)),
+                    value);
+        }
+    }
+
+    private static boolean shouldBeInterpretedAsBytes(@Nullable final String contentType) {
+        return contentType != null && contentType.startsWith(CONTENT_TYPE_APPLICATION_OCTET_STREAM);
+    }
+
+    private static Map<String, String> extractHeaders(final ConsumerRecord<String, byte[]> record) {
+        final Map<String, String> headers = new HashMap<>();
+        for (final Header header : record.headers()) {
+            if (null != header.value()) {
+                headers.put(header.key(), new String(header.value(), StandardCharsets.UTF_8));
+            }
+        }
+        headers.put(KAFKA_TOPIC_HEADER, record.topic());
+        if (null != record.key()) {
+            headers.put(KAFKA_KEY_HEADER, record.key());
+        }
+        headers.put(KAFKA_PARTITION_HEADER, String.valueOf(record.partition()));
+        headers.put(KAFKA_OFFSET_HEADER, String.valueOf(record.offset()));
+        headers.put(KAFKA_TIMESTAMP_HEADER, String.valueOf(record.timestamp()));
+        return headers;
+    }
+
+    private void acknowledge(final ExternalMessage externalMessage, final ConsumerRecord<String, byte[]> record,
+            final CompletableFuture<ConsumerRecord<String, byte[]>> acknowledgement) {
+
+        inboundAcknowledgedMonitor.success(externalMessage, "Sending success acknowledgement");
+        acknowledgement.complete(record);
+    }
+
+    private void reject(final ExternalMessage externalMessage, final ConsumerRecord<String, byte[]> record,
+            final CompletableFuture<ConsumerRecord<String, byte[]>> acknowledgement, final boolean redeliver) {
+
+        if (redeliver) {
+            inboundAcknowledgedMonitor.exception(externalMessage,
+                    "Restarting consumer for redeliveries due to unfulfilled acknowledgements.");
+            acknowledgement.completeExceptionally(new RedeliveryRequestedException(record));
+        } else {
+            inboundAcknowledgedMonitor.exception(externalMessage,
+                    "Unfulfilled acknowledgements are present, but redelivery is not requested.");
+            acknowledgement.complete(record);
+        }
+    }
+
+    /**
+     * A record consumed by the stream which awaits its acknowledgement.
+     */
+    private static final class ConsumedRecord {
+
+        private final ConsumerRecord<String, byte[]> record;
+        private final CompletableFuture<ConsumerRecord<String, byte[]>> acknowledgement;
+
+        private ConsumedRecord(final ConsumerRecord<String, byte[]> record) {
+            this.record = record;
+            acknowledgement = new CompletableFuture<>();
+        }
+
+    }
+
+    /**
+     * Fails the consumer stream so that it is restarted at the last committed offset.
+     */
+    private static final class RedeliveryRequestedException extends RuntimeException {
+
+        private static final long serialVersionUID = -2870158004312577125L;
+
+        private RedeliveryRequestedException(final ConsumerRecord<?, ?> record) {
+            super("Redelivery requested for record at offset <" + record.offset() + "> of partition <" +
+                    record.partition() + "> of topic <" + record.topic() + ">.", null, false, false);
+        }
+
+    }
+
+}
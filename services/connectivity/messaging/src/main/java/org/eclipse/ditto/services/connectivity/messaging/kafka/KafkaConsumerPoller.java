@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.kafka;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.eclipse.ditto.services.utils.akka.logging.ThreadSafeDittoLoggingAdapter;
+
+/**
+ * Wraps a Kafka {@link Consumer} which is not thread-safe, so that records are polled and offsets are committed by
+ * one thread at a time while offsets may be requested to be committed by any thread.
+ * <p>
+ * Offsets requested to be committed are committed asynchronously before the next poll, or synchronously when the
+ * poller is closed. Thus the poller does not commit anything while nobody polls, i.e. while the consuming stream is
+ * backpressured.
+ * </p>
+ */
+@ThreadSafe
+final class KafkaConsumerPoller {
+
+    private final Supplier<Consumer<String, byte[]>> consumerFactory;
+    private final Collection<String> topics;
+    private final Duration pollTimeout;
+    private final ThreadSafeDittoLoggingAdapter logger;
+    private final Map<TopicPartition, OffsetAndMetadata> pendingOffsets;
+
+    @Nullable private volatile Consumer<String, byte[]> consumer;
+
+    private KafkaConsumerPoller(final Supplier<Consumer<String, byte[]>> consumerFactory,
+            final Collection<String> topics, final Duration pollTimeout, final ThreadSafeDittoLoggingAdapter logger) {
+
+        this.consumerFactory = consumerFactory;
+        this.topics = topics;
+        this.pollTimeout = pollTimeout;
+        this.logger = logger;
+        pendingOffsets = new HashMap<>();
+        consumer = null;
+    }
+
+    /**
+     * Creates a new poller which creates its consumer only when it is opened.
+     *
+     * @param consumerFactory creates the Kafka consumer.
+     * @param topics the topics to subscribe to.
+     * @param pollTimeout the maximum duration a single poll blocks.
+     * @param logger the logger to report failed commits to.
+     * @return the poller.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    static KafkaConsumerPoller of(final Supplier<Consumer<String, byte[]>> consumerFactory,
+            final Collection<String> topics, final Duration pollTimeout, final ThreadSafeDittoLoggingAdapter logger) {
+
+        return new KafkaConsumerPoller(checkNotNull(consumerFactory, "consumerFactory"),
+                List.copyOf(checkNotNull(topics, "topics")),
+                checkNotNull(pollTimeout, "pollTimeout"),
+                checkNotNull(logger, "logger"));
+    }
+
+    /**
+     * Creates the Kafka consumer and subscribes it to the topics. The consumer joins the consumer group of the
+     * connection and gets a share of the partitions of the topics assigned.
+     *
+     * @return this poller.
+     */
+    KafkaConsumerPoller open() {
+        final Consumer<String, byte[]> newConsumer = consumerFactory.get();
+        newConsumer.subscribe(topics);
+        consumer = newConsumer;
+        return this;
+    }
+
+    /**
+     * Commits the offsets requested so far and polls the next records. Blocks for at most the poll timeout.
+     *
+     * @return the polled records, possibly empty.
+     * @throws IllegalStateException if the poller was not opened.
+     */
+    List<ConsumerRecord<String, byte[]>> poll() {
+        final Consumer<String, byte[]> theConsumer = getConsumerOrThrow();
+        final Map<TopicPartition, OffsetAndMetadata> offsets = drainPendingOffsets();
+        if (!offsets.isEmpty()) {
+            theConsumer.commitAsync(offsets, (committedOffsets, error) -> {
+                if (null != error) {
+                    // records of failed commits are redelivered after a rebalance at the latest
+                    logger.warning("Failed to commit offsets <{}>: {}", committedOffsets, error.getMessage());
+                }
+            });
+        }
+        final ConsumerRecords<String, byte[]> records = theConsumer.poll(pollTimeout);
+        final List<ConsumerRecord<String, byte[]>> result = new ArrayList<>(records.count());
+        records.forEach(result::add);
+        return result;
+    }
+
+    /**
+     * Requests to commit the offsets of the given records. All records of a partition up to the given ones must
+     * have been acknowledged. Can be called by any thread.
+     *
+     * @param records the acknowledged records.
+     */
+    void requestCommit(final Collection<ConsumerRecord<String, byte[]>> records) {
+        synchronized (pendingOffsets) {
+            for (final ConsumerRecord<String, byte[]> record : records) {
+                // the committed offset is the offset of the next record to consume
+                final long nextOffset = record.offset() + 1;
+                pendingOffsets.merge(new TopicPartition(record.topic(), record.partition()),
+                        new OffsetAndMetadata(nextOffset),
+                        (existing, requested) -> existing.offset() < requested.offset() ? requested : existing);
+            }
+        }
+    }
+
+    /**
+     * Commits the offsets requested so far synchronously and closes the consumer.
+     * Records acknowledged after this are redelivered to the next consumer of their partition.
+     */
+    void close() {
+        final Consumer<String, byte[]> theConsumer = consumer;
+        if (null != theConsumer) {
+            consumer = null;
+            try {
+                final Map<TopicPartition, OffsetAndMetadata> offsets = drainPendingOffsets();
+                if (!offsets.isEmpty()) {
+                    theConsumer.commitSync(offsets);
+                }
+            } catch (final RuntimeException e) {
+                logger.warning("Failed to commit offsets on closing consumer: {}", e.getMessage());
+            } finally {
+                theConsumer.close();
+            }
+        }
+    }
+
+    private Map<TopicPartition, OffsetAndMetadata> drainPendingOffsets() {
+        synchronized (pendingOffsets) {
+            final Map<TopicPartition, OffsetAndMetadata> result = new HashMap<>(pendingOffsets);
+            pendingOffsets.clear();
+            return result;
+        }
+    }
+
+    private Consumer<String, byte[]> getConsumerOrThrow() {
+        final Consumer<String, byte[]> theConsumer = consumer;
+        if (null == theConsumer) {
+            throw new IllegalStateException("Kafka consumer is not open.");
+        }
+        return theConsumer;
+    }
+
+}
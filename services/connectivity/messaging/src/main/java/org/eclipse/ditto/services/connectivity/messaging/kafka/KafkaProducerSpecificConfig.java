@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.kafka;
+
+import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.record.CompressionType;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.connectivity.Connection;
+import org.eclipse.ditto.model.connectivity.ConnectionConfigurationInvalidException;
+
+/**
+ * Tunes the batching and compression of the Kafka producer of a connection by its specific config.
+ * The specific config may contain {@code lingerMs}, {@code batchSize} and {@code compressionType} which are passed to
+ * the producer as {@code linger.ms}, {@code batch.size} and {@code compression.type}. Values which are absent are
+ * taken from the producer config of the connectivity service.
+ *
+ * @since 2.0.0
+ */
+final class KafkaProducerSpecificConfig implements KafkaSpecificConfig {
+
+    static final String SPECIFIC_CONFIG_LINGER_MS_KEY = "lingerMs";
+    static final String SPECIFIC_CONFIG_BATCH_SIZE_KEY = "batchSize";
+    static final String SPECIFIC_CONFIG_COMPRESSION_TYPE_KEY = "compressionType";
+
+    private static final List<String> SPECIFIC_CONFIG_KEYS = List.of(SPECIFIC_CONFIG_LINGER_MS_KEY,
+            SPECIFIC_CONFIG_BATCH_SIZE_KEY, SPECIFIC_CONFIG_COMPRESSION_TYPE_KEY);
+    private static final Set<String> COMPRESSION_TYPES = Arrays.stream(CompressionType.values())
+            .map(compressionType -> compressionType.name)
+            .collect(Collectors.toSet());
+    private static final String INVALID_VALUE_TEMPLATE =
+            "The connection configuration contains an invalid value for ''{0}'': <{1}>. {2}";
+
+    @Nullable private static KafkaProducerSpecificConfig instance;
+
+    private KafkaProducerSpecificConfig() {
+        super();
+    }
+
+    public static KafkaProducerSpecificConfig getInstance() {
+        KafkaProducerSpecificConfig result = instance;
+        if (null == result) {
+            result = new KafkaProducerSpecificConfig();
+            instance = result;
+        }
+        return result;
+    }
+
+    @Override
+    public boolean isApplicable(final Connection connection) {
+        final Map<String, String> specificConfig = connection.getSpecificConfig();
+        return SPECIFIC_CONFIG_KEYS.stream().anyMatch(specificConfig::containsKey);
+    }
+
+    @Override
+    public void validateOrThrow(final Connection connection, final DittoHeaders dittoHeaders) {
+        final Map<String, String> specificConfig = connection.getSpecificConfig();
+        final String lingerMs = specificConfig.get(SPECIFIC_CONFIG_LINGER_MS_KEY);
+        if (!isNonNegativeLong(lingerMs)) {
+            throw invalidValue(SPECIFIC_CONFIG_LINGER_MS_KEY, lingerMs, "Expected a non-negative number.",
+                    dittoHeaders);
+        }
+        final String batchSize = specificConfig.get(SPECIFIC_CONFIG_BATCH_SIZE_KEY);
+        if (!isNonNegativeInt(batchSize)) {
+            throw invalidValue(SPECIFIC_CONFIG_BATCH_SIZE_KEY, batchSize, "Expected a non-negative number.",
+                    dittoHeaders);
+        }
+        final String compressionType = specificConfig.get(SPECIFIC_CONFIG_COMPRESSION_TYPE_KEY);
+        if (!isCompressionType(compressionType)) {
+            throw invalidValue(SPECIFIC_CONFIG_COMPRESSION_TYPE_KEY, compressionType,
+                    "Allowed compression types are: " + COMPRESSION_TYPES, dittoHeaders);
+        }
+    }
+
+    @Override
+    public boolean isValid(final Connection connection) {
+        final Map<String, String> specificConfig = connection.getSpecificConfig();
+        return isNonNegativeLong(specificConfig.get(SPECIFIC_CONFIG_LINGER_MS_KEY)) &&
+                isNonNegativeInt(specificConfig.get(SPECIFIC_CONFIG_BATCH_SIZE_KEY)) &&
+                isCompressionType(specificConfig.get(SPECIFIC_CONFIG_COMPRESSION_TYPE_KEY));
+    }
+
+    @Override
+    public void apply(final HashMap<String, Object> producerProperties, final Connection connection) {
+        if (isApplicable(connection) && isValid(connection)) {
+            final Map<String, String> specificConfig = connection.getSpecificConfig();
+            putIfPresent(producerProperties, ProducerConfig.LINGER_MS_CONFIG,
+                    specificConfig.get(SPECIFIC_CONFIG_LINGER_MS_KEY));
+            putIfPresent(producerProperties, ProducerConfig.BATCH_SIZE_CONFIG,
+                    specificConfig.get(SPECIFIC_CONFIG_BATCH_SIZE_KEY));
+            putIfPresent(producerProperties, ProducerConfig.COMPRESSION_TYPE_CONFIG,
+                    specificConfig.get(SPECIFIC_CONFIG_COMPRESSION_TYPE_KEY));
+        }
+    }
+
+    private static void putIfPresent(final HashMap<String, Object> producerProperties, final String property,
+            @Nullable final String value) {
+
+        if (null != value) {
+            producerProperties.put(property, value.trim());
+        }
+    }
+
+    private static boolean isNonNegativeLong(@Nullable final String value) {
+        if (null == value) {
+            return true;
+        }
+        try {
+            return Long.parseLong(value.trim()) >= 0L;
+        } catch (final NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static boolean isNonNegativeInt(@Nullable final String value) {
+        if (null == value) {
+            return true;
+        }
+        try {
+            return Integer.parseInt(value.trim()) >= 0;
+        } catch (final NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static boolean isCompressionType(@Nullable final String value) {
+        return null == value || COMPRESSION_TYPES.contains(value.trim());
+    }
+
+    private static ConnectionConfigurationInvalidException invalidValue(final String key, final String value,
+            final String description, final DittoHeaders dittoHeaders) {
+
+        final String message = MessageFormat.format(INVALID_VALUE_TEMPLATE, key, value, description);
+        return ConnectionConfigurationInvalidException.newBuilder(message)
+                .dittoHeaders(dittoHeaders)
+                .build();
+    }
+
+}
@@ -12,13 +12,15 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.kafka;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 
@@ -50,7 +52,6 @@ import akka.Done;
 import akka.actor.Props;
 import akka.actor.Status;
 import akka.japi.pf.ReceiveBuilder;
-import akka.util.ByteString;
 
 /**
  * Responsible for publishing {@link org.eclipse.ditto.services.models.connectivity.ExternalMessage}s into an Kafka
@@ -59,13 +60,14 @@ import akka.util.ByteString;
 final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
 
     private static final AcknowledgementLabel NO_ACK_LABEL = AcknowledgementLabel.of("ditto-kafka-diagnostic");
+    private static final byte[] EMPTY_PAYLOAD = new byte[0];
 
     static final String ACTOR_NAME = "kafkaPublisher";
 
     private final KafkaConnectionFactory connectionFactory;
     private final boolean dryRun;
 
-    private Producer<String, String> producer;
+    private Producer<String, byte[]> producer;
 
     @SuppressWarnings("unused")
     private KafkaPublisherActor(final Connection connection, final KafkaConnectionFactory factory,
@@ -146,7 +148,7 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
         } else {
             final ExternalMessage messageWithConnectionIdHeader = message
                     .withHeader("ditto-connection-id", connection.getId().toString());
-            final ProducerRecord<String, String> record = producerRecord(publishTarget, messageWithConnectionIdHeader);
+            final ProducerRecord<String, byte[]> record = producerRecord(publishTarget, messageWithConnectionIdHeader);
             final CompletableFuture<CommandResponse<?>> resultFuture = new CompletableFuture<>();
             final AcknowledgementLabel autoAckLabel = getAcknowledgementLabel(autoAckTarget).orElse(NO_ACK_LABEL);
             final Callback callBack = new ProducerCallBack(signal, autoAckLabel, ackSizeQuota, resultFuture,
@@ -173,10 +175,10 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
         return dryRun;
     }
 
-    private static ProducerRecord<String, String> producerRecord(final KafkaPublishTarget publishTarget,
+    private static ProducerRecord<String, byte[]> producerRecord(final KafkaPublishTarget publishTarget,
             final ExternalMessage externalMessage) {
 
-        final String payload = mapExternalMessagePayload(externalMessage);
+        final byte[] payload = mapExternalMessagePayload(externalMessage);
         final Iterable<Header> headers = mapExternalMessageHeaders(externalMessage);
 
         return new ProducerRecord<>(publishTarget.getTopic(),
@@ -186,23 +188,42 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
     }
 
     private static Iterable<Header> mapExternalMessageHeaders(final ExternalMessage externalMessage) {
-        return externalMessage.getHeaders()
-                .entrySet()
-                .stream()
-                .map(header -> new RecordHeader(header.getKey(), header.getValue().getBytes(StandardCharsets.UTF_8)))
-                .collect(Collectors.toList());
+        final Map<String, String> externalMessageHeaders = externalMessage.getHeaders();
+        final List<Header> headers = new ArrayList<>(externalMessageHeaders.size());
+        externalMessageHeaders.forEach((key, value) ->
+                headers.add(new RecordHeader(key, value.getBytes(StandardCharsets.UTF_8))));
+        return headers;
     }
 
-    private static String mapExternalMessagePayload(final ExternalMessage externalMessage) {
+    private static byte[] mapExternalMessagePayload(final ExternalMessage externalMessage) {
         if (externalMessage.isTextMessage()) {
-            return externalMessage.getTextPayload().orElse("");
+            return externalMessage.getTextPayload()
+                    .map(text -> text.getBytes(StandardCharsets.UTF_8))
+                    .orElse(EMPTY_PAYLOAD);
         } else if (externalMessage.isBytesMessage()) {
             return externalMessage.getBytePayload()
-                    .map(ByteString::fromByteBuffer)
-                    .map(ByteString::utf8String)
-                    .orElse("");
+                    .map(KafkaPublisherActor::toByteArray)
+                    .orElse(EMPTY_PAYLOAD);
         } else {
-            return "";
+            return EMPTY_PAYLOAD;
+        }
+    }
+
+    /**
+     * Returns the bytes of the passed buffer without copying them if the buffer wraps exactly its whole backing
+     * array, which is the case for byte payloads created by payload mappers. The buffer itself is not modified.
+     *
+     * @param byteBuffer the buffer.
+     * @return the bytes of the buffer.
+     */
+    private static byte[] toByteArray(final ByteBuffer byteBuffer) {
+        if (byteBuffer.hasArray() && byteBuffer.arrayOffset() == 0 && byteBuffer.position() == 0 &&
+                byteBuffer.remaining() == byteBuffer.array().length) {
+            return byteBuffer.array();
+        } else {
+            final byte[] bytes = new byte[byteBuffer.remaining()];
+            byteBuffer.duplicate().get(bytes);
+            return bytes;
         }
     }
 
@@ -30,6 +30,7 @@ import org.eclipse.ditto.model.connectivity.ConnectionConfigurationInvalidExcept
 import org.eclipse.ditto.model.connectivity.ConnectionType;
 import org.eclipse.ditto.model.connectivity.Source;
 import org.eclipse.ditto.model.connectivity.Target;
+import org.eclipse.ditto.model.placeholders.PlaceholderFactory;
 import org.eclipse.ditto.services.connectivity.messaging.Resolvers;
 import org.eclipse.ditto.services.connectivity.messaging.validation.AbstractProtocolValidator;
 
@@ -45,7 +46,7 @@ public final class KafkaValidator extends AbstractProtocolValidator {
     private static final String DUMMY_PARTITION = "3";
 
     private static final String INVALID_TOPIC_FORMAT = "The provided topic ''{0}'' is not valid: {1}";
-    private static final String NOT_EMPTY_FORMAT = "The provided {0} in your target address may not be empty.";
+    private static final String NOT_EMPTY_FORMAT = "The provided {0} in your {1} address may not be empty.";
 
     private static final Collection<String> ACCEPTED_SCHEMES =
             Collections.unmodifiableList(Arrays.asList("tcp", "ssl"));
@@ -53,7 +54,7 @@ public final class KafkaValidator extends AbstractProtocolValidator {
 
     private static final Collection<KafkaSpecificConfig> SPECIFIC_CONFIGS = Collections.unmodifiableList(
             Arrays.asList(KafkaAuthenticationSpecificConfig.getInstance(),
-                    KafkaBootstrapServerSpecificConfig.getInstance()));
+                    KafkaBootstrapServerSpecificConfig.getInstance(), KafkaProducerSpecificConfig.getInstance()));
 
     private static final KafkaValidator INSTANCE = new KafkaValidator();
 
@@ -88,10 +89,16 @@ public final class KafkaValidator extends AbstractProtocolValidator {
     protected void validateSource(final Source source, final DittoHeaders dittoHeaders,
             final Supplier<String> sourceDescription) {
 
-        final String message = "Kafka connectivity currently does not provide sources.";
-        throw ConnectionConfigurationInvalidException.newBuilder(message)
-                .dittoHeaders(dittoHeaders)
-                .build();
+        source.getAddresses().forEach(topic -> validateSourceTopic(topic, dittoHeaders));
+        source.getEnforcement().ifPresent(enforcement -> {
+            validateTemplate(enforcement.getInput(), dittoHeaders, PlaceholderFactory.newHeadersPlaceholder());
+            enforcement.getFilters().forEach(filterTemplate ->
+                    validateTemplate(filterTemplate, dittoHeaders, PlaceholderFactory.newThingPlaceholder(),
+                            PlaceholderFactory.newPolicyPlaceholder(),
+                            PlaceholderFactory.newEntityPlaceholder(),
+                            PlaceholderFactory.newFeaturePlaceholder()));
+        });
+        source.getHeaderMapping().ifPresent(mapping -> validateHeaderMapping(mapping, dittoHeaders));
     }
 
     @Override
@@ -133,6 +140,14 @@ public final class KafkaValidator extends AbstractProtocolValidator {
         validatePartition(split[1], dittoHeaders, placeholderReplacement);
     }
 
+    private static void validateSourceTopic(final String topic, final DittoHeaders dittoHeaders) {
+        // source addresses are subscribed to as they are, thus they must not contain placeholders
+        if (topic.isEmpty()) {
+            throwEmptyException("topic", "source", dittoHeaders);
+        }
+        validateTopicName(topic, topic, dittoHeaders);
+    }
+
     private static void validateTopic(final String topic, final DittoHeaders dittoHeaders,
             final String placeholderReplacement) {
 
@@ -140,9 +155,14 @@ public final class KafkaValidator extends AbstractProtocolValidator {
             throwEmptyException("topic", dittoHeaders);
         }
 
+        final String topicWithoutPlaceholders = topic.replaceAll(Pattern.quote(placeholderReplacement), DUMMY_TOPIC);
+        validateTopicName(topicWithoutPlaceholders, topic, dittoHeaders);
+    }
+
+    private static void validateTopicName(final String topicWithoutPlaceholders, final String topic,
+            final DittoHeaders dittoHeaders) {
+
         try {
-            final String topicWithoutPlaceholders =
-                    topic.replaceAll(Pattern.quote(placeholderReplacement), DUMMY_TOPIC);
             Topic.validate(topicWithoutPlaceholders);
         } catch (final InvalidTopicException e) {
             final String message = MessageFormat.format(INVALID_TOPIC_FORMAT, topic, e.getMessage());
@@ -187,7 +207,13 @@ public final class KafkaValidator extends AbstractProtocolValidator {
     }
 
     private static void throwEmptyException(final String type, final DittoHeaders dittoHeaders) {
-        final String message = MessageFormat.format(NOT_EMPTY_FORMAT, type);
+        throwEmptyException(type, "target", dittoHeaders);
+    }
+
+    private static void throwEmptyException(final String type, final String addressType,
+            final DittoHeaders dittoHeaders) {
+
+        final String message = MessageFormat.format(NOT_EMPTY_FORMAT, type, addressType);
         throw ConnectionConfigurationInvalidException.newBuilder(message)
                 .dittoHeaders(dittoHeaders)
                 .build();
@@ -17,30 +17,44 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.stream.Stream;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
 
 /**
- * Simple implementation of a sliding window using a map. Depending on the given parameters
+ * Lock-free implementation of a sliding window using ring buffers. Depending on the given parameters
  * {@code window} and {@code duration} this implementation holds counter for time slots of size {@code duration} to
  * fill the {@code window}.
+ * <p>
+ * Each window owns a ring of buckets in an {@link AtomicLongArray}. A bucket packs the number of the time slot it
+ * counts into its upper {@value #SLOT_BITS} bits and the count into its lower {@value #COUNT_BITS} bits, so that
+ * moving a bucket to a new time slot and incrementing it is a single compare-and-set without any allocation.
+ * Buckets of time slots which went out of their window are ignored when counting and overwritten when their ring
+ * position is reused.
+ * </p>
  */
 public final class SlidingWindowCounter {
 
+    private static final int COUNT_BITS = 36;
+    private static final int SLOT_BITS = Long.SIZE - COUNT_BITS;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+    private static final long SLOT_MASK = (1L << SLOT_BITS) - 1;
+    private static final long HALF_SLOT_RANGE = 1L << (SLOT_BITS - 1);
+
     private final Clock clock;
     private final MeasurementWindow[] windows;
-    private final ConcurrentMap<Long, Long> successMeasurements = new ConcurrentHashMap<>();
-    private final ConcurrentMap<Long, Long> failureMeasurements = new ConcurrentHashMap<>();
+    private final long[] resolutionsInMs;
+    private final int[] ringOffsets;
+    private final int[] ringSizes;
+    private final AtomicLongArray successMeasurements;
+    private final AtomicLongArray failureMeasurements;
 
     private final AtomicLong lastSuccessTimestamp = new AtomicLong(Instant.EPOCH.toEpochMilli());
     private final AtomicLong lastFailureTimestamp = new AtomicLong(Instant.EPOCH.toEpochMilli());
-    private final Duration minResolution;
 
-    private final Counter metricsCounter;
+    private final Counter successMetricsCounter;
+    private final Counter failureMetricsCounter;
 
     /**
      * Instantiates a new {@link SlidingWindowCounter} that records the measurements for the given time windows.
@@ -50,14 +64,27 @@ public final class SlidingWindowCounter {
      */
     SlidingWindowCounter(final Counter metricsCounter,
             final Clock clock, final MeasurementWindow... windows) {
-        this.metricsCounter = metricsCounter;
+        successMetricsCounter = metricsCounter.tag("success", true);
+        failureMetricsCounter = metricsCounter.tag("success", false);
         this.clock = clock;
         this.windows = windows;
 
-        minResolution = Stream.of(windows)
-                .map(MeasurementWindow::getResolution)
-                .min(Duration::compareTo)
-                .orElse(Duration.ofMinutes(5));
+        resolutionsInMs = new long[windows.length];
+        ringOffsets = new int[windows.length];
+        ringSizes = new int[windows.length];
+        int totalSize = 0;
+        for (int i = 0; i < windows.length; ++i) {
+            final long resolutionInMs = windows[i].getResolution().toMillis();
+            final long windowInMs = windows[i].getWindow().toMillis();
+            resolutionsInMs[i] = resolutionInMs;
+            ringOffsets[i] = totalSize;
+            // twice the slots of the window: timestamps up to one window ahead of the clock do not evict
+            // measurements within the window
+            ringSizes[i] = (int) (2 * ((windowInMs + resolutionInMs - 1) / resolutionInMs));
+            totalSize += ringSizes[i];
+        }
+        successMeasurements = new AtomicLongArray(totalSize);
+        failureMeasurements = new AtomicLongArray(totalSize);
     }
 
     /**
@@ -89,7 +116,7 @@ public final class SlidingWindowCounter {
      * @param success whether to increment success or failure count
      */
     void increment(final boolean success) {
-        increment(success, clock.instant().toEpochMilli());
+        increment(success, clock.millis());
     }
 
     /**
@@ -99,57 +126,58 @@ public final class SlidingWindowCounter {
      * @param ts the timestamp when the operation happened (mostly useful for testing)
      */
     void increment(final boolean success, final long ts) {
-        final long previousTimestamp;
         if (success) {
-            metricsCounter.tag("success", true).increment();
-            previousTimestamp = updateTimestampAndReturnPrevious(lastSuccessTimestamp, ts);
+            successMetricsCounter.increment();
+            updateTimestamp(lastSuccessTimestamp, ts);
             incrementMeasurements(ts, successMeasurements);
         } else {
-            metricsCounter.tag("success", false).increment();
-            previousTimestamp = updateTimestampAndReturnPrevious(lastFailureTimestamp, ts);
+            failureMetricsCounter.increment();
+            updateTimestamp(lastFailureTimestamp, ts);
             incrementMeasurements(ts, failureMeasurements);
         }
-
-        // if diff between current and last timestamp is too large, cleanup old measurements
-        if (previousTimestamp > ts - minResolution.toMillis()) {
-            cleanUpOldMeasurements();
-        }
     }
 
-    private long updateTimestampAndReturnPrevious(final AtomicLong toUpdate, final long ts) {
-        return toUpdate.getAndUpdate(previous -> Math.max(previous, ts));
-    }
-
-    private void incrementMeasurements(final long ts, final Map<Long, Long> measurements) {
-        for (final MeasurementWindow window : windows) {
-            final long slot = getSlot(ts, window.getResolution().toMillis());
-            measurements.compute(slot, (key, value) -> (value == null) ? 1 : value + 1);
+    private static void updateTimestamp(final AtomicLong toUpdate, final long ts) {
+        long previous = toUpdate.get();
+        while (previous < ts && !toUpdate.compareAndSet(previous, ts)) {
+            previous = toUpdate.get();
         }
     }
 
-    private void cleanUpOldMeasurements() {
-        cleanUpOldMeasurements(successMeasurements);
-        cleanUpOldMeasurements(failureMeasurements);
-    }
-
-    private void cleanUpOldMeasurements(final Map<Long, Long> measurements) {
-        measurements.entrySet().removeIf(e -> isOld(e.getKey()));
+    private void incrementMeasurements(final long ts, final AtomicLongArray measurements) {
+        for (int i = 0; i < windows.length; ++i) {
+            final long slot = getSlot(ts, resolutionsInMs[i]);
+            incrementBucket(measurements, getBucketIndex(i, slot), slot);
+        }
     }
 
-    private boolean isOld(long slot) {
-        final long now = clock.instant().toEpochMilli();
-        for (final MeasurementWindow window : windows) {
-            final long resolutionInMs = window.getResolution().toMillis();
-            final long windowInMs = window.getWindow().toMillis();
-            // max slot is the current slot for this window
-            final long max = getSlot(now, resolutionInMs);
-            // min slot is current slot minus window size
-            final long min = getSlot(now - windowInMs, resolutionInMs);
-            if (slot <= max && slot >= min) {
-                return false;
+    private static void incrementBucket(final AtomicLongArray measurements, final int index, final long slot) {
+        final long slotBits = (slot & SLOT_MASK) << COUNT_BITS;
+        long current = measurements.get(index);
+        while (true) {
+            final long next;
+            if ((current & ~COUNT_MASK) == slotBits) {
+                if ((current & COUNT_MASK) == COUNT_MASK) {
+                    // saturated; do not overflow into the slot bits
+                    return;
+                }
+                next = current + 1;
+            } else if ((current & COUNT_MASK) == 0 || isAfter(slot, current >>> COUNT_BITS)) {
+                next = slotBits | 1;
+            } else {
+                // the bucket already counts a later time slot; the measurement is out of all windows
+                return;
             }
+            if (measurements.compareAndSet(index, current, next)) {
+                return;
+            }
+            current = measurements.get(index);
         }
-        return true;
+    }
+
+    private static boolean isAfter(final long slot, final long bucketSlotBits) {
+        final long difference = (slot - bucketSlotBits) & SLOT_MASK;
+        return difference > 0 && difference < HALF_SLOT_RANGE;
     }
 
     /**
@@ -168,27 +196,27 @@ public final class SlidingWindowCounter {
     /**
      * Gets counts for all measurement windows given.
      *
-     * @param measurements the measurements map to use
+     * @param measurements the measurements to use
      * @return the counts for all windows
      */
-    private Map<Duration, Long> getCounts(final Map<Long, Long> measurements) {
+    private Map<Duration, Long> getCounts(final AtomicLongArray measurements) {
         final Map<Duration, Long> result = new HashMap<>();
-        final long now = clock.instant().toEpochMilli();
-        for (final MeasurementWindow window : windows) {
+        final long now = clock.millis();
+        for (int i = 0; i < windows.length; ++i) {
             // min is where we start to sum up the slots
-            final long windowInMs = window.getWindow().toMillis();
-            final long resolutionInMs = window.getResolution().toMillis();
+            final long windowInMs = windows[i].getWindow().toMillis();
+            final long resolutionInMs = resolutionsInMs[i];
             final long min = getSlot(now - windowInMs, resolutionInMs);
             // max is the current active time slot
             final long max = getSlot(now, resolutionInMs);
             long sum = 0;
-            for (final Map.Entry<Long, Long> e : measurements.entrySet()) {
-                long slot = e.getKey();
-                if (slot > min && slot <= max) {
-                    sum += e.getValue();
+            for (long slot = min + 1; slot <= max; ++slot) {
+                final long bucket = measurements.get(getBucketIndex(i, slot));
+                if (bucket >>> COUNT_BITS == (slot & SLOT_MASK)) {
+                    sum += bucket & COUNT_MASK;
                 }
             }
-            result.put(window.getWindow(), sum);
+            result.put(windows[i].getWindow(), sum);
         }
         return result;
     }
@@ -201,19 +229,25 @@ public final class SlidingWindowCounter {
         reset(failureMeasurements);
     }
 
-    private void reset(final Map<Long, Long> measurements) {
-        measurements.clear();
+    private static void reset(final AtomicLongArray measurements) {
+        for (int i = 0; i < measurements.length(); ++i) {
+            measurements.set(i, 0L);
+        }
+    }
+
+    private int getBucketIndex(final int windowIndex, final long slot) {
+        return ringOffsets[windowIndex] + (int) Math.floorMod(slot, (long) ringSizes[windowIndex]);
     }
 
-    private long getSlot(long ts, final long resolutionInMs) {
+    private static long getSlot(final long ts, final long resolutionInMs) {
         return ts / resolutionInMs;
     }
 
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" +
-                ", successMeasurements=" + successMeasurements +
-                ", failureMeasurements=" + failureMeasurements +
+                "successMeasurements=" + getCounts(successMeasurements) +
+                ", failureMeasurements=" + getCounts(failureMeasurements) +
                 ", lastSuccessTimestamp=" + lastSuccessTimestamp +
                 ", lastFailureTimestamp=" + lastFailureTimestamp +
                 "]";
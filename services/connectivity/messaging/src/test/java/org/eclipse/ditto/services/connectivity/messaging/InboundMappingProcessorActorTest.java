@@ -39,6 +39,8 @@ import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
 
+import com.typesafe.config.ConfigFactory;
+
 import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
 import akka.actor.Props;
@@ -63,6 +65,20 @@ public final class InboundMappingProcessorActorTest {
 
     @Test
     public void onError() {
+        expectErrorOutcomeOfThrowingProcessor(Map.of());
+    }
+
+    @Test
+    public void onErrorWithPartitionedMapping() {
+        TestKit.shutdownActorSystem(system);
+        system = ActorSystem.create(getClass().getSimpleName(), ConfigFactory.parseString(
+                "ditto.connectivity.mapping.inbound-partition-key = \"{{ header:device_id }}\"")
+                .withFallback(TestConstants.CONFIG));
+
+        expectErrorOutcomeOfThrowingProcessor(Map.of("device_id", "device-1"));
+    }
+
+    private void expectErrorOutcomeOfThrowingProcessor(final Map<String, String> headers) {
         new TestKit(system) {{
             // GIVEN: InboundMappingProcessorActor is constructed with a processor that throws an exception always.
             final TestProbe inboundDispatcher = TestProbe.apply("inboundDispatcher", system);
@@ -72,7 +88,7 @@ public final class InboundMappingProcessorActorTest {
             final ActorRef underTest = system.actorOf(props);
 
             // WHEN: InboundMappingProcessorActor receives a text message.
-            final ExternalMessage message = ExternalMessageFactory.newExternalMessageBuilder(Map.of())
+            final ExternalMessage message = ExternalMessageFactory.newExternalMessageBuilder(headers)
                     .withSource(TestConstants.Sources.SOURCES_WITH_AUTH_CONTEXT.get(0))
                     .withText("text")
                     // attach non-null payload mapping to avoid using the default mapper
@@ -26,6 +26,7 @@ import java.util.function.Supplier;
 
 import org.eclipse.ditto.json.JsonArray;
 import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.acks.AcknowledgementLabel;
@@ -204,6 +205,121 @@ public final class HttpPublisherActorTest extends AbstractPublisherActorTest {
         }};
     }
 
+    @Test
+    public void testBatchedPublishing() throws Exception {
+        new TestKit(actorSystem) {{
+            httpPushFactory = mockHttpPushFactory("application/json", HttpStatus.OK, "[{\"a\":1},{\"b\":2}]");
+
+            final AcknowledgementLabel label1 = AcknowledgementLabel.of("please-verify-1");
+            final AcknowledgementLabel label2 = AcknowledgementLabel.of("please-verify-2");
+            final String requestedAcks = JsonArray.of(JsonValue.of(label1), JsonValue.of(label2)).toString();
+            final OutboundSignal.MultiMapped multiMapped = OutboundSignalFactory.newMultiMappedOutboundSignal(List.of(
+                    getMockOutboundSignal(decorateTarget(createTestTarget(label1)), "requested-acks", requestedAcks),
+                    getMockOutboundSignal(decorateTarget(createTestTarget(label2)), "requested-acks", requestedAcks,
+                            "device_id", "ditto:other-thing")
+            ), getRef());
+
+            final Props props = HttpPublisherActor.props(TestConstants.createConnection()
+                    .toBuilder()
+                    .specificConfig(Map.of("batchMaxMessages", "2", "batchMaxDelay", "10s"))
+                    .build(), httpPushFactory, "clientId");
+            final ActorRef publisherActor = childActorOf(props);
+            publisherCreated(this, publisherActor);
+
+            publisherActor.tell(multiMapped, getRef());
+
+            final HttpRequest request = received.take();
+            assertThat(received).isEmpty();
+            final HttpEntity.Strict entity = request.entity()
+                    .toStrict(60_000L, SystemMaterializer.get(actorSystem).materializer())
+                    .toCompletableFuture()
+                    .join();
+            assertThat(entity.getContentType()).isEqualTo(ContentTypes.APPLICATION_JSON);
+            final JsonArray entries = JsonFactory.newArray(entity.getData().utf8String());
+            assertThat(entries).hasSize(2);
+            assertThat(getEntryHeader(entries, 0, "device_id")).contains(JsonValue.of("ditto:thing"));
+            assertThat(getEntryHeader(entries, 1, "device_id")).contains(JsonValue.of("ditto:other-thing"));
+            assertThat(getEntryHeader(entries, 1, "eclipse")).contains(JsonValue.of("ditto"));
+            assertThat(entries).allSatisfy(entry ->
+                    assertThat(entry.asObject().getValue(HttpRequestBatcher.ENTRY_BODY))
+                            .contains(JsonValue.of("payload")));
+            // headers which differ between the entries are only contained in the entries
+            assertThat(request.getHeader("device_id")).isEmpty();
+            assertThat(request.getHeader("eclipse").map(HttpHeader::value)).contains("ditto");
+
+            final Acknowledgements acks = expectMsgClass(Acknowledgements.class);
+            assertThat(acks.getAcknowledgement(label1).flatMap(Acknowledgement::getEntity))
+                    .contains(JsonObject.newBuilder().set("a", 1).build());
+            assertThat(acks.getAcknowledgement(label2).flatMap(Acknowledgement::getEntity))
+                    .contains(JsonObject.newBuilder().set("b", 2).build());
+        }};
+    }
+
+    @Test
+    public void testBatchResponseIsLimitedToAcknowledgementSizeOfAllSignals() {
+        new TestKit(actorSystem) {{
+            // larger than the budget for issued acknowledgements of the 2 signals together
+            final String tooLargeBody = "[\"" + "x".repeat(150_000) + "\",{}]";
+            httpPushFactory = mockHttpPushFactory("application/json", HttpStatus.OK, tooLargeBody);
+
+            final AcknowledgementLabel label1 = AcknowledgementLabel.of("please-verify-1");
+            final AcknowledgementLabel label2 = AcknowledgementLabel.of("please-verify-2");
+            final String requestedAcks = JsonArray.of(JsonValue.of(label1), JsonValue.of(label2)).toString();
+            final OutboundSignal.MultiMapped multiMapped = OutboundSignalFactory.newMultiMappedOutboundSignal(List.of(
+                    getMockOutboundSignal(decorateTarget(createTestTarget(label1)), "requested-acks", requestedAcks),
+                    getMockOutboundSignal(decorateTarget(createTestTarget(label2)), "requested-acks", requestedAcks)
+            ), getRef());
+
+            final Props props = HttpPublisherActor.props(TestConstants.createConnection()
+                    .toBuilder()
+                    .specificConfig(Map.of("batchMaxMessages", "2", "batchMaxDelay", "10s"))
+                    .build(), httpPushFactory, "clientId");
+            final ActorRef publisherActor = childActorOf(props);
+            publisherCreated(this, publisherActor);
+
+            publisherActor.tell(multiMapped, getRef());
+
+            final Acknowledgements acks = expectMsgClass(Acknowledgements.class);
+            assertThat(acks.getAcknowledgement(label1).map(Acknowledgement::getHttpStatus))
+                    .isNotEqualTo(Optional.of(HttpStatus.OK));
+            assertThat(acks.getAcknowledgement(label2).map(Acknowledgement::getHttpStatus))
+                    .isNotEqualTo(Optional.of(HttpStatus.OK));
+        }};
+    }
+
+    @Test
+    public void testSingleSignalIsSentAsBatchOnceBatchingIsEnabled() throws Exception {
+        new TestKit(actorSystem) {{
+            httpPushFactory = mockHttpPushFactory("application/json", HttpStatus.OK, "[{\"a\":1}]");
+
+            final Props props = HttpPublisherActor.props(TestConstants.createConnection()
+                    .toBuilder()
+                    .specificConfig(Map.of("batchMaxMessages", "2", "batchMaxDelay", "10ms"))
+                    .build(), httpPushFactory, "clientId");
+            final ActorRef publisherActor = childActorOf(props);
+            publisherCreated(this, publisherActor);
+
+            publisherActor.tell(OutboundSignalFactory.newMultiMappedOutboundSignal(
+                    List.of(getMockOutboundSignalWithAutoAck("please-verify")), getRef()), getRef());
+
+            final HttpRequest request = received.take();
+            final HttpEntity.Strict entity = request.entity()
+                    .toStrict(60_000L, SystemMaterializer.get(actorSystem).materializer())
+                    .toCompletableFuture()
+                    .join();
+            final JsonArray entries = JsonFactory.newArray(entity.getData().utf8String());
+            assertThat(entries).hasSize(1);
+            assertThat(getEntryHeader(entries, 0, "device_id")).contains(JsonValue.of("ditto:thing"));
+            assertThat(entries.get(0).map(entry -> entry.asObject().getValue(HttpRequestBatcher.ENTRY_BODY)))
+                    .contains(Optional.of(JsonValue.of("payload")));
+
+            final Acknowledgements acks = expectMsgClass(Acknowledgements.class);
+            assertThat(acks.getAcknowledgement(AcknowledgementLabel.of("please-verify"))
+                    .flatMap(Acknowledgement::getEntity))
+                    .contains(JsonObject.newBuilder().set("a", 1).build());
+        }};
+    }
+
     @Test
     public void testMessageCommandHttpPushCreatesCommandResponse() {
         new TestKit(actorSystem) {{
@@ -682,6 +798,17 @@ public final class HttpPublisherActorTest extends AbstractPublisherActorTest {
         });
     }
 
+    private static Optional<JsonValue> getEntryHeader(final JsonArray entries, final int index,
+            final String headerName) {
+
+        return entries.get(index)
+                .map(JsonValue::asObject)
+                .flatMap(entry -> entry.getValue(HttpRequestBatcher.ENTRY_HEADERS))
+                .map(JsonValue::asObject)
+                .flatMap(headers -> headers.getField(headerName))
+                .map(JsonField::getValue);
+    }
+
     private static final class DummyHttpPushFactory implements HttpPushFactory {
 
         private final String hostname;
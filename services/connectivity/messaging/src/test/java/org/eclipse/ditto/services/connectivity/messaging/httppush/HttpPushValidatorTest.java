@@ -107,6 +107,30 @@ public final class HttpPushValidatorTest {
         verifyConnectionConfigurationInvalidExceptionIsThrown(getConnectionWithTarget("DELETE:/bar"));
     }
 
+    @Test
+    public void testBatchingConfig() {
+        final Connection connection = getConnectionWithTarget("POST:events");
+        underTest.validate(withSpecificConfig(connection, Map.of("batchMaxMessages", "100", "batchMaxBytes", "64k",
+                "batchMaxDelay", "50ms", "batchFormat", "ndjson")), DittoHeaders.empty(), actorSystem);
+
+        verifyConnectionConfigurationInvalidExceptionIsThrown(
+                withSpecificConfig(connection, Map.of("batchMaxMessages", "0")));
+        verifyConnectionConfigurationInvalidExceptionIsThrown(
+                withSpecificConfig(connection, Map.of("batchMaxMessages", "many")));
+        verifyConnectionConfigurationInvalidExceptionIsThrown(
+                withSpecificConfig(connection, Map.of("batchMaxBytes", "0")));
+        verifyConnectionConfigurationInvalidExceptionIsThrown(
+                withSpecificConfig(connection, Map.of("batchMaxDelay", "soon")));
+        verifyConnectionConfigurationInvalidExceptionIsThrown(
+                withSpecificConfig(connection, Map.of("batchFormat", "xml")));
+    }
+
+    private static Connection withSpecificConfig(final Connection connection, final Map<String, String> config) {
+        final Map<String, String> specificConfig = new HashMap<>(defaultSpecificConfig);
+        specificConfig.putAll(config);
+        return connection.toBuilder().specificConfig(specificConfig).build();
+    }
+
     private static Connection getConnectionWithTarget(final String target) {
         return getConnectionWithHostAndTarget("8.8.4.4", target);
     }
@@ -0,0 +1,302 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.eclipse.ditto.services.connectivity.messaging.TestConstants.header;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import javax.annotation.Nullable;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetCommitCallback;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.internals.RecordHeader;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.eclipse.ditto.model.base.acks.AcknowledgementRequest;
+import org.eclipse.ditto.model.base.acks.FilteredAcknowledgementRequest;
+import org.eclipse.ditto.model.base.common.ResponseType;
+import org.eclipse.ditto.model.base.entity.id.EntityId;
+import org.eclipse.ditto.model.connectivity.Connection;
+import org.eclipse.ditto.model.connectivity.ConnectivityModelFactory;
+import org.eclipse.ditto.model.connectivity.PayloadMapping;
+import org.eclipse.ditto.model.connectivity.ReplyTarget;
+import org.eclipse.ditto.model.connectivity.Source;
+import org.eclipse.ditto.model.connectivity.SourceBuilder;
+import org.eclipse.ditto.services.connectivity.messaging.AbstractConsumerActorTest;
+import org.eclipse.ditto.services.connectivity.messaging.TestConstants;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
+import org.junit.Test;
+
+import akka.actor.AbstractActor;
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.testkit.TestProbe;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Unit test for {@link KafkaConsumerActor}. Records are consumed from a {@link MockConsumer} instead of a Kafka
+ * broker.
+ */
+public final class KafkaConsumerActorTest extends AbstractConsumerActorTest<ConsumerRecord<String, byte[]>> {
+
+    private static final Connection CONNECTION = TestConstants.createConnection();
+    private static final String TOPIC = "telemetry";
+    private static final TopicPartition TOPIC_PARTITION = new TopicPartition(TOPIC, 0);
+    private static final long OFFSET = 42L;
+
+    private final List<ThrottledMockConsumer> createdConsumers = new CopyOnWriteArrayList<>();
+    private final CompletableFuture<ThrottledMockConsumer> firstConsumer = new CompletableFuture<>();
+
+    @Override
+    protected Props getConsumerActorProps(final ActorRef mappingActor, final PayloadMapping payloadMapping) {
+        return getConsumerActorProps(mappingActor, newSourceBuilder()
+                .payloadMapping(payloadMapping)
+                .build());
+    }
+
+    @Override
+    protected Props getConsumerActorProps(final ActorRef mappingActor,
+            final Set<AcknowledgementRequest> acknowledgementRequests) {
+
+        return getConsumerActorProps(mappingActor, newSourceBuilder()
+                .payloadMapping(ConnectivityModelFactory.emptyPayloadMapping())
+                .acknowledgementRequests(FilteredAcknowledgementRequest.of(acknowledgementRequests, null))
+                .build());
+    }
+
+    private Props getConsumerActorProps(final ActorRef mappingActor, final Source source) {
+        final Props consumerActorProps = KafkaConsumerActor.props(CONNECTION, new MockConnectionFactory(), TOPIC,
+                mappingActor, source, TestConstants.CONNECTION_CONFIG.getKafkaConfig().getConsumerConfig());
+        return RecordFeedingActor.props(consumerActorProps, firstConsumer);
+    }
+
+    private static SourceBuilder<?> newSourceBuilder() {
+        return ConnectivityModelFactory.newSourceBuilder()
+                .address(TOPIC)
+                .authorizationContext(TestConstants.Authorization.AUTHORIZATION_CONTEXT)
+                .enforcement(ENFORCEMENT)
+                .headerMapping(TestConstants.HEADER_MAPPING)
+                .replyTarget(ReplyTarget.newBuilder()
+                        .address("foo")
+                        .expectedResponseTypes(ResponseType.ERROR, ResponseType.RESPONSE, ResponseType.NACK)
+                        .build());
+    }
+
+    @Override
+    protected ConsumerRecord<String, byte[]> getInboundMessage(final String payload,
+            final Map.Entry<String, Object> header) {
+
+        final RecordHeaders headers = new RecordHeaders();
+        headers.add(new RecordHeader(header.getKey(), header.getValue().toString().getBytes(StandardCharsets.UTF_8)));
+        headers.add(new RecordHeader(REPLY_TO_HEADER.getKey(),
+                REPLY_TO_HEADER.getValue().getBytes(StandardCharsets.UTF_8)));
+        return record(payload.getBytes(StandardCharsets.UTF_8), headers);
+    }
+
+    private static ConsumerRecord<String, byte[]> record(final byte[] payload, final RecordHeaders headers) {
+        return new ConsumerRecord<>(TOPIC, TOPIC_PARTITION.partition(), OFFSET, 0L, TimestampType.CREATE_TIME,
+                (long) ConsumerRecord.NULL_CHECKSUM, ConsumerRecord.NULL_SIZE, ConsumerRecord.NULL_SIZE, "key",
+                payload, headers);
+    }
+
+    @Test
+    public void binaryPayloadIsForwardedAsBytes() {
+        new TestKit(actorSystem) {{
+            final TestProbe mappingActor = TestProbe.apply(actorSystem);
+            final ActorRef underTest = actorSystem.actorOf(
+                    getConsumerActorProps(mappingActor.ref(), ConnectivityModelFactory.emptyPayloadMapping()));
+            final byte[] payload = {(byte) 0xC3, (byte) 0x28, 0x00, (byte) 0xFF};
+            final RecordHeaders headers = new RecordHeaders();
+            headers.add(new RecordHeader(ExternalMessage.CONTENT_TYPE_HEADER,
+                    "application/octet-stream".getBytes(StandardCharsets.UTF_8)));
+            headers.add(new RecordHeader("device_id",
+                    TestConstants.Things.THING_ID.toString().getBytes(StandardCharsets.UTF_8)));
+
+            underTest.tell(record(payload, headers), getRef());
+
+            final ExternalMessage externalMessage = mappingActor.expectMsgClass(ExternalMessage.class);
+            assertThat(externalMessage.isBytesMessage()).isTrue();
+            assertThat(externalMessage.getBytePayload()).contains(ByteBuffer.wrap(payload));
+        }};
+    }
+
+    @Override
+    protected void verifyMessageSettlement(final TestKit testKit, final boolean isSuccessExpected,
+            final boolean shouldRedeliver) throws Exception {
+
+        final ThrottledMockConsumer consumer = firstConsumer.get(3L, TimeUnit.SECONDS);
+        if (isSuccessExpected || !shouldRedeliver) {
+            awaitCondition("offset of settled record to be committed",
+                    () -> consumer.committedOffset == OFFSET + 1);
+        } else {
+            awaitCondition("consumer to be restarted for redelivery", () -> createdConsumers.size() > 1);
+            assertThat(consumer.closed()).describedAs("Expect first consumer to be closed").isTrue();
+            assertThat(consumer.committedOffset)
+                    .describedAs("Expect no commit to get a redelivery by the restarted consumer")
+                    .isEqualTo(-1L);
+        }
+    }
+
+    @Override
+    protected void testHeaderMapping() {
+        testInboundMessage(header("device_id", TestConstants.Things.THING_ID), true, msg -> {
+            assertThat(msg.getDittoHeaders()).containsEntry("eclipse", "ditto");
+            assertThat(msg.getDittoHeaders()).containsEntry("thing_id", TestConstants.Things.THING_ID.toString());
+            assertThat(msg.getDittoHeaders()).containsEntry("device_id", TestConstants.Things.THING_ID.toString());
+            assertThat(msg.getDittoHeaders()).containsEntry("prefixed_thing_id",
+                    "some.prefix." + TestConstants.Things.THING_ID);
+            assertThat(msg.getDittoHeaders()).containsEntry("suffixed_thing_id",
+                    TestConstants.Things.THING_ID + ".some.suffix");
+        }, response -> fail("not expected"));
+    }
+
+    private static void awaitCondition(final String description, final BooleanSupplier condition)
+            throws InterruptedException {
+
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5L);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("Timed out waiting for " + description);
+            }
+            TimeUnit.MILLISECONDS.sleep(20L);
+        }
+    }
+
+    private final class MockConnectionFactory implements KafkaConnectionFactory {
+
+        @Override
+        public EntityId connectionId() {
+            return CONNECTION.getId();
+        }
+
+        @Override
+        public Producer<String, byte[]> newProducer() {
+            throw new UnsupportedOperationException("Consumer test does not produce");
+        }
+
+        @Override
+        public Consumer<String, byte[]> newConsumer() {
+            final ThrottledMockConsumer consumer = new ThrottledMockConsumer();
+            consumer.updateBeginningOffsets(Map.of(TOPIC_PARTITION, OFFSET));
+            // the first poll assigns the partition to the consumer after it subscribed to the topic
+            consumer.schedulePollTask(() -> consumer.rebalance(List.of(TOPIC_PARTITION)));
+            createdConsumers.add(consumer);
+            firstConsumer.complete(consumer);
+            return consumer;
+        }
+
+    }
+
+    /**
+     * Waits for the poll timeout if no records are available like a real Kafka consumer and remembers the committed
+     * offset after it was closed.
+     */
+    private static final class ThrottledMockConsumer extends MockConsumer<String, byte[]> {
+
+        private volatile long committedOffset = -1L;
+
+        private ThrottledMockConsumer() {
+            super(OffsetResetStrategy.EARLIEST);
+        }
+
+        @Override
+        public synchronized void commitAsync(final Map<TopicPartition, OffsetAndMetadata> offsets,
+                final OffsetCommitCallback callback) {
+
+            rememberCommittedOffset(offsets);
+            super.commitAsync(offsets, callback);
+        }
+
+        @Override
+        public synchronized void commitSync(final Map<TopicPartition, OffsetAndMetadata> offsets) {
+            rememberCommittedOffset(offsets);
+            super.commitSync(offsets);
+        }
+
+        private void rememberCommittedOffset(final Map<TopicPartition, OffsetAndMetadata> offsets) {
+            @Nullable final OffsetAndMetadata offset = offsets.get(TOPIC_PARTITION);
+            if (null != offset) {
+                committedOffset = offset.offset();
+            }
+        }
+
+        @Override
+        public ConsumerRecords<String, byte[]> poll(final Duration timeout) {
+            final ConsumerRecords<String, byte[]> records = super.poll(timeout);
+            if (records.isEmpty()) {
+                try {
+                    TimeUnit.MILLISECONDS.sleep(timeout.toMillis());
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return records;
+        }
+
+    }
+
+    /**
+     * Parent of the consumer actor under test which publishes records it receives to the Kafka consumer.
+     */
+    private static final class RecordFeedingActor extends AbstractActor {
+
+        private final ActorRef consumerActor;
+        private final CompletableFuture<? extends MockConsumer<String, byte[]>> mockConsumer;
+
+        @SuppressWarnings("unused")
+        private RecordFeedingActor(final Props consumerActorProps,
+                final CompletableFuture<? extends MockConsumer<String, byte[]>> mockConsumer) {
+
+            consumerActor = getContext().actorOf(consumerActorProps);
+            this.mockConsumer = mockConsumer;
+        }
+
+        static Props props(final Props consumerActorProps,
+                final CompletableFuture<? extends MockConsumer<String, byte[]>> mockConsumer) {
+
+            return Props.create(RecordFeedingActor.class, consumerActorProps, mockConsumer);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Receive createReceive() {
+            return receiveBuilder()
+                    .match(ConsumerRecord.class, record -> mockConsumer.thenAccept(consumer ->
+                            consumer.schedulePollTask(() ->
+                                    consumer.addRecord((ConsumerRecord<String, byte[]>) record))))
+                    .matchAny(message -> consumerActor.forward(message, getContext()))
+                    .build();
+        }
+
+    }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.kafka;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.eclipse.ditto.services.connectivity.messaging.TestConstants.Authorization.AUTHORIZATION_CONTEXT;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.connectivity.Connection;
+import org.eclipse.ditto.model.connectivity.ConnectionConfigurationInvalidException;
+import org.eclipse.ditto.model.connectivity.ConnectionId;
+import org.eclipse.ditto.model.connectivity.ConnectionType;
+import org.eclipse.ditto.model.connectivity.ConnectivityModelFactory;
+import org.eclipse.ditto.model.connectivity.ConnectivityStatus;
+import org.eclipse.ditto.model.connectivity.Topic;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link KafkaProducerSpecificConfig}.
+ */
+public final class KafkaProducerSpecificConfigTest {
+
+    private static final DittoHeaders HEADERS = DittoHeaders.empty();
+
+    private final KafkaProducerSpecificConfig underTest = KafkaProducerSpecificConfig.getInstance();
+
+    @Test
+    public void shouldNotBeApplicableWithoutProducerTuning() {
+        assertThat(underTest.isApplicable(getConnection(Map.of()))).isFalse();
+    }
+
+    @Test
+    public void shouldBeApplicableIfAnyProducerTuningExists() {
+        assertThat(underTest.isApplicable(getConnection(Map.of("lingerMs", "5")))).isTrue();
+        assertThat(underTest.isApplicable(getConnection(Map.of("batchSize", "1024")))).isTrue();
+        assertThat(underTest.isApplicable(getConnection(Map.of("compressionType", "gzip")))).isTrue();
+    }
+
+    @Test
+    public void shouldValidateSupportedValues() {
+        final Connection connection =
+                getConnection(Map.of("lingerMs", "0", "batchSize", " 16384 ", "compressionType", "zstd"));
+
+        assertThat(underTest.isValid(connection)).isTrue();
+        underTest.validateOrThrow(connection, HEADERS);
+    }
+
+    @Test
+    public void shouldThrowOnValidationOfInvalidValues() {
+        shouldNotValidate(getConnection(Map.of("lingerMs", "-1")));
+        shouldNotValidate(getConnection(Map.of("lingerMs", "ten")));
+        shouldNotValidate(getConnection(Map.of("batchSize", "4294967296")));
+        shouldNotValidate(getConnection(Map.of("compressionType", "brotli")));
+    }
+
+    @Test
+    public void shouldAddProducerPropertiesOfPresentValues() {
+        final HashMap<String, Object> properties = new HashMap<>();
+
+        underTest.apply(properties, getConnection(Map.of("lingerMs", "10", "compressionType", "snappy")));
+
+        assertThat(properties).containsOnly(
+                Map.entry(ProducerConfig.LINGER_MS_CONFIG, "10"),
+                Map.entry(ProducerConfig.COMPRESSION_TYPE_CONFIG, "snappy"));
+    }
+
+    @Test
+    public void shouldNotAddProducerPropertiesIfAnyValueIsInvalid() {
+        final HashMap<String, Object> properties = new HashMap<>();
+
+        underTest.apply(properties, getConnection(Map.of("lingerMs", "10", "batchSize", "-5")));
+
+        assertThat(properties).isEmpty();
+    }
+
+    private void shouldNotValidate(final Connection connection) {
+        assertThat(underTest.isValid(connection)).isFalse();
+        assertThatExceptionOfType(ConnectionConfigurationInvalidException.class)
+                .isThrownBy(() -> underTest.validateOrThrow(connection, HEADERS));
+    }
+
+    private static Connection getConnection(final Map<String, String> producerTuning) {
+        final Map<String, String> specificConfig = new HashMap<>(producerTuning);
+        specificConfig.put("bootstrapServers", "localhost:9092");
+        return ConnectivityModelFactory.newConnectionBuilder(ConnectionId.of("kafka"), ConnectionType.KAFKA,
+                ConnectivityStatus.OPEN, "tcp://localhost:9092")
+                .targets(singletonList(ConnectivityModelFactory.newTargetBuilder()
+                        .address("target")
+                        .authorizationContext(AUTHORIZATION_CONTEXT)
+                        .qos(1)
+                        .topics(Topic.LIVE_EVENTS)
+                        .build()))
+                .specificConfig(specificConfig)
+                .build();
+    }
+
+}
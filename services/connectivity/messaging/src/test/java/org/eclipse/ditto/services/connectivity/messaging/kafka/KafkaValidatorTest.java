@@ -77,11 +77,18 @@ public final class KafkaValidatorTest {
     }
 
     @Test
-    public void testSourcesAreInvalid() {
-        final Source source = ConnectivityModelFactory.newSource(AUTHORIZATION_CONTEXT, "any");
+    public void testValidSourceAddress() {
+        final Source source = ConnectivityModelFactory.newSource(AUTHORIZATION_CONTEXT, "telemetry");
 
-        assertThatExceptionOfType(ConnectionConfigurationInvalidException.class)
-                .isThrownBy(() -> underTest.validateSource(source, DittoHeaders.empty(), () -> ""));
+        underTest.validateSource(source, DittoHeaders.empty(), () -> "");
+        underTest.validate(getConnectionWithSource("telemetry"), DittoHeaders.empty(), actorSystem);
+    }
+
+    @Test
+    public void testInvalidSourceAddress() {
+        verifyConnectionConfigurationInvalidExceptionIsThrown(getConnectionWithSource(""));
+        verifyConnectionConfigurationInvalidExceptionIsThrown(getConnectionWithSource("events#key"));
+        verifyConnectionConfigurationInvalidExceptionIsThrown(getConnectionWithSource("ditto/{{thing:id}}"));
     }
 
     @Test
@@ -136,6 +143,17 @@ public final class KafkaValidatorTest {
                 .build();
     }
 
+    private static Connection getConnectionWithSource(final String source) {
+        return ConnectivityModelFactory.newConnectionBuilder(CONNECTION_ID, ConnectionType.KAFKA,
+                ConnectivityStatus.OPEN, "tcp://localhost:1883")
+                .sources(singletonList(ConnectivityModelFactory.newSourceBuilder()
+                        .address(source)
+                        .authorizationContext(AUTHORIZATION_CONTEXT)
+                        .build()))
+                .specificConfig(defaultSpecificConfig)
+                .build();
+    }
+
     private static Connection getConnectionWithBootstrapServers(final String bootstrapServers) {
         final Map<String, String> specificConfig = new HashMap<>();
         specificConfig.put("bootstrapServers", bootstrapServers);
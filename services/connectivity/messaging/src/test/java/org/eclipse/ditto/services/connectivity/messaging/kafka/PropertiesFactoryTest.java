@@ -24,6 +24,7 @@ import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.eclipse.ditto.model.connectivity.Connection;
 import org.eclipse.ditto.model.connectivity.ConnectionId;
@@ -38,9 +39,9 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 
 /**
- * Unit test for {@link ProducerPropertiesFactory}.
+ * Unit test for {@link PropertiesFactory}.
  */
-public final class ProducerPropertiesFactoryTest {
+public final class PropertiesFactoryTest {
 
     private static final String[] BOOTSTRAP_SERVERS = {
             "foo:123",
@@ -56,7 +57,7 @@ public final class ProducerPropertiesFactoryTest {
     private static KafkaConfig kafkaConfig;
     private static Connection connection;
 
-    private ProducerPropertiesFactory underTest;
+    private PropertiesFactory underTest;
 
     @BeforeClass
     public static void initTestFixture() {
@@ -83,7 +84,7 @@ public final class ProducerPropertiesFactoryTest {
 
     @Before
     public void setUp() {
-        underTest = ProducerPropertiesFactory.getInstance(connection, kafkaConfig, UUID.randomUUID().toString());
+        underTest = PropertiesFactory.getInstance(connection, kafkaConfig, UUID.randomUUID().toString());
     }
 
     @Test
@@ -103,4 +104,41 @@ public final class ProducerPropertiesFactoryTest {
         );
     }
 
+    @Test
+    public void consumerPropertiesDisableAutoCommitAndUseConnectionIdAsGroupId() {
+        final Map<String, Object> properties = underTest.getConsumerProperties();
+
+        final List<String> servers =
+                Arrays.asList(properties.get(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG).toString().split(","));
+
+        assertThat(servers).containsExactlyInAnyOrder(BOOTSTRAP_SERVERS);
+        assertThat(properties).contains(
+                new AbstractMap.SimpleEntry<>(ConsumerConfig.GROUP_ID_CONFIG, CONNECTION_ID.toString()),
+                new AbstractMap.SimpleEntry<>(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false)
+        );
+        // producer properties in kafka.producer.internal.kafka-clients do not apply to consumers
+        assertThat(properties).doesNotContainKey("connections.max.idle.ms");
+    }
+
+    @Test
+    public void producerTuningOfSpecificConfigAppliesOnlyToProducer() {
+        final Map<String, String> specificConfig = new HashMap<>(connection.getSpecificConfig());
+        specificConfig.put(KafkaProducerSpecificConfig.SPECIFIC_CONFIG_LINGER_MS_KEY, "20");
+        specificConfig.put(KafkaProducerSpecificConfig.SPECIFIC_CONFIG_BATCH_SIZE_KEY, "65536");
+        specificConfig.put(KafkaProducerSpecificConfig.SPECIFIC_CONFIG_COMPRESSION_TYPE_KEY, "lz4");
+        final Connection tunedConnection = ConnectivityModelFactory.newConnectionBuilder(connection)
+                .specificConfig(specificConfig)
+                .build();
+        final PropertiesFactory factory =
+                PropertiesFactory.getInstance(tunedConnection, kafkaConfig, UUID.randomUUID().toString());
+
+        assertThat(factory.getProducerProperties()).contains(
+                new AbstractMap.SimpleEntry<>(ProducerConfig.LINGER_MS_CONFIG, "20"),
+                new AbstractMap.SimpleEntry<>(ProducerConfig.BATCH_SIZE_CONFIG, "65536"),
+                new AbstractMap.SimpleEntry<>(ProducerConfig.COMPRESSION_TYPE_CONFIG, "lz4")
+        );
+        assertThat(factory.getConsumerProperties()).doesNotContainKeys(ProducerConfig.LINGER_MS_CONFIG,
+                ProducerConfig.BATCH_SIZE_CONFIG, ProducerConfig.COMPRESSION_TYPE_CONFIG);
+    }
+
 }
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.monitoring.metrics;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH Benchmark of 16 threads incrementing the same {@link SlidingWindowCounter} with the windows used for
+ * connection metrics. It resides in the package of the counter because the counter is package-private.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Threads(16)
+public class SlidingWindowCounterBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 5;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private final SlidingWindowCounter counter = new SlidingWindowCounter(NoopCounter.INSTANCE, Clock.systemUTC(),
+            MeasurementWindow.ONE_MINUTE, MeasurementWindow.ONE_HOUR, MeasurementWindow.ONE_DAY);
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public void incrementSuccess() {
+        counter.increment();
+    }
+
+    /**
+     * Counter which does nothing, so that only the sliding window is measured.
+     */
+    private static final class NoopCounter implements Counter {
+
+        private static final NoopCounter INSTANCE = new NoopCounter();
+
+        @Override
+        public Counter increment() {
+            return this;
+        }
+
+        @Override
+        public Counter increment(final long times) {
+            return this;
+        }
+
+        @Override
+        public long getCount() {
+            return 0L;
+        }
+
+        @Override
+        public boolean reset() {
+            return true;
+        }
+
+        @Override
+        public Counter tag(final String key, final String value) {
+            return this;
+        }
+
+        @Override
+        public Counter tags(final Map<String, String> tags) {
+            return this;
+        }
+
+        @Override
+        public String getTag(final String key) {
+            return null;
+        }
+
+        @Override
+        public Map<String, String> getTags() {
+            return Map.of();
+        }
+
+    }
+
+}
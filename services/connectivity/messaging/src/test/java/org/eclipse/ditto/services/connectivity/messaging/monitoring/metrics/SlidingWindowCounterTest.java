@@ -19,7 +19,16 @@ import static org.mockito.Mockito.when;
 
 import java.time.Clock;
 import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
 import org.junit.Before;
@@ -81,4 +90,67 @@ public class SlidingWindowCounterTest {
 
     }
 
+    @Test
+    public void testMeasurementsLeaveTheWindow() {
+        final long start = 1_000_000_000_000L;
+        final Clock clock = Clock.fixed(Instant.ofEpochMilli(start), ZoneOffset.UTC);
+        final SlidingWindowCounter counter =
+                new SlidingWindowCounter(metricsCounter, clock, MeasurementWindow.ONE_MINUTE);
+        counter.increment(true, start);
+
+        final Clock oneWindowLater = Clock.offset(clock, MeasurementWindow.ONE_MINUTE.getWindow());
+        final SlidingWindowCounter laterCounter =
+                new SlidingWindowCounter(metricsCounter, oneWindowLater, MeasurementWindow.ONE_MINUTE);
+        laterCounter.increment(true, start);
+        laterCounter.increment(true, start + MeasurementWindow.ONE_MINUTE.getWindow().toMillis());
+
+        assertThat(counter.getCounts(true)).containsEntry(MeasurementWindow.ONE_MINUTE.getWindow(), 1L);
+        assertThat(laterCounter.getCounts(true)).containsEntry(MeasurementWindow.ONE_MINUTE.getWindow(), 1L);
+    }
+
+    @Test
+    public void testOutdatedMeasurementsDoNotOverwriteLaterSlots() {
+        final long now = 1_000_000_000_000L;
+        final SlidingWindowCounter counter = new SlidingWindowCounter(metricsCounter,
+                Clock.fixed(Instant.ofEpochMilli(now), ZoneOffset.UTC), MeasurementWindow.ONE_MINUTE);
+
+        counter.increment(true, now);
+        // same ring position as "now", but two windows earlier
+        counter.increment(true, now - 2 * MeasurementWindow.ONE_MINUTE.getWindow().toMillis());
+
+        assertThat(counter.getCounts(true)).containsEntry(MeasurementWindow.ONE_MINUTE.getWindow(), 1L);
+    }
+
+    @Test
+    public void testConcurrentIncrements() throws Exception {
+        final SlidingWindowCounter counter = new SlidingWindowCounter(metricsCounter, Clock.systemUTC(),
+                MeasurementWindow.ONE_HOUR);
+        final int threads = 8;
+        final int incrementsPerThread = 10_000;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final CountDownLatch start = new CountDownLatch(1);
+            final List<Future<?>> futures = new ArrayList<>(threads);
+            for (int i = 0; i < threads; ++i) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < incrementsPerThread; ++j) {
+                        counter.increment(j % 2 == 0);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (final Future<?> future : futures) {
+                future.get(10L, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        final long expected = threads * incrementsPerThread / 2L;
+        assertThat(counter.getCounts(true)).containsEntry(MeasurementWindow.ONE_HOUR.getWindow(), expected);
+        assertThat(counter.getCounts(false)).containsEntry(MeasurementWindow.ONE_HOUR.getWindow(), expected);
+    }
+
 }
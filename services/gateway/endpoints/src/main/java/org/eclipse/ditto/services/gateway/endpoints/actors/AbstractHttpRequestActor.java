@@ -50,6 +50,7 @@ import org.eclipse.ditto.services.models.acks.AcknowledgementAggregatorActorStar
 import org.eclipse.ditto.services.models.acks.config.AcknowledgementConfig;
 import org.eclipse.ditto.services.utils.akka.logging.DittoDiagnosticLoggingAdapter;
 import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.services.utils.akka.timeout.TimeoutWheel;
 import org.eclipse.ditto.signals.acks.base.Acknowledgement;
 import org.eclipse.ditto.signals.acks.base.Acknowledgements;
 import org.eclipse.ditto.signals.base.Signal;
@@ -68,6 +69,7 @@ import org.eclipse.ditto.signals.commands.things.acks.ThingModifyCommandAckReque
 
 import akka.actor.AbstractActor;
 import akka.actor.ActorRef;
+import akka.actor.Cancellable;
 import akka.actor.ReceiveTimeout;
 import akka.actor.Status;
 import akka.http.javadsl.model.ContentTypes;
@@ -112,6 +114,8 @@ public abstract class AbstractHttpRequestActor extends AbstractActor {
     @Nullable private Uri responseLocationUri;
 
     @Nullable private DittoHeaders incomingCommandHeaders = null;
+    private Duration timeout;
+    private Cancellable timeoutCancellable;
 
     protected AbstractHttpRequestActor(final ActorRef proxyActor,
             final HeaderTranslator headerTranslator,
@@ -133,7 +137,14 @@ public abstract class AbstractHttpRequestActor extends AbstractActor {
                 MessageCommandAckRequestSetter.getInstance());
 
         responseLocationUri = null;
-        getContext().setReceiveTimeout(httpConfig.getRequestTimeout());
+        timeout = httpConfig.getRequestTimeout();
+        timeoutCancellable = scheduleTimeout(timeout);
+    }
+
+    @Override
+    public void postStop() throws Exception {
+        timeoutCancellable.cancel();
+        super.postStop();
     }
 
     @Override
@@ -226,13 +237,9 @@ public abstract class AbstractHttpRequestActor extends AbstractActor {
     }
 
     private Supplier<DittoRuntimeException> getTimeoutExceptionSupplier(final WithDittoHeaders<?> command) {
-        return () -> {
-            final ActorContext context = getContext();
-            final Duration receiveTimeout = context.getReceiveTimeout();
-            return GatewayCommandTimeoutException.newBuilder(receiveTimeout)
-                    .dittoHeaders(command.getDittoHeaders())
-                    .build();
-        };
+        return () -> GatewayCommandTimeoutException.newBuilder(timeout)
+                .dittoHeaders(command.getDittoHeaders())
+                .build();
     }
 
     private void rememberResponseLocationUri(final CommandResponse<?> commandResponse) {
@@ -293,18 +300,22 @@ public abstract class AbstractHttpRequestActor extends AbstractActor {
         final DittoHeaders dittoHeaders = command.getDittoHeaders();
         if (!isDevOpsCommand(command)) {
             // DevOpsCommands do have their own timeout mechanism, don't reply with a command timeout for the user
-            //  for DevOps commands, so only set the receiveTimeout for non-DevOps commands:
-            context.setReceiveTimeout(
-                    dittoHeaders.getTimeout()
-                            // if no specific timeout was configured, use the default command timeout
-                            .orElse(commandConfig.getDefaultTimeout())
-            );
+            //  for DevOps commands, so only set the timeout for non-DevOps commands:
+            timeout = dittoHeaders.getTimeout()
+                    // if no specific timeout was configured, use the default command timeout
+                    .orElse(commandConfig.getDefaultTimeout());
+            timeoutCancellable.cancel();
+            timeoutCancellable = scheduleTimeout(timeout);
         }
 
         // After a Command was received, this Actor can only receive the correlating CommandResponse:
         context.become(awaitCommandResponseBehavior);
     }
 
+    private Cancellable scheduleTimeout(final Duration timeout) {
+        return TimeoutWheel.get(getContext().getSystem()).schedule(timeout, getSelf(), ReceiveTimeout.getInstance());
+    }
+
     private static boolean isDevOpsCommand(final Signal<?> command) {
         return command instanceof DevOpsCommand;
     }
@@ -438,7 +449,7 @@ public abstract class AbstractHttpRequestActor extends AbstractActor {
         final DittoRuntimeException timeoutException = timeoutExceptionSupplier.get();
         logger.withCorrelationId(timeoutException)
                 .info("Got <{}> when a response was expected after timeout <{}>.", ReceiveTimeout.class.getSimpleName(),
-                        getContext().getReceiveTimeout());
+                        timeout);
         handleDittoRuntimeException(timeoutException);
     }
 
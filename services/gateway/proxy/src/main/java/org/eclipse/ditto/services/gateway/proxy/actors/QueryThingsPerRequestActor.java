@@ -24,6 +24,7 @@ import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.entity.id.NamespacedEntityId;
+import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.model.thingsearch.SearchModelFactory;
@@ -32,6 +33,7 @@ import org.eclipse.ditto.services.gateway.util.config.endpoints.GatewayHttpConfi
 import org.eclipse.ditto.services.gateway.util.config.endpoints.HttpConfig;
 import org.eclipse.ditto.services.utils.akka.logging.DittoDiagnosticLoggingAdapter;
 import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.services.utils.akka.timeout.TimeoutWheel;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThings;
@@ -42,6 +44,7 @@ import org.eclipse.ditto.signals.events.thingsearch.ThingsOutOfSync;
 
 import akka.actor.AbstractActor;
 import akka.actor.ActorRef;
+import akka.actor.Cancellable;
 import akka.actor.Props;
 import akka.actor.ReceiveTimeout;
 
@@ -53,6 +56,9 @@ import akka.actor.ReceiveTimeout;
  * This is needed in gateway so that we can maintain the max. cluster-message size in Ditto while still being able to
  * respond to searches with max. 200 search results.
  * </p>
+ * <p>
+ * Search results whose things were already rebuilt from the search index are passed through as they are.
+ * </p>
  */
 final class QueryThingsPerRequestActor extends AbstractActor {
 
@@ -62,6 +68,7 @@ final class QueryThingsPerRequestActor extends AbstractActor {
     private final ActorRef aggregatorProxyActor;
     private final ActorRef originatingSender;
     private final ActorRef pubSubMediator;
+    private final Cancellable timeoutCancellable;
 
     private QueryThingsResponse queryThingsResponse;
     private List<ThingId> queryThingsResponseThingIds;
@@ -82,7 +89,8 @@ final class QueryThingsPerRequestActor extends AbstractActor {
                 DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config())
         );
 
-        getContext().setReceiveTimeout(httpConfig.getRequestTimeout());
+        timeoutCancellable = TimeoutWheel.get(getContext().getSystem())
+                .schedule(httpConfig.getRequestTimeout(), getSelf(), ReceiveTimeout.getInstance());
     }
 
     /**
@@ -99,6 +107,12 @@ final class QueryThingsPerRequestActor extends AbstractActor {
                 pubSubMediator);
     }
 
+    @Override
+    public void postStop() throws Exception {
+        timeoutCancellable.cancel();
+        super.postStop();
+    }
+
     @Override
     public Receive createReceive() {
         return receiveBuilder()
@@ -122,6 +136,10 @@ final class QueryThingsPerRequestActor extends AbstractActor {
                         // shortcut - for no search results we don't have to lookup the things
                         originatingSender.tell(qtr, getSelf());
                         stopMyself();
+                    } else if (isFromSearchIndex(qtr)) {
+                        // shortcut - the things were already rebuilt from the search index
+                        originatingSender.tell(withoutSearchIndexHeader(qtr), getSelf());
+                        stopMyself();
                     } else {
                         final Optional<JsonFieldSelector> selectedFieldsWithThingId = getSelectedFieldsWithThingId();
                         final RetrieveThings retrieveThings = RetrieveThings.getBuilder(queryThingsResponseThingIds)
@@ -163,6 +181,18 @@ final class QueryThingsPerRequestActor extends AbstractActor {
                 .build();
     }
 
+    private static boolean isFromSearchIndex(final QueryThingsResponse queryThingsResponse) {
+        return queryThingsResponse.getDittoHeaders()
+                .containsKey(DittoHeaderDefinition.SEARCH_RESULT_FROM_INDEX.getKey());
+    }
+
+    private static QueryThingsResponse withoutSearchIndexHeader(final QueryThingsResponse queryThingsResponse) {
+        return queryThingsResponse.setDittoHeaders(queryThingsResponse.getDittoHeaders()
+                .toBuilder()
+                .removeHeader(DittoHeaderDefinition.SEARCH_RESULT_FROM_INDEX.getKey())
+                .build());
+    }
+
     /**
      * Extracts selected fields from {@link #queryThings} and ensures that the Thing ID is one of those fields.
      * If no fields are selected, this means that all fields should be returned.
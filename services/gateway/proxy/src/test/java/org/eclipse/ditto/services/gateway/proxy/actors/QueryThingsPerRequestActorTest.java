@@ -19,6 +19,7 @@ import org.eclipse.ditto.json.JsonArray;
 import org.eclipse.ditto.json.JsonCollectors;
 import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
@@ -100,6 +101,26 @@ public final class QueryThingsPerRequestActorTest {
         originalSenderProbe.expectMsg(queryThingsResponse);
     }
 
+    @Test
+    public void passesThroughSearchResultFromSearchIndex() {
+        final ActorRef underTest = createQueryThingsPerRequestActor(QueryThings.of(dittoHeaders));
+        final SearchResult searchResult = SearchResult.newBuilder()
+                .addAll(asArrayWithExtra(JsonObject.newBuilder().set("attributes", JsonObject.empty()).build(),
+                        ThingId.of("thing:1"), ThingId.of("thing:2")))
+                .build();
+        final QueryThingsResponse queryThingsResponse = QueryThingsResponse.of(searchResult, responseHeaders.toBuilder()
+                .putHeader(DittoHeaderDefinition.SEARCH_RESULT_FROM_INDEX.getKey(), "true")
+                .build());
+
+        // WHEN: QueryThingsResponse has items rebuilt from the search index
+        underTest.tell(queryThingsResponse, ActorRef.noSender());
+
+        // THEN: things are not retrieved and the internal header is removed
+        originalSenderProbe.expectMsg(QueryThingsResponse.of(searchResult, responseHeaders));
+        aggregatorProbe.expectNoMessage();
+        pubSubMediatorProbe.expectNoMessage();
+    }
+
     @Test
     public void thingIdIsIncludedWhenOnlyThingIdIsSelected() {
         // GIVEN: QueryThings selected thingId field
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.security.authentication.jwt;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.model.base.common.BinaryValidationResult;
+import org.eclipse.ditto.model.jwt.JsonWebToken;
+import org.eclipse.ditto.services.utils.cache.Cache;
+import org.eclipse.ditto.services.utils.cache.CaffeineCache;
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.timer.PreparedTimer;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+/**
+ * A {@link JwtValidator} which remembers successfully validated JSON web tokens, so that tokens used for many
+ * requests have their signature verified only once.
+ * <p>
+ * Validated tokens are cached under the SHA-256 hash of the token until they expire, but at most for the
+ * {@code expire-after-write} duration of the cache config. Invalid tokens are not cached. Cache statistics are
+ * reported under the cache name and the duration of validations of uncached tokens by the timer
+ * {@code jwt_validation_time}.
+ *
+ * @since 2.0.0
+ */
+@ThreadSafe
+public final class CachingJwtValidator implements JwtValidator {
+
+    /**
+     * Name of the timer of the validations by the delegate validator.
+     */
+    static final String VALIDATION_TIMER_NAME = "jwt_validation_time";
+
+    private static final String HASH_ALGORITHM = "SHA-256";
+
+    private final JwtValidator delegate;
+    private final Duration maxCachingDuration;
+    private final Cache<String, Instant> validatedTokens;
+    private final PreparedTimer validationTimer;
+
+    private CachingJwtValidator(final JwtValidator delegate, final CacheConfig cacheConfig, final String cacheName) {
+        this.delegate = checkNotNull(delegate, "delegate");
+        checkNotNull(cacheConfig, "cacheConfig");
+        maxCachingDuration = cacheConfig.getExpireAfterWrite();
+        validatedTokens = CaffeineCache.of(Caffeine.newBuilder()
+                .maximumSize(cacheConfig.getMaximumSize())
+                .expireAfter(new UntilExpirationTime()), checkNotNull(cacheName, "cacheName"));
+        validationTimer = DittoMetrics.timer(VALIDATION_TIMER_NAME).tag("cache", cacheName);
+    }
+
+    /**
+     * Creates a new {@code CachingJwtValidator} instance.
+     *
+     * @param delegate the validator to validate tokens which are not cached.
+     * @param cacheConfig the config of the cache of validated tokens.
+     * @param cacheName the name of the cache of validated tokens, used for metrics.
+     * @return the instance.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static JwtValidator of(final JwtValidator delegate, final CacheConfig cacheConfig,
+            final String cacheName) {
+
+        return new CachingJwtValidator(delegate, cacheConfig, cacheName);
+    }
+
+    @Override
+    public CompletableFuture<BinaryValidationResult> validate(final JsonWebToken jsonWebToken) {
+        final String tokenHash = hash(jsonWebToken.getToken());
+        return validatedTokens.getIfPresent(tokenHash).thenCompose(validUntil -> {
+            if (validUntil.isPresent() && Instant.now().isBefore(validUntil.get())) {
+                return CompletableFuture.completedFuture(BinaryValidationResult.valid());
+            }
+            final long startNanos = System.nanoTime();
+            return delegate.validate(jsonWebToken).thenApply(result -> {
+                validationTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+                if (result.isValid()) {
+                    validatedTokens.put(tokenHash, getCachedUntil(jsonWebToken));
+                }
+                return result;
+            });
+        });
+    }
+
+    private Instant getCachedUntil(final JsonWebToken jsonWebToken) {
+        final Instant maxCachedUntil = Instant.now().plus(maxCachingDuration);
+        return jsonWebToken.getBody()
+                .getValue(JsonWebToken.JsonFields.EXP)
+                .map(Instant::ofEpochSecond)
+                .filter(expirationTime -> expirationTime.isBefore(maxCachedUntil))
+                .orElse(maxCachedUntil);
+    }
+
+    private static String hash(final String token) {
+        try {
+            final MessageDigest messageDigest = MessageDigest.getInstance(HASH_ALGORITHM);
+            final byte[] digest = messageDigest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (final NoSuchAlgorithmException e) {
+            // every Java platform supports SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Expires cached tokens at the time they are cached until.
+     */
+    private static final class UntilExpirationTime implements Expiry<String, Instant> {
+
+        @Override
+        public long expireAfterCreate(final String key, final Instant value, final long currentTime) {
+            return Math.max(0L, Duration.between(Instant.now(), value).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(final String key, final Instant value, final long currentTime,
+                final long currentDuration) {
+
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(final String key, final Instant value, final long currentTime,
+                final long currentDuration) {
+
+            return currentDuration;
+        }
+
+    }
+
+}
@@ -29,6 +29,8 @@ public final class JwtAuthenticationFactory {
 
     private final OAuthConfig oAuthConfig;
     private final CacheConfig publicKeyCacheConfig;
+    @Nullable private final CacheConfig verifiedJwtCacheConfig;
+    @Nullable private final String verifiedJwtCacheName;
     private final HttpClientFacade httpClientFacade;
     private final JwtAuthorizationSubjectsProviderFactory jwtAuthorizationSubjectsProviderFactory;
 
@@ -38,11 +40,15 @@ public final class JwtAuthenticationFactory {
 
     private JwtAuthenticationFactory(final OAuthConfig oAuthConfig,
             final CacheConfig publicKeyCacheConfig,
+            @Nullable final CacheConfig verifiedJwtCacheConfig,
+            @Nullable final String verifiedJwtCacheName,
             final HttpClientFacade httpClientFacade,
             final JwtAuthorizationSubjectsProviderFactory jwtAuthorizationSubjectsProviderFactory) {
 
         this.oAuthConfig = checkNotNull(oAuthConfig, "authenticationConfig");
         this.publicKeyCacheConfig = checkNotNull(publicKeyCacheConfig, "publicKeyCacheConfig");
+        this.verifiedJwtCacheConfig = verifiedJwtCacheConfig;
+        this.verifiedJwtCacheName = verifiedJwtCacheName;
         this.httpClientFacade = checkNotNull(httpClientFacade, "httpClientFacade");
         this.jwtAuthorizationSubjectsProviderFactory =
                 checkNotNull(jwtAuthorizationSubjectsProviderFactory, "jwtAuthorizationSubjectsProviderFactory");
@@ -62,13 +68,46 @@ public final class JwtAuthenticationFactory {
             final HttpClientFacade httpClientFacade,
             final JwtAuthorizationSubjectsProviderFactory jwtAuthorizationSubjectsProviderFactory) {
 
-        return new JwtAuthenticationFactory(oAuthConfig, publicKeyCacheConfig, httpClientFacade,
+        return new JwtAuthenticationFactory(oAuthConfig, publicKeyCacheConfig, null, null, httpClientFacade,
+                jwtAuthorizationSubjectsProviderFactory);
+    }
+
+    /**
+     * Creates a new {@code JwtAuthenticationFactory} instance whose JWT validator caches successfully validated
+     * tokens.
+     *
+     * @param oAuthConfig the OAuth configuration.
+     * @param publicKeyCacheConfig the public key cache configuration.
+     * @param verifiedJwtCacheConfig the configuration of the cache of successfully validated tokens.
+     * @param verifiedJwtCacheName the name of the cache of successfully validated tokens, used for metrics. It must
+     * differ between the instances of an application.
+     * @param httpClientFacade the client facade of the HTTP client.
+     * @param jwtAuthorizationSubjectsProviderFactory used to instantiate a new auth subjects provider.
+     * @return the new created instance.
+     * @since 2.0.0
+     */
+    public static JwtAuthenticationFactory newInstance(final OAuthConfig oAuthConfig,
+            final CacheConfig publicKeyCacheConfig,
+            final CacheConfig verifiedJwtCacheConfig,
+            final String verifiedJwtCacheName,
+            final HttpClientFacade httpClientFacade,
+            final JwtAuthorizationSubjectsProviderFactory jwtAuthorizationSubjectsProviderFactory) {
+
+        return new JwtAuthenticationFactory(oAuthConfig, publicKeyCacheConfig,
+                checkNotNull(verifiedJwtCacheConfig, "verifiedJwtCacheConfig"),
+                checkNotNull(verifiedJwtCacheName, "verifiedJwtCacheName"), httpClientFacade,
                 jwtAuthorizationSubjectsProviderFactory);
     }
 
     public JwtValidator getJwtValidator() {
         if (null == jwtValidator) {
-            jwtValidator = DefaultJwtValidator.of(getPublicKeyProvider());
+            final JwtValidator defaultJwtValidator = DefaultJwtValidator.of(getPublicKeyProvider());
+            if (null != verifiedJwtCacheConfig && null != verifiedJwtCacheName) {
+                jwtValidator =
+                        CachingJwtValidator.of(defaultJwtValidator, verifiedJwtCacheConfig, verifiedJwtCacheName);
+            } else {
+                jwtValidator = defaultJwtValidator;
+            }
         }
         return jwtValidator;
     }
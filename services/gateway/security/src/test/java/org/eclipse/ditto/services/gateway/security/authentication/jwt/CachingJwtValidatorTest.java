@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.security.authentication.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.ditto.model.base.common.BinaryValidationResult;
+import org.eclipse.ditto.model.jwt.ImmutableJsonWebToken;
+import org.eclipse.ditto.model.jwt.JsonWebToken;
+import org.eclipse.ditto.services.utils.cache.config.DefaultCacheConfig;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Unit test for {@link CachingJwtValidator}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public final class CachingJwtValidatorTest {
+
+    private static final JsonWebToken JSON_WEB_TOKEN =
+            ImmutableJsonWebToken.fromAuthorization("Bearer " + JwtTestConstants.VALID_JWT_TOKEN);
+
+    @Mock
+    private JwtValidator delegate;
+
+    @Test
+    public void validatesTokenOnlyOnce() {
+        when(delegate.validate(JSON_WEB_TOKEN))
+                .thenReturn(CompletableFuture.completedFuture(BinaryValidationResult.valid()));
+
+        final JwtValidator underTest = createValidator("1h");
+
+        assertThat(underTest.validate(JSON_WEB_TOKEN).join().isValid()).isTrue();
+        assertThat(underTest.validate(ImmutableJsonWebToken.fromToken(JwtTestConstants.VALID_JWT_TOKEN))
+                .join()
+                .isValid()).isTrue();
+        verify(delegate, times(1)).validate(JSON_WEB_TOKEN);
+    }
+
+    @Test
+    public void doesNotCacheInvalidTokens() {
+        final BinaryValidationResult invalid = BinaryValidationResult.invalid(new IllegalStateException("invalid"));
+        when(delegate.validate(JSON_WEB_TOKEN)).thenReturn(CompletableFuture.completedFuture(invalid));
+
+        final JwtValidator underTest = createValidator("1h");
+
+        assertThat(underTest.validate(JSON_WEB_TOKEN).join()).isEqualTo(invalid);
+        assertThat(underTest.validate(JSON_WEB_TOKEN).join()).isEqualTo(invalid);
+        verify(delegate, times(2)).validate(JSON_WEB_TOKEN);
+    }
+
+    @Test
+    public void validatesTokenAgainAfterMaximumCachingDuration() {
+        when(delegate.validate(JSON_WEB_TOKEN))
+                .thenReturn(CompletableFuture.completedFuture(BinaryValidationResult.valid()));
+
+        final JwtValidator underTest = createValidator("0s");
+
+        assertThat(underTest.validate(JSON_WEB_TOKEN).join().isValid()).isTrue();
+        assertThat(underTest.validate(JSON_WEB_TOKEN).join().isValid()).isTrue();
+        verify(delegate, times(2)).validate(JSON_WEB_TOKEN);
+    }
+
+    private JwtValidator createValidator(final String expireAfterWrite) {
+        return CachingJwtValidator.of(delegate, DefaultCacheConfig.of(ConfigFactory.parseString(
+                "verifiedjwts { maximum-size = 10, expire-after-write = " + expireAfterWrite + " }"), "verifiedjwts"),
+                "verified-jwts-test-cache");
+    }
+
+}
@@ -99,6 +99,8 @@ final class GatewayRootActor extends DittoRootActor {
     static final String ACTOR_NAME = "gatewayRoot";
 
     private static final String AUTHENTICATION_DISPATCHER_NAME = "authentication-dispatcher";
+    private static final String VERIFIED_JWT_CACHE_NAME = "ditto_authorization_jwt_verified_cache";
+    private static final String DEVOPS_VERIFIED_JWT_CACHE_NAME = "ditto_authorization_devops_jwt_verified_cache";
 
     private final DiagnosticLoggingAdapter log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
 
@@ -134,17 +136,18 @@ final class GatewayRootActor extends DittoRootActor {
                 DefaultHttpClientFacade.getInstance(actorSystem, authenticationConfig.getHttpProxyConfig());
 
         final CacheConfig publicKeysConfig = gatewayConfig.getCachesConfig().getPublicKeysConfig();
+        final CacheConfig verifiedJwtsConfig = gatewayConfig.getCachesConfig().getVerifiedJwtsConfig();
         final OAuthConfig oAuthConfig = authenticationConfig.getOAuthConfig();
         final JwtAuthorizationSubjectsProviderFactory authorizationSubjectsProviderFactory =
                 DittoJwtAuthorizationSubjectsProvider::of;
         final JwtAuthenticationFactory jwtAuthenticationFactory =
-                JwtAuthenticationFactory.newInstance(oAuthConfig, publicKeysConfig, httpClient,
-                        authorizationSubjectsProviderFactory);
+                JwtAuthenticationFactory.newInstance(oAuthConfig, publicKeysConfig, verifiedJwtsConfig,
+                        VERIFIED_JWT_CACHE_NAME, httpClient, authorizationSubjectsProviderFactory);
 
         final OAuthConfig devopsOauthConfig = authenticationConfig.getDevOpsConfig().getOAuthConfig();
         final JwtAuthenticationFactory devopsJwtAuthenticationFactory =
-                JwtAuthenticationFactory.newInstance(devopsOauthConfig, publicKeysConfig, httpClient,
-                        authorizationSubjectsProviderFactory);
+                JwtAuthenticationFactory.newInstance(devopsOauthConfig, publicKeysConfig, verifiedJwtsConfig,
+                        DEVOPS_VERIFIED_JWT_CACHE_NAME, httpClient, authorizationSubjectsProviderFactory);
         final DevopsAuthenticationDirectiveFactory devopsAuthenticationDirectiveFactory =
                 DevopsAuthenticationDirectiveFactory.newInstance(devopsJwtAuthenticationFactory,
                         authenticationConfig.getDevOpsConfig());
@@ -0,0 +1,368 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.streaming.actors;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BinaryOperator;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.model.namespaces.NamespaceReader;
+import org.eclipse.ditto.model.query.criteria.Criteria;
+import org.eclipse.ditto.model.query.criteria.Predicate;
+import org.eclipse.ditto.model.query.criteria.visitors.CriteriaVisitor;
+import org.eclipse.ditto.model.query.criteria.visitors.PredicateVisitor;
+import org.eclipse.ditto.model.query.expression.ExistsFieldExpression;
+import org.eclipse.ditto.model.query.expression.FieldExpressionUtil;
+import org.eclipse.ditto.model.query.expression.FilterFieldExpression;
+import org.eclipse.ditto.model.query.expression.visitors.ExistsFieldExpressionVisitor;
+import org.eclipse.ditto.model.query.expression.visitors.FilterFieldExpressionVisitor;
+import org.eclipse.ditto.signals.base.Signal;
+import org.eclipse.ditto.signals.base.WithFeatureId;
+import org.eclipse.ditto.signals.events.things.ThingEvent;
+
+/**
+ * The indexable parts of the RQL filter of a streaming session: the thing IDs, namespaces and feature IDs which the
+ * filter requires. They are extracted from the filter once when the session starts, so that signals for other
+ * things, namespaces or features are rejected by hash lookups before signal enrichment and before the full filter
+ * is evaluated against a thing.
+ * <p>
+ * The keys never reject a signal which the full filter would accept: a part of the filter which cannot be indexed
+ * leaves the corresponding keys unconstrained.
+ */
+@Immutable
+final class SessionFilterIndexKeys {
+
+    private static final SessionFilterIndexKeys UNCONSTRAINED = new SessionFilterIndexKeys(null, null, null);
+
+    @Nullable private final Set<String> thingIds;
+    @Nullable private final Set<String> namespaces;
+    @Nullable private final Set<String> featureIds;
+
+    private SessionFilterIndexKeys(@Nullable final Set<String> thingIds,
+            @Nullable final Set<String> namespaces,
+            @Nullable final Set<String> featureIds) {
+
+        this.thingIds = thingIds;
+        this.namespaces = namespaces;
+        this.featureIds = featureIds;
+    }
+
+    /**
+     * Extract the index keys of a filter.
+     *
+     * @param criteria the filter, or {@code null} if the session has no filter.
+     * @return the index keys.
+     */
+    static SessionFilterIndexKeys of(@Nullable final Criteria criteria) {
+        return criteria == null ? UNCONSTRAINED : criteria.accept(new KeyExtractor());
+    }
+
+    /**
+     * Test whether the filter may accept the thing derived from a signal.
+     *
+     * @param signal the signal.
+     * @param extraFieldsMayContainFeatures whether the signal may be enriched by features.
+     * @return {@code false} if the filter certainly rejects the signal, {@code true} otherwise.
+     */
+    boolean mayMatch(final Signal<?> signal, final boolean extraFieldsMayContainFeatures) {
+        if (thingIds != null && !thingIds.contains(String.valueOf(signal.getEntityId()))) {
+            return false;
+        }
+        if (namespaces != null &&
+                !NamespaceReader.fromEntityId(signal.getEntityId()).filter(namespaces::contains).isPresent()) {
+            return false;
+        }
+        if (featureIds != null && !extraFieldsMayContainFeatures && signal instanceof ThingEvent &&
+                signal instanceof WithFeatureId) {
+            // a feature event yields a thing with exactly the feature of the event
+            return featureIds.contains(((WithFeatureId) signal).getFeatureId());
+        }
+        return true;
+    }
+
+    /**
+     * @return whether no signal is rejected by these keys.
+     */
+    boolean isUnconstrained() {
+        return thingIds == null && namespaces == null && featureIds == null;
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final SessionFilterIndexKeys that = (SessionFilterIndexKeys) o;
+        return Objects.equals(thingIds, that.thingIds) &&
+                Objects.equals(namespaces, that.namespaces) &&
+                Objects.equals(featureIds, that.featureIds);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(thingIds, namespaces, featureIds);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "thingIds=" + thingIds +
+                ", namespaces=" + namespaces +
+                ", featureIds=" + featureIds +
+                "]";
+    }
+
+    /**
+     * Keys of a conjunction: a single-valued field must have a value allowed by both sides; of the features
+     * required by either side, the fewer ones are kept.
+     */
+    private SessionFilterIndexKeys and(final SessionFilterIndexKeys that) {
+        return new SessionFilterIndexKeys(combine(thingIds, that.thingIds, SessionFilterIndexKeys::intersect),
+                combine(namespaces, that.namespaces, SessionFilterIndexKeys::intersect),
+                combine(featureIds, that.featureIds, (a, b) -> a.size() <= b.size() ? a : b));
+    }
+
+    /**
+     * Keys of a disjunction: a key is constrained only if it is constrained on both sides.
+     */
+    private SessionFilterIndexKeys or(final SessionFilterIndexKeys that) {
+        return new SessionFilterIndexKeys(union(thingIds, that.thingIds), union(namespaces, that.namespaces),
+                union(featureIds, that.featureIds));
+    }
+
+    @Nullable
+    private static Set<String> combine(@Nullable final Set<String> left, @Nullable final Set<String> right,
+            final BinaryOperator<Set<String>> combiner) {
+
+        if (left == null) {
+            return right;
+        } else if (right == null) {
+            return left;
+        } else {
+            return combiner.apply(left, right);
+        }
+    }
+
+    private static Set<String> intersect(final Set<String> left, final Set<String> right) {
+        final Set<String> result = new HashSet<>(left);
+        result.retainAll(right);
+        return Collections.unmodifiableSet(result);
+    }
+
+    @Nullable
+    private static Set<String> union(@Nullable final Set<String> left, @Nullable final Set<String> right) {
+        if (left == null || right == null) {
+            return null;
+        } else {
+            final Set<String> result = new HashSet<>(left);
+            result.addAll(right);
+            return Collections.unmodifiableSet(result);
+        }
+    }
+
+    private static final class KeyExtractor implements CriteriaVisitor<SessionFilterIndexKeys> {
+
+        @Override
+        public SessionFilterIndexKeys visitAnd(final List<SessionFilterIndexKeys> conjuncts) {
+            return conjuncts.stream().reduce(UNCONSTRAINED, SessionFilterIndexKeys::and);
+        }
+
+        @Override
+        public SessionFilterIndexKeys visitAny() {
+            return UNCONSTRAINED;
+        }
+
+        @Override
+        public SessionFilterIndexKeys visitExists(final ExistsFieldExpression fieldExpression) {
+            return fieldExpression.acceptExistsVisitor(new FeatureExtractor())
+                    .map(featureId -> new SessionFilterIndexKeys(null, null, Set.of(featureId)))
+                    .orElse(UNCONSTRAINED);
+        }
+
+        @Override
+        public SessionFilterIndexKeys visitField(final FilterFieldExpression fieldExpression,
+                final Predicate predicate) {
+
+            @Nullable final List<?> values = predicate.accept(ValueExtractor.INSTANCE);
+            if (values == null) {
+                // ne(...) matches things without the field
+                return UNCONSTRAINED;
+            }
+            final FieldKeys fieldKeys = fieldExpression.acceptFilterVisitor(new FieldKeysExtractor());
+            final Set<String> stringValues = values.isEmpty()
+                    ? null
+                    : values.stream().map(String::valueOf).collect(Collectors.toUnmodifiableSet());
+            if (FieldExpressionUtil.FIELD_NAME_THING_ID.equals(fieldKeys.simpleField) && stringValues != null) {
+                return new SessionFilterIndexKeys(stringValues, null, null);
+            } else if (FieldExpressionUtil.FIELD_NAMESPACE.equals(fieldKeys.simpleField) && stringValues != null) {
+                return new SessionFilterIndexKeys(null, stringValues, null);
+            } else if (fieldKeys.featureId != null) {
+                // all predicates except ne(...) require the feature property and thus the feature to exist
+                return new SessionFilterIndexKeys(null, null, Set.of(fieldKeys.featureId));
+            } else {
+                return UNCONSTRAINED;
+            }
+        }
+
+        @Override
+        public SessionFilterIndexKeys visitNor(final List<SessionFilterIndexKeys> negativeDisjoints) {
+            return UNCONSTRAINED;
+        }
+
+        @Override
+        public SessionFilterIndexKeys visitOr(final List<SessionFilterIndexKeys> disjoints) {
+            return disjoints.stream().reduce(SessionFilterIndexKeys::or).orElse(UNCONSTRAINED);
+        }
+    }
+
+    /**
+     * Extracts the values of eq(...) and in(...), an empty list for other predicates requiring the field to exist,
+     * and {@code null} for ne(...).
+     */
+    private static final class ValueExtractor implements PredicateVisitor<List<?>> {
+
+        private static final ValueExtractor INSTANCE = new ValueExtractor();
+
+        @Override
+        public List<?> visitEq(@Nullable final Object value) {
+            return value == null ? List.of() : List.of(value);
+        }
+
+        @Override
+        public List<?> visitGe(final Object value) {
+            return List.of();
+        }
+
+        @Override
+        public List<?> visitGt(final Object value) {
+            return List.of();
+        }
+
+        @Override
+        public List<?> visitIn(final List<?> values) {
+            return values.contains(null) ? List.of() : new ArrayList<>(values);
+        }
+
+        @Override
+        public List<?> visitLe(final Object value) {
+            return List.of();
+        }
+
+        @Override
+        public List<?> visitLike(final String value) {
+            return List.of();
+        }
+
+        @Override
+        public List<?> visitLt(final Object value) {
+            return List.of();
+        }
+
+        @Nullable
+        @Override
+        public List<?> visitNe(final Object value) {
+            return null;
+        }
+    }
+
+    private static final class FieldKeys {
+
+        private static final FieldKeys NONE = new FieldKeys(null, null);
+
+        @Nullable private final String simpleField;
+        @Nullable private final String featureId;
+
+        private FieldKeys(@Nullable final String simpleField, @Nullable final String featureId) {
+            this.simpleField = simpleField;
+            this.featureId = featureId;
+        }
+    }
+
+    private static final class FieldKeysExtractor implements FilterFieldExpressionVisitor<FieldKeys> {
+
+        @Override
+        public FieldKeys visitAttribute(final String key) {
+            return FieldKeys.NONE;
+        }
+
+        @Override
+        public FieldKeys visitFeatureIdProperty(final String featureId, final String property) {
+            return new FieldKeys(null, featureId);
+        }
+
+        @Override
+        public FieldKeys visitFeatureIdDesiredProperty(final CharSequence featureId,
+                final CharSequence desiredProperty) {
+
+            return new FieldKeys(null, featureId.toString());
+        }
+
+        @Override
+        public FieldKeys visitSimple(final String fieldName) {
+            return new FieldKeys(fieldName, null);
+        }
+    }
+
+    private static final class FeatureExtractor
+            implements ExistsFieldExpressionVisitor<Optional<String>> {
+
+        @Override
+        public Optional<String> visitAttribute(final String key) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<String> visitFeature(final String featureId) {
+            return Optional.of(featureId);
+        }
+
+        @Override
+        public Optional<String> visitFeatureProperties(final CharSequence featureId) {
+            return Optional.of(featureId.toString());
+        }
+
+        @Override
+        public Optional<String> visitFeatureDesiredProperties(final CharSequence featureId) {
+            return Optional.of(featureId.toString());
+        }
+
+        @Override
+        public Optional<String> visitFeatureIdProperty(final String featureId, final String property) {
+            return Optional.of(featureId);
+        }
+
+        @Override
+        public Optional<String> visitFeatureIdDesiredProperty(final CharSequence featureId,
+                final CharSequence property) {
+
+            return Optional.of(featureId.toString());
+        }
+
+        @Override
+        public Optional<String> visitSimple(final String fieldName) {
+            return Optional.empty();
+        }
+    }
+}
@@ -23,6 +23,8 @@ import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.query.criteria.Criteria;
 import org.eclipse.ditto.model.query.things.ThingPredicateVisitor;
 import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
 import org.eclipse.ditto.signals.base.Signal;
 import org.eclipse.ditto.signals.events.things.ThingEventToThingConverter;
 
@@ -33,8 +35,17 @@ import akka.actor.ActorRef;
  */
 public final class StreamingSession {
 
+    private static final String FEATURES = "features";
+
+    private static final Counter FILTER_MATCHES =
+            DittoMetrics.counter("streaming_session_filter_evaluations").tag("result", "match");
+    private static final Counter FILTER_MISMATCHES =
+            DittoMetrics.counter("streaming_session_filter_evaluations").tag("result", "mismatch");
+
     private final List<String> namespaces;
     private final Predicate<Thing> thingPredicate;
+    private final SessionFilterIndexKeys filterIndexKeys;
+    private final boolean extraFieldsMayContainFeatures;
     @Nullable private final JsonFieldSelector extraFields;
     private final ActorRef streamingSessionActor;
 
@@ -44,6 +55,10 @@ public final class StreamingSession {
         thingPredicate = eventFilterCriteria == null
                 ? thing -> true
                 : ThingPredicateVisitor.apply(eventFilterCriteria);
+        filterIndexKeys = SessionFilterIndexKeys.of(eventFilterCriteria);
+        extraFieldsMayContainFeatures = extraFields != null && extraFields.getPointers()
+                .stream()
+                .anyMatch(pointer -> pointer.getRoot().map(FEATURES::contentEquals).orElse(true));
         this.extraFields = extraFields;
         this.streamingSessionActor = streamingSessionActor;
     }
@@ -88,7 +103,26 @@ public final class StreamingSession {
      * @return whether the thing passes the filter.
      */
     public boolean matchesFilter(final Thing thing) {
-        return thingPredicate.test(thing);
+        final boolean result = thingPredicate.test(thing);
+        if (result) {
+            FILTER_MATCHES.increment();
+        } else {
+            FILTER_MISMATCHES.increment();
+        }
+        return result;
+    }
+
+    /**
+     * Test whether a signal may pass the filter defined in this session by looking up the thing ID, namespace and
+     * feature ID of the signal in the indexable parts of the filter. Signals for which this method returns
+     * {@code false} never pass {@link #matchesFilter(Thing)}; they need neither signal enrichment nor conversion to
+     * a thing.
+     *
+     * @param signal the signal.
+     * @return whether the signal may pass the filter.
+     */
+    public boolean mayMatchFilter(final Signal<?> signal) {
+        return filterIndexKeys.mayMatch(signal, extraFieldsMayContainFeatures);
     }
 
     public ActorRef getStreamingSessionActor() {
@@ -24,11 +24,13 @@ import java.util.Set;
 
 import javax.annotation.Nullable;
 
+import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.acks.AcknowledgementLabel;
 import org.eclipse.ditto.model.base.acks.AcknowledgementLabelNotDeclaredException;
 import org.eclipse.ditto.model.base.acks.AcknowledgementLabelNotUniqueException;
 import org.eclipse.ditto.model.base.acks.FatalPubSubException;
 import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.entity.id.EntityId;
 import org.eclipse.ditto.model.base.entity.id.EntityIdWithType;
 import org.eclipse.ditto.model.base.exceptions.DittoHeaderInvalidException;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
@@ -62,6 +64,8 @@ import org.eclipse.ditto.services.models.acks.AcknowledgementForwarderActor;
 import org.eclipse.ditto.services.models.acks.config.AcknowledgementConfig;
 import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
 import org.eclipse.ditto.services.utils.akka.logging.ThreadSafeDittoLoggingAdapter;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
 import org.eclipse.ditto.services.utils.pubsub.DittoProtocolSub;
 import org.eclipse.ditto.services.utils.pubsub.StreamingType;
 import org.eclipse.ditto.services.utils.search.SubscriptionManager;
@@ -102,6 +106,15 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
      */
     private static final Duration MAX_SESSION_TIMEOUT = Duration.ofDays(100L);
 
+    private static final Counter FILTER_CANDIDATES =
+            DittoMetrics.counter("streaming_session_filter_prechecks").tag("result", "candidate");
+    private static final Counter FILTER_REJECTIONS =
+            DittoMetrics.counter("streaming_session_filter_prechecks").tag("result", "rejected");
+
+    private static final JsonValue WEAK_ACK_PAYLOAD =
+            JsonValue.of("Acknowledgement was issued automatically as weak ack, " +
+                    "because the signal was dropped by a configured RQL filter.");
+
     private final JsonSchemaVersion jsonSchemaVersion;
     private final String connectionCorrelationId;
     private final String type;
@@ -250,6 +263,14 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
                     // check if this session is "allowed" to receive the Signal
                     @Nullable final StreamingSession session = streamingSessions.get(determineStreamingType(signal));
                     if (null != session && isSessionAllowedToReceiveSignal(signal, session)) {
+                        if (!session.mayMatchFilter(signal)) {
+                            FILTER_REJECTIONS.increment();
+                            logger.withCorrelationId(signal)
+                                    .debug("Signal does not match filter of <{}> session.", type);
+                            issueWeakAcknowledgements(signal);
+                            return;
+                        }
+                        FILTER_CANDIDATES.increment();
                         logger.withCorrelationId(signal)
                                 .debug("Got Signal in <{}> session, publishing: {}", type, signal);
 
@@ -507,6 +528,20 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
         return isAuthorizedToRead && matchesNamespace;
     }
 
+    private void issueWeakAcknowledgements(final Signal<?> signal) {
+        final EntityId entityId = signal.getEntityId();
+        if (entityId instanceof EntityIdWithType) {
+            final DittoHeaders dittoHeaders = signal.getDittoHeaders();
+            // only labels declared by this session may be settled by it; other parties' acks are left alone
+            dittoHeaders.getAcknowledgementRequests()
+                    .stream()
+                    .filter(request -> declaredAcks.contains(request.getLabel()))
+                    .map(request -> Acknowledgement.weak(request.getLabel(), (EntityIdWithType) entityId,
+                            dittoHeaders, WEAK_ACK_PAYLOAD))
+                    .forEach(this::forwardAcknowledgementOrLiveCommandResponse);
+        }
+    }
+
     private void startSessionTimeout(final Instant sessionExpirationTime) {
         final Duration sessionTimeout = Duration.between(Instant.now(), sessionExpirationTime);
         if (sessionTimeout.isNegative() || sessionTimeout.isZero()) {
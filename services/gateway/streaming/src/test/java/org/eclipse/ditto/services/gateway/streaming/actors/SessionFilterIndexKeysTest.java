@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.streaming.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.query.criteria.Criteria;
+import org.eclipse.ditto.model.query.criteria.CriteriaFactoryImpl;
+import org.eclipse.ditto.model.query.filter.QueryFilterCriteriaFactory;
+import org.eclipse.ditto.model.query.things.ModelBasedThingsFieldExpressionFactory;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.signals.base.Signal;
+import org.eclipse.ditto.signals.events.things.AttributeModified;
+import org.eclipse.ditto.signals.events.things.FeaturePropertyModified;
+import org.junit.Test;
+
+/**
+ * Tests {@link SessionFilterIndexKeys}.
+ */
+public final class SessionFilterIndexKeysTest {
+
+    private static final QueryFilterCriteriaFactory CRITERIA_FACTORY =
+            new QueryFilterCriteriaFactory(new CriteriaFactoryImpl(), new ModelBasedThingsFieldExpressionFactory());
+
+    @Test
+    public void noFilterIsUnconstrained() {
+        assertThat(SessionFilterIndexKeys.of(null).isUnconstrained()).isTrue();
+    }
+
+    @Test
+    public void unindexableFilterIsUnconstrained() {
+        assertThat(keys("eq(attributes/x,5)").isUnconstrained()).isTrue();
+        assertThat(keys("ne(thingId,\"ns:a\")").isUnconstrained()).isTrue();
+        assertThat(keys("not(eq(thingId,\"ns:a\"))").isUnconstrained()).isTrue();
+        assertThat(keys("or(eq(thingId,\"ns:a\"),eq(attributes/x,5))").isUnconstrained()).isTrue();
+    }
+
+    @Test
+    public void thingIdIsIndexed() {
+        final SessionFilterIndexKeys underTest = keys("and(eq(attributes/x,5),in(thingId,\"ns:a\",\"ns:b\"))");
+
+        assertThat(underTest.mayMatch(attributeModified("ns:a"), false)).isTrue();
+        assertThat(underTest.mayMatch(attributeModified("ns:b"), false)).isTrue();
+        assertThat(underTest.mayMatch(attributeModified("ns:c"), false)).isFalse();
+    }
+
+    @Test
+    public void disjunctionOfThingIdsIsIndexed() {
+        final SessionFilterIndexKeys underTest = keys("or(eq(thingId,\"ns:a\"),eq(thingId,\"other:b\"))");
+
+        assertThat(underTest.mayMatch(attributeModified("ns:a"), false)).isTrue();
+        assertThat(underTest.mayMatch(attributeModified("other:b"), false)).isTrue();
+        assertThat(underTest.mayMatch(attributeModified("ns:b"), false)).isFalse();
+    }
+
+    @Test
+    public void namespaceIsIndexed() {
+        final SessionFilterIndexKeys underTest = keys("eq(_namespace,\"ns\")");
+
+        assertThat(underTest.mayMatch(attributeModified("ns:a"), false)).isTrue();
+        assertThat(underTest.mayMatch(attributeModified("other:a"), false)).isFalse();
+    }
+
+    @Test
+    public void featureIsIndexedForFeatureEvents() {
+        final SessionFilterIndexKeys underTest = keys("and(exists(features/f1),gt(features/f2/properties/x,1))");
+
+        assertThat(underTest.mayMatch(featurePropertyModified("ns:a", "f1"), false)).isTrue();
+        assertThat(underTest.mayMatch(featurePropertyModified("ns:a", "f3"), false)).isFalse();
+        assertThat(underTest.mayMatch(featurePropertyModified("ns:a", "f3"), true)).isTrue();
+        assertThat(underTest.mayMatch(attributeModified("ns:a"), false)).isTrue();
+    }
+
+    private static SessionFilterIndexKeys keys(final String filter) {
+        final Criteria criteria = CRITERIA_FACTORY.filterCriteria(filter, DittoHeaders.empty());
+        return SessionFilterIndexKeys.of(criteria);
+    }
+
+    private static Signal<?> attributeModified(final String thingId) {
+        return AttributeModified.of(ThingId.of(thingId), JsonPointer.of("x"), JsonValue.of(5), 1L,
+                DittoHeaders.empty());
+    }
+
+    private static Signal<?> featurePropertyModified(final String thingId, final String featureId) {
+        return FeaturePropertyModified.of(ThingId.of(thingId), featureId, JsonPointer.of("x"), JsonValue.of(2), 1L,
+                DittoHeaders.empty());
+    }
+
+}
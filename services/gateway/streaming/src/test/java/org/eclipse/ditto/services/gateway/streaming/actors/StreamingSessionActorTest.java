@@ -204,6 +204,66 @@ public final class StreamingSessionActorTest {
         }};
     }
 
+    @Test
+    public void signalsOfOtherThingsAreDroppedBeforePublishing() {
+        setUpMockForTwinEventsSubscription();
+        new TestKit(actorSystem) {{
+            final ActorRef underTest = watch(actorSystem.actorOf(getProps()));
+            final AuthorizationContext authorizationContext =
+                    AuthorizationContext.newInstance(DittoAuthorizationContextType.PRE_AUTHENTICATED_HTTP,
+                            AuthorizationSubject.newInstance("ditto:ditto"));
+            underTest.tell(StartStreaming.getBuilder(StreamingType.EVENTS, testName.getMethodName(),
+                    authorizationContext)
+                    .withFilter("eq(thingId,\"thing:id\")")
+                    .build(), ActorRef.noSender());
+            assertThat(sinkProbe.requestNext().getJsonifiable())
+                    .isEqualTo(new StreamingAck(StreamingType.EVENTS, true));
+
+            final DittoHeaders dittoHeaders = DittoHeaders.newBuilder()
+                    .readGrantedSubjects(List.of(AuthorizationSubject.newInstance("ditto:ditto")))
+                    .build();
+            final Signal<?> otherThingSignal = ThingDeleted.of(ThingId.of("thing:other"), 2L, null, dittoHeaders,
+                    null);
+            final Signal<?> signal = ThingDeleted.of(ThingId.of("thing:id"), 2L, null, dittoHeaders, null);
+            underTest.tell(otherThingSignal, ActorRef.noSender());
+            underTest.tell(signal, ActorRef.noSender());
+
+            assertThat(sinkProbe.requestNext().getJsonifiable()).isEqualTo(signal);
+        }};
+    }
+
+    @Test
+    public void weakAcknowledgementsOfDroppedSignalsAreRestrictedToDeclaredAcks() {
+        setUpMockForTwinEventsSubscription();
+        new TestKit(actorSystem) {{
+            final ActorRef underTest = watch(actorSystem.actorOf(getProps("ack")));
+            final AuthorizationContext authorizationContext =
+                    AuthorizationContext.newInstance(DittoAuthorizationContextType.PRE_AUTHENTICATED_HTTP,
+                            AuthorizationSubject.newInstance("ditto:ditto"));
+            underTest.tell(StartStreaming.getBuilder(StreamingType.EVENTS, testName.getMethodName(),
+                    authorizationContext)
+                    .withFilter("eq(thingId,\"thing:id\")")
+                    .build(), ActorRef.noSender());
+            assertThat(sinkProbe.requestNext().getJsonifiable())
+                    .isEqualTo(new StreamingAck(StreamingType.EVENTS, true));
+
+            final Signal<?> otherThingSignal = ThingDeleted.of(ThingId.of("thing:other"), 2L, null,
+                    DittoHeaders.newBuilder()
+                            .correlationId("corr:" + testName.getMethodName())
+                            .readGrantedSubjects(List.of(AuthorizationSubject.newInstance("ditto:ditto")))
+                            .acknowledgementRequests(ackRequests("ack", "undeclared"))
+                            .build(),
+                    null);
+            underTest.tell(otherThingSignal, getRef());
+
+            final Acknowledgement weakAck = expectMsgClass(Acknowledgement.class);
+            assertThat((CharSequence) weakAck.getLabel()).isEqualTo(AcknowledgementLabel.of("ack"));
+            assertThat(weakAck.isWeak()).isTrue();
+            expectNoMessage();
+            commandRouterProbe.expectNoMessage();
+        }};
+    }
+
     @Test
     public void acknowledgementRequestsAreRestrictedToDeclaredAcks() {
         onDeclareAckLabels(CompletableFuture.completedStage(null));
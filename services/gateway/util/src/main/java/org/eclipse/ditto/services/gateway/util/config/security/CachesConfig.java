@@ -29,4 +29,13 @@ public interface CachesConfig {
      */
     CacheConfig getPublicKeysConfig();
 
+    /**
+     * Returns the configuration settings of the cache of successfully validated JSON web tokens.
+     * Tokens are cached until they expire, but at most for the configured expire-after-write duration.
+     *
+     * @return the config.
+     * @since 2.0.0
+     */
+    CacheConfig getVerifiedJwtsConfig();
+
 }
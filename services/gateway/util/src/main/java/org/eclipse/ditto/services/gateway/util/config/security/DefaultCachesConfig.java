@@ -31,9 +31,11 @@ public final class DefaultCachesConfig implements CachesConfig {
     private static final String CONFIG_PATH = "cache";
 
     private final CacheConfig publicKeysConfig;
+    private final CacheConfig verifiedJwtsConfig;
 
-    private DefaultCachesConfig(final CacheConfig thePublicKeysConfig) {
+    private DefaultCachesConfig(final CacheConfig thePublicKeysConfig, final CacheConfig theVerifiedJwtsConfig) {
         publicKeysConfig = thePublicKeysConfig;
+        verifiedJwtsConfig = theVerifiedJwtsConfig;
     }
 
     /**
@@ -45,7 +47,8 @@ public final class DefaultCachesConfig implements CachesConfig {
      */
     public static DefaultCachesConfig of(final Config config) {
         final DefaultScopedConfig cacheScopedConfig = DefaultScopedConfig.newInstance(config, CONFIG_PATH);
-        return new DefaultCachesConfig(DefaultCacheConfig.of(cacheScopedConfig, "publickeys"));
+        return new DefaultCachesConfig(DefaultCacheConfig.of(cacheScopedConfig, "publickeys"),
+                DefaultCacheConfig.of(cacheScopedConfig, "verifiedjwts"));
     }
 
     @Override
@@ -53,6 +56,11 @@ public final class DefaultCachesConfig implements CachesConfig {
         return publicKeysConfig;
     }
 
+    @Override
+    public CacheConfig getVerifiedJwtsConfig() {
+        return verifiedJwtsConfig;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -62,18 +70,20 @@ public final class DefaultCachesConfig implements CachesConfig {
             return false;
         }
         final DefaultCachesConfig that = (DefaultCachesConfig) o;
-        return Objects.equals(publicKeysConfig, that.publicKeysConfig);
+        return Objects.equals(publicKeysConfig, that.publicKeysConfig) &&
+                Objects.equals(verifiedJwtsConfig, that.verifiedJwtsConfig);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(publicKeysConfig);
+        return Objects.hash(publicKeysConfig, verifiedJwtsConfig);
     }
 
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" +
                 "publicKeysConfig=" + publicKeysConfig +
+                ", verifiedJwtsConfig=" + verifiedJwtsConfig +
                 "]";
     }
 
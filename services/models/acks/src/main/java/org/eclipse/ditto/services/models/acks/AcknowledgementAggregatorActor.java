@@ -38,6 +38,7 @@ import org.eclipse.ditto.protocoladapter.TopicPath;
 import org.eclipse.ditto.services.models.acks.config.AcknowledgementConfig;
 import org.eclipse.ditto.services.utils.akka.logging.DittoDiagnosticLoggingAdapter;
 import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.services.utils.akka.timeout.TimeoutWheel;
 import org.eclipse.ditto.signals.acks.base.Acknowledgement;
 import org.eclipse.ditto.signals.acks.base.Acknowledgements;
 import org.eclipse.ditto.signals.acks.things.ThingAcknowledgementFactory;
@@ -50,6 +51,7 @@ import org.eclipse.ditto.signals.commands.things.ThingCommandResponse;
 import org.eclipse.ditto.signals.commands.things.ThingErrorResponse;
 
 import akka.actor.AbstractActor;
+import akka.actor.Cancellable;
 import akka.actor.Props;
 import akka.actor.ReceiveTimeout;
 
@@ -69,6 +71,7 @@ public final class AcknowledgementAggregatorActor extends AbstractActor {
     private final AcknowledgementAggregator ackregator;
     private final Consumer<Object> responseSignalConsumer;
     private final Duration timeout;
+    private final Cancellable timeoutCancellable;
 
     @SuppressWarnings("unused")
     private AcknowledgementAggregatorActor(final ThingId thingId,
@@ -86,7 +89,8 @@ public final class AcknowledgementAggregatorActor extends AbstractActor {
                 );
 
         timeout = requestCommandHeaders.getTimeout().orElseGet(acknowledgementConfig::getForwarderFallbackTimeout);
-        getContext().setReceiveTimeout(timeout);
+        timeoutCancellable = TimeoutWheel.get(getContext().getSystem())
+                .schedule(timeout, getSelf(), ReceiveTimeout.getInstance());
 
         final Set<AcknowledgementRequest> acknowledgementRequests = requestCommandHeaders.getAcknowledgementRequests();
         ackregator = AcknowledgementAggregator.getInstance(thingId, correlationId, timeout, headerTranslator);
@@ -129,6 +133,12 @@ public final class AcknowledgementAggregatorActor extends AbstractActor {
                 acknowledgementConfig, headerTranslator, responseSignalConsumer);
     }
 
+    @Override
+    public void postStop() throws Exception {
+        timeoutCancellable.cancel();
+        super.postStop();
+    }
+
     @Override
     public Receive createReceive() {
         return receiveBuilder()
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.actors;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThing;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingResponse;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThings;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingsResponse;
+
+import akka.actor.ActorRef;
+import akka.pattern.Patterns;
+
+/**
+ * Answers {@link SudoRetrieveThings} commands which are sent to the things shard region in a sharded message envelope
+ * addressed to one of the requested things. The sender batches things of the same shard into one command, thus
+ * retrieving the things via the shard region stays on the cluster node of the shard.
+ * <p>
+ * Things are retrieved in their original schema version. Things which do not exist, which could not be retrieved in
+ * time or which would make the response exceed the maximum response size are omitted from the response; it is up to
+ * the sender to retrieve them one by one.
+ * </p>
+ */
+@Immutable
+final class BatchedThingsRetriever {
+
+    private final ActorRef thingsShardRegion;
+    private final Duration defaultTimeout;
+    private final long maxResponseSize;
+
+    private BatchedThingsRetriever(final ActorRef thingsShardRegion, final Duration defaultTimeout,
+            final long maxResponseSize) {
+
+        this.thingsShardRegion = checkNotNull(thingsShardRegion, "thingsShardRegion");
+        this.defaultTimeout = checkNotNull(defaultTimeout, "defaultTimeout");
+        this.maxResponseSize = maxResponseSize;
+    }
+
+    /**
+     * Returns a new instance of {@code BatchedThingsRetriever}.
+     *
+     * @param thingsShardRegion the shard region to retrieve single things from.
+     * @param defaultTimeout timeout of single retrievals if the command headers define no timeout.
+     * @param maxResponseSize maximum summed up length of the JSON of the retrieved things in a response.
+     * @return the instance.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    static BatchedThingsRetriever of(final ActorRef thingsShardRegion, final Duration defaultTimeout,
+            final long maxResponseSize) {
+
+        return new BatchedThingsRetriever(thingsShardRegion, defaultTimeout, maxResponseSize);
+    }
+
+    /**
+     * Retrieve the things requested by a command.
+     *
+     * @param command the command.
+     * @return future response containing the JSON of the retrieved things in the requested order.
+     */
+    CompletionStage<SudoRetrieveThingsResponse> retrieve(final SudoRetrieveThings command) {
+        final DittoHeaders dittoHeaders = command.getDittoHeaders();
+        final Duration timeout = dittoHeaders.getTimeout().orElse(defaultTimeout);
+        final List<CompletableFuture<Optional<String>>> thingJsonFutures = command.getThingIds()
+                .stream()
+                .map(thingId -> retrieveThingJson(thingId, dittoHeaders, timeout))
+                .collect(Collectors.toList());
+
+        return CompletableFuture.allOf(thingJsonFutures.toArray(CompletableFuture[]::new))
+                .thenApply(unused -> toResponse(thingJsonFutures, dittoHeaders));
+    }
+
+    private CompletableFuture<Optional<String>> retrieveThingJson(final ThingId thingId,
+            final DittoHeaders dittoHeaders, final Duration timeout) {
+
+        final SudoRetrieveThing command = SudoRetrieveThing.withOriginalSchemaVersion(thingId, dittoHeaders);
+        return Patterns.ask(thingsShardRegion, command, timeout)
+                .handle((response, error) -> {
+                    if (response instanceof SudoRetrieveThingResponse) {
+                        final SudoRetrieveThingResponse thingResponse = (SudoRetrieveThingResponse) response;
+                        return Optional.of(thingResponse.getEntityPlainString().orElseGet(() ->
+                                thingResponse.getEntity(thingResponse.getImplementedSchemaVersion()).toString()));
+                    } else {
+                        return Optional.<String>empty();
+                    }
+                })
+                .toCompletableFuture();
+    }
+
+    private SudoRetrieveThingsResponse toResponse(final List<CompletableFuture<Optional<String>>> thingJsonFutures,
+            final DittoHeaders dittoHeaders) {
+
+        final List<String> thingJsons = new ArrayList<>(thingJsonFutures.size());
+        long responseSize = 0L;
+        for (final CompletableFuture<Optional<String>> thingJsonFuture : thingJsonFutures) {
+            final Optional<String> thingJson = thingJsonFuture.join();
+            if (thingJson.isPresent() && responseSize + thingJson.get().length() <= maxResponseSize) {
+                thingJsons.add(thingJson.get());
+                responseSize += thingJson.get().length();
+            }
+        }
+        return SudoRetrieveThingsResponse.of(thingJsons, dittoHeaders);
+    }
+
+}
@@ -14,6 +14,7 @@ package org.eclipse.ditto.services.things.persistence.actors;
 
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -23,6 +24,8 @@ import org.eclipse.ditto.model.base.exceptions.DittoRuntimeExceptionBuilder;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.base.actors.ShutdownBehaviour;
 import org.eclipse.ditto.services.base.config.supervision.ExponentialBackOffConfig;
+import org.eclipse.ditto.services.models.things.ThingsMessagingConstants;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThings;
 import org.eclipse.ditto.services.things.common.config.DittoThingsConfig;
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
 import org.eclipse.ditto.services.utils.persistentactors.AbstractPersistenceSupervisor;
@@ -30,9 +33,14 @@ import org.eclipse.ditto.services.utils.pubsub.DistributedPub;
 import org.eclipse.ditto.signals.commands.things.exceptions.ThingUnavailableException;
 import org.eclipse.ditto.signals.events.things.ThingEvent;
 
+import com.typesafe.config.Config;
+
 import akka.actor.ActorKilledException;
 import akka.actor.ActorRef;
 import akka.actor.Props;
+import akka.cluster.sharding.ClusterSharding;
+import akka.japi.pf.ReceiveBuilder;
+import akka.pattern.Patterns;
 
 /**
  * Supervisor for {@link ThingPersistenceActor} which means it will create, start and watch it as child actor.
@@ -44,9 +52,13 @@ import akka.actor.Props;
  */
 public final class ThingSupervisorActor extends AbstractPersistenceSupervisor<ThingId> {
 
+    private static final Duration BATCHED_RETRIEVAL_DEFAULT_TIMEOUT = Duration.ofSeconds(10L);
+    private static final String MAXIMUM_FRAME_SIZE_PATH = "akka.remote.artery.advanced.maximum-frame-size";
+
     private final ActorRef pubSubMediator;
     private final DistributedPub<ThingEvent<?>> distributedPub;
     private final ThingPersistenceActorPropsFactory thingPersistenceActorPropsFactory;
+    @Nullable private BatchedThingsRetriever batchedThingsRetriever;
 
     @SuppressWarnings("unused")
     private ThingSupervisorActor(final ActorRef pubSubMediator,
@@ -83,6 +95,13 @@ public final class ThingSupervisorActor extends AbstractPersistenceSupervisor<Th
         return ThingId.of(URLDecoder.decode(getSelf().path().name(), StandardCharsets.UTF_8.name()));
     }
 
+    @Override
+    protected Receive activeBehavior() {
+        return ReceiveBuilder.create()
+                .match(SudoRetrieveThings.class, this::retrieveBatchedThings)
+                .build();
+    }
+
     @Override
     @Nonnull
     protected Props getPersistenceActorProps(@Nonnull final ThingId entityId) {
@@ -114,4 +133,28 @@ public final class ThingSupervisorActor extends AbstractPersistenceSupervisor<Th
                 .getExponentialBackOffConfig();
     }
 
+    private void retrieveBatchedThings(final SudoRetrieveThings command) {
+        Patterns.pipe(getBatchedThingsRetriever().retrieve(command), getContext().getDispatcher())
+                .to(getSender());
+    }
+
+    private BatchedThingsRetriever getBatchedThingsRetriever() {
+        if (null == batchedThingsRetriever) {
+            final ActorRef thingsShardRegion = ClusterSharding.get(getContext().getSystem())
+                    .shardRegion(ThingsMessagingConstants.SHARD_REGION);
+            batchedThingsRetriever = BatchedThingsRetriever.of(thingsShardRegion, BATCHED_RETRIEVAL_DEFAULT_TIMEOUT,
+                    getMaxBatchedResponseSize(getContext().getSystem().settings().config()));
+        }
+        return batchedThingsRetriever;
+    }
+
+    /**
+     * Leave enough room in a remote message for non-ASCII characters and for the envelope of the response.
+     */
+    private static long getMaxBatchedResponseSize(final Config config) {
+        return config.hasPath(MAXIMUM_FRAME_SIZE_PATH)
+                ? config.getBytes(MAXIMUM_FRAME_SIZE_PATH) / 2
+                : Long.MAX_VALUE;
+    }
+
 }
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThing;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingResponse;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThings;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingsResponse;
+import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotAccessibleException;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.testkit.TestProbe;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Unit test for {@link BatchedThingsRetriever}.
+ */
+public final class BatchedThingsRetrieverTest {
+
+    private static final ThingId THING_1 = ThingId.of("org.eclipse.ditto:thing1");
+    private static final ThingId THING_2 = ThingId.of("org.eclipse.ditto:thing2");
+    private static final ThingId THING_3 = ThingId.of("org.eclipse.ditto:thing3");
+    private static final ThingId THING_4 = ThingId.of("org.eclipse.ditto:thing4");
+
+    private static ActorSystem actorSystem;
+
+    @BeforeClass
+    public static void startActorSystem() {
+        actorSystem = ActorSystem.create(BatchedThingsRetrieverTest.class.getSimpleName());
+    }
+
+    @AfterClass
+    public static void stopActorSystem() {
+        if (null != actorSystem) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void retrievesThingsInRequestedOrderAndOmitsUnavailableThings() throws Exception {
+        final TestProbe shardRegion = TestProbe.apply(actorSystem);
+        final BatchedThingsRetriever underTest =
+                BatchedThingsRetriever.of(shardRegion.ref(), Duration.ofSeconds(10L), Long.MAX_VALUE);
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder().timeout(Duration.ofSeconds(1L)).build();
+
+        final CompletionStage<SudoRetrieveThingsResponse> responseFuture =
+                underTest.retrieve(SudoRetrieveThings.of(List.of(THING_1, THING_2, THING_3, THING_4), dittoHeaders));
+
+        // reply in reverse order of the requests
+        final SudoRetrieveThing retrieveThing1 = shardRegion.expectMsgClass(SudoRetrieveThing.class);
+        final ActorRef sender1 = shardRegion.lastSender();
+        final SudoRetrieveThing retrieveThing2 = shardRegion.expectMsgClass(SudoRetrieveThing.class);
+        final ActorRef sender2 = shardRegion.lastSender();
+        final SudoRetrieveThing retrieveThing3 = shardRegion.expectMsgClass(SudoRetrieveThing.class);
+        final ActorRef sender3 = shardRegion.lastSender();
+        shardRegion.expectMsgClass(SudoRetrieveThing.class);
+
+        assertThat((CharSequence) retrieveThing1.getEntityId()).isEqualTo(THING_1);
+        assertThat(retrieveThing1.useOriginalSchemaVersion()).isTrue();
+        assertThat((CharSequence) retrieveThing2.getEntityId()).isEqualTo(THING_2);
+        assertThat((CharSequence) retrieveThing3.getEntityId()).isEqualTo(THING_3);
+
+        sender3.tell(SudoRetrieveThingResponse.of(thingJson(THING_3), dittoHeaders), ActorRef.noSender());
+        sender2.tell(ThingNotAccessibleException.newBuilder(THING_2).build(), ActorRef.noSender());
+        sender1.tell(SudoRetrieveThingResponse.of(thingJson(THING_1), dittoHeaders), ActorRef.noSender());
+        // no response for THING_4: its retrieval times out
+
+        final SudoRetrieveThingsResponse response = responseFuture.toCompletableFuture().get(5L, TimeUnit.SECONDS);
+        assertThat(response.getEntity(response.getImplementedSchemaVersion()).asArray())
+                .containsExactly(thingJson(THING_1), thingJson(THING_3));
+    }
+
+    @Test
+    public void omitsThingsExceedingMaxResponseSize() throws Exception {
+        final TestProbe shardRegion = TestProbe.apply(actorSystem);
+        final long maxResponseSize = thingJson(THING_1).toString().length() + 1L;
+        final BatchedThingsRetriever underTest =
+                BatchedThingsRetriever.of(shardRegion.ref(), Duration.ofSeconds(10L), maxResponseSize);
+
+        final CompletionStage<SudoRetrieveThingsResponse> responseFuture =
+                underTest.retrieve(SudoRetrieveThings.of(List.of(THING_1, THING_2), DittoHeaders.empty()));
+
+        shardRegion.expectMsgClass(SudoRetrieveThing.class);
+        shardRegion.reply(SudoRetrieveThingResponse.of(thingJson(THING_1), DittoHeaders.empty()));
+        shardRegion.expectMsgClass(SudoRetrieveThing.class);
+        shardRegion.reply(SudoRetrieveThingResponse.of(thingJson(THING_2), DittoHeaders.empty()));
+
+        final SudoRetrieveThingsResponse response = responseFuture.toCompletableFuture().get(5L, TimeUnit.SECONDS);
+        assertThat(response.getEntity(response.getImplementedSchemaVersion()).asArray())
+                .containsExactly(thingJson(THING_1));
+    }
+
+    private static JsonObject thingJson(final ThingId thingId) {
+        return JsonObject.newBuilder()
+                .set(Thing.JsonFields.ID, thingId.toString())
+                .set(Thing.JsonFields.REVISION, 1L)
+                .build();
+    }
+
+}
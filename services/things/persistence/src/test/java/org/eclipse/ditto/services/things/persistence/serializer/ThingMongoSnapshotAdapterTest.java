@@ -13,13 +13,17 @@
 package org.eclipse.ditto.services.things.persistence.serializer;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 import org.bson.BsonDocument;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.things.TestConstants;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.services.models.things.DittoThingSnapshotTaken;
 import org.eclipse.ditto.services.models.things.ThingSnapshotTaken;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
+import org.eclipse.ditto.services.utils.persistence.SnapshotDeltaChain;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -68,6 +72,36 @@ public final class ThingMongoSnapshotAdapterTest {
         expectSnapshotPublished();
     }
 
+    @Test
+    public void deltaSnapshotContainsOnlyChangedFeatures() {
+        final Thing previousThing = TestConstants.Thing.THING_V2;
+        final Thing thing = previousThing.setFeatureProperty(TestConstants.Feature.FLUX_CAPACITOR_ID,
+                JsonPointer.of("target_year_1"), JsonValue.of(2077));
+
+        final Object rawSnapshotEntity =
+                underTest.toDeltaSnapshotStore(thing, previousThing, SnapshotDeltaChain.full(1L)).orElseThrow();
+
+        assertThat(rawSnapshotEntity).isInstanceOf(BsonDocument.class);
+        final BsonDocument delta = (BsonDocument) rawSnapshotEntity;
+        assertThat(delta.containsKey("attributes")).isFalse();
+        assertThat(delta.getDocument("features").keySet()).containsExactly(TestConstants.Feature.FLUX_CAPACITOR_ID);
+        assertThat(delta.getString("policyId").getValue()).isEqualTo(thing.getPolicyEntityId().orElseThrow().toString());
+        assertThat(underTest.getDeltaChain(new SnapshotOffer(SNAPSHOT_METADATA, delta)))
+                .isEqualTo(SnapshotDeltaChain.delta(0L, 1L, 1));
+        expectSnapshotPublished();
+    }
+
+    @Test
+    public void unresolvedDeltaSnapshotIsNotRestored() {
+        final Thing previousThing = TestConstants.Thing.THING_V2;
+        final Thing thing = previousThing.setAttribute(JsonPointer.of("answer"), JsonValue.of(42));
+        final Object delta =
+                underTest.toDeltaSnapshotStore(thing, previousThing, SnapshotDeltaChain.full(1L)).orElseThrow();
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> underTest.fromSnapshotStore(new SnapshotOffer(SNAPSHOT_METADATA, delta)));
+    }
+
     private void expectSnapshotPublished() {
         pubSubProbe.expectMsg(DistPubSubAccess.publishViaGroup(
                 ThingSnapshotTaken.PUBSUB_TOPIC,
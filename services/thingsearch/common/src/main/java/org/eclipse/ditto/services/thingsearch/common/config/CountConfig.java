@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.config;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides the configuration settings for counting things.
+ *
+ * @since 2.0.0
+ */
+@Immutable
+public interface CountConfig {
+
+    /**
+     * Indicates whether counts may be approximate, i. e. served from a short-lived cache or bounded by
+     * {@link #getMaxExactCount()}.
+     *
+     * @return {@code true} if approximate counts are enabled.
+     */
+    boolean isApproximateEnabled();
+
+    /**
+     * Returns the maximum number of things to count exactly if approximate counts are enabled. Larger counts are
+     * reported as approximate with this number as lower bound.
+     *
+     * @return the maximum exact count, or 0 if all counts are exact.
+     */
+    int getMaxExactCount();
+
+    /**
+     * Returns the configuration of the cache of approximate counts.
+     *
+     * @return the cache config.
+     */
+    CacheConfig getCacheConfig();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for CountConfig.
+     */
+    enum CountConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether counts may be approximate.
+         */
+        APPROXIMATE_ENABLED("approximate-enabled", false),
+
+        /**
+         * The maximum number of things to count exactly if approximate counts are enabled.
+         */
+        MAX_EXACT_COUNT("max-exact-count", 0);
+
+        private final String path;
+        private final Object defaultValue;
+
+        private CountConfigValue(final String path, final Object defaultValue) {
+            this.path = path;
+            this.defaultValue = defaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
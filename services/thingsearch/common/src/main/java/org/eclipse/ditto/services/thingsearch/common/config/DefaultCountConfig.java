@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.config;
+
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.services.utils.cache.config.DefaultCacheConfig;
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of {@link CountConfig}.
+ *
+ * @since 2.0.0
+ */
+@Immutable
+public final class DefaultCountConfig implements CountConfig {
+
+    private static final String CONFIG_PATH = "count";
+    private static final String CACHE_CONFIG_PATH = "cache";
+
+    private final boolean approximateEnabled;
+    private final int maxExactCount;
+    private final CacheConfig cacheConfig;
+
+    private DefaultCountConfig(final ConfigWithFallback countScopedConfig) {
+        approximateEnabled = countScopedConfig.getBoolean(CountConfigValue.APPROXIMATE_ENABLED.getConfigPath());
+        maxExactCount = countScopedConfig.getInt(CountConfigValue.MAX_EXACT_COUNT.getConfigPath());
+        cacheConfig = DefaultCacheConfig.of(countScopedConfig, CACHE_CONFIG_PATH);
+    }
+
+    /**
+     * Returns an instance of DefaultCountConfig based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the count config at {@value CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultCountConfig of(final Config config) {
+        return new DefaultCountConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, CountConfigValue.values()));
+    }
+
+    @Override
+    public boolean isApproximateEnabled() {
+        return approximateEnabled;
+    }
+
+    @Override
+    public int getMaxExactCount() {
+        return maxExactCount;
+    }
+
+    @Override
+    public CacheConfig getCacheConfig() {
+        return cacheConfig;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultCountConfig that = (DefaultCountConfig) o;
+        return approximateEnabled == that.approximateEnabled &&
+                maxExactCount == that.maxExactCount &&
+                Objects.equals(cacheConfig, that.cacheConfig);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(approximateEnabled, maxExactCount, cacheConfig);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "approximateEnabled=" + approximateEnabled +
+                ", maxExactCount=" + maxExactCount +
+                ", cacheConfig=" + cacheConfig +
+                "]";
+    }
+
+}
@@ -47,6 +47,8 @@ public final class DittoSearchConfig implements SearchConfig, WithConfigPath {
     @Nullable private final String mongoHintsByNamespace;
     private final String queryCriteriaValidator;
     private final UpdaterConfig updaterConfig;
+    private final boolean queryFromIndexEnabled;
+    private final CountConfig countConfig;
     private final HealthCheckConfig healthCheckConfig;
     private final IndexInitializationConfig indexInitializationConfig;
     private final PersistenceOperationsConfig persistenceOperationsConfig;
@@ -63,6 +65,8 @@ public final class DittoSearchConfig implements SearchConfig, WithConfigPath {
         mongoHintsByNamespace = configWithFallback.getStringOrNull(SearchConfigValue.MONGO_HINTS_BY_NAMESPACE);
         queryCriteriaValidator = configWithFallback.getStringOrNull(SearchConfigValue.QUERY_CRITERIA_VALIDATOR);
         updaterConfig = DefaultUpdaterConfig.of(configWithFallback);
+        queryFromIndexEnabled = configWithFallback.getBoolean(SearchConfigValue.QUERY_FROM_INDEX_ENABLED.getConfigPath());
+        countConfig = DefaultCountConfig.of(configWithFallback);
         indexInitializationConfig = DefaultIndexInitializationConfig.of(configWithFallback);
     }
 
@@ -93,6 +97,16 @@ public final class DittoSearchConfig implements SearchConfig, WithConfigPath {
         return updaterConfig;
     }
 
+    @Override
+    public boolean isQueryFromIndexEnabled() {
+        return queryFromIndexEnabled;
+    }
+
+    @Override
+    public CountConfig getCountConfig() {
+        return countConfig;
+    }
+
     @Override
     public ClusterConfig getClusterConfig() {
         return dittoServiceConfig.getClusterConfig();
@@ -146,6 +160,8 @@ public final class DittoSearchConfig implements SearchConfig, WithConfigPath {
         return Objects.equals(mongoHintsByNamespace, that.mongoHintsByNamespace) &&
                 Objects.equals(queryCriteriaValidator, that.queryCriteriaValidator) &&
                 Objects.equals(updaterConfig, that.updaterConfig) &&
+                queryFromIndexEnabled == that.queryFromIndexEnabled &&
+                Objects.equals(countConfig, that.countConfig) &&
                 Objects.equals(dittoServiceConfig, that.dittoServiceConfig) &&
                 Objects.equals(healthCheckConfig, that.healthCheckConfig) &&
                 Objects.equals(indexInitializationConfig, that.indexInitializationConfig) &&
@@ -155,8 +171,8 @@ public final class DittoSearchConfig implements SearchConfig, WithConfigPath {
 
     @Override
     public int hashCode() {
-        return Objects.hash(mongoHintsByNamespace, queryCriteriaValidator, updaterConfig,
-                dittoServiceConfig, healthCheckConfig, indexInitializationConfig, persistenceOperationsConfig,
+        return Objects.hash(mongoHintsByNamespace, queryCriteriaValidator, updaterConfig, queryFromIndexEnabled,
+                countConfig, dittoServiceConfig, healthCheckConfig, indexInitializationConfig, persistenceOperationsConfig,
                 mongoDbConfig);
     }
 
@@ -166,6 +182,8 @@ public final class DittoSearchConfig implements SearchConfig, WithConfigPath {
                 "mongoHintsByNamespace=" + mongoHintsByNamespace +
                 ", queryCriteriaValidator=" + queryCriteriaValidator +
                 ", updaterConfig=" + updaterConfig +
+                ", queryFromIndexEnabled=" + queryFromIndexEnabled +
+                ", countConfig=" + countConfig +
                 ", dittoServiceConfig=" + dittoServiceConfig +
                 ", healthCheckConfig=" + healthCheckConfig +
                 ", indexInitializationConfig=" + indexInitializationConfig +
@@ -48,6 +48,23 @@ public interface SearchConfig extends ServiceSpecificConfig, WithHealthCheckConf
      */
     UpdaterConfig getUpdaterConfig();
 
+    /**
+     * Indicates whether the things of search results are rebuilt from the search index instead of being retrieved
+     * from the things service.
+     *
+     * @return {@code true} if search results are served from the search index.
+     * @since 2.0.0
+     */
+    boolean isQueryFromIndexEnabled();
+
+    /**
+     * Returns the configuration settings for counting things.
+     *
+     * @return the config.
+     * @since 2.0.0
+     */
+    CountConfig getCountConfig();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for SearchConfig.
      */
@@ -65,7 +82,14 @@ public interface SearchConfig extends ServiceSpecificConfig, WithHealthCheckConf
          * @since 1.6.0
          */
         QUERY_CRITERIA_VALIDATOR("query-criteria-validator.implementation",
-                "org.eclipse.ditto.services.thingsearch.persistence.query.validation.DefaultQueryCriteriaValidator");
+                "org.eclipse.ditto.services.thingsearch.persistence.query.validation.DefaultQueryCriteriaValidator"),
+
+        /**
+         * Whether the things of search results are rebuilt from the search index.
+         *
+         * @since 2.0.0
+         */
+        QUERY_FROM_INDEX_ENABLED("query-from-index-enabled", false);
 
         private final String path;
         private final Object defaultValue;
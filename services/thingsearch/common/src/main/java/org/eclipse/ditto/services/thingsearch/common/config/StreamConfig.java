@@ -45,6 +45,24 @@ public interface StreamConfig {
      */
     Duration getAskTimeout();
 
+    /**
+     * Returns the maximum number of things of the same shard to retrieve from the Things shard with one command.
+     *
+     * @return the maximum batch size; things are retrieved one by one if it is not greater than 1.
+     * @since 2.0.0
+     */
+    int getMaxRetrievalBatchSize();
+
+    /**
+     * Returns the timeout for retrieving a batch of things from the Things shard. It is shorter than the ask timeout
+     * so that Things nodes which do not answer batches, e.g. during a rolling update, delay the retrieval only briefly
+     * before the things are retrieved one by one.
+     *
+     * @return the timeout.
+     * @since 2.0.0
+     */
+    Duration getRetrievalBatchAskTimeout();
+
     /**
      * Returns the configuration settings for the retrieval of things and policy-enforcers.
      *
@@ -84,7 +102,21 @@ public interface StreamConfig {
         /**
          * The timeout for messages to Things shard.
          */
-        ASK_TIMEOUT("ask-timeout", Duration.ofSeconds(30L));
+        ASK_TIMEOUT("ask-timeout", Duration.ofSeconds(30L)),
+
+        /**
+         * The maximum number of things of the same shard to retrieve from the Things shard with one command.
+         *
+         * @since 2.0.0
+         */
+        MAX_RETRIEVAL_BATCH_SIZE("max-retrieval-batch-size", 16),
+
+        /**
+         * The timeout for retrieving a batch of things from the Things shard.
+         *
+         * @since 2.0.0
+         */
+        RETRIEVAL_BATCH_ASK_TIMEOUT("retrieval-batch-ask-timeout", Duration.ofSeconds(5L));
 
         private final String configPath;
         private final Object defaultValue;
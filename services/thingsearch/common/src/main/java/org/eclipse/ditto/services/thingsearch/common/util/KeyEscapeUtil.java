@@ -41,4 +41,32 @@ public final class KeyEscapeUtil {
                 .replace("$", FAKE_DOLLAR)
                 .replace(".", FAKE_DOT);
     }
+
+    /**
+     * Reverts the escaping of {@link #escape(String)}.
+     *
+     * @param str the escaped String
+     * @return the unescaped String
+     * @since 2.0.0
+     */
+    public static String unescape(final String str) {
+        requireNonNull(str);
+        if (str.indexOf('~') < 0) {
+            return str;
+        }
+        final StringBuilder builder = new StringBuilder(str.length());
+        int i = 0;
+        while (i < str.length()) {
+            final char c = str.charAt(i);
+            if (c == '~' && i + 1 < str.length()) {
+                final char next = str.charAt(i + 1);
+                builder.append(next == '0' ? '~' : next == '1' ? '$' : next == '2' ? '.' : next);
+                i += 2;
+            } else {
+                builder.append(c);
+                ++i;
+            }
+        }
+        return builder.toString();
+    }
 }
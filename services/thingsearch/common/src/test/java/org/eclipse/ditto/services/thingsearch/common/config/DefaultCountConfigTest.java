@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.config;
+
+import static org.mutabilitydetector.unittesting.AllowedReason.provided;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.time.Duration;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Tests {@link org.eclipse.ditto.services.thingsearch.common.config.DefaultCountConfig}.
+ */
+public final class DefaultCountConfigTest {
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultCountConfig.class, areImmutable(), provided(CacheConfig.class).isAlsoImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultCountConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void underTestReturnsDefaultValuesIfBaseConfigWasEmpty() {
+        final CountConfig underTest = DefaultCountConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isApproximateEnabled())
+                .as(CountConfig.CountConfigValue.APPROXIMATE_ENABLED.getConfigPath())
+                .isFalse();
+        softly.assertThat(underTest.getMaxExactCount())
+                .as(CountConfig.CountConfigValue.MAX_EXACT_COUNT.getConfigPath())
+                .isZero();
+    }
+
+    @Test
+    public void gettersReturnConfiguredValues() {
+        final CountConfig underTest = DefaultCountConfig.of(ConfigFactory.parseString("count {\n" +
+                "  approximate-enabled = true\n" +
+                "  max-exact-count = 100000\n" +
+                "  cache {\n" +
+                "    maximum-size = 42\n" +
+                "    expire-after-write = 5s\n" +
+                "  }\n" +
+                "}"));
+
+        softly.assertThat(underTest.isApproximateEnabled())
+                .as(CountConfig.CountConfigValue.APPROXIMATE_ENABLED.getConfigPath())
+                .isTrue();
+        softly.assertThat(underTest.getMaxExactCount())
+                .as(CountConfig.CountConfigValue.MAX_EXACT_COUNT.getConfigPath())
+                .isEqualTo(100_000);
+        softly.assertThat(underTest.getCacheConfig().getMaximumSize())
+                .as("cache.maximum-size")
+                .isEqualTo(42L);
+        softly.assertThat(underTest.getCacheConfig().getExpireAfterWrite())
+                .as("cache.expire-after-write")
+                .isEqualTo(Duration.ofSeconds(5L));
+    }
+
+}
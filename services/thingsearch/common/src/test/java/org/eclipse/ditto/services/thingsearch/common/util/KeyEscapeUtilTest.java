@@ -28,4 +28,10 @@ public class KeyEscapeUtilTest {
         assertSame("escapingNotNecessary", KeyEscapeUtil.escape("escapingNotNecessary"));
         assertEquals("~1org~2eclipse~2~0ditto", KeyEscapeUtil.escape("$org.eclipse.~ditto"));
     }
+
+    @Test
+    public void unescape() {
+        assertSame("escapingNotNecessary", KeyEscapeUtil.unescape("escapingNotNecessary"));
+        assertEquals("$org.eclipse.~ditto~1", KeyEscapeUtil.unescape(KeyEscapeUtil.escape("$org.eclipse.~ditto~1")));
+    }
 }
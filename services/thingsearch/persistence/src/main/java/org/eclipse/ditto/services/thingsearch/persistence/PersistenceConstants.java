@@ -171,6 +171,13 @@ public final class PersistenceConstants {
      */
     public static final String FIELD_REVOKED = "r";
 
+    /**
+     * Full path of the revoked field.
+     *
+     * @since 2.0.0
+     */
+    public static final String FIELD_REVOKED_PATH = FIELD_INTERNAL + DOT + FIELD_REVOKED;
+
     /**
      * Mark a document for deletion.
      */
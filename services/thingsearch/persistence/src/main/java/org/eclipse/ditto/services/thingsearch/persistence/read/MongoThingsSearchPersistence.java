@@ -14,12 +14,15 @@ package org.eclipse.ditto.services.thingsearch.persistence.read;
 
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_DELETE_AT;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_GRANTED_PATH;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_ID;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_MODIFIED;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_PATH_KEY;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_PATH_MODIFIED;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_POLICY_ID;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_POLICY_REVISION;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_REVISION;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_REVOKED_PATH;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_SORTING;
 
 import java.time.Duration;
@@ -39,6 +42,9 @@ import org.bson.BsonDocument;
 import org.bson.Document;
 import org.bson.conversions.Bson;
 import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.base.entity.id.EntityId;
 import org.eclipse.ditto.model.policies.PolicyId;
 import org.eclipse.ditto.model.query.Query;
@@ -74,6 +80,7 @@ import akka.NotUsed;
 import akka.actor.ActorSystem;
 import akka.event.Logging;
 import akka.event.LoggingAdapter;
+import akka.japi.Pair;
 import akka.japi.pf.PFBuilder;
 import akka.stream.SystemMaterializer;
 import akka.stream.javadsl.Source;
@@ -90,6 +97,7 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
     private final IndexInitializer indexInitializer;
     private final Duration maxQueryTime;
     private final MongoHints hints;
+    private final int maxArraySize;
 
     /**
      * Initializes the things search persistence with a passed in {@code persistence}.
@@ -105,6 +113,7 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
         indexInitializer = IndexInitializer.of(database, SystemMaterializer.get(actorSystem).materializer());
         maxQueryTime = mongoClient.getDittoSettings().getMaxQueryTime();
         hints = MongoHints.empty();
+        maxArraySize = 0;
     }
 
     private MongoThingsSearchPersistence(
@@ -112,13 +121,15 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
             final LoggingAdapter log,
             final IndexInitializer indexInitializer,
             final Duration maxQueryTime,
-            final MongoHints hints) {
+            final MongoHints hints,
+            final int maxArraySize) {
 
         this.collection = collection;
         this.log = log;
         this.indexInitializer = indexInitializer;
         this.maxQueryTime = maxQueryTime;
         this.hints = hints;
+        this.maxArraySize = maxArraySize;
     }
 
     /**
@@ -129,7 +140,19 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
      */
     public MongoThingsSearchPersistence withHintsByNamespace(final String jsonString) {
         final MongoHints hints = MongoHints.byNamespace(jsonString);
-        return new MongoThingsSearchPersistence(collection, log, indexInitializer, maxQueryTime, hints);
+        return new MongoThingsSearchPersistence(collection, log, indexInitializer, maxQueryTime, hints, maxArraySize);
+    }
+
+    /**
+     * Create a copy of this object with the maximum array size the search index was written with. Things with arrays
+     * possibly pruned to this size are not rebuilt from the search index.
+     *
+     * @param maxArraySize the maximum array size of the search updater, or a negative number for unlimited arrays.
+     * @return copy of this object with the maximum array size configured.
+     * @since 2.0.0
+     */
+    public MongoThingsSearchPersistence withMaxArraySize(final int maxArraySize) {
+        return new MongoThingsSearchPersistence(collection, log, indexInitializer, maxQueryTime, hints, maxArraySize);
     }
 
     @Override
@@ -171,6 +194,13 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
     public Source<Long, NotUsed> count(final Query query,
             @Nullable final List<String> authorizationSubjectIds) {
 
+        return count(query, authorizationSubjectIds, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public Source<Long, NotUsed> count(final Query query, @Nullable final List<String> authorizationSubjectIds,
+            final int maxCount) {
+
         checkNotNull(query, "query");
 
         final BsonDocument queryFilter = getMongoFilter(query, authorizationSubjectIds);
@@ -178,7 +208,7 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
 
         final CountOptions countOptions = new CountOptions()
                 .skip(query.getSkip())
-                .limit(query.getLimit())
+                .limit(Math.min(query.getLimit(), maxCount))
                 .maxTime(maxQueryTime.getSeconds(), TimeUnit.SECONDS);
 
         return Source.fromPublisher(collection.countDocuments(queryFilter, countOptions))
@@ -200,7 +230,8 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
         final int limit = query.getLimit();
         final int limitPlusOne = limit + 1;
 
-        return findAllInternal(query, authorizationSubjectIds, namespaces, limitPlusOne, maxQueryTime)
+        return findAllInternal(query, authorizationSubjectIds, namespaces, limitPlusOne, maxQueryTime,
+                GetSortBsonVisitor.projections(query.getSortOptions()))
                 .grouped(limitPlusOne)
                 .orElse(Source.single(Collections.emptyList()))
                 .map(resultsPlus0ne -> toResultList(resultsPlus0ne, skip, limit, query.getSortOptions()))
@@ -208,12 +239,43 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
                 .log("findAll");
     }
 
+    @Override
+    public Source<Pair<ResultList<ThingId>, Optional<JsonArray>>, NotUsed> findAllFromIndex(final Query query,
+            final List<String> authorizationSubjectIds,
+            @Nullable final Set<String> namespaces,
+            @Nullable final JsonFieldSelector fields) {
+
+        if (!SearchIndexProjection.isApplicable(fields)) {
+            return ThingsSearchPersistence.super.findAllFromIndex(query, authorizationSubjectIds, namespaces, fields);
+        }
+
+        final int skip = query.getSkip();
+        final int limit = query.getLimit();
+        final int limitPlusOne = limit + 1;
+        final Bson projection = getSearchIndexProjection(query.getSortOptions());
+        final SearchIndexProjection searchIndexProjection =
+                SearchIndexProjection.of(authorizationSubjectIds, maxArraySize);
+
+        return findAllInternal(query, authorizationSubjectIds, namespaces, limitPlusOne, maxQueryTime, projection)
+                .grouped(limitPlusOne)
+                .orElse(Source.single(Collections.emptyList()))
+                .map(resultsPlus0ne -> {
+                    final ResultList<ThingId> resultList =
+                            toResultList(resultsPlus0ne, skip, limit, query.getSortOptions());
+                    final List<Document> results = resultsPlus0ne.subList(0, resultList.size());
+                    return Pair.create(resultList, projectAll(searchIndexProjection, results, fields));
+                })
+                .mapError(handleMongoExecutionTimeExceededException())
+                .log("findAllFromIndex");
+    }
+
     @Override
     public Source<ThingId, NotUsed> findAllUnlimited(final Query query, final List<String> authorizationSubjectIds,
             @Nullable final Set<String> namespaces) {
 
         final Integer limit = query.getLimit() == Integer.MAX_VALUE ? null : query.getLimit();
-        return findAllInternal(query, authorizationSubjectIds, namespaces, limit, null)
+        return findAllInternal(query, authorizationSubjectIds, namespaces, limit, null,
+                GetSortBsonVisitor.projections(query.getSortOptions()))
                 .map(MongoThingsSearchPersistence::toId)
                 .idleTimeout(maxQueryTime);
     }
@@ -221,7 +283,8 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
     private Source<Document, NotUsed> findAllInternal(final Query query, final List<String> authorizationSubjectIds,
             @Nullable final Set<String> namespaces,
             @Nullable final Integer limit,
-            @Nullable final Duration maxQueryTime) {
+            @Nullable final Duration maxQueryTime,
+            final Bson projection) {
 
         checkNotNull(query, "query");
 
@@ -233,7 +296,6 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
         final Bson sortOptions = getMongoSort(query);
 
         final int skip = query.getSkip();
-        final Bson projection = GetSortBsonVisitor.projections(query.getSortOptions());
         final FindPublisher<Document> findPublisher =
                 collection.find(queryFilter, Document.class)
                         .hint(hints.getHint(namespaces).orElse(null))
@@ -288,6 +350,35 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
         return pagedResultList;
     }
 
+    private static Bson getSearchIndexProjection(final List<SortOption> sortOptions) {
+        final Document projection = new Document().append(FIELD_SORTING, true)
+                .append(FIELD_PATH_KEY, true)
+                .append(FIELD_GRANTED_PATH, true)
+                .append(FIELD_REVOKED_PATH, true);
+        // sort keys within the sort field are already included; projecting them again would be a path collision
+        GetSortBsonVisitor.projections(sortOptions)
+                .keySet()
+                .stream()
+                .filter(path -> !path.startsWith(FIELD_SORTING + PersistenceConstants.DOT))
+                .forEach(path -> projection.append(path, true));
+        return projection;
+    }
+
+    private static Optional<JsonArray> projectAll(final SearchIndexProjection searchIndexProjection,
+            final List<Document> results,
+            @Nullable final JsonFieldSelector fields) {
+
+        final JsonArrayBuilder builder = JsonArray.newBuilder();
+        for (final Document result : results) {
+            final Optional<JsonObject> thing = searchIndexProjection.project(result, fields);
+            if (thing.isEmpty()) {
+                return Optional.empty();
+            }
+            builder.add(thing.get());
+        }
+        return Optional.of(builder.build());
+    }
+
     private static List<ThingId> toIds(final List<Document> docs) {
         return docs.stream()
                 .map(MongoThingsSearchPersistence::toId)
@@ -0,0 +1,292 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.read;
+
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_FEATURES_PATH;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_GRANTED;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL_KEY;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_MODIFIED;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_REVISION;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_REVOKED;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_SORTING;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.SLASH;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.bson.Document;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.services.thingsearch.common.util.KeyEscapeUtil;
+
+/**
+ * Rebuilds the JSON of a thing as visible to some authorization subjects from its search index entry, i. e. from
+ * the hierarchical copy of the thing in the sort field {@code s} and the per-key grants and revokes in the flattened
+ * field {@code d}.
+ * <p>
+ * A value is visible if one of its grants and none of its revokes contain one of the authorization subjects, which
+ * are the same semantics the search queries apply to {@code d}. Should the search index entry not contain enough
+ * information to decide the visibility of any value, then the projection fails and the thing has to be retrieved
+ * from the things service. This is the case for values not indexed because of their length and for arrays which may
+ * have been pruned to the configured maximum array size.
+ */
+@Immutable
+final class SearchIndexProjection {
+
+    /**
+     * Special fields of a thing which are contained in the search index and may be selected.
+     */
+    private static final Set<String> SELECTABLE_SPECIAL_FIELDS = Set.of(FIELD_REVISION, FIELD_MODIFIED);
+
+    private static final String SPECIAL_FIELD_PREFIX = "_";
+
+    private final Collection<String> authorizationSubjectIds;
+    private final int maxArraySize;
+
+    private SearchIndexProjection(final Collection<String> authorizationSubjectIds, final int maxArraySize) {
+        this.authorizationSubjectIds = Set.copyOf(authorizationSubjectIds);
+        this.maxArraySize = maxArraySize;
+    }
+
+    /**
+     * Create a projection of search index entries for some authorization subjects.
+     *
+     * @param authorizationSubjectIds the authorization subjects to whom the rebuilt things should be visible.
+     * @param maxArraySize the maximum array size of the search index, or a negative number if arrays are not pruned.
+     * @return the projection.
+     */
+    static SearchIndexProjection of(final Collection<String> authorizationSubjectIds, final int maxArraySize) {
+        return new SearchIndexProjection(authorizationSubjectIds, maxArraySize);
+    }
+
+    /**
+     * Check whether things with the given field selection may be rebuilt from the search index at all.
+     * Special fields like {@code _policy} or {@code _metadata} are not contained in the search index.
+     *
+     * @param fields the selected fields, or null if all regular fields are selected.
+     * @return whether the field selection is answerable from the search index.
+     */
+    static boolean isApplicable(@Nullable final JsonFieldSelector fields) {
+        return fields == null || fields.getPointers()
+                .stream()
+                .allMatch(pointer -> pointer.getRoot()
+                        .map(JsonKey::toString)
+                        .filter(root -> root.startsWith(SPECIAL_FIELD_PREFIX))
+                        .map(SELECTABLE_SPECIAL_FIELDS::contains)
+                        .orElse(true));
+    }
+
+    /**
+     * Rebuild the thing of a search index entry.
+     *
+     * @param document the search index entry containing at least the fields {@code s} and {@code d.k, d.g, d.r}.
+     * @param fields the selected fields, or null if all regular fields are selected.
+     * @return the visible part of the thing, or an empty optional if the search index entry does not contain enough
+     * information.
+     */
+    Optional<JsonObject> project(final Document document, @Nullable final JsonFieldSelector fields) {
+        final Document sortField = document.get(FIELD_SORTING, Document.class);
+        final List<?> internalField = document.get(FIELD_INTERNAL, List.class);
+        if (sortField == null || internalField == null) {
+            return Optional.empty();
+        }
+        final Visibility visibility = new Visibility(getIndexedKeys(internalField), fields != null);
+        final JsonValue view = visibility.ofDocument("", sortField, true);
+        if (visibility.incomplete) {
+            return Optional.empty();
+        } else if (fields != null) {
+            return Optional.of(view == null ? JsonObject.empty() : view.asObject().get(fields));
+        } else {
+            return Optional.ofNullable(view).map(JsonValue::asObject);
+        }
+    }
+
+    private Map<String, IndexedKey> getIndexedKeys(final List<?> internalField) {
+        final Map<String, IndexedKey> result = new HashMap<>();
+        for (final Object element : internalField) {
+            if (element instanceof Document) {
+                final Document entry = (Document) element;
+                final String key = entry.getString(FIELD_INTERNAL_KEY);
+                if (key != null) {
+                    final boolean isVisible = containsSubject(entry.get(FIELD_GRANTED)) &&
+                            !containsSubject(entry.get(FIELD_REVOKED));
+                    result.computeIfAbsent(key, k -> new IndexedKey()).add(isVisible);
+                }
+            }
+        }
+        return result;
+    }
+
+    private boolean containsSubject(@Nullable final Object subjects) {
+        if (subjects instanceof Collection) {
+            for (final Object subject : (Collection<?>) subjects) {
+                if (authorizationSubjectIds.contains(subject)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Traversal of the sort field of one search index entry.
+     */
+    private final class Visibility {
+
+        private final Map<String, IndexedKey> indexedKeys;
+        private final boolean withSpecialFields;
+        private boolean incomplete;
+
+        private Visibility(final Map<String, IndexedKey> indexedKeys, final boolean withSpecialFields) {
+            this.indexedKeys = indexedKeys;
+            this.withSpecialFields = withSpecialFields;
+            incomplete = false;
+        }
+
+        /**
+         * @return the visible part of the value, or null if nothing of the value is visible.
+         */
+        @Nullable
+        private JsonValue of(final String key, @Nullable final Object value) {
+            if (value instanceof Document) {
+                return ofDocument(key, (Document) value, false);
+            } else if (value instanceof List) {
+                return ofArray(key, (List<?>) value);
+            } else {
+                return isVisible(key) ? toJsonValue(value) : null;
+            }
+        }
+
+        @Nullable
+        private JsonValue ofDocument(final String key, final Document document, final boolean isRoot) {
+            if (document.isEmpty()) {
+                return isVisible(key) ? JsonObject.empty() : null;
+            }
+            final JsonObjectBuilder builder = JsonObject.newBuilder();
+            boolean isAnythingVisible = false;
+            for (final Map.Entry<String, Object> entry : document.entrySet()) {
+                final String fieldName = KeyEscapeUtil.unescape(entry.getKey());
+                if (isRoot && fieldName.startsWith(SPECIAL_FIELD_PREFIX) &&
+                        !(withSpecialFields && SELECTABLE_SPECIAL_FIELDS.contains(fieldName))) {
+                    // the things service returns special fields only if they are selected
+                    continue;
+                }
+                final JsonValue visibleValue = of(key + SLASH + fieldName, entry.getValue());
+                if (incomplete) {
+                    return null;
+                } else if (visibleValue != null) {
+                    builder.set(JsonField.newInstance(JsonKey.of(fieldName), visibleValue));
+                    isAnythingVisible = true;
+                }
+            }
+            return isAnythingVisible ? builder.build() : null;
+        }
+
+        @Nullable
+        private JsonValue ofArray(final String key, final List<?> array) {
+            // array elements are indexed under the key of the array
+            final String elementKeyPrefix = key + SLASH;
+            int indexedElements = 0;
+            boolean isEverythingVisible = true;
+            for (final Map.Entry<String, IndexedKey> entry : indexedKeys.entrySet()) {
+                if (entry.getKey().equals(key) || entry.getKey().startsWith(elementKeyPrefix)) {
+                    indexedElements += entry.getValue().entries;
+                    isEverythingVisible &= entry.getValue().visible;
+                }
+            }
+            if (indexedElements == 0 || isPossiblyPruned(key, array, indexedElements)) {
+                incomplete = true;
+                return null;
+            }
+            return isEverythingVisible ? toJsonValue(array) : null;
+        }
+
+        private boolean isPossiblyPruned(final String key, final List<?> array, final int indexedElements) {
+            if (maxArraySize < 0) {
+                return false;
+            }
+            // elements of features are indexed a second time under the wildcard feature ID
+            final int flattenedElements =
+                    key.startsWith(FIELD_FEATURES_PATH) ? 2 * indexedElements : indexedElements;
+            return array.size() >= maxArraySize || !array.isEmpty() && flattenedElements >= maxArraySize;
+        }
+
+        private boolean isVisible(final String key) {
+            final IndexedKey indexedKey = indexedKeys.get(key);
+            if (indexedKey == null) {
+                // the value was not indexed
+                incomplete = true;
+                return false;
+            }
+            return indexedKey.visible;
+        }
+
+    }
+
+    /**
+     * Entries of the flattened field with the same key.
+     */
+    private static final class IndexedKey {
+
+        private int entries = 0;
+        private boolean visible = true;
+
+        private void add(final boolean isVisible) {
+            ++entries;
+            visible &= isVisible;
+        }
+
+    }
+
+    private static JsonValue toJsonValue(@Nullable final Object value) {
+        if (value == null) {
+            return JsonValue.nullLiteral();
+        } else if (value instanceof String) {
+            return JsonValue.of((String) value);
+        } else if (value instanceof Boolean) {
+            return JsonValue.of(((Boolean) value).booleanValue());
+        } else if (value instanceof Integer) {
+            return JsonValue.of(((Integer) value).intValue());
+        } else if (value instanceof Long) {
+            return JsonValue.of(((Long) value).longValue());
+        } else if (value instanceof Number) {
+            return JsonValue.of(((Number) value).doubleValue());
+        } else if (value instanceof Document) {
+            final JsonObjectBuilder builder = JsonObject.newBuilder();
+            ((Document) value).forEach((key, fieldValue) -> builder.set(
+                    JsonField.newInstance(JsonKey.of(KeyEscapeUtil.unescape(key)), toJsonValue(fieldValue))));
+            return builder.build();
+        } else if (value instanceof List) {
+            final JsonArrayBuilder builder = JsonArray.newBuilder();
+            ((List<?>) value).forEach(element -> builder.add(toJsonValue(element)));
+            return builder.build();
+        } else {
+            return JsonValue.of(value.toString());
+        }
+    }
+
+}
@@ -13,11 +13,14 @@
 package org.eclipse.ditto.services.thingsearch.persistence.read;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
 
 import javax.annotation.Nullable;
 
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.model.base.entity.id.EntityId;
 import org.eclipse.ditto.model.query.Query;
 import org.eclipse.ditto.model.things.ThingId;
@@ -26,6 +29,7 @@ import org.eclipse.ditto.services.thingsearch.common.model.ResultList;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
 
 import akka.NotUsed;
+import akka.japi.Pair;
 import akka.stream.javadsl.Source;
 
 /**
@@ -67,6 +71,24 @@ public interface ThingsSearchPersistence {
      */
     Source<Long, NotUsed> sudoCount(Query query);
 
+    /**
+     * Returns the count of documents found by the given {@code query}, counting at most {@code maxCount} documents.
+     *
+     * @param query the query for matching.
+     * @param authorizationSubjectIds authorization subject IDs, or null to count regardless of visibility.
+     * @param maxCount the maximum number of documents to count.
+     * @return an {@link Source} which emits the count, which is at most {@code maxCount}.
+     * @throws NullPointerException if {@code query} is {@code null}.
+     * @since 2.0.0
+     */
+    default Source<Long, NotUsed> count(final Query query, @Nullable final List<String> authorizationSubjectIds,
+            final int maxCount) {
+
+        final Source<Long, NotUsed> count =
+                authorizationSubjectIds == null ? sudoCount(query) : count(query, authorizationSubjectIds);
+        return count.map(result -> Math.min(result, maxCount));
+    }
+
     /**
      * Returns the IDs for all found documents.
      *
@@ -79,6 +101,28 @@ public interface ThingsSearchPersistence {
     Source<ResultList<ThingId>, NotUsed> findAll(Query query, List<String> authorizationSubjectIds,
             @Nullable Set<String> namespaces);
 
+    /**
+     * Returns the IDs for all found documents together with the things rebuilt from the search index as far as they
+     * are visible to the authorization subjects. The things are absent if any of them cannot be rebuilt, e. g. because
+     * the search index does not contain the selected fields; they have to be retrieved from the things service then.
+     *
+     * @param query the query for matching.
+     * @param authorizationSubjectIds authorization subject IDs.
+     * @param namespaces namespaces to execute searches in, or null to search in all namespaces.
+     * @param fields the selected fields of the things, or null if all regular fields are selected.
+     * @return an {@link Source} which emits the IDs and the things in the same order if they could be rebuilt.
+     * @throws NullPointerException if {@code query} is {@code null}.
+     * @since 2.0.0
+     */
+    default Source<Pair<ResultList<ThingId>, Optional<JsonArray>>, NotUsed> findAllFromIndex(final Query query,
+            final List<String> authorizationSubjectIds,
+            @Nullable final Set<String> namespaces,
+            @Nullable final JsonFieldSelector fields) {
+
+        return findAll(query, authorizationSubjectIds, namespaces)
+                .map(resultList -> Pair.create(resultList, Optional.empty()));
+    }
+
     /**
      * Stream the IDs for all found documents without result size limit.
      *
@@ -45,6 +45,8 @@ public final class Metadata {
     @Nullable final Instant modified;
     private final List<StartedTimer> timers;
     private final List<ActorRef> senders;
+    @Nullable private final ActorRef origin;
+    @Nullable private final ThingWriteModel previousWriteModel;
 
     private Metadata(final ThingId thingId,
             final long thingRevision,
@@ -52,7 +54,9 @@ public final class Metadata {
             @Nullable final Long policyRevision,
             @Nullable final Instant modified,
             final Collection<StartedTimer> timers,
-            final Collection<ActorRef> senders) {
+            final Collection<ActorRef> senders,
+            @Nullable final ActorRef origin,
+            @Nullable final ThingWriteModel previousWriteModel) {
 
         this.thingId = thingId;
         this.thingRevision = thingRevision;
@@ -61,6 +65,8 @@ public final class Metadata {
         this.modified = modified;
         this.timers = List.copyOf(timers);
         this.senders = List.copyOf(senders);
+        this.origin = origin;
+        this.previousWriteModel = previousWriteModel;
     }
 
     /**
@@ -80,7 +86,7 @@ public final class Metadata {
             @Nullable final StartedTimer timer) {
 
         return new Metadata(thingId, thingRevision, policyId, policyRevision, null,
-                null != timer ? List.of(timer) : List.of(), List.of());
+                null != timer ? List.of(timer) : List.of(), List.of(), null, null);
     }
 
     /**
@@ -102,7 +108,7 @@ public final class Metadata {
             final ActorRef sender) {
 
         return new Metadata(thingId, thingRevision, policyId, policyRevision, null,
-                null != timer ? List.of(timer) : List.of(), List.of(sender));
+                null != timer ? List.of(timer) : List.of(), List.of(sender), null, null);
     }
 
     /**
@@ -125,7 +131,7 @@ public final class Metadata {
             final Collection<StartedTimer> timers,
             final Collection<ActorRef> senders) {
 
-        return new Metadata(thingId, thingRevision, policyId, policyRevision, modified, timers, senders);
+        return new Metadata(thingId, thingRevision, policyId, policyRevision, modified, timers, senders, null, null);
     }
 
     /**
@@ -147,7 +153,7 @@ public final class Metadata {
             @Nullable final StartedTimer timer) {
 
         return new Metadata(thingId, thingRevision, policyId, policyRevision, modified,
-                null != timer ? List.of(timer) : List.of(), List.of());
+                null != timer ? List.of(timer) : List.of(), List.of(), null, null);
     }
 
     /**
@@ -236,6 +242,54 @@ public final class Metadata {
         return senders;
     }
 
+    /**
+     * Returns the thing updater which caused this record to be written, if known. It keeps the last written search
+     * index document and turns write models into incremental updates.
+     *
+     * @return the originating thing updater.
+     * @since 2.0.0
+     */
+    public Optional<ActorRef> getOrigin() {
+        return Optional.ofNullable(origin);
+    }
+
+    /**
+     * Create a copy of this object with the thing updater which caused this record to be written.
+     *
+     * @param origin the originating thing updater.
+     * @return the copy.
+     * @since 2.0.0
+     */
+    public Metadata withOrigin(@Nullable final ActorRef origin) {
+        return new Metadata(thingId, thingRevision, policyId, policyRevision, modified, timers, senders, origin,
+                previousWriteModel);
+    }
+
+    /**
+     * Returns the write model which the thing updater handed to the search index before this record was created, if
+     * it is known. It is the base of incremental updates.
+     *
+     * @return the previous write model.
+     * @since 2.0.0
+     */
+    public Optional<ThingWriteModel> getPreviousWriteModel() {
+        return Optional.ofNullable(previousWriteModel);
+    }
+
+    /**
+     * Create a copy of this object with the write model which was handed to the search index before this record was
+     * created. Timers, senders and the previous write model of the given write model are dropped, so that write models
+     * do not keep their predecessors alive.
+     *
+     * @param previousWriteModel the previous write model, or null if it is not known.
+     * @return the copy.
+     * @since 2.0.0
+     */
+    public Metadata withPreviousWriteModel(@Nullable final ThingWriteModel previousWriteModel) {
+        return new Metadata(thingId, thingRevision, policyId, policyRevision, modified, timers, senders, origin,
+                null != previousWriteModel ? previousWriteModel.asPreviousWriteModel() : null);
+    }
+
     /**
      * Returns whether an acknowledgement for the successful adding to the search index is requested.
      *
@@ -246,7 +300,8 @@ public final class Metadata {
     }
 
     /**
-     * Prepend new timers and senders to the timers and senders stored in this object.
+     * Prepend new timers and senders to the timers and senders stored in this object. The origin and the previous
+     * write model of the new metadata take precedence if present.
      *
      * @param newMetadata a previous metadata record.
      * @return the new metadata with concatenated senders.
@@ -257,7 +312,9 @@ public final class Metadata {
         final List<ActorRef> newSenders =
                 Stream.concat(newMetadata.senders.stream(), senders.stream()).collect(Collectors.toList());
         return new Metadata(newMetadata.thingId, newMetadata.thingRevision, newMetadata.policyId,
-                newMetadata.policyRevision, newMetadata.modified, newTimers, newSenders);
+                newMetadata.policyRevision, newMetadata.modified, newTimers, newSenders,
+                null != newMetadata.origin ? newMetadata.origin : origin,
+                null != newMetadata.previousWriteModel ? newMetadata.previousWriteModel : previousWriteModel);
     }
 
     /**
@@ -300,12 +357,15 @@ public final class Metadata {
                 Objects.equals(policyId, that.policyId) &&
                 Objects.equals(modified, that.modified) &&
                 Objects.equals(timers, that.timers) &&
-                Objects.equals(senders, that.senders);
+                Objects.equals(senders, that.senders) &&
+                Objects.equals(origin, that.origin) &&
+                Objects.equals(previousWriteModel, that.previousWriteModel);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(thingId, thingRevision, policyId, policyRevision, modified, timers, senders);
+        return Objects.hash(thingId, thingRevision, policyId, policyRevision, modified, timers, senders, origin,
+                previousWriteModel);
     }
 
     @Override
@@ -318,6 +378,8 @@ public final class Metadata {
                 ", modified=" + modified +
                 ", timers=" + timers +
                 ", senders=" + senders +
+                ", origin=" + origin +
+                ", previousWriteModel=" + previousWriteModel +
                 "]";
     }
 
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.model;
+
+import java.util.Map;
+import java.util.Optional;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+
+/**
+ * Computes the MongoDB update operators which transform one search index document into another.
+ * Fields of nested documents are set and unset individually; elements of arrays of unchanged size are set by their
+ * index. Everything else is set as a whole.
+ */
+@Immutable
+final class ThingDocumentDiff {
+
+    private static final String SET = AbstractWriteModel.SET;
+    private static final String UNSET = "$unset";
+    private static final char DOT = '.';
+
+    private ThingDocumentDiff() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Compute the update operators which turn the previous document into the next document.
+     *
+     * @param previous the previous document.
+     * @param next the next document.
+     * @return the update document consisting of {@code $set} and {@code $unset} operators, or an empty optional if the
+     * documents contain top-level keys which cannot be addressed by a path.
+     */
+    static Optional<BsonDocument> diff(final BsonDocument previous, final BsonDocument next) {
+        if (!areAddressable(previous) || !areAddressable(next)) {
+            return Optional.empty();
+        }
+        final BsonDocument set = new BsonDocument();
+        final BsonDocument unset = new BsonDocument();
+        diffDocuments("", previous, next, set, unset);
+
+        final BsonDocument update = new BsonDocument();
+        if (!set.isEmpty()) {
+            update.append(SET, set);
+        }
+        if (!unset.isEmpty()) {
+            update.append(UNSET, unset);
+        }
+        return Optional.of(update);
+    }
+
+    private static void diffDocuments(final String prefix, final BsonDocument previous, final BsonDocument next,
+            final BsonDocument set, final BsonDocument unset) {
+
+        for (final Map.Entry<String, BsonValue> entry : next.entrySet()) {
+            final String path = prefix + entry.getKey();
+            final BsonValue previousValue = previous.get(entry.getKey());
+            final BsonValue nextValue = entry.getValue();
+            if (previousValue == null) {
+                set.append(path, nextValue);
+            } else if (!previousValue.equals(nextValue)) {
+                diffValues(path, previousValue, nextValue, set, unset);
+            }
+        }
+        for (final String key : previous.keySet()) {
+            if (!next.containsKey(key)) {
+                unset.append(prefix + key, new BsonString(""));
+            }
+        }
+    }
+
+    private static void diffValues(final String path, final BsonValue previousValue, final BsonValue nextValue,
+            final BsonDocument set, final BsonDocument unset) {
+
+        if (previousValue.isDocument() && nextValue.isDocument() && areAddressable(previousValue.asDocument()) &&
+                areAddressable(nextValue.asDocument())) {
+            diffDocuments(path + DOT, previousValue.asDocument(), nextValue.asDocument(), set, unset);
+        } else if (previousValue.isArray() && nextValue.isArray() &&
+                previousValue.asArray().size() == nextValue.asArray().size()) {
+            diffArrays(path + DOT, previousValue.asArray(), nextValue.asArray(), set);
+        } else {
+            set.append(path, nextValue);
+        }
+    }
+
+    private static void diffArrays(final String prefix, final BsonArray previous, final BsonArray next,
+            final BsonDocument set) {
+
+        for (int i = 0; i < next.size(); ++i) {
+            final BsonValue nextElement = next.get(i);
+            if (!previous.get(i).equals(nextElement)) {
+                set.append(prefix + i, nextElement);
+            }
+        }
+    }
+
+    private static boolean areAddressable(final BsonDocument document) {
+        for (final String key : document.keySet()) {
+            if (key.isEmpty() || key.charAt(0) == '$' || key.indexOf(DOT) >= 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
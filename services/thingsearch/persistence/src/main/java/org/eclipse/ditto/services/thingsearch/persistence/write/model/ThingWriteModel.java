@@ -12,28 +12,44 @@
  */
 package org.eclipse.ditto.services.thingsearch.persistence.write.model;
 
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_POLICY_REVISION;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_REVISION;
+
 import java.util.Objects;
+import java.util.Optional;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.NotThreadSafe;
 
+import org.bson.BsonDocument;
 import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.eclipse.ditto.services.utils.persistence.mongo.BsonUtil;
 
+import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.ReplaceOneModel;
 import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.UpdateOneModel;
 import com.mongodb.client.model.WriteModel;
 
 /**
- * Write model for an entire Thing.
+ * Write model for an entire Thing. It replaces the search index document unless it was turned into an incremental
+ * update relative to the previously written document by {@link #toIncrementalUpdate(AbstractWriteModel)}.
  */
 @NotThreadSafe
 public final class ThingWriteModel extends AbstractWriteModel {
 
     private final Document thingDocument;
+    @Nullable private final BsonDocument incrementalUpdate;
+    @Nullable private final BsonDocument incrementalUpdateFilter;
+
+    private ThingWriteModel(final Metadata metadata, final Document thingDocument,
+            @Nullable final BsonDocument incrementalUpdate, @Nullable final BsonDocument incrementalUpdateFilter) {
 
-    private ThingWriteModel(final Metadata metadata, final Document thingDocument) {
         super(metadata);
         this.thingDocument = thingDocument;
+        this.incrementalUpdate = incrementalUpdate;
+        this.incrementalUpdateFilter = incrementalUpdateFilter;
     }
 
     /**
@@ -44,11 +60,92 @@ public final class ThingWriteModel extends AbstractWriteModel {
      * @return a Thing write model.
      */
     public static ThingWriteModel of(final Metadata metadata, final Document thingDocument) {
-        return new ThingWriteModel(metadata, thingDocument);
+        return new ThingWriteModel(metadata, thingDocument, null, null);
+    }
+
+    /**
+     * Turn this write model into an incremental update which sets and unsets only the fields changed since the
+     * previously written write model of the same Thing. The update applies only if the search index document still
+     * has the previous Thing revision and Policy revision; otherwise it matches nothing and should be retried as a
+     * full replacement. The write model is returned unchanged if a diff is unsafe, i.e. if there is no previous
+     * Thing write model, if the Policy ID or Policy revision changed or if the Thing revision did not increase.
+     *
+     * @param previousWriteModel the last write model of the same Thing, or null if it is not known.
+     * @return the incremental update or this write model.
+     * @since 2.0.0
+     */
+    public ThingWriteModel toIncrementalUpdate(@Nullable final AbstractWriteModel previousWriteModel) {
+        if (!(previousWriteModel instanceof ThingWriteModel)) {
+            return this;
+        }
+        final Metadata metadata = getMetadata();
+        final Metadata previousMetadata = previousWriteModel.getMetadata();
+        if (!metadata.getThingId().equals(previousMetadata.getThingId()) ||
+                !metadata.getPolicyId().equals(previousMetadata.getPolicyId()) ||
+                !metadata.getPolicyRevision().equals(previousMetadata.getPolicyRevision()) ||
+                metadata.getThingRevision() <= previousMetadata.getThingRevision()) {
+            return this;
+        }
+        final BsonDocument previousDocument =
+                BsonUtil.toBsonDocument(((ThingWriteModel) previousWriteModel).thingDocument);
+        final BsonDocument nextDocument = BsonUtil.toBsonDocument(thingDocument);
+        if (!previousDocument.containsKey(FIELD_REVISION) || !previousDocument.containsKey(FIELD_POLICY_REVISION)) {
+            return this;
+        }
+        final Optional<BsonDocument> update = ThingDocumentDiff.diff(previousDocument, nextDocument);
+        if (update.isEmpty()) {
+            return this;
+        }
+        final BsonDocument filter = BsonUtil.toBsonDocument(Filters.and(super.getFilter(),
+                Filters.eq(FIELD_REVISION, previousDocument.get(FIELD_REVISION)),
+                Filters.eq(FIELD_POLICY_REVISION, previousDocument.get(FIELD_POLICY_REVISION))));
+        return new ThingWriteModel(metadata, thingDocument, update.get(), filter);
+    }
+
+    /**
+     * Turn this write model into an incremental update relative to the previous write model carried by its metadata.
+     *
+     * @return the incremental update or this write model.
+     * @see #toIncrementalUpdate(AbstractWriteModel)
+     * @since 2.0.0
+     */
+    public ThingWriteModel toIncrementalUpdate() {
+        return toIncrementalUpdate(getMetadata().getPreviousWriteModel().orElse(null));
+    }
+
+    /**
+     * Returns this write model as full replacement with only the metadata needed to serve as the base of an
+     * incremental update.
+     *
+     * @return the write model to remember as previous write model.
+     */
+    ThingWriteModel asPreviousWriteModel() {
+        final Metadata metadata = getMetadata();
+        final Metadata baseMetadata = Metadata.of(metadata.getThingId(), metadata.getThingRevision(),
+                metadata.getPolicyId().orElse(null), metadata.getPolicyRevision().orElse(null), null);
+        return new ThingWriteModel(baseMetadata, thingDocument, null, null);
+    }
+
+    /**
+     * Returns whether this write model updates only the changed fields of the search index document.
+     *
+     * @return whether this is an incremental update.
+     * @since 2.0.0
+     */
+    public boolean isIncrementalUpdate() {
+        return null != incrementalUpdate;
+    }
+
+    @Override
+    public Bson getFilter() {
+        return null != incrementalUpdateFilter ? incrementalUpdateFilter : super.getFilter();
     }
 
     @Override
     public WriteModel<Document> toMongo() {
+        if (null != incrementalUpdate) {
+            return new UpdateOneModel<>(getFilter(), incrementalUpdate);
+        }
         return new ReplaceOneModel<>(getFilter(), thingDocument, upsert());
     }
 
@@ -75,12 +172,14 @@ public final class ThingWriteModel extends AbstractWriteModel {
             return false;
         }
         final ThingWriteModel that = (ThingWriteModel) o;
-        return thingDocument.equals(that.thingDocument);
+        return thingDocument.equals(that.thingDocument) &&
+                Objects.equals(incrementalUpdate, that.incrementalUpdate) &&
+                Objects.equals(incrementalUpdateFilter, that.incrementalUpdateFilter);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(super.hashCode(), thingDocument);
+        return Objects.hash(super.hashCode(), thingDocument, incrementalUpdate, incrementalUpdateFilter);
     }
 
 }
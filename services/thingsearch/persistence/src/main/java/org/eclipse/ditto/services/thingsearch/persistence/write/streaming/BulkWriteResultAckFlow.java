@@ -27,6 +27,7 @@ import org.eclipse.ditto.model.policies.PolicyId;
 import org.eclipse.ditto.services.models.thingsearch.commands.sudo.UpdateThingResponse;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.ThingWriteModel;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.WriteResultAndErrors;
 import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
@@ -81,15 +82,33 @@ final class BulkWriteResultAckFlow {
                 final List<Metadata> failedMetadata = new ArrayList<>(errors.size());
                 logEntries.add(logResult("Acknowledged", writeResultAndErrors, errors.isEmpty()));
                 final BitSet failedIndices = new BitSet(writeResultAndErrors.getWriteModels().size());
+                final BitSet erroneousIndices = new BitSet(writeResultAndErrors.getWriteModels().size());
                 for (final BulkWriteError error : errors) {
                     final Metadata metadata = writeResultAndErrors.getWriteModels().get(error.getIndex()).getMetadata();
                     logEntries.add(String.format("UpdateFailed for %s due to %s", metadata, error));
+                    erroneousIndices.set(error.getIndex());
                     if (error.getCategory() != ErrorCategory.DUPLICATE_KEY) {
                         failedIndices.set(error.getIndex());
                         failedMetadata.add(metadata);
                         // duplicate key error is considered success
                     }
                 }
+                if (hasUnmatchedWriteModels(writeResultAndErrors, erroneousIndices)) {
+                    // an incremental update did not find the expected previous document; it is not possible to tell
+                    // which one, thus all incremental updates are retried as full replacements.
+                    final List<AbstractWriteModel> writeModels = writeResultAndErrors.getWriteModels();
+                    boolean hasIncrementalUpdates = false;
+                    for (int i = 0; i < writeModels.size(); ++i) {
+                        if (!failedIndices.get(i) && isIncrementalUpdate(writeModels.get(i))) {
+                            failedIndices.set(i);
+                            failedMetadata.add(writeModels.get(i).getMetadata());
+                            hasIncrementalUpdates = true;
+                        }
+                    }
+                    if (hasIncrementalUpdates) {
+                        logEntries.add(String.format("IncrementalUpdateMismatch: %s", writeResultAndErrors));
+                    }
+                }
                 acknowledgeFailures(failedMetadata);
                 acknowledgeSuccesses(failedIndices, writeResultAndErrors.getWriteModels());
                 return logEntries;
@@ -162,6 +181,29 @@ final class BulkWriteResultAckFlow {
         }
     }
 
+    /**
+     * Check whether fewer write models matched or upserted a search index document than succeeded.
+     * Full replacements always match or upsert, thus the difference consists of incremental updates whose filter on
+     * the previous revisions matched nothing, or of deletions of documents which do not exist. Deletions are counted
+     * so that a matching deletion cannot hide an unmatched incremental update; a false positive costs one full
+     * replacement.
+     *
+     * @param resultAndErrors data structure containing input and output of the bulk write operation.
+     * @param erroneousIndices indexes of the write models which caused errors.
+     * @return whether any write model matched no document.
+     */
+    private static boolean hasUnmatchedWriteModels(final WriteResultAndErrors resultAndErrors,
+            final BitSet erroneousIndices) {
+
+        final int expected = resultAndErrors.getWriteModels().size() - erroneousIndices.cardinality();
+        final BulkWriteResult bulkWriteResult = resultAndErrors.getBulkWriteResult();
+        return bulkWriteResult.getMatchedCount() + bulkWriteResult.getUpserts().size() < expected;
+    }
+
+    private static boolean isIncrementalUpdate(final AbstractWriteModel writeModel) {
+        return writeModel instanceof ThingWriteModel && ((ThingWriteModel) writeModel).isIncrementalUpdate();
+    }
+
     private static boolean areAllIndexesWithinBounds(final List<BulkWriteError> bulkWriteErrors, final int requested) {
         return bulkWriteErrors.stream().mapToInt(BulkWriteError::getIndex).allMatch(i -> 0 <= i && i < requested);
     }
@@ -13,14 +13,18 @@
 package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.json.JsonRuntimeException;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.enforcers.AclEnforcer;
@@ -32,6 +36,8 @@ import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.model.things.ThingsModelFactory;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThing;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingResponse;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThings;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingsResponse;
 import org.eclipse.ditto.services.thingsearch.common.config.StreamCacheConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.StreamConfig;
 import org.eclipse.ditto.services.thingsearch.persistence.write.mapping.EnforcedThingMapper;
@@ -44,6 +50,10 @@ import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
 import org.eclipse.ditto.services.utils.cache.entry.Entry;
 import org.eclipse.ditto.services.utils.cacheloaders.PolicyEnforcer;
 import org.eclipse.ditto.services.utils.cacheloaders.PolicyEnforcerCacheLoader;
+import org.eclipse.ditto.services.utils.cluster.ShardRegionExtractor;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.histogram.Histogram;
+import org.eclipse.ditto.signals.base.ShardedMessageEnvelope;
 import org.eclipse.ditto.signals.commands.policies.PolicyCommand;
 import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotAccessibleException;
 import org.slf4j.Logger;
@@ -53,6 +63,7 @@ import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
 
 import akka.NotUsed;
 import akka.actor.ActorRef;
+import akka.cluster.sharding.ShardRegion;
 import akka.dispatch.MessageDispatcher;
 import akka.pattern.Patterns;
 import akka.stream.Attributes;
@@ -62,29 +73,43 @@ import akka.stream.javadsl.Source;
 
 /**
  * Converts Thing changes into write models by retrieving data and applying enforcement via an enforcer cache.
+ * Things of the same shard are retrieved in batches by {@link SudoRetrieveThings} commands.
  */
 final class EnforcementFlow {
 
     private static final Source<Entry<Enforcer>, NotUsed> ENFORCER_NONEXISTENT = Source.single(Entry.nonexistent());
+    private static final String COUNT_THING_RETRIEVALS_PER_BATCH =
+            "things_search_updater_thing_retrievals_per_batch";
 
     private final Logger log = LoggerFactory.getLogger(getClass());
     private final ActorRef thingsShardRegion;
+    private final ShardRegionExtractor thingsShardRegionExtractor;
     private final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache;
     private final Duration thingsTimeout;
     private final Duration cacheRetryDelay;
     private final int maxArraySize;
+    private final int maxRetrievalBatchSize;
+    private final Duration retrievalBatchAskTimeout;
+    private final Histogram retrievalsPerBatch;
 
     private EnforcementFlow(final ActorRef thingsShardRegion,
+            final ShardRegionExtractor thingsShardRegionExtractor,
             final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache,
             final Duration thingsTimeout,
             final Duration cacheRetryDelay,
-            final int maxArraySize) {
+            final int maxArraySize,
+            final int maxRetrievalBatchSize,
+            final Duration retrievalBatchAskTimeout) {
 
         this.thingsShardRegion = thingsShardRegion;
+        this.thingsShardRegionExtractor = thingsShardRegionExtractor;
         this.policyEnforcerCache = policyEnforcerCache;
         this.thingsTimeout = thingsTimeout;
         this.cacheRetryDelay = cacheRetryDelay;
         this.maxArraySize = maxArraySize;
+        this.maxRetrievalBatchSize = maxRetrievalBatchSize;
+        this.retrievalBatchAskTimeout = retrievalBatchAskTimeout;
+        retrievalsPerBatch = DittoMetrics.histogram(COUNT_THING_RETRIEVALS_PER_BATCH);
     }
 
     /**
@@ -92,12 +117,14 @@ final class EnforcementFlow {
      *
      * @param updaterStreamConfig configuration of the updater stream.
      * @param thingsShardRegion the shard region to retrieve things from.
+     * @param thingsShardRegionExtractor the message extractor of the shard region to retrieve things from.
      * @param policiesShardRegion the shard region to retrieve policies from.
      * @param cacheDispatcher dispatcher for the enforcer cache.
      * @return an EnforcementFlow object.
      */
     public static EnforcementFlow of(final StreamConfig updaterStreamConfig,
             final ActorRef thingsShardRegion,
+            final ShardRegionExtractor thingsShardRegionExtractor,
             final ActorRef policiesShardRegion,
             final MessageDispatcher cacheDispatcher) {
 
@@ -111,8 +138,9 @@ final class EnforcementFlow {
                         EnforcementFlow.class.getCanonicalName() + ".cache", cacheDispatcher)
                         .projectValues(PolicyEnforcer::project, PolicyEnforcer::embed);
 
-        return new EnforcementFlow(thingsShardRegion, policyEnforcerCache, askTimeout,
-                streamCacheConfig.getRetryDelay(), updaterStreamConfig.getMaxArraySize());
+        return new EnforcementFlow(thingsShardRegion, thingsShardRegionExtractor, policyEnforcerCache, askTimeout,
+                streamCacheConfig.getRetryDelay(), updaterStreamConfig.getMaxArraySize(),
+                updaterStreamConfig.getMaxRetrievalBatchSize(), updaterStreamConfig.getRetrievalBatchAskTimeout());
     }
 
     private static EntityIdWithResourceType getPolicyEntityId(final PolicyId policyId) {
@@ -157,7 +185,7 @@ final class EnforcementFlow {
      *
      * @param shouldAcknowledge defines whether for the created flow the requested ack
      * {@link org.eclipse.ditto.model.base.acks.DittoAcknowledgementLabel#SEARCH_PERSISTED} was required or not.
-     * @param parallelism how many SudoRetrieveThing commands to send in parallel.
+     * @param parallelism how many SudoRetrieveThing or SudoRetrieveThings commands to send in parallel.
      * @return the flow.
      */
     public Flow<Map<ThingId, Metadata>, Source<AbstractWriteModel, NotUsed>, NotUsed> create(
@@ -181,8 +209,8 @@ final class EnforcementFlow {
     private Source<Map<ThingId, SudoRetrieveThingResponse>, NotUsed> sudoRetrieveThingJsons(
             final int parallelism, final Map<ThingId, Metadata> changeMap) {
 
-        return Source.fromIterator(changeMap.entrySet()::iterator)
-                .flatMapMerge(parallelism, this::sudoRetrieveThing)
+        return Source.from(groupByShard(changeMap))
+                .flatMapMerge(parallelism, this::sudoRetrieveThings)
                 .withAttributes(Attributes.inputBuffer(parallelism, parallelism))
                 .<Map<ThingId, SudoRetrieveThingResponse>>fold(new HashMap<>(), (map, response) -> {
                     map.put(getThingId(response), response);
@@ -194,9 +222,103 @@ final class EnforcementFlow {
                 });
     }
 
+    /**
+     * Group the entries of a change map into batches of things which belong to the same shard of the Things service.
+     * No batch is bigger than the maximum retrieval batch size.
+     *
+     * @param changeMap the change map.
+     * @return the batches.
+     */
+    private List<List<Map.Entry<ThingId, Metadata>>> groupByShard(final Map<ThingId, Metadata> changeMap) {
+        final List<List<Map.Entry<ThingId, Metadata>>> batches = new ArrayList<>();
+        final Map<String, List<Map.Entry<ThingId, Metadata>>> pendingBatches = new HashMap<>();
+        for (final Map.Entry<ThingId, Metadata> entry : changeMap.entrySet()) {
+            // StartEntity carries nothing but the entity ID and is thus the cheapest message to compute the shard for
+            final String shardId =
+                    thingsShardRegionExtractor.shardId(new ShardRegion.StartEntity(entry.getKey().toString()));
+            final List<Map.Entry<ThingId, Metadata>> batch =
+                    pendingBatches.computeIfAbsent(shardId, id -> new ArrayList<>());
+            batch.add(entry);
+            if (batch.size() >= maxRetrievalBatchSize) {
+                batches.add(batch);
+                pendingBatches.remove(shardId);
+            }
+        }
+        batches.addAll(pendingBatches.values());
+        return batches;
+    }
+
+    /**
+     * Retrieve a batch of things of the same shard with one SudoRetrieveThings command.
+     * The Things service omits things which it could not retrieve in time from the response, those and all things of
+     * a failed batch are retrieved one by one.
+     *
+     * @param batch the batch.
+     * @return source of the responses of the retrieved things.
+     */
+    private Source<SudoRetrieveThingResponse, NotUsed> sudoRetrieveThings(
+            final List<Map.Entry<ThingId, Metadata>> batch) {
+
+        retrievalsPerBatch.record((long) batch.size());
+        if (batch.size() == 1) {
+            return sudoRetrieveThing(batch.get(0));
+        }
+        batch.forEach(entry -> ConsistencyLag.startS3RetrieveThing(entry.getValue()));
+        final List<ThingId> thingIds = batch.stream().map(Map.Entry::getKey).collect(Collectors.toList());
+        // leave the Things service half of the time to retrieve the single things so that a response arrives in time
+        final DittoHeaders dittoHeaders =
+                DittoHeaders.newBuilder().timeout(retrievalBatchAskTimeout.dividedBy(2L)).build();
+        final SudoRetrieveThings command = SudoRetrieveThings.of(thingIds, dittoHeaders);
+        // the command is addressed to one of the things to be processed by the shard of all things of the batch
+        final ShardedMessageEnvelope envelope =
+                ShardedMessageEnvelope.of(thingIds.get(0), SudoRetrieveThings.TYPE, command.toJson(), dittoHeaders);
+        final CompletionStage<Source<SudoRetrieveThingResponse, NotUsed>> responseFuture =
+                // using default thread-pool for asking Things shard region
+                Patterns.ask(thingsShardRegion, envelope, retrievalBatchAskTimeout)
+                        .handle((response, error) -> {
+                            final List<SudoRetrieveThingResponse> responses;
+                            if (response instanceof SudoRetrieveThingsResponse) {
+                                responses = toSingleResponses((SudoRetrieveThingsResponse) response);
+                            } else {
+                                if (error != null) {
+                                    log.warn("Failed command <{}>, retrieving things one by one", command, error);
+                                } else {
+                                    log.warn("Unexpected response for <{}>, retrieving things one by one: <{}>",
+                                            command, response);
+                                }
+                                responses = List.of();
+                            }
+                            final Map<ThingId, SudoRetrieveThingResponse> responseMap = new HashMap<>();
+                            responses.forEach(singleResponse ->
+                                    responseMap.put(getThingId(singleResponse), singleResponse));
+                            final List<ThingId> missingThingIds = thingIds.stream()
+                                    .filter(thingId -> !responseMap.containsKey(thingId))
+                                    .collect(Collectors.toList());
+                            return Source.from(responseMap.values())
+                                    .concat(Source.from(missingThingIds)
+                                            .flatMapMerge(maxRetrievalBatchSize, this::sudoRetrieveThing));
+                        });
+
+        return Source.completionStageSource(responseFuture)
+                .viaMat(Flow.create(), Keep.none());
+    }
+
+    private static List<SudoRetrieveThingResponse> toSingleResponses(final SudoRetrieveThingsResponse response) {
+        final DittoHeaders dittoHeaders = response.getDittoHeaders();
+        return response.getEntity(response.getImplementedSchemaVersion())
+                .asArray()
+                .stream()
+                .filter(JsonValue::isObject)
+                .map(thing -> SudoRetrieveThingResponse.of(thing.asObject(), dittoHeaders))
+                .collect(Collectors.toList());
+    }
+
     private Source<SudoRetrieveThingResponse, NotUsed> sudoRetrieveThing(final Map.Entry<ThingId, Metadata> entry) {
-        final ThingId thingId = entry.getKey();
         ConsistencyLag.startS3RetrieveThing(entry.getValue());
+        return sudoRetrieveThing(entry.getKey());
+    }
+
+    private Source<SudoRetrieveThingResponse, NotUsed> sudoRetrieveThing(final ThingId thingId) {
         final SudoRetrieveThing command =
                 SudoRetrieveThing.withOriginalSchemaVersion(thingId, DittoHeaders.empty());
         final CompletionStage<Source<SudoRetrieveThingResponse, NotUsed>> responseFuture =
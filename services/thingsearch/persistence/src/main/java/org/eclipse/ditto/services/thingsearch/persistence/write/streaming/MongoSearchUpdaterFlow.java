@@ -20,6 +20,7 @@ import java.util.stream.Collectors;
 import org.bson.Document;
 import org.eclipse.ditto.services.thingsearch.common.config.PersistenceStreamConfig;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.ThingWriteModel;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.WriteResultAndErrors;
 import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.services.utils.metrics.instruments.timer.StartedTimer;
@@ -31,6 +32,7 @@ import com.mongodb.reactivestreams.client.MongoCollection;
 import com.mongodb.reactivestreams.client.MongoDatabase;
 
 import akka.NotUsed;
+import akka.actor.ActorRef;
 import akka.japi.Pair;
 import akka.japi.pf.PFBuilder;
 import akka.stream.Attributes;
@@ -93,7 +95,8 @@ final class MongoSearchUpdaterFlow {
 
         final Flow<Source<AbstractWriteModel, NotUsed>, List<AbstractWriteModel>, NotUsed> batchFlow =
                 Flow.<Source<AbstractWriteModel, NotUsed>>create()
-                        .flatMapConcat(source -> source.grouped(maxBulkSize));
+                        .flatMapConcat(source -> source.map(MongoSearchUpdaterFlow::toIncrementalUpdate)
+                                .grouped(maxBulkSize));
 
         final Flow<List<AbstractWriteModel>, WriteResultAndErrors, NotUsed> writeFlow =
                 Flow.<List<AbstractWriteModel>>create()
@@ -104,6 +107,23 @@ final class MongoSearchUpdaterFlow {
         return Flow.fromGraph(assembleFlows(batchFlow, writeFlow, createStartTimerFlow(), createStopTimerFlow()));
     }
 
+    /**
+     * Turn a write model into an incremental update relative to the previous write model in its metadata and tell
+     * the thing updater which caused the write model that it is the base of the next incremental update.
+     * The thing updater is told and never asked, so that a passivated thing updater does not hold up the stream.
+     *
+     * @param writeModel the write model.
+     * @return the write model to execute.
+     */
+    private static AbstractWriteModel toIncrementalUpdate(final AbstractWriteModel writeModel) {
+        writeModel.getMetadata().getOrigin().ifPresent(origin -> origin.tell(writeModel, ActorRef.noSender()));
+        if (writeModel instanceof ThingWriteModel) {
+            return ((ThingWriteModel) writeModel).toIncrementalUpdate();
+        } else {
+            return writeModel;
+        }
+    }
+
     private Source<WriteResultAndErrors, NotUsed> executeBulkWrite(final boolean shouldAcknowledge,
             final List<AbstractWriteModel> abstractWriteModels) {
         final List<WriteModel<Document>> writeModels = abstractWriteModels.stream()
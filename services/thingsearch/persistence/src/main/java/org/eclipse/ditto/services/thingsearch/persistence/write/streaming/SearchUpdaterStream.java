@@ -25,6 +25,7 @@ import org.eclipse.ditto.services.thingsearch.common.config.StreamConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.StreamStageConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.UpdaterConfig;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
+import org.eclipse.ditto.services.utils.cluster.ShardRegionExtractor;
 import org.eclipse.ditto.services.utils.namespaces.BlockedNamespaces;
 
 import com.mongodb.reactivestreams.client.MongoDatabase;
@@ -77,6 +78,7 @@ public final class SearchUpdaterStream {
      * @param updaterConfig the search updater configuration settings.
      * @param actorSystem actor system to run the stream in.
      * @param thingsShard shard region proxy of things.
+     * @param thingsShardRegionExtractor message extractor of the shard region proxy of things.
      * @param policiesShard shard region proxy of policies.
      * @param updaterShard shard region of search updaters.
      * @param changeQueueActor reference of the change queue actor.
@@ -86,6 +88,7 @@ public final class SearchUpdaterStream {
     public static SearchUpdaterStream of(final UpdaterConfig updaterConfig,
             final ActorSystem actorSystem,
             final ActorRef thingsShard,
+            final ShardRegionExtractor thingsShardRegionExtractor,
             final ActorRef policiesShard,
             final ActorRef updaterShard,
             final ActorRef changeQueueActor,
@@ -99,7 +102,8 @@ public final class SearchUpdaterStream {
         final MessageDispatcher messageDispatcher = actorSystem.dispatchers().lookup(dispatcherName);
 
         final EnforcementFlow enforcementFlow =
-                EnforcementFlow.of(streamConfig, thingsShard, policiesShard, messageDispatcher);
+                EnforcementFlow.of(streamConfig, thingsShard, thingsShardRegionExtractor, policiesShard,
+                        messageDispatcher);
 
         final MongoSearchUpdaterFlow mongoSearchUpdaterFlow = MongoSearchUpdaterFlow.of(database,
                 streamConfig.getPersistenceConfig());
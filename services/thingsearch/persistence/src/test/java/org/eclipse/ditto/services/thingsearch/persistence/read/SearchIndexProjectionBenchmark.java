@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.read;
+
+import static org.eclipse.ditto.model.policies.PoliciesResourceType.THING;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.annotation.Nullable;
+
+import org.bson.Document;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.enforcers.PolicyEnforcers;
+import org.eclipse.ditto.model.policies.PoliciesModelFactory;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.policies.SubjectType;
+import org.eclipse.ditto.services.models.policies.Permission;
+import org.eclipse.ditto.services.thingsearch.persistence.write.mapping.EnforcedThingMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Latency distribution of rebuilding a page of 200 search results from their search index entries as read by the
+ * Mongo driver. The percentiles of the sample time mode include the p99 of one page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SearchIndexProjectionBenchmark {
+
+    private static final int PAGE_SIZE = 200;
+
+    private static final Enforcer ENFORCER = PolicyEnforcers.defaultEvaluator(
+            PoliciesModelFactory.newPolicyBuilder(PolicyId.of("policy", "id"))
+                    .forLabel("owner")
+                    .setSubject("integration:owner", SubjectType.GENERATED)
+                    .setGrantedPermissions(THING, "/", Permission.READ)
+                    .setRevokedPermissions(THING, "/attributes/secret", Permission.READ)
+                    .forLabel("observer")
+                    .setSubject("integration:observer", SubjectType.GENERATED)
+                    .setGrantedPermissions(THING, "/features", Permission.READ)
+                    .build());
+
+    @Param({"", "thingId,attributes/location,features/sensor/properties"})
+    public String fields;
+
+    private List<Document> page;
+    private SearchIndexProjection projection;
+    @Nullable private JsonFieldSelector fieldSelector;
+
+    @Setup
+    public void setup() {
+        page = IntStream.range(0, PAGE_SIZE)
+                .mapToObj(SearchIndexProjectionBenchmark::thing)
+                .map(thing -> EnforcedThingMapper.toWriteModel(thing, ENFORCER, 1L, -1, null).getThingDocument())
+                // read back the documents as the Mongo driver would
+                .map(document -> Document.parse(document.toJson()))
+                .collect(Collectors.toList());
+        projection = SearchIndexProjection.of(List.of("integration:owner", "integration:observer"), -1);
+        fieldSelector = fields.isEmpty() ? null : JsonFieldSelector.newInstance(fields);
+    }
+
+    @Benchmark
+    public JsonArray rebuildPage() {
+        final JsonArrayBuilder builder = JsonArray.newBuilder();
+        for (final Document document : page) {
+            final Optional<JsonObject> thing = projection.project(document, fieldSelector);
+            builder.add(thing.orElseThrow(() -> new IllegalStateException("Not rebuilt: " + document)));
+        }
+        return builder.build();
+    }
+
+    private static JsonObject thing(final int i) {
+        return JsonObject.of("{\n" +
+                "  \"thingId\": \"benchmark:thing-" + i + "\",\n" +
+                "  \"policyId\": \"policy:id\",\n" +
+                "  \"_namespace\": \"benchmark\",\n" +
+                "  \"_revision\": " + i + ",\n" +
+                "  \"_modified\": \"2021-01-02T03:04:05.006Z\",\n" +
+                "  \"attributes\": {\n" +
+                "    \"manufacturer\": \"ACME\",\n" +
+                "    \"serial\": \"SN-" + i + "\",\n" +
+                "    \"secret\": \"" + Integer.toHexString(i * 31) + "\",\n" +
+                "    \"location\": { \"latitude\": 47.68, \"longitude\": 9.38, \"building\": \"B" + i % 7 + "\" },\n" +
+                "    \"tags\": [ \"a\", \"b\", \"c\" ]\n" +
+                "  },\n" +
+                "  \"features\": {\n" +
+                "    \"sensor\": {\n" +
+                "      \"definition\": [ \"org.example:sensor:1.0.0\" ],\n" +
+                "      \"properties\": { \"temperature\": " + (20 + i % 10) + ".5, \"humidity\": " + i % 100 +
+                ", \"status\": { \"online\": true, \"since\": \"2021-01-01T00:00:00Z\" } }\n" +
+                "    },\n" +
+                "    \"actuator\": {\n" +
+                "      \"properties\": { \"on\": " + (i % 2 == 0) + ", \"level\": " + i % 255 + " }\n" +
+                "    }\n" +
+                "  }\n" +
+                "}");
+    }
+
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.read;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.ditto.model.policies.PoliciesResourceType.THING;
+
+import java.util.List;
+
+import org.bson.Document;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.enforcers.PolicyEnforcers;
+import org.eclipse.ditto.model.policies.PoliciesModelFactory;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.policies.SubjectType;
+import org.eclipse.ditto.services.models.policies.Permission;
+import org.eclipse.ditto.services.thingsearch.persistence.write.mapping.EnforcedThingMapper;
+import org.junit.Test;
+
+/**
+ * Tests {@link SearchIndexProjection}.
+ */
+public final class SearchIndexProjectionTest {
+
+    private static final JsonObject THING_JSON = JsonFactory.newObject("{\n" +
+            "  \"thingId\": \"hello:world\",\n" +
+            "  \"_namespace\": \"hello\",\n" +
+            "  \"_revision\": 1024,\n" +
+            "  \"_modified\": \"2019-01-02T03:04:05.006Z\",\n" +
+            "  \"policyId\": \"hello:world\",\n" +
+            "  \"features\": {\n" +
+            "    \"hi\": {\n" +
+            "      \"definition\": [ \"earth:v0:1\", \"mars:v0:2\" ],\n" +
+            "      \"properties\": { \"there\": true, \"empty\": {} }\n" +
+            "    }\n" +
+            "  },\n" +
+            "  \"attributes\": {\n" +
+            "    \"hello\": \"world\",\n" +
+            "    \"dotted.key\": 42,\n" +
+            "    \"secret\": \"revoked\"\n" +
+            "  }\n" +
+            "}");
+
+    private static final Enforcer ENFORCER = PolicyEnforcers.defaultEvaluator(
+            PoliciesModelFactory.newPolicyBuilder(PolicyId.of("policy", "id"))
+                    .forLabel("grant-root")
+                    .setSubject("g:0", SubjectType.GENERATED)
+                    .setGrantedPermissions(THING, "/", Permission.READ)
+                    .setRevokedPermissions(THING, "/attributes/secret", Permission.READ)
+                    .forLabel("grant-d")
+                    .setSubject("g:1", SubjectType.GENERATED)
+                    .setGrantedPermissions(THING, "/features/hi/properties/there", Permission.READ)
+                    .build());
+
+    @Test
+    public void rebuildsRegularFieldsVisibleToSubjects() {
+        final Document document = toSearchIndexEntry(THING_JSON, -1);
+
+        assertThat(SearchIndexProjection.of(List.of("g:0"), -1).project(document, null))
+                .contains(JsonFactory.newObject("{\n" +
+                        "  \"thingId\": \"hello:world\",\n" +
+                        "  \"policyId\": \"hello:world\",\n" +
+                        "  \"features\": {\n" +
+                        "    \"hi\": {\n" +
+                        "      \"definition\": [ \"earth:v0:1\", \"mars:v0:2\" ],\n" +
+                        "      \"properties\": { \"there\": true, \"empty\": {} }\n" +
+                        "    }\n" +
+                        "  },\n" +
+                        "  \"attributes\": { \"hello\": \"world\", \"dotted.key\": 42 }\n" +
+                        "}"));
+
+        assertThat(SearchIndexProjection.of(List.of("g:1"), -1).project(document, null))
+                .contains(JsonFactory.newObject("{\"features\":{\"hi\":{\"properties\":{\"there\":true}}}}"));
+    }
+
+    @Test
+    public void rebuildsSelectedFields() {
+        final Document document = toSearchIndexEntry(THING_JSON, -1);
+        final JsonFieldSelector fields =
+                JsonFieldSelector.newInstance("thingId", "_revision", "attributes/secret", "features/hi/definition");
+
+        assertThat(SearchIndexProjection.isApplicable(fields)).isTrue();
+        assertThat(SearchIndexProjection.of(List.of("g:0"), -1).project(document, fields))
+                .contains(JsonFactory.newObject("{\n" +
+                        "  \"thingId\": \"hello:world\",\n" +
+                        "  \"_revision\": 1024,\n" +
+                        "  \"features\": { \"hi\": { \"definition\": [ \"earth:v0:1\", \"mars:v0:2\" ] } }\n" +
+                        "}"));
+    }
+
+    @Test
+    public void specialFieldsNotInSearchIndexAreNotApplicable() {
+        assertThat(SearchIndexProjection.isApplicable(JsonFieldSelector.newInstance("thingId", "_policy")))
+                .isFalse();
+        assertThat(SearchIndexProjection.isApplicable(JsonFieldSelector.newInstance("_metadata/attributes")))
+                .isFalse();
+    }
+
+    @Test
+    public void doesNotRebuildPossiblyPrunedArrays() {
+        final SearchIndexProjection underTest = SearchIndexProjection.of(List.of("g:0"), 2);
+
+        assertThat(underTest.project(toSearchIndexEntry(THING_JSON, 2), null)).isEmpty();
+        assertThat(underTest.project(toSearchIndexEntry(THING_JSON.remove("features"), 2), null)).isNotEmpty();
+    }
+
+    @Test
+    public void doesNotRebuildValuesMissingInFlattenedField() {
+        final Document document = toSearchIndexEntry(THING_JSON, -1);
+        final List<?> flattenedField = document.get("d", List.class);
+        flattenedField.removeIf(entry -> "/attributes/hello".equals(((Document) entry).getString("k")));
+
+        assertThat(SearchIndexProjection.of(List.of("g:0"), -1).project(document, null)).isEmpty();
+    }
+
+    /**
+     * Write a search index entry and read it back as the Mongo driver would.
+     */
+    private static Document toSearchIndexEntry(final JsonObject thing, final int maxArraySize) {
+        final Document written =
+                EnforcedThingMapper.toWriteModel(thing, ENFORCER, 1L, maxArraySize, null).getThingDocument();
+        return Document.parse(written.toJson());
+    }
+
+}
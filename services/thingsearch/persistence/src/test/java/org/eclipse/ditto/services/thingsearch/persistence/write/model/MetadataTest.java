@@ -12,6 +12,8 @@
  */
 package org.eclipse.ditto.services.thingsearch.persistence.write.model;
 
+import org.bson.Document;
+import org.eclipse.ditto.model.things.ThingId;
 import org.junit.Test;
 
 import akka.actor.ActorRef;
@@ -32,6 +34,11 @@ public final class MetadataTest extends AbstractWithActorSystemTest {
         EqualsVerifier.forClass(Metadata.class)
                 .usingGetClass()
                 .withPrefabValues(ActorRef.class, probe1.ref(), probe2.ref())
+                .withPrefabValues(ThingWriteModel.class,
+                        ThingWriteModel.of(Metadata.of(ThingId.of("thing", "id"), 1L, null, null, null),
+                                new Document()),
+                        ThingWriteModel.of(Metadata.of(ThingId.of("thing", "id"), 2L, null, null, null),
+                                new Document()))
                 .verify();
     }
 
@@ -15,6 +15,7 @@ package org.eclipse.ditto.services.thingsearch.persistence.write.model;
 import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
 import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
 
+import org.eclipse.ditto.model.things.ThingId;
 import org.junit.Test;
 
 import akka.actor.ActorRef;
@@ -27,6 +28,8 @@ import nl.jqno.equalsverifier.EqualsVerifier;
  */
 public final class ThingDeleteModelTest extends AbstractWithActorSystemTest {
 
+    private static final ThingId THING_ID = ThingId.of("thing", "id");
+
     @Test
     public void assertImmutability() {
         assertInstancesOf(ThingDeleteModel.class, areImmutable());
@@ -40,6 +43,8 @@ public final class ThingDeleteModelTest extends AbstractWithActorSystemTest {
         EqualsVerifier.forClass(ThingDeleteModel.class)
                 .usingGetClass()
                 .withPrefabValues(ActorRef.class, probe1.ref(), probe2.ref())
+                .withPrefabValues(Metadata.class, Metadata.of(THING_ID, 1L, null, null, null),
+                        Metadata.of(THING_ID, 2L, null, null, null))
                 .verify();
     }
 
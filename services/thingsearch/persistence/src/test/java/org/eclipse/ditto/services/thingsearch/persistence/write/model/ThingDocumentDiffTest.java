@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link ThingDocumentDiff}.
+ */
+public final class ThingDocumentDiffTest {
+
+    @Test
+    public void setsAndUnsetsChangedFieldsOfNestedDocuments() {
+        final BsonDocument previous = BsonDocument.parse("{" +
+                "\"_revision\":1," +
+                "\"s\":{\"attributes\":{\"a\":1,\"b\":{\"c\":2},\"removed\":true}}" +
+                "}");
+        final BsonDocument next = BsonDocument.parse("{" +
+                "\"_revision\":2," +
+                "\"s\":{\"attributes\":{\"a\":1,\"b\":{\"c\":3},\"added\":\"x\"}}" +
+                "}");
+
+        assertThat(ThingDocumentDiff.diff(previous, next)).contains(BsonDocument.parse("{" +
+                "\"$set\":{\"_revision\":2,\"s.attributes.b.c\":3,\"s.attributes.added\":\"x\"}," +
+                "\"$unset\":{\"s.attributes.removed\":\"\"}" +
+                "}"));
+    }
+
+    @Test
+    public void setsChangedElementsOfArraysOfSameSize() {
+        final BsonDocument previous = BsonDocument.parse("{\"d\":[{\"k\":\"a\",\"v\":1},{\"k\":\"b\",\"v\":2}]}");
+        final BsonDocument next = BsonDocument.parse("{\"d\":[{\"k\":\"a\",\"v\":1},{\"k\":\"b\",\"v\":3}]}");
+
+        assertThat(ThingDocumentDiff.diff(previous, next))
+                .contains(BsonDocument.parse("{\"$set\":{\"d.1\":{\"k\":\"b\",\"v\":3}}}"));
+    }
+
+    @Test
+    public void setsArraysOfDifferentSizeAsAWhole() {
+        final BsonDocument previous = BsonDocument.parse("{\"d\":[1,2]}");
+        final BsonDocument next = BsonDocument.parse("{\"d\":[1,2,3]}");
+
+        assertThat(ThingDocumentDiff.diff(previous, next))
+                .contains(BsonDocument.parse("{\"$set\":{\"d\":[1,2,3]}}"));
+    }
+
+    @Test
+    public void setsDocumentsWithUnaddressableKeysAsAWhole() {
+        final BsonDocument previous = BsonDocument.parse("{\"s\":{\"a.b\":1}}");
+        final BsonDocument next = BsonDocument.parse("{\"s\":{\"a.b\":2}}");
+
+        assertThat(ThingDocumentDiff.diff(previous, next))
+                .contains(BsonDocument.parse("{\"$set\":{\"s\":{\"a.b\":2}}}"));
+    }
+
+    @Test
+    public void setsChangedElementsOfNestedArraysOfSameSize() {
+        final BsonDocument previous = BsonDocument.parse("{\"s\":{\"attributes\":{\"list\":[1,{\"a\":2},3]}}}");
+        final BsonDocument next = BsonDocument.parse("{\"s\":{\"attributes\":{\"list\":[1,{\"a\":4},3]}}}");
+
+        assertThat(ThingDocumentDiff.diff(previous, next))
+                .contains(BsonDocument.parse("{\"$set\":{\"s.attributes.list.1\":{\"a\":4}}}"));
+    }
+
+    @Test
+    public void setsReplacedValuesOfDifferentTypeAsAWhole() {
+        final BsonDocument previous = BsonDocument.parse("{\"s\":{\"attributes\":{\"a\":{\"b\":1}}}}");
+        final BsonDocument next = BsonDocument.parse("{\"s\":{\"attributes\":{\"a\":[1]}}}");
+
+        assertThat(ThingDocumentDiff.diff(previous, next))
+                .contains(BsonDocument.parse("{\"$set\":{\"s.attributes.a\":[1]}}"));
+    }
+
+    @Test
+    public void setsDocumentsWithOperatorKeysAsAWhole() {
+        final BsonDocument previous = BsonDocument.parse("{\"s\":{\"a\":{\"$b\":1,\"c\":1}}}");
+        final BsonDocument next = BsonDocument.parse("{\"s\":{\"a\":{\"$b\":1,\"c\":2}}}");
+
+        assertThat(ThingDocumentDiff.diff(previous, next))
+                .contains(BsonDocument.parse("{\"$set\":{\"s.a\":{\"$b\":1,\"c\":2}}}"));
+    }
+
+    @Test
+    public void emptyUpdateForEqualDocuments() {
+        final BsonDocument document = BsonDocument.parse("{\"_revision\":1,\"s\":{\"a\":[1,2]}}");
+
+        assertThat(ThingDocumentDiff.diff(document, document.clone())).contains(new BsonDocument());
+    }
+
+    @Test
+    public void noDiffForUnaddressableTopLevelKeys() {
+        final BsonDocument previous = new BsonDocument().append("$a", new BsonInt32(1));
+        final BsonDocument next = new BsonDocument().append("$a", new BsonInt32(2));
+
+        assertThat(ThingDocumentDiff.diff(previous, next)).isEmpty();
+    }
+
+}
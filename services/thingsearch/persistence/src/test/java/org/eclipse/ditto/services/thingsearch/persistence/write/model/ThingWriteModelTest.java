@@ -12,8 +12,19 @@
  */
 package org.eclipse.ditto.services.thingsearch.persistence.write.model;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants;
+import org.eclipse.ditto.services.utils.persistence.mongo.BsonUtil;
 import org.junit.Test;
 
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.UpdateOneModel;
+
 import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
 import akka.testkit.TestProbe;
@@ -24,6 +35,9 @@ import nl.jqno.equalsverifier.EqualsVerifier;
  */
 public final class ThingWriteModelTest extends AbstractWithActorSystemTest {
 
+    private static final ThingId THING_ID = ThingId.of("thing", "id");
+    private static final PolicyId POLICY_ID = PolicyId.of("policy", "id");
+
     @Test
     public void testHashCodeAndEquals() {
         system = ActorSystem.create();
@@ -32,7 +46,125 @@ public final class ThingWriteModelTest extends AbstractWithActorSystemTest {
         EqualsVerifier.forClass(ThingWriteModel.class)
                 .usingGetClass()
                 .withPrefabValues(ActorRef.class, probe1.ref(), probe2.ref())
+                .withPrefabValues(Metadata.class, Metadata.of(THING_ID, 1L, null, null, null),
+                        Metadata.of(THING_ID, 2L, null, null, null))
                 .verify();
     }
 
-}
\ No newline at end of file
+    @Test
+    public void incrementalUpdateFiltersOnPreviousRevisions() {
+        final ThingWriteModel previous = thingWriteModel(1L, POLICY_ID, 1L, "on");
+        final ThingWriteModel underTest = thingWriteModel(2L, POLICY_ID, 1L, "off").toIncrementalUpdate(previous);
+
+        assertThat(underTest.isIncrementalUpdate()).isTrue();
+        assertThat(underTest.toMongo()).isInstanceOf(UpdateOneModel.class);
+        final UpdateOneModel<Document> updateOneModel = (UpdateOneModel<Document>) underTest.toMongo();
+        assertThat(BsonUtil.toBsonDocument(updateOneModel.getFilter())).isEqualTo(BsonDocument.parse("{\"$and\":[" +
+                "{\"$and\":[{\"_id\":\"thing:id\"}]}," +
+                "{\"_revision\":{\"$numberLong\":\"1\"}}," +
+                "{\"__policyRev\":{\"$numberLong\":\"1\"}}" +
+                "]}"));
+        assertThat(BsonUtil.toBsonDocument(updateOneModel.getUpdate())).isEqualTo(BsonDocument.parse("{\"$set\":{" +
+                "\"_revision\":{\"$numberLong\":\"2\"},\"s.attributes.power\":\"off\"" +
+                "}}"));
+    }
+
+    @Test
+    public void incrementalUpdateFromPreviousWriteModelInMetadata() {
+        final ThingWriteModel previous = thingWriteModel(1L, POLICY_ID, 1L, "on");
+        final Metadata metadata = Metadata.of(THING_ID, 2L, POLICY_ID, 1L, null).withPreviousWriteModel(previous);
+        final ThingWriteModel underTest =
+                ThingWriteModel.of(metadata, thingDocument(2L, 1L, "off")).toIncrementalUpdate();
+
+        assertThat(underTest.isIncrementalUpdate()).isTrue();
+    }
+
+    @Test
+    public void previousWriteModelInMetadataDoesNotKeepItsPredecessor() {
+        final ThingWriteModel first = thingWriteModel(1L, POLICY_ID, 1L, "on");
+        final ThingWriteModel second = ThingWriteModel.of(
+                Metadata.of(THING_ID, 2L, POLICY_ID, 1L, null).withPreviousWriteModel(first),
+                thingDocument(2L, 1L, "off"));
+
+        final Metadata metadata = Metadata.of(THING_ID, 3L, POLICY_ID, 1L, null).withPreviousWriteModel(second);
+
+        assertThat(metadata.getPreviousWriteModel()
+                .flatMap(previous -> previous.getMetadata().getPreviousWriteModel())).isEmpty();
+    }
+
+    @Test
+    public void noIncrementalUpdateWithoutPreviousWriteModel() {
+        final ThingWriteModel underTest = thingWriteModel(2L, POLICY_ID, 1L, "off");
+
+        assertThat(underTest.toIncrementalUpdate(null)).isSameAs(underTest);
+        assertThat(underTest.toIncrementalUpdate()).isSameAs(underTest);
+        assertThat(underTest.toMongo()).isInstanceOf(ReplaceOneModel.class);
+    }
+
+    @Test
+    public void noIncrementalUpdateIfPolicyRevisionChanged() {
+        final ThingWriteModel previous = thingWriteModel(1L, POLICY_ID, 1L, "on");
+        final ThingWriteModel underTest = thingWriteModel(2L, POLICY_ID, 2L, "off");
+
+        assertThat(underTest.toIncrementalUpdate(previous)).isSameAs(underTest);
+    }
+
+    @Test
+    public void noIncrementalUpdateIfPolicyIdChanged() {
+        final ThingWriteModel previous = thingWriteModel(1L, POLICY_ID, 1L, "on");
+        final ThingWriteModel underTest = thingWriteModel(2L, PolicyId.of("policy", "other"), 1L, "off");
+
+        assertThat(underTest.toIncrementalUpdate(previous)).isSameAs(underTest);
+    }
+
+    @Test
+    public void noIncrementalUpdateIfThingRevisionDidNotIncrease() {
+        final ThingWriteModel previous = thingWriteModel(2L, POLICY_ID, 1L, "on");
+        final ThingWriteModel sameRevision = thingWriteModel(2L, POLICY_ID, 1L, "off");
+        final ThingWriteModel olderRevision = thingWriteModel(1L, POLICY_ID, 1L, "off");
+
+        assertThat(sameRevision.toIncrementalUpdate(previous)).isSameAs(sameRevision);
+        assertThat(olderRevision.toIncrementalUpdate(previous)).isSameAs(olderRevision);
+    }
+
+    @Test
+    public void noIncrementalUpdateIfPreviousDocumentLacksRevision() {
+        final Document previousDocument = thingDocument(1L, 1L, "on");
+        previousDocument.remove(PersistenceConstants.FIELD_REVISION);
+        final ThingWriteModel previous =
+                ThingWriteModel.of(Metadata.of(THING_ID, 1L, POLICY_ID, 1L, null), previousDocument);
+        final ThingWriteModel underTest = thingWriteModel(2L, POLICY_ID, 1L, "off");
+
+        assertThat(underTest.toIncrementalUpdate(previous)).isSameAs(underTest);
+    }
+
+    @Test
+    public void noIncrementalUpdateIfPreviousDocumentLacksPolicyRevision() {
+        final Document previousDocument = thingDocument(1L, 1L, "on");
+        previousDocument.remove(PersistenceConstants.FIELD_POLICY_REVISION);
+        final ThingWriteModel previous =
+                ThingWriteModel.of(Metadata.of(THING_ID, 1L, POLICY_ID, 1L, null), previousDocument);
+        final ThingWriteModel underTest = thingWriteModel(2L, POLICY_ID, 1L, "off");
+
+        assertThat(underTest.toIncrementalUpdate(previous)).isSameAs(underTest);
+    }
+
+    private static ThingWriteModel thingWriteModel(final long thingRevision, final PolicyId policyId,
+            final long policyRevision, final String attributeValue) {
+
+        return ThingWriteModel.of(Metadata.of(THING_ID, thingRevision, policyId, policyRevision, null),
+                thingDocument(thingRevision, policyRevision, attributeValue));
+    }
+
+    private static Document thingDocument(final long thingRevision, final long policyRevision,
+            final String attributeValue) {
+
+        return new Document()
+                .append(PersistenceConstants.FIELD_ID, THING_ID.toString())
+                .append(PersistenceConstants.FIELD_REVISION, thingRevision)
+                .append(PersistenceConstants.FIELD_POLICY_REVISION, policyRevision)
+                .append(PersistenceConstants.FIELD_SORTING, new Document()
+                        .append("attributes", new Document().append("power", attributeValue)));
+    }
+
+}
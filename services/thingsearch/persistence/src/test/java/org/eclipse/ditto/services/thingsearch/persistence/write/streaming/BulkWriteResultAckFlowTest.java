@@ -27,6 +27,7 @@ import org.eclipse.ditto.model.base.common.HttpStatus;
 import org.eclipse.ditto.model.policies.PolicyId;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.models.thingsearch.commands.sudo.UpdateThingResponse;
+import org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.ThingDeleteModel;
@@ -177,6 +178,121 @@ public final class BulkWriteResultAckFlowTest {
                 .isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
+    @Test
+    public void unmatchedIncrementalUpdatesAreRetried() {
+        final TestProbe replacementSender = TestProbe.apply(actorSystem);
+        final TestProbe incrementalUpdateSender = TestProbe.apply(actorSystem);
+        final ThingWriteModel replacement =
+                thingWriteModel(ThingId.of("thing", "replaced"), 1L, replacementSender);
+        final ThingId incrementallyUpdatedThingId = ThingId.of("thing", "incremental");
+        final ThingWriteModel incrementalUpdate =
+                incrementalUpdate(incrementallyUpdatedThingId, 2L, incrementalUpdateSender);
+
+        // WHEN: the replacement is upserted but the incremental update matches no document
+        final BulkWriteResult result = BulkWriteResult.acknowledged(0, 0, 0, 0,
+                List.of(new BulkWriteUpsert(0, new BsonString("upsert 0"))));
+        final String message = runBulkWriteResultAckFlowAndGetLogEntries(
+                WriteResultAndErrors.success(List.of(replacement, incrementalUpdate), result));
+
+        // THEN: only the incremental update is acknowledged negatively so that it is retried
+        assertThat(replacementSender.expectMsgClass(Acknowledgement.class).getHttpStatus())
+                .isEqualTo(HttpStatus.NO_CONTENT);
+        assertThat(incrementalUpdateSender.expectMsgClass(Acknowledgement.class).getHttpStatus())
+                .isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+        assertThat(expectUpdateThingResponse(incrementallyUpdatedThingId))
+                .describedAs("response is failure")
+                .returns(false, UpdateThingResponse::isSuccess);
+        assertThat(message).contains("IncrementalUpdateMismatch");
+    }
+
+    @Test
+    public void mismatchNacksAllIncrementalUpdates() {
+        final TestProbe replacementSender = TestProbe.apply(actorSystem);
+        final TestProbe firstSender = TestProbe.apply(actorSystem);
+        final TestProbe secondSender = TestProbe.apply(actorSystem);
+        final ThingId firstThingId = ThingId.of("thing", "first");
+        final ThingId secondThingId = ThingId.of("thing", "second");
+        final ThingWriteModel replacement = thingWriteModel(ThingId.of("thing", "replaced"), 1L, replacementSender);
+        final ThingWriteModel firstIncrementalUpdate = incrementalUpdate(firstThingId, 2L, firstSender);
+        final ThingWriteModel secondIncrementalUpdate = incrementalUpdate(secondThingId, 2L, secondSender);
+
+        // WHEN: one of the incremental updates matches no document
+        final BulkWriteResult result = BulkWriteResult.acknowledged(0, 1, 0, 1,
+                List.of(new BulkWriteUpsert(0, new BsonString("upsert 0"))));
+        final String message = runBulkWriteResultAckFlowAndGetLogEntries(WriteResultAndErrors.success(
+                List.of(replacement, firstIncrementalUpdate, secondIncrementalUpdate), result));
+
+        // THEN: it is unknown which one did not match, thus both are acknowledged negatively
+        assertThat(replacementSender.expectMsgClass(Acknowledgement.class).getHttpStatus())
+                .isEqualTo(HttpStatus.NO_CONTENT);
+        assertThat(firstSender.expectMsgClass(Acknowledgement.class).getHttpStatus())
+                .isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+        assertThat(secondSender.expectMsgClass(Acknowledgement.class).getHttpStatus())
+                .isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+        assertThat(expectUpdateThingResponse(firstThingId))
+                .describedAs("response is failure")
+                .returns(false, UpdateThingResponse::isSuccess);
+        assertThat(expectUpdateThingResponse(secondThingId))
+                .describedAs("response is failure")
+                .returns(false, UpdateThingResponse::isSuccess);
+        assertThat(message).contains("IncrementalUpdateMismatch");
+    }
+
+    @Test
+    public void matchedDeletionDoesNotHideUnmatchedIncrementalUpdate() {
+        final TestProbe deletionSender = TestProbe.apply(actorSystem);
+        final TestProbe incrementalUpdateSender = TestProbe.apply(actorSystem);
+        final ThingId deletedThingId = ThingId.of("thing", "deleted");
+        final ThingId incrementallyUpdatedThingId = ThingId.of("thing", "incremental");
+        final ThingDeleteModel deletion =
+                ThingDeleteModel.of(Metadata.of(deletedThingId, 1L, null, 1L, null, deletionSender.ref()));
+        final ThingWriteModel incrementalUpdate =
+                incrementalUpdate(incrementallyUpdatedThingId, 2L, incrementalUpdateSender);
+
+        // WHEN: the deletion matches its document but the incremental update matches none
+        final BulkWriteResult result = BulkWriteResult.acknowledged(0, 1, 0, 1, List.of());
+        final String message = runBulkWriteResultAckFlowAndGetLogEntries(
+                WriteResultAndErrors.success(List.of(deletion, incrementalUpdate), result));
+
+        // THEN: the incremental update is acknowledged negatively so that it is retried
+        assertThat(deletionSender.expectMsgClass(Acknowledgement.class).getHttpStatus())
+                .isEqualTo(HttpStatus.NO_CONTENT);
+        assertThat(incrementalUpdateSender.expectMsgClass(Acknowledgement.class).getHttpStatus())
+                .isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+        assertThat(expectUpdateThingResponse(incrementallyUpdatedThingId))
+                .describedAs("response is failure")
+                .returns(false, UpdateThingResponse::isSuccess);
+        assertThat(message).contains("IncrementalUpdateMismatch");
+    }
+
+    private String runBulkWriteResultAckFlowAndGetLogEntries(final WriteResultAndErrors writeResultAndErrors) {
+        return Source.single(writeResultAndErrors)
+                .via(underTest.start(Duration.ZERO))
+                .runWith(Sink.seq(), actorSystem)
+                .toCompletableFuture()
+                .join()
+                .toString();
+    }
+
+    private static ThingWriteModel thingWriteModel(final ThingId thingId, final long revision,
+            final TestProbe sender) {
+
+        final Document document = new Document()
+                .append(PersistenceConstants.FIELD_ID, thingId.toString())
+                .append(PersistenceConstants.FIELD_REVISION, revision)
+                .append(PersistenceConstants.FIELD_POLICY_REVISION, 1L);
+        return ThingWriteModel.of(Metadata.of(thingId, revision, null, 1L, null, sender.ref()), document);
+    }
+
+    private static ThingWriteModel incrementalUpdate(final ThingId thingId, final long revision,
+            final TestProbe sender) {
+
+        final ThingWriteModel incrementalUpdate = thingWriteModel(thingId, revision, sender)
+                .toIncrementalUpdate(thingWriteModel(thingId, revision - 1L, sender));
+        assertThat(incrementalUpdate.isIncrementalUpdate()).isTrue();
+        return incrementalUpdate;
+    }
+
     private String runBulkWriteResultAckFlowAndGetFirstLogEntry(final WriteResultAndErrors writeResultAndErrors) {
         return Source.single(writeResultAndErrors)
                 .via(underTest.start(Duration.ZERO))
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThing;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingResponse;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThings;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingsResponse;
+import org.eclipse.ditto.services.models.thingsearch.ThingSearchMappingStrategies;
+import org.eclipse.ditto.services.thingsearch.common.config.DefaultStreamConfig;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.ThingWriteModel;
+import org.eclipse.ditto.services.utils.cluster.ShardRegionExtractor;
+import org.eclipse.ditto.signals.base.ShardedMessageEnvelope;
+import org.junit.After;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorSystem;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+import akka.testkit.TestProbe;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link org.eclipse.ditto.services.thingsearch.persistence.write.streaming.EnforcementFlow}.
+ */
+public final class EnforcementFlowTest {
+
+    private static final ThingId THING_1 = ThingId.of("org.eclipse.ditto:thing1");
+    private static final ThingId THING_2 = ThingId.of("org.eclipse.ditto:thing2");
+    private static final ThingId THING_3 = ThingId.of("org.eclipse.ditto:thing3");
+
+    private final ActorSystem actorSystem = ActorSystem.create();
+    private final TestProbe thingsShardProbe = TestProbe.apply("things", actorSystem);
+    private final TestProbe policiesShardProbe = TestProbe.apply("policies", actorSystem);
+
+    @After
+    public void stopActorSystem() {
+        TestKit.shutdownActorSystem(actorSystem);
+    }
+
+    @Test
+    public void retrieveThingsOfSameShardInBatchAndMissingThingsOneByOne() throws Exception {
+        final CompletionStage<List<AbstractWriteModel>> writeModels = run(createEnforcementFlow(16));
+
+        // WHEN: all things are retrieved in one batch and the response lacks THING_3
+        final ShardedMessageEnvelope envelope = thingsShardProbe.expectMsgClass(ShardedMessageEnvelope.class);
+        assertThat(envelope.getType()).isEqualTo(SudoRetrieveThings.TYPE);
+        final SudoRetrieveThings command = SudoRetrieveThings.fromJson(envelope.getMessage(), DittoHeaders.empty());
+        assertThat(command.getThingIds()).containsExactly(THING_1, THING_2, THING_3);
+        thingsShardProbe.reply(SudoRetrieveThingsResponse.of(JsonArray.of(thingJson(THING_1), thingJson(THING_2)),
+                DittoHeaders.empty()));
+
+        // THEN: THING_3 is retrieved alone
+        expectSudoRetrieveThingAndReply(THING_3);
+        assertThat(getThingIds(writeModels)).containsExactlyInAnyOrder(THING_1, THING_2, THING_3);
+    }
+
+    @Test
+    public void retrieveThingsOneByOneIfBatchFails() throws Exception {
+        final CompletionStage<List<AbstractWriteModel>> writeModels = run(createEnforcementFlow(16));
+
+        // WHEN: the batch fails
+        thingsShardProbe.expectMsgClass(ShardedMessageEnvelope.class);
+        thingsShardProbe.reply(new IllegalStateException("batch failed"));
+
+        // THEN: all things are retrieved one by one
+        replyToSudoRetrieveThings(3);
+        assertThat(getThingIds(writeModels)).containsExactlyInAnyOrder(THING_1, THING_2, THING_3);
+    }
+
+    @Test
+    public void retrieveThingsOneByOneIfBatchIsNotAnswered() throws Exception {
+        final CompletionStage<List<AbstractWriteModel>> writeModels = run(createEnforcementFlow(16));
+
+        // WHEN: the batch is not answered, e.g. by a Things node of a previous version
+        thingsShardProbe.expectMsgClass(ShardedMessageEnvelope.class);
+
+        // THEN: all things are retrieved one by one once the batch timeout is over
+        replyToSudoRetrieveThings(3);
+        assertThat(getThingIds(writeModels)).containsExactlyInAnyOrder(THING_1, THING_2, THING_3);
+    }
+
+    @Test
+    public void retrieveThingsOneByOneIfBatchingIsDisabled() throws Exception {
+        final CompletionStage<List<AbstractWriteModel>> writeModels = run(createEnforcementFlow(1));
+
+        replyToSudoRetrieveThings(3);
+        assertThat(getThingIds(writeModels)).containsExactlyInAnyOrder(THING_1, THING_2, THING_3);
+    }
+
+    private EnforcementFlow createEnforcementFlow(final int maxRetrievalBatchSize) {
+        final DefaultStreamConfig streamConfig = DefaultStreamConfig.of(ConfigFactory.parseString(
+                "stream.max-retrieval-batch-size = " + maxRetrievalBatchSize +
+                        "\nstream.retrieval-batch-ask-timeout = 1s"));
+        // a single shard so that all things are batched together
+        final ShardRegionExtractor shardRegionExtractor =
+                ShardRegionExtractor.of(1, ThingSearchMappingStrategies.getInstance());
+        return EnforcementFlow.of(streamConfig, thingsShardProbe.ref(), shardRegionExtractor,
+                policiesShardProbe.ref(), actorSystem.dispatchers().defaultGlobalDispatcher());
+    }
+
+    private CompletionStage<List<AbstractWriteModel>> run(final EnforcementFlow enforcementFlow) {
+        final Map<ThingId, Metadata> changeMap = new LinkedHashMap<>();
+        for (final ThingId thingId : List.of(THING_1, THING_2, THING_3)) {
+            changeMap.put(thingId, Metadata.of(thingId, 1L, null, null, null));
+        }
+        return Source.single(changeMap)
+                .via(enforcementFlow.create(false, 4))
+                .flatMapConcat(writeModelSource -> writeModelSource)
+                .runWith(Sink.seq(), actorSystem);
+    }
+
+    private void expectSudoRetrieveThingAndReply(final ThingId thingId) {
+        final SudoRetrieveThing command = thingsShardProbe.expectMsgClass(SudoRetrieveThing.class);
+        assertThat((CharSequence) command.getEntityId()).isEqualTo(thingId);
+        thingsShardProbe.reply(SudoRetrieveThingResponse.of(thingJson(thingId), DittoHeaders.empty()));
+    }
+
+    private void replyToSudoRetrieveThings(final int times) {
+        for (int i = 0; i < times; ++i) {
+            final SudoRetrieveThing command = thingsShardProbe.expectMsgClass(SudoRetrieveThing.class);
+            final ThingId thingId = ThingId.of(command.getEntityId());
+            thingsShardProbe.reply(SudoRetrieveThingResponse.of(thingJson(thingId), DittoHeaders.empty()));
+        }
+    }
+
+    private static List<ThingId> getThingIds(final CompletionStage<List<AbstractWriteModel>> writeModels)
+            throws Exception {
+
+        return writeModels.toCompletableFuture()
+                .get(10L, TimeUnit.SECONDS)
+                .stream()
+                .filter(ThingWriteModel.class::isInstance)
+                .map(writeModel -> writeModel.getMetadata().getThingId())
+                .collect(Collectors.toList());
+    }
+
+    private static JsonObject thingJson(final ThingId thingId) {
+        return JsonObject.newBuilder()
+                .set(Thing.JsonFields.ID, thingId.toString())
+                .set(Thing.JsonFields.REVISION, 1L)
+                .set(Thing.JsonFields.ACL, JsonObject.newBuilder()
+                        .set("subject", JsonObject.newBuilder()
+                                .set("READ", true)
+                                .set("WRITE", true)
+                                .set("ADMINISTRATE", true)
+                                .build())
+                        .build())
+                .build();
+    }
+
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.starter.actors;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.model.query.Query;
+import org.eclipse.ditto.model.query.criteria.Criteria;
+import org.eclipse.ditto.services.thingsearch.common.config.CountConfig;
+import org.eclipse.ditto.services.thingsearch.persistence.read.ThingsSearchPersistence;
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import akka.NotUsed;
+import akka.japi.Pair;
+import akka.stream.Materializer;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+
+/**
+ * Approximate counts of things for dashboards which count the same things over and over again.
+ * <p>
+ * Counts are cached for a short time under their filter criteria and the set of authorization subjects, so that
+ * repeated counts within that time are answered without querying the search index. Concurrent counts of the same
+ * things share one query. Each count is limited to the configured maximum exact count, which bounds the number of
+ * index entries scanned by a single count.
+ * <p>
+ * A count is approximate if it was served from the cache or if it reached the maximum exact count, in which case the
+ * true count may be larger.
+ */
+@ThreadSafe
+final class ApproximateCounts {
+
+    private final ThingsSearchPersistence searchPersistence;
+    private final int maxExactCount;
+    private final AsyncCache<CountKey, Long> cache;
+
+    private ApproximateCounts(final ThingsSearchPersistence searchPersistence, final int maxExactCount,
+            final AsyncCache<CountKey, Long> cache) {
+
+        this.searchPersistence = searchPersistence;
+        this.maxExactCount = maxExactCount;
+        this.cache = cache;
+    }
+
+    /**
+     * Create approximate counts of things in a search persistence.
+     *
+     * @param searchPersistence the search persistence.
+     * @param countConfig the count config.
+     * @return the approximate counts.
+     */
+    static ApproximateCounts of(final ThingsSearchPersistence searchPersistence, final CountConfig countConfig) {
+        final CacheConfig cacheConfig = countConfig.getCacheConfig();
+        final AsyncCache<CountKey, Long> cache = Caffeine.newBuilder()
+                .maximumSize(cacheConfig.getMaximumSize())
+                .expireAfterWrite(cacheConfig.getExpireAfterWrite())
+                .buildAsync();
+        final int maxExactCount = countConfig.getMaxExactCount() > 0 ? countConfig.getMaxExactCount() : Integer.MAX_VALUE;
+        return new ApproximateCounts(searchPersistence, maxExactCount, cache);
+    }
+
+    /**
+     * Count the things matching a query.
+     *
+     * @param query the query.
+     * @param authorizationSubjectIds the authorization subjects to whom the things should be visible, or null to count
+     * regardless of visibility.
+     * @param materializer the materializer to run the count with.
+     * @return source of the count and whether it is approximate.
+     */
+    Source<Pair<Long, Boolean>, NotUsed> count(final Query query,
+            @Nullable final List<String> authorizationSubjectIds,
+            final Materializer materializer) {
+
+        final CountKey key = new CountKey(query.getCriteria(), authorizationSubjectIds);
+        final CompletableFuture<Long> cachedCount = cache.getIfPresent(key);
+        if (cachedCount != null) {
+            return Source.completionStage(cachedCount).map(count -> Pair.create(count, true));
+        }
+        final CompletableFuture<Long> count = cache.get(key, (k, executor) ->
+                searchPersistence.count(query, authorizationSubjectIds, maxExactCount)
+                        .runWith(Sink.head(), materializer)
+                        .toCompletableFuture());
+        return Source.completionStage(count).map(result -> Pair.create(result, result >= maxExactCount));
+    }
+
+    /**
+     * Cache key of a count: the filter criteria of the query and the authorization subjects regardless of their order.
+     */
+    private static final class CountKey {
+
+        private final Criteria criteria;
+        @Nullable private final Set<String> authorizationSubjectIds;
+
+        private CountKey(final Criteria criteria, @Nullable final List<String> authorizationSubjectIds) {
+            this.criteria = criteria;
+            this.authorizationSubjectIds =
+                    authorizationSubjectIds == null ? null : Set.copyOf(authorizationSubjectIds);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final CountKey that = (CountKey) o;
+            return criteria.equals(that.criteria) &&
+                    Objects.equals(authorizationSubjectIds, that.authorizationSubjectIds);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(criteria, authorizationSubjectIds);
+        }
+
+    }
+
+}
@@ -24,6 +24,7 @@ import org.eclipse.ditto.json.JsonCollectors;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
@@ -34,6 +35,7 @@ import org.eclipse.ditto.model.thingsearch.SearchModelFactory;
 import org.eclipse.ditto.model.thingsearch.SearchResult;
 import org.eclipse.ditto.services.models.thingsearch.commands.sudo.SudoCountThings;
 import org.eclipse.ditto.services.models.thingsearch.commands.sudo.SudoRetrieveNamespaceReport;
+import org.eclipse.ditto.services.thingsearch.common.config.CountConfig;
 import org.eclipse.ditto.services.thingsearch.common.model.ResultList;
 import org.eclipse.ditto.services.thingsearch.persistence.query.QueryParser;
 import org.eclipse.ditto.services.thingsearch.persistence.read.ThingsSearchPersistence;
@@ -55,6 +57,7 @@ import akka.actor.AbstractActor;
 import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
 import akka.actor.Props;
+import akka.japi.Pair;
 import akka.japi.pf.PFBuilder;
 import akka.japi.pf.ReceiveBuilder;
 import akka.pattern.Patterns;
@@ -80,7 +83,12 @@ import akka.stream.javadsl.StreamRefs;
  * Query executes against the passed {@link ThingsSearchPersistence}.
  * <p>
  * The ThingsSearchPersistence returns only Thing IDs. Thus to provide complete Thing information to the requester,
- * things have to be retrieved from Things Service via distributed pub/sub.
+ * things have to be retrieved from Things Service via distributed pub/sub. If enabled, the things are instead rebuilt
+ * from the search index where possible; such responses carry the header
+ * {@link DittoHeaderDefinition#SEARCH_RESULT_FROM_INDEX}.
+ * <p>
+ * If approximate counts are enabled, counts may be served from a short-lived cache or be bounded by a maximum; count
+ * responses then carry the header {@link DittoHeaderDefinition#COUNT_APPROXIMATE}.
  */
 public final class SearchActor extends AbstractActor {
 
@@ -101,14 +109,22 @@ public final class SearchActor extends AbstractActor {
 
     private final QueryParser queryParser;
     private final ThingsSearchPersistence searchPersistence;
+    private final boolean queryFromIndex;
+    @Nullable private final ApproximateCounts approximateCounts;
 
     @SuppressWarnings("unused")
     private SearchActor(
             final QueryParser queryParser,
-            final ThingsSearchPersistence searchPersistence) {
+            final ThingsSearchPersistence searchPersistence,
+            final boolean queryFromIndex,
+            final CountConfig countConfig) {
 
         this.queryParser = queryParser;
         this.searchPersistence = searchPersistence;
+        this.queryFromIndex = queryFromIndex;
+        approximateCounts = countConfig.isApproximateEnabled()
+                ? ApproximateCounts.of(searchPersistence, countConfig)
+                : null;
     }
 
     /**
@@ -116,13 +132,17 @@ public final class SearchActor extends AbstractActor {
      *
      * @param queryFactory factory of query objects.
      * @param searchPersistence the {@link ThingsSearchPersistence} to use in order to execute queries.
+     * @param queryFromIndex whether to rebuild the things of search results from the search index.
+     * @param countConfig the config of counting things.
      * @return the Akka configuration Props object.
      */
     static Props props(
             final QueryParser queryFactory,
-            final ThingsSearchPersistence searchPersistence) {
+            final ThingsSearchPersistence searchPersistence,
+            final boolean queryFromIndex,
+            final CountConfig countConfig) {
 
-        return Props.create(SearchActor.class, queryFactory, searchPersistence)
+        return Props.create(SearchActor.class, queryFactory, searchPersistence, queryFromIndex, countConfig)
                 .withDispatcher(SEARCH_DISPATCHER_ID);
     }
 
@@ -178,17 +198,15 @@ public final class SearchActor extends AbstractActor {
                     final StartedTimer databaseAccessTimer =
                             countTimer.startNewSegment(DATABASE_ACCESS_SEGMENT_NAME);
 
-                    final Source<Long, NotUsed> countResultSource = isSudo
-                            ? searchPersistence.sudoCount(query)
-                            : searchPersistence.count(query,
-                            countCommand.getDittoHeaders().getAuthorizationContext().getAuthorizationSubjectIds());
+                    final List<String> subjectIds = isSudo ? null
+                            : countCommand.getDittoHeaders().getAuthorizationContext().getAuthorizationSubjectIds();
 
-                    return processSearchPersistenceResult(countResultSource, dittoHeaders)
+                    return processSearchPersistenceResult(countWithApproximation(query, subjectIds), dittoHeaders)
                             .via(Flow.fromFunction(result -> {
                                 stopTimer(databaseAccessTimer);
                                 return result;
                             }))
-                            .map(count -> CountThingsResponse.of(count, dittoHeaders));
+                            .map(countResult -> toCountThingsResponse(countResult, dittoHeaders));
                 })
                 .via(stopTimerAndHandleError(countTimer, countCommand));
 
@@ -196,6 +214,29 @@ public final class SearchActor extends AbstractActor {
         Patterns.pipe(replySource.runWith(Sink.head(), SystemMaterializer.get(getSystem()).materializer()), getContext().dispatcher()).to(sender);
     }
 
+    private Source<Pair<Long, Boolean>, NotUsed> countWithApproximation(final Query query,
+            @Nullable final List<String> subjectIds) {
+
+        if (approximateCounts != null) {
+            return approximateCounts.count(query, subjectIds, SystemMaterializer.get(getSystem()).materializer());
+        }
+        final Source<Long, NotUsed> count =
+                subjectIds == null ? searchPersistence.sudoCount(query) : searchPersistence.count(query, subjectIds);
+        return count.map(result -> Pair.create(result, false));
+    }
+
+    private CountThingsResponse toCountThingsResponse(final Pair<Long, Boolean> countResult,
+            final DittoHeaders dittoHeaders) {
+
+        if (approximateCounts != null) {
+            final DittoHeaders headersWithApproximation = dittoHeaders.toBuilder()
+                    .putHeader(DittoHeaderDefinition.COUNT_APPROXIMATE.getKey(), countResult.second().toString())
+                    .build();
+            return CountThingsResponse.of(countResult.first(), headersWithApproximation);
+        }
+        return CountThingsResponse.of(countResult.first(), dittoHeaders);
+    }
+
     private void stream(final StreamThings streamThings) {
         final ThreadSafeDittoLoggingAdapter l = log.withCorrelationId(streamThings);
         l.info("Processing StreamThings command: {}", streamThings);
@@ -258,14 +299,19 @@ public final class SearchActor extends AbstractActor {
 
                         final List<String> subjectIds = command.getDittoHeaders().getAuthorizationContext()
                                 .getAuthorizationSubjectIds();
-                        final Source<ResultList<ThingId>, NotUsed> findAllResult =
-                                searchPersistence.findAll(query, subjectIds, namespaces);
+                        final Source<Pair<ResultList<ThingId>, Optional<JsonArray>>, NotUsed> findAllResult =
+                                queryFromIndex
+                                        ? searchPersistence.findAllFromIndex(query, subjectIds, namespaces,
+                                        command.getFields().orElse(null))
+                                        : searchPersistence.findAll(query, subjectIds, namespaces)
+                                        .map(ids -> Pair.create(ids, Optional.empty()));
                         return processSearchPersistenceResult(findAllResult, dittoHeaders)
                                 .via(Flow.fromFunction(result -> {
                                     stopTimer(databaseAccessTimer);
                                     return result;
                                 }))
-                                .map(ids -> toQueryThingsResponse(command, cursor.orElse(null), ids));
+                                .map(result -> toQueryThingsResponse(command, cursor.orElse(null), result.first(),
+                                        result.second().orElse(null)));
                     });
         });
 
@@ -324,11 +370,22 @@ public final class SearchActor extends AbstractActor {
 
     private QueryThingsResponse toQueryThingsResponse(final QueryThings queryThings,
             @Nullable ThingsSearchCursor cursor,
-            final ResultList<ThingId> thingIds) {
+            final ResultList<ThingId> thingIds,
+            @Nullable final JsonArray thingsFromIndex) {
 
         final DittoHeaders dittoHeaders = queryThings.getDittoHeaders();
         if (thingIds.isEmpty()) {
             return QueryThingsResponse.of(SearchModelFactory.emptySearchResult(), dittoHeaders);
+        } else if (thingsFromIndex != null) {
+            // the things were rebuilt from the search index, the gateway does not need to look them up:
+            final SearchResult searchResults =
+                    SearchModelFactory.newSearchResult(thingsFromIndex, thingIds.nextPageOffset());
+            final SearchResult processedResults =
+                    ThingsSearchCursor.processSearchResult(queryThings, cursor, searchResults, thingIds);
+
+            return QueryThingsResponse.of(processedResults, dittoHeaders.toBuilder()
+                    .putHeader(DittoHeaderDefinition.SEARCH_RESULT_FROM_INDEX.getKey(), Boolean.TRUE.toString())
+                    .build());
         } else {
             // only respond with the determined "thingIds", the lookup of the things is done in gateway:
             final JsonArray items = thingIds.stream()
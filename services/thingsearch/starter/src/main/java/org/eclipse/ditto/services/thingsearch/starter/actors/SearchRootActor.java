@@ -86,7 +86,7 @@ public final class SearchRootActor extends DittoRootActor {
                 .build();
 
         final ThingsSearchPersistence thingsSearchPersistence = getThingsSearchPersistence(searchConfig, mongoDbClient);
-        final ActorRef searchActor = initializeSearchActor(searchConfig.getLimitsConfig(), thingsSearchPersistence);
+        final ActorRef searchActor = initializeSearchActor(searchConfig, thingsSearchPersistence);
         pubSubMediator.tell(DistPubSubAccess.put(searchActor), getSelf());
 
         final ActorSystem actorSystem = getContext().getSystem();
@@ -121,7 +121,8 @@ public final class SearchRootActor extends DittoRootActor {
 
         final ActorContext context = getContext();
         final MongoThingsSearchPersistence persistence =
-                new MongoThingsSearchPersistence(mongoDbClient, context.getSystem());
+                new MongoThingsSearchPersistence(mongoDbClient, context.getSystem())
+                        .withMaxArraySize(searchConfig.getUpdaterConfig().getStreamConfig().getMaxArraySize());
 
         final IndexInitializationConfig indexInitializationConfig = searchConfig.getIndexInitializationConfig();
         if (indexInitializationConfig.isIndexInitializationConfigEnabled()) {
@@ -138,12 +139,13 @@ public final class SearchRootActor extends DittoRootActor {
                 .orElse(persistence);
     }
 
-    private ActorRef initializeSearchActor(final LimitsConfig limitsConfig,
+    private ActorRef initializeSearchActor(final SearchConfig searchConfig,
             final ThingsSearchPersistence thingsSearchPersistence) {
 
-        final QueryParser queryParser = getQueryParser(limitsConfig, getContext().getSystem());
+        final QueryParser queryParser = getQueryParser(searchConfig.getLimitsConfig(), getContext().getSystem());
 
-        return startChildActor(SearchActor.ACTOR_NAME, SearchActor.props(queryParser, thingsSearchPersistence));
+        return startChildActor(SearchActor.ACTOR_NAME, SearchActor.props(queryParser, thingsSearchPersistence,
+                searchConfig.isQueryFromIndexEnabled(), searchConfig.getCountConfig()));
     }
 
     protected static QueryParser getQueryParser(final LimitsConfig limitsConfig, final ActorSystem actorSystem) {
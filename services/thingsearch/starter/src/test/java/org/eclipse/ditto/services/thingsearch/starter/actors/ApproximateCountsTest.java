@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.starter.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CompletionException;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.model.query.Query;
+import org.eclipse.ditto.model.query.criteria.Criteria;
+import org.eclipse.ditto.services.thingsearch.common.config.DefaultCountConfig;
+import org.eclipse.ditto.services.thingsearch.persistence.read.ThingsSearchPersistence;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorSystem;
+import akka.japi.Pair;
+import akka.stream.SystemMaterializer;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link ApproximateCounts}.
+ */
+public final class ApproximateCountsTest {
+
+    private static final List<String> SUBJECTS = List.of("ditto:subject1", "ditto:subject2");
+
+    private ActorSystem system;
+    private ThingsSearchPersistence persistence;
+    private ApproximateCounts underTest;
+
+    @Before
+    public void setup() {
+        system = ActorSystem.create();
+        persistence = mock(ThingsSearchPersistence.class);
+        underTest = ApproximateCounts.of(persistence, DefaultCountConfig.of(ConfigFactory.parseString(
+                "count { approximate-enabled = true, max-exact-count = 10, cache.expire-after-write = 1h }")));
+    }
+
+    @After
+    public void tearDown() {
+        if (system != null) {
+            TestKit.shutdownActorSystem(system);
+            system = null;
+        }
+    }
+
+    @Test
+    public void servesRepeatedCountsFromCache() {
+        final Query query = queryOf(mock(Criteria.class));
+        when(persistence.count(any(), any(), anyInt())).thenReturn(Source.single(5L));
+
+        assertThat(count(query, SUBJECTS)).isEqualTo(Pair.create(5L, false));
+        assertThat(count(query, List.of("ditto:subject2", "ditto:subject1"))).isEqualTo(Pair.create(5L, true));
+        verify(persistence, times(1)).count(query, SUBJECTS, 10);
+
+        assertThat(count(query, List.of("ditto:subject1"))).isEqualTo(Pair.create(5L, false));
+        assertThat(count(queryOf(mock(Criteria.class)), SUBJECTS)).isEqualTo(Pair.create(5L, false));
+        verify(persistence, times(3)).count(any(), any(), eq(10));
+    }
+
+    @Test
+    public void countsReachingTheMaximumAreApproximate() {
+        final Query query = queryOf(mock(Criteria.class));
+        when(persistence.count(any(), any(), anyInt())).thenReturn(Source.single(10L));
+
+        assertThat(count(query, null)).isEqualTo(Pair.create(10L, true));
+        verify(persistence).count(query, null, 10);
+    }
+
+    @Test
+    public void doesNotCacheFailedCounts() {
+        final Query query = queryOf(mock(Criteria.class));
+        when(persistence.count(any(), any(), anyInt()))
+                .thenReturn(Source.failed(new IllegalStateException("count failed")))
+                .thenReturn(Source.single(5L));
+
+        assertThatExceptionOfType(CompletionException.class).isThrownBy(() -> count(query, SUBJECTS));
+        assertThat(count(query, SUBJECTS)).isEqualTo(Pair.create(5L, false));
+    }
+
+    private Pair<Long, Boolean> count(final Query query, @Nullable final List<String> subjects) {
+        return underTest.count(query, subjects, SystemMaterializer.get(system).materializer())
+                .runWith(Sink.head(), system)
+                .toCompletableFuture()
+                .join();
+    }
+
+    private static Query queryOf(final Criteria criteria) {
+        final Query query = mock(Query.class);
+        when(query.getCriteria()).thenReturn(criteria);
+        return query;
+    }
+
+}
@@ -25,17 +25,21 @@ import org.bson.Document;
 import org.eclipse.ditto.json.JsonArray;
 import org.eclipse.ditto.json.JsonCollectors;
 import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.auth.AuthorizationContext;
 import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
 import org.eclipse.ditto.model.base.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.things.Permission;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.model.things.ThingsModelFactory;
 import org.eclipse.ditto.services.base.config.limits.DefaultLimitsConfig;
+import org.eclipse.ditto.services.thingsearch.common.config.CountConfig;
+import org.eclipse.ditto.services.thingsearch.common.config.DefaultCountConfig;
 import org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants;
 import org.eclipse.ditto.services.thingsearch.persistence.query.QueryParser;
 import org.eclipse.ditto.services.thingsearch.persistence.read.MongoThingsSearchPersistence;
@@ -43,6 +47,8 @@ import org.eclipse.ditto.services.thingsearch.persistence.write.streaming.TestSe
 import org.eclipse.ditto.services.utils.persistence.mongo.DittoMongoClient;
 import org.eclipse.ditto.services.utils.persistence.mongo.MongoClientWrapper;
 import org.eclipse.ditto.services.utils.test.mongo.MongoDbResource;
+import org.eclipse.ditto.signals.commands.thingsearch.query.CountThings;
+import org.eclipse.ditto.signals.commands.thingsearch.query.CountThingsResponse;
 import org.eclipse.ditto.signals.commands.thingsearch.query.QueryThings;
 import org.eclipse.ditto.signals.commands.thingsearch.query.QueryThingsResponse;
 import org.eclipse.ditto.signals.commands.thingsearch.query.StreamThings;
@@ -72,6 +78,8 @@ public final class SearchActorIT {
             AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
                     AuthorizationSubject.newInstance("ditto:ditto"));
 
+    private static final CountConfig COUNT_CONFIG = DefaultCountConfig.of(ConfigFactory.empty());
+
     private static QueryParser queryParser;
     @ClassRule
     public static final MongoDbResource MONGO_RESOURCE = new MongoDbResource();
@@ -145,7 +153,7 @@ public final class SearchActorIT {
     @Test
     public void testSearch() {
         new TestKit(actorSystem) {{
-            final ActorRef underTest = actorSystem.actorOf(SearchActor.props(queryParser, readPersistence));
+            final ActorRef underTest = actorSystem.actorOf(SearchActor.props(queryParser, readPersistence, false, COUNT_CONFIG));
 
             insertTestThings();
 
@@ -157,10 +165,67 @@ public final class SearchActorIT {
         }};
     }
 
+    @Test
+    public void testSearchFromIndex() {
+        new TestKit(actorSystem) {{
+            final ActorRef underTest = actorSystem.actorOf(
+                    SearchActor.props(queryParser, readPersistence.withMaxArraySize(-1), true, COUNT_CONFIG));
+
+            insertTestThings();
+
+            final QueryThings queryThings = (QueryThings) queryThings(200, null);
+            underTest.tell(QueryThings.of(queryThings.getFilter().orElse(null), queryThings.getOptions().orElse(null),
+                    JsonFieldSelector.newInstance("thingId", "attributes/x"), null, queryThings.getDittoHeaders()),
+                    getRef());
+
+            final QueryThingsResponse response = expectMsgClass(QueryThingsResponse.class);
+
+            assertThat(response.getDittoHeaders())
+                    .containsEntry(DittoHeaderDefinition.SEARCH_RESULT_FROM_INDEX.getKey(), "true");
+            assertThat(response.getSearchResult().getItems()).isEqualTo(Arrays.stream(new int[]{4, 2, 0, 1, 3})
+                    .mapToObj(i -> JsonFactory.readFrom(
+                            String.format("{\"thingId\":\"thing:%d\",\"attributes\":{\"x\":5}}", i)))
+                    .collect(JsonCollectors.valuesToArray()));
+        }};
+    }
+
+    @Test
+    public void testApproximateCount() {
+        new TestKit(actorSystem) {{
+            final CountConfig countConfig = DefaultCountConfig.of(ConfigFactory.parseString(
+                    "count { approximate-enabled = true, max-exact-count = 3, cache.expire-after-write = 1h }"));
+            final ActorRef underTest =
+                    actorSystem.actorOf(SearchActor.props(queryParser, readPersistence, false, countConfig));
+            final CountThings countThings = CountThings.of("eq(attributes/x,5)", null,
+                    DittoHeaders.newBuilder().authorizationContext(AUTH_CONTEXT).build());
+
+            insertTestThings();
+
+            underTest.tell(countThings, getRef());
+            final CountThingsResponse boundedResponse = expectMsgClass(CountThingsResponse.class);
+            assertThat(boundedResponse.getCount()).isEqualTo(3L);
+            assertThat(boundedResponse.getDittoHeaders())
+                    .containsEntry(DittoHeaderDefinition.COUNT_APPROXIMATE.getKey(), "true");
+
+            underTest.tell(CountThings.of("eq(attributes/a,0)", null, countThings.getDittoHeaders()), getRef());
+            final CountThingsResponse exactResponse = expectMsgClass(CountThingsResponse.class);
+            assertThat(exactResponse.getCount()).isEqualTo(1L);
+            assertThat(exactResponse.getDittoHeaders())
+                    .containsEntry(DittoHeaderDefinition.COUNT_APPROXIMATE.getKey(), "false");
+
+            thingsCollection.drop();
+            underTest.tell(CountThings.of("eq(attributes/a,0)", null, countThings.getDittoHeaders()), getRef());
+            final CountThingsResponse cachedResponse = expectMsgClass(CountThingsResponse.class);
+            assertThat(cachedResponse.getCount()).isEqualTo(1L);
+            assertThat(cachedResponse.getDittoHeaders())
+                    .containsEntry(DittoHeaderDefinition.COUNT_APPROXIMATE.getKey(), "true");
+        }};
+    }
+
     @Test
     public void testStream() {
         new TestKit(actorSystem) {{
-            final ActorRef underTest = actorSystem.actorOf(SearchActor.props(queryParser, readPersistence));
+            final ActorRef underTest = actorSystem.actorOf(SearchActor.props(queryParser, readPersistence, false, COUNT_CONFIG));
 
             insertTestThings();
 
@@ -182,7 +247,7 @@ public final class SearchActorIT {
     @Test
     public void testCursorSearch() {
         new TestKit(actorSystem) {{
-            final ActorRef underTest = actorSystem.actorOf(SearchActor.props(queryParser, readPersistence));
+            final ActorRef underTest = actorSystem.actorOf(SearchActor.props(queryParser, readPersistence, false, COUNT_CONFIG));
             final Supplier<AssertionError> noCursor =
                     () -> new AssertionError("No cursor where a cursor is expected");
 
@@ -26,6 +26,7 @@ import org.eclipse.ditto.services.thingsearch.persistence.write.streaming.Search
 import org.eclipse.ditto.services.utils.akka.streaming.TimestampPersistence;
 import org.eclipse.ditto.services.utils.cluster.ClusterUtil;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
+import org.eclipse.ditto.services.utils.cluster.ShardRegionExtractor;
 import org.eclipse.ditto.services.utils.cluster.config.ClusterConfig;
 import org.eclipse.ditto.services.utils.health.RetrieveHealth;
 import org.eclipse.ditto.services.utils.namespaces.BlockedNamespaces;
@@ -117,7 +118,8 @@ public final class SearchUpdaterRootActor extends AbstractActor {
                 shardRegionFactory.getSearchUpdaterShardRegion(numberOfShards, thingUpdaterProps, CLUSTER_ROLE);
 
         final SearchUpdaterStream searchUpdaterStream =
-                SearchUpdaterStream.of(updaterConfig, actorSystem, thingsShard, policiesShard, updaterShard,
+                SearchUpdaterStream.of(updaterConfig, actorSystem, thingsShard,
+                        ShardRegionExtractor.of(numberOfShards, actorSystem), policiesShard, updaterShard,
                         changeQueueActor, dittoMongoClient.getDefaultDatabase(), blockedNamespaces);
         updaterStreamKillSwitch = searchUpdaterStream.start(getContext(), false);
         updaterStreamWithAcknowledgementsKillSwitch = searchUpdaterStream.start(getContext(), true);
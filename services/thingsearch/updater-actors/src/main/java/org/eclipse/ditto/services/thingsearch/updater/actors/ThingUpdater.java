@@ -33,7 +33,9 @@ import org.eclipse.ditto.services.models.things.ThingTag;
 import org.eclipse.ditto.services.models.thingsearch.commands.sudo.UpdateThing;
 import org.eclipse.ditto.services.models.thingsearch.commands.sudo.UpdateThingResponse;
 import org.eclipse.ditto.services.thingsearch.common.config.DittoSearchConfig;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.ThingWriteModel;
 import org.eclipse.ditto.services.thingsearch.persistence.write.streaming.ConsistencyLag;
 import org.eclipse.ditto.services.utils.akka.logging.DittoDiagnosticLoggingAdapter;
 import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
@@ -68,6 +70,9 @@ final class ThingUpdater extends AbstractActor {
     @Nullable private PolicyId policyId = null;
     private long policyRevision = -1L;
 
+    // last write model written by the search updater stream; the base of incremental updates
+    @Nullable private ThingWriteModel lastWriteModel = null;
+
     @SuppressWarnings("unused") //It is used via reflection. See props method.
     private ThingUpdater(final ActorRef pubSubMediator, final ActorRef changeQueueActor) {
         log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
@@ -101,6 +106,7 @@ final class ThingUpdater extends AbstractActor {
                 .match(PolicyReferenceTag.class, this::processPolicyReferenceTag)
                 .match(UpdateThing.class, this::updateThing)
                 .match(UpdateThingResponse.class, this::processUpdateThingResponse)
+                .match(AbstractWriteModel.class, this::rememberWriteModel)
                 .match(ReceiveTimeout.class, this::stopThisActor)
                 .matchAny(m -> {
                     log.warning("Unknown message in 'eventProcessing' behavior: {}", m);
@@ -140,7 +146,24 @@ final class ThingUpdater extends AbstractActor {
     }
 
     private void enqueueMetadata(final Metadata metadata) {
-        changeQueueActor.tell(metadata, getSelf());
+        changeQueueActor.tell(metadata.withOrigin(getSelf()).withPreviousWriteModel(lastWriteModel), getSelf());
+        // the search index document is unknown until the search updater stream reports the write model of this change
+        lastWriteModel = null;
+    }
+
+    /**
+     * Remember a write model reported by the search updater stream as the base of the next incremental update.
+     * Reports of write models older than the last enqueued change are ignored, because the search updater stream
+     * may already be writing that change.
+     *
+     * @param writeModel the write model about to be written into the search index.
+     */
+    private void rememberWriteModel(final AbstractWriteModel writeModel) {
+        if (writeModel instanceof ThingWriteModel && writeModel.getMetadata().getThingRevision() >= thingRevision) {
+            lastWriteModel = (ThingWriteModel) writeModel;
+        } else {
+            lastWriteModel = null;
+        }
     }
 
     private void processThingTag(final ThingTag thingTag) {
@@ -166,6 +189,8 @@ final class ThingUpdater extends AbstractActor {
 
     private void processUpdateThingResponse(final UpdateThingResponse response) {
         if (!response.isSuccess()) {
+            // the search index document is unknown; write the next update as full replacement
+            lastWriteModel = null;
             final Metadata metadata = exportMetadata(null);
             log.warning("Got negative acknowledgement for <{}>; updating to <{}>.",
                     Metadata.fromResponse(response),
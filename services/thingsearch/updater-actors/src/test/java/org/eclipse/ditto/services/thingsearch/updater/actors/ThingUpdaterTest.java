@@ -13,6 +13,10 @@
 package org.eclipse.ditto.services.thingsearch.updater.actors;
 
 import org.assertj.core.api.Assertions;
+import org.bson.BsonDocument;
+import org.bson.BsonInt64;
+import org.bson.BsonString;
+import org.bson.Document;
 import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.policies.PolicyId;
@@ -26,7 +30,10 @@ import org.eclipse.ditto.model.things.ThingsModelFactory;
 import org.eclipse.ditto.services.models.policies.PolicyReferenceTag;
 import org.eclipse.ditto.services.models.policies.PolicyTag;
 import org.eclipse.ditto.services.models.things.ThingTag;
+import org.eclipse.ditto.services.models.thingsearch.commands.sudo.UpdateThingResponse;
+import org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.ThingWriteModel;
 import org.eclipse.ditto.services.utils.akka.streaming.StreamAck;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.signals.commands.common.Shutdown;
@@ -38,6 +45,7 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import com.mongodb.client.model.UpdateOneModel;
 import com.typesafe.config.Config;
 import com.typesafe.config.ConfigFactory;
 
@@ -192,7 +200,7 @@ public final class ThingUpdaterTest {
                 final PolicyId policyId = PolicyId.of(THING_ID);
                 underTest.tell(PolicyReferenceTag.of(THING_ID, PolicyTag.of(policyId, newPolicyRevision)),
                         ActorRef.noSender());
-                changeQueueTestProbe.expectMsg(Metadata.of(THING_ID, -1L, policyId, newPolicyRevision, null));
+                changeQueueTestProbe.expectMsg(Metadata.of(THING_ID, -1L, policyId, newPolicyRevision, null).withOrigin(underTest));
 
                 underTest.tell(PolicyReferenceTag.of(THING_ID, PolicyTag.of(policyId, REVISION)),
                         ActorRef.noSender());
@@ -213,11 +221,11 @@ public final class ThingUpdaterTest {
                 // establish policy ID
                 underTest.tell(PolicyReferenceTag.of(THING_ID, PolicyTag.of(policyId1, 99L)),
                         ActorRef.noSender());
-                changeQueueTestProbe.expectMsg(Metadata.of(THING_ID, -1L, policyId1, 99L, null));
+                changeQueueTestProbe.expectMsg(Metadata.of(THING_ID, -1L, policyId1, 99L, null).withOrigin(underTest));
 
                 underTest.tell(PolicyReferenceTag.of(THING_ID, PolicyTag.of(policyId2, 9L)),
                         ActorRef.noSender());
-                changeQueueTestProbe.expectMsg(Metadata.of(THING_ID, -1L, policyId2, 9L, null));
+                changeQueueTestProbe.expectMsg(Metadata.of(THING_ID, -1L, policyId2, 9L, null).withOrigin(underTest));
             }
         };
     }
@@ -291,6 +299,81 @@ public final class ThingUpdaterTest {
 
     }
 
+    @Test
+    public void enqueuesReportedWriteModelAsBaseOfIncrementalUpdates() {
+        new TestKit(actorSystem) {
+            {
+                final ActorRef underTest = createThingUpdaterActor();
+                underTest.tell(ThingTag.of(THING_ID, 1L), ActorRef.noSender());
+                Assertions.assertThat(changeQueueTestProbe.expectMsgClass(Metadata.class).getPreviousWriteModel())
+                        .isEmpty();
+
+                // WHEN: the search updater stream reports the write model of the change
+                final ThingWriteModel writeModel = thingWriteModel(1L, "on");
+                underTest.tell(writeModel, ActorRef.noSender());
+                underTest.tell(ThingTag.of(THING_ID, 2L), ActorRef.noSender());
+
+                // THEN: the next change carries the write model as base of an incremental update
+                final Metadata metadata = changeQueueTestProbe.expectMsgClass(Metadata.class);
+                Assertions.assertThat(metadata.getPreviousWriteModel()).contains(writeModel);
+                final ThingWriteModel incrementalUpdate =
+                        ThingWriteModel.of(metadata, thingDocument(2L, "off")).toIncrementalUpdate();
+                Assertions.assertThat(incrementalUpdate.isIncrementalUpdate()).isTrue();
+                Assertions.assertThat(incrementalUpdate.toMongo()).isInstanceOf(UpdateOneModel.class);
+
+                // WHEN: a change is enqueued before the stream reported the write model of the last change
+                underTest.tell(ThingTag.of(THING_ID, 3L), ActorRef.noSender());
+
+                // THEN: the base of the incremental update is unknown
+                Assertions.assertThat(changeQueueTestProbe.expectMsgClass(Metadata.class).getPreviousWriteModel())
+                        .isEmpty();
+
+                // WHEN: the stream reports a write model older than the last change
+                underTest.tell(thingWriteModel(2L, "off"), ActorRef.noSender());
+                underTest.tell(ThingTag.of(THING_ID, 4L), ActorRef.noSender());
+
+                // THEN: the write model is not used as base of an incremental update
+                Assertions.assertThat(changeQueueTestProbe.expectMsgClass(Metadata.class).getPreviousWriteModel())
+                        .isEmpty();
+            }
+        };
+    }
+
+    @Test
+    public void forgetsReportedWriteModelOnNegativeUpdateThingResponse() {
+        new TestKit(actorSystem) {
+            {
+                final ActorRef underTest = createThingUpdaterActor();
+                underTest.tell(ThingTag.of(THING_ID, 1L), ActorRef.noSender());
+                changeQueueTestProbe.expectMsgClass(Metadata.class);
+                underTest.tell(thingWriteModel(1L, "on"), ActorRef.noSender());
+
+                // WHEN: the write failed
+                underTest.tell(UpdateThingResponse.of(THING_ID, 1L, null, null, false, DittoHeaders.empty()),
+                        ActorRef.noSender());
+
+                // THEN: the retry replaces the search index document
+                Assertions.assertThat(changeQueueTestProbe.expectMsgClass(Metadata.class).getPreviousWriteModel())
+                        .isEmpty();
+            }
+        };
+    }
+
+    private static ThingWriteModel thingWriteModel(final long revision, final String attributeValue) {
+        return ThingWriteModel.of(Metadata.of(THING_ID, revision, null, -1L, null),
+                thingDocument(revision, attributeValue));
+    }
+
+    private static Document thingDocument(final long revision, final String attributeValue) {
+        return new Document()
+                .append(PersistenceConstants.FIELD_ID, THING_ID.toString())
+                .append(PersistenceConstants.FIELD_REVISION, revision)
+                .append(PersistenceConstants.FIELD_POLICY_REVISION, -1L)
+                .append(PersistenceConstants.FIELD_SORTING, new BsonDocument()
+                        .append("_revision", new BsonInt64(revision))
+                        .append("attributes", new BsonDocument().append("power", new BsonString(attributeValue))));
+    }
+
     private ActorRef createThingUpdaterActor() {
         return actorSystem.actorOf(ThingUpdater.props(pubSubTestProbe.ref(), changeQueueTestProbe.ref()),
                 THING_ID.toString());
@@ -0,0 +1,297 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.akka.controlflow;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+
+import akka.NotUsed;
+import akka.stream.Attributes;
+import akka.stream.FlowShape;
+import akka.stream.Inlet;
+import akka.stream.Outlet;
+import akka.stream.javadsl.Flow;
+import akka.stream.stage.AbstractInHandler;
+import akka.stream.stage.AbstractOutHandler;
+import akka.stream.stage.AsyncCallback;
+import akka.stream.stage.GraphStage;
+import akka.stream.stage.GraphStageLogic;
+
+/**
+ * Like {@code mapAsyncUnordered}, but elements with the same partition key are mapped one after another and emitted
+ * in the order of their arrival. Elements of different partitions are mapped concurrently, so that a slow element
+ * only delays the elements of its own partition, whereas {@code mapAsync} would delay all elements behind it.
+ * <p>
+ * At most {@code parallelism} elements are mapped at the same time and at most {@code 2 * parallelism} elements are
+ * admitted into the stage before they are emitted. The stage fails if a mapping fails. Mappings resulting in
+ * {@code null} are dropped.
+ * <p>
+ * For each element, the stage may report the time it was emitted before an order-preserving {@code mapAsync}
+ * could have emitted it, i.e. the time it would have waited for slower elements which arrived before it.
+ *
+ * @param <A> type of input elements.
+ * @param <K> type of partition keys.
+ * @param <B> type of output elements.
+ * @since 2.0.0
+ */
+public final class PartitionedMapAsync<A, K, B> extends GraphStage<FlowShape<A, B>> {
+
+    /**
+     * Maximum number of elements remembered for reporting the head-of-line waiting time saved. Should an element
+     * take longer to map than it takes this many later elements to pass the stage, then its mapping time is not
+     * taken into account any more.
+     */
+    private static final int MAX_TRACKED_ADMISSIONS = 10_000;
+
+    private final FlowShape<A, B> shape = FlowShape.of(Inlet.create("PartitionedMapAsync.in"),
+            Outlet.create("PartitionedMapAsync.out"));
+
+    private final int parallelism;
+    private final Function<A, K> partitionKey;
+    private final Function<A, CompletionStage<B>> mapper;
+    private final Consumer<Duration> headOfLineWaitSavedReporter;
+
+    private PartitionedMapAsync(final int parallelism,
+            final Function<A, K> partitionKey,
+            final Function<A, CompletionStage<B>> mapper,
+            final Consumer<Duration> headOfLineWaitSavedReporter) {
+
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be positive, but was " + parallelism);
+        }
+        this.parallelism = parallelism;
+        this.partitionKey = partitionKey;
+        this.mapper = mapper;
+        this.headOfLineWaitSavedReporter = headOfLineWaitSavedReporter;
+    }
+
+    /**
+     * Create a flow mapping elements asynchronously, preserving the order of elements only within each partition.
+     *
+     * @param parallelism the maximum number of elements mapped at the same time.
+     * @param partitionKey function computing the partition key of an element.
+     * @param mapper the asynchronous mapping function.
+     * @param headOfLineWaitSavedReporter receiver of the time each element did not have to wait for slower elements
+     * which arrived before it in other partitions. Only positive durations are reported.
+     * @param <A> type of input elements.
+     * @param <K> type of partition keys.
+     * @param <B> type of output elements.
+     * @return the flow.
+     * @throws IllegalArgumentException if {@code parallelism} is not positive.
+     */
+    public static <A, K, B> Flow<A, B, NotUsed> of(final int parallelism,
+            final Function<A, K> partitionKey,
+            final Function<A, CompletionStage<B>> mapper,
+            final Consumer<Duration> headOfLineWaitSavedReporter) {
+
+        return Flow.fromGraph(new PartitionedMapAsync<>(parallelism, partitionKey, mapper,
+                headOfLineWaitSavedReporter));
+    }
+
+    @Override
+    public FlowShape<A, B> shape() {
+        return shape;
+    }
+
+    @Override
+    public GraphStageLogic createLogic(final Attributes inheritedAttributes) {
+        return new Logic();
+    }
+
+    private final class Logic extends GraphStageLogic {
+
+        private final Inlet<A> in = shape.in();
+        private final Outlet<B> out = shape.out();
+
+        /**
+         * Partitions with an element being mapped or ready to be mapped, and the elements waiting behind it.
+         */
+        private final Map<K, Queue<Admission>> busyPartitions = new HashMap<>();
+
+        /**
+         * Elements whose partition is free, waiting for the parallelism to allow mapping them.
+         */
+        private final Queue<Admission> runnable = new ArrayDeque<>();
+
+        /**
+         * Mapped elements waiting for demand.
+         */
+        private final Queue<B> mapped = new ArrayDeque<>();
+
+        /**
+         * Recently admitted elements in the order of their arrival.
+         */
+        private final Queue<Admission> admissions = new ArrayDeque<>();
+
+        private final AsyncCallback<Completion> onCompletion = createAsyncCallback(this::complete);
+
+        private int inFlight = 0;
+        private int admitted = 0;
+        private long emissionFrontier = Long.MIN_VALUE;
+
+        private Logic() {
+            super(shape);
+            setHandler(in, new AbstractInHandler() {
+                @Override
+                public void onPush() {
+                    admit(grab(in));
+                    pullIfPossible();
+                }
+
+                @Override
+                public void onUpstreamFinish() {
+                    completeIfDone();
+                }
+            });
+            setHandler(out, new AbstractOutHandler() {
+                @Override
+                public void onPull() {
+                    emitIfPossible();
+                    pullIfPossible();
+                    completeIfDone();
+                }
+            });
+        }
+
+        private void admit(final A element) {
+            final Admission admission = new Admission(element, partitionKey.apply(element));
+            ++admitted;
+            admissions.add(admission);
+            if (admissions.size() > MAX_TRACKED_ADMISSIONS) {
+                // forget the oldest element as if it had been mapped now
+                emissionFrontier = Math.max(emissionFrontier, System.nanoTime());
+                admissions.remove();
+                reportHeadOfLineWaitSaved();
+            }
+            final Queue<Admission> waiting = busyPartitions.get(admission.key);
+            if (waiting != null) {
+                waiting.add(admission);
+            } else {
+                busyPartitions.put(admission.key, new ArrayDeque<>());
+                runnable.add(admission);
+                startIfPossible();
+            }
+        }
+
+        private void startIfPossible() {
+            while (inFlight < parallelism && !runnable.isEmpty()) {
+                final Admission admission = runnable.remove();
+                ++inFlight;
+                try {
+                    mapper.apply(admission.element).whenComplete((result, error) ->
+                            onCompletion.invoke(new Completion(admission, result, error)));
+                } catch (final RuntimeException e) {
+                    failStage(e);
+                    return;
+                }
+            }
+        }
+
+        private void complete(final Completion completion) {
+            --inFlight;
+            if (completion.error != null) {
+                failStage(completion.error);
+                return;
+            }
+            completion.admission.mappedNanos = System.nanoTime();
+            reportHeadOfLineWaitSaved();
+            if (completion.result != null) {
+                mapped.add(completion.result);
+            } else {
+                --admitted;
+            }
+            final Queue<Admission> waiting = busyPartitions.get(completion.admission.key);
+            if (waiting.isEmpty()) {
+                busyPartitions.remove(completion.admission.key);
+            } else {
+                runnable.add(waiting.remove());
+            }
+            startIfPossible();
+            emitIfPossible();
+            pullIfPossible();
+            completeIfDone();
+        }
+
+        private void emitIfPossible() {
+            if (isAvailable(out) && !mapped.isEmpty()) {
+                --admitted;
+                push(out, mapped.remove());
+            }
+        }
+
+        private void pullIfPossible() {
+            if (admitted < 2 * parallelism && !hasBeenPulled(in) && !isClosed(in)) {
+                pull(in);
+            }
+        }
+
+        private void completeIfDone() {
+            if (isClosed(in) && admitted == 0) {
+                completeStage();
+            }
+        }
+
+        /**
+         * Report the saved head-of-line waiting time of all elements before the oldest element still being mapped.
+         * An order-preserving stage emits an element when it and all elements before it are mapped.
+         */
+        private void reportHeadOfLineWaitSaved() {
+            while (!admissions.isEmpty() && admissions.peek().mappedNanos != null) {
+                final long mappedNanos = admissions.remove().mappedNanos;
+                emissionFrontier = Math.max(emissionFrontier, mappedNanos);
+                final long savedNanos = emissionFrontier - mappedNanos;
+                if (savedNanos > 0) {
+                    headOfLineWaitSavedReporter.accept(Duration.ofNanos(savedNanos));
+                }
+            }
+        }
+
+    }
+
+    private final class Admission {
+
+        private final A element;
+        private final K key;
+        @Nullable private Long mappedNanos;
+
+        private Admission(final A element, final K key) {
+            this.element = element;
+            this.key = key;
+            mappedNanos = null;
+        }
+
+    }
+
+    private final class Completion {
+
+        private final Admission admission;
+        @Nullable private final B result;
+        @Nullable private final Throwable error;
+
+        private Completion(final Admission admission, @Nullable final B result, @Nullable final Throwable error) {
+            this.admission = admission;
+            this.result = result;
+            this.error = error;
+        }
+
+    }
+
+}
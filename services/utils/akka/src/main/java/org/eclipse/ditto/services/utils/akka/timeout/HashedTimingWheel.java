@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.akka.timeout;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import akka.actor.Cancellable;
+
+/**
+ * Hashed timing wheel after Varghese and Lauck: Deadlines are hashed by their tick into a fixed number of buckets.
+ * Scheduling and cancelling a deadline are O(1) and lock-free; only the thread advancing the wheel touches the
+ * buckets. A bucket holds all deadlines of its tick of all rounds of the wheel.
+ *
+ * @param <T> type of the payload of the deadlines.
+ */
+@ThreadSafe
+final class HashedTimingWheel<T> {
+
+    private final long tickNanos;
+    private final long startNanos;
+    private final Bucket<T>[] buckets;
+    private final int mask;
+    private final Queue<Deadline<T>> pendingAdditions;
+    private final Queue<Deadline<T>> pendingCancellations;
+    private final AtomicLong pendingDeadlines;
+
+    // guarded by "this"
+    private long currentTick;
+
+    @SuppressWarnings("unchecked")
+    HashedTimingWheel(final Duration tickDuration, final int ticksPerWheel, final long startNanos) {
+        if (tickDuration.isNegative() || tickDuration.isZero()) {
+            throw new IllegalArgumentException("The tick duration must be positive: " + tickDuration);
+        }
+        if (ticksPerWheel <= 0 || Integer.bitCount(ticksPerWheel) != 1) {
+            throw new IllegalArgumentException("The ticks per wheel must be a power of 2: " + ticksPerWheel);
+        }
+        tickNanos = tickDuration.toNanos();
+        this.startNanos = startNanos;
+        buckets = new Bucket[ticksPerWheel];
+        for (int i = 0; i < ticksPerWheel; ++i) {
+            buckets[i] = new Bucket<>();
+        }
+        mask = ticksPerWheel - 1;
+        pendingAdditions = new ConcurrentLinkedQueue<>();
+        pendingCancellations = new ConcurrentLinkedQueue<>();
+        pendingDeadlines = new AtomicLong();
+        currentTick = 0L;
+    }
+
+    /**
+     * Register a deadline. It expires with the first call of {@link #advance(long)} whose time is at or after the end
+     * of the tick containing the deadline.
+     *
+     * @param nowNanos the current time as given by {@link System#nanoTime()}.
+     * @param delay the delay after which the deadline expires.
+     * @param payload the payload to return on expiry.
+     * @return handle to cancel the deadline.
+     */
+    Cancellable schedule(final long nowNanos, final Duration delay, final T payload) {
+        final Deadline<T> deadline = new Deadline<>(this, nowNanos - startNanos + delay.toNanos(), payload);
+        pendingDeadlines.incrementAndGet();
+        pendingAdditions.add(deadline);
+        return deadline;
+    }
+
+    /**
+     * @return the number of deadlines which neither expired nor were cancelled.
+     */
+    long getPendingDeadlines() {
+        return pendingDeadlines.get();
+    }
+
+    /**
+     * Advance the wheel to the given time and collect the expired deadlines of all passed ticks.
+     *
+     * @param nowNanos the current time as given by {@link System#nanoTime()}.
+     * @return the expired deadlines in the order of their ticks.
+     */
+    synchronized List<Expired<T>> advance(final long nowNanos) {
+        final long elapsedNanos = nowNanos - startNanos;
+        List<Expired<T>> expired = Collections.emptyList();
+        while ((currentTick + 1) * tickNanos <= elapsedNanos) {
+            removeCancelledDeadlines();
+            transferPendingAdditions();
+            expired = expireBucket(buckets[(int) (currentTick & mask)], elapsedNanos, expired);
+            ++currentTick;
+        }
+        return expired;
+    }
+
+    private void removeCancelledDeadlines() {
+        Deadline<T> deadline;
+        while ((deadline = pendingCancellations.poll()) != null) {
+            if (null != deadline.bucket) {
+                deadline.bucket.remove(deadline);
+            }
+        }
+    }
+
+    private void transferPendingAdditions() {
+        Deadline<T> deadline;
+        while ((deadline = pendingAdditions.poll()) != null) {
+            if (deadline.state != Deadline.CANCELLED) {
+                final long tick = deadline.deadlineNanos / tickNanos;
+                deadline.remainingRounds = (tick - currentTick) / buckets.length;
+                // deadlines of past ticks expire with the current tick
+                buckets[(int) (Math.max(tick, currentTick) & mask)].add(deadline);
+            }
+        }
+    }
+
+    private List<Expired<T>> expireBucket(final Bucket<T> bucket, final long elapsedNanos,
+            final List<Expired<T>> expired) {
+
+        List<Expired<T>> result = expired;
+        Deadline<T> deadline = bucket.head;
+        while (null != deadline) {
+            final Deadline<T> next = deadline.next;
+            if (deadline.remainingRounds <= 0) {
+                bucket.remove(deadline);
+                if (deadline.expire()) {
+                    pendingDeadlines.decrementAndGet();
+                    if (result.isEmpty()) {
+                        result = new ArrayList<>();
+                    }
+                    result.add(new Expired<>(deadline.payload, elapsedNanos - deadline.deadlineNanos));
+                }
+            } else {
+                --deadline.remainingRounds;
+            }
+            deadline = next;
+        }
+        return result;
+    }
+
+    /**
+     * An expired deadline.
+     *
+     * @param <T> type of the payload.
+     */
+    static final class Expired<T> {
+
+        private final T payload;
+        private final long lagNanos;
+
+        private Expired(final T payload, final long lagNanos) {
+            this.payload = payload;
+            this.lagNanos = lagNanos;
+        }
+
+        /**
+         * @return the payload of the deadline.
+         */
+        T getPayload() {
+            return payload;
+        }
+
+        /**
+         * @return how long after the deadline it was found expired.
+         */
+        long getLagNanos() {
+            return lagNanos;
+        }
+
+    }
+
+    private static final class Deadline<T> implements Cancellable {
+
+        private static final int PENDING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<Deadline> STATE =
+                AtomicIntegerFieldUpdater.newUpdater(Deadline.class, "state");
+
+        private final HashedTimingWheel<T> wheel;
+        private final long deadlineNanos;
+        private final T payload;
+        private volatile int state;
+
+        // accessed only by the thread advancing the wheel
+        private long remainingRounds;
+        @Nullable private Bucket<T> bucket;
+        @Nullable private Deadline<T> previous;
+        @Nullable private Deadline<T> next;
+
+        private Deadline(final HashedTimingWheel<T> wheel, final long deadlineNanos, final T payload) {
+            this.wheel = wheel;
+            this.deadlineNanos = deadlineNanos;
+            this.payload = payload;
+            state = PENDING;
+        }
+
+        @Override
+        public boolean cancel() {
+            if (STATE.compareAndSet(this, PENDING, CANCELLED)) {
+                wheel.pendingDeadlines.decrementAndGet();
+                wheel.pendingCancellations.add(this);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return state == CANCELLED;
+        }
+
+        private boolean expire() {
+            return STATE.compareAndSet(this, PENDING, EXPIRED);
+        }
+
+    }
+
+    private static final class Bucket<T> {
+
+        @Nullable private Deadline<T> head;
+        @Nullable private Deadline<T> tail;
+
+        private void add(final Deadline<T> deadline) {
+            deadline.bucket = this;
+            deadline.previous = tail;
+            if (null == tail) {
+                head = deadline;
+            } else {
+                tail.next = deadline;
+            }
+            tail = deadline;
+        }
+
+        private void remove(final Deadline<T> deadline) {
+            if (null == deadline.previous) {
+                head = deadline.next;
+            } else {
+                deadline.previous.next = deadline.next;
+            }
+            if (null == deadline.next) {
+                tail = deadline.previous;
+            } else {
+                deadline.next.previous = deadline.previous;
+            }
+            deadline.bucket = null;
+            deadline.previous = null;
+            deadline.next = null;
+        }
+
+    }
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.akka.timeout;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
+import org.eclipse.ditto.services.utils.metrics.instruments.histogram.Histogram;
+
+import akka.actor.AbstractExtensionId;
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Cancellable;
+import akka.actor.ExtendedActorSystem;
+import akka.actor.Extension;
+
+/**
+ * Node-local timeout service for actors with one timeout per request, e.g. aggregators of acknowledgements or actors
+ * answering HTTP requests. Instead of each actor scheduling its own timer, the deadlines of all actors of an actor
+ * system are kept in one {@link HashedTimingWheel} which is advanced by a single scheduled task. The timeout
+ * messages of all deadlines expired since the previous tick are sent as one batch.
+ * <p>
+ * Timeouts are delivered up to one tick ({@value #TICK_MILLIS}ms) late.
+ *
+ * @since 2.0.0
+ */
+public final class TimeoutWheel implements Extension {
+
+    private static final ExtensionId EXTENSION_ID = new ExtensionId();
+
+    private static final long TICK_MILLIS = 10L;
+    private static final int TICKS_PER_WHEEL = 1024;
+
+    private static final Gauge PENDING_TIMEOUTS = DittoMetrics.gauge("timeout_wheel_pending");
+    private static final Histogram FIRING_LAG = DittoMetrics.histogram("timeout_wheel_firing_lag_ms");
+
+    private final HashedTimingWheel<Timeout> wheel;
+
+    private TimeoutWheel(final ActorSystem actorSystem) {
+        final Duration tickDuration = Duration.ofMillis(TICK_MILLIS);
+        wheel = new HashedTimingWheel<>(tickDuration, TICKS_PER_WHEEL, System.nanoTime());
+        final Cancellable ticker = actorSystem.scheduler()
+                .scheduleAtFixedRate(tickDuration, tickDuration, this::tick, actorSystem.dispatcher());
+        actorSystem.registerOnTermination(ticker::cancel);
+    }
+
+    /**
+     * Get the timeout wheel of an actor system.
+     *
+     * @param actorSystem the actor system.
+     * @return the timeout wheel.
+     */
+    public static TimeoutWheel get(final ActorSystem actorSystem) {
+        return EXTENSION_ID.get(actorSystem);
+    }
+
+    /**
+     * Schedule a timeout message. The message is sent without sender after the timeout unless the returned
+     * {@code Cancellable} was cancelled before. Actors should cancel their pending timeout in {@code postStop}.
+     *
+     * @param timeout the timeout.
+     * @param recipient the recipient of the timeout message.
+     * @param message the timeout message.
+     * @return handle to cancel the timeout.
+     */
+    public Cancellable schedule(final Duration timeout, final ActorRef recipient, final Object message) {
+        return wheel.schedule(System.nanoTime(), timeout, new Timeout(recipient, message));
+    }
+
+    private void tick() {
+        final List<HashedTimingWheel.Expired<Timeout>> expiredTimeouts = wheel.advance(System.nanoTime());
+        for (final HashedTimingWheel.Expired<Timeout> expired : expiredTimeouts) {
+            final Timeout timeout = expired.getPayload();
+            timeout.recipient.tell(timeout.message, ActorRef.noSender());
+            FIRING_LAG.record(Duration.ofNanos(expired.getLagNanos()).toMillis());
+        }
+        PENDING_TIMEOUTS.set(wheel.getPendingDeadlines());
+    }
+
+    private static final class Timeout {
+
+        private final ActorRef recipient;
+        private final Object message;
+
+        private Timeout(final ActorRef recipient, final Object message) {
+            this.recipient = recipient;
+            this.message = message;
+        }
+
+    }
+
+    /**
+     * ID of the actor system extension of the {@code TimeoutWheel}.
+     */
+    private static final class ExtensionId extends AbstractExtensionId<TimeoutWheel> {
+
+        @Override
+        public TimeoutWheel createExtension(final ExtendedActorSystem system) {
+            return new TimeoutWheel(system);
+        }
+
+    }
+
+}
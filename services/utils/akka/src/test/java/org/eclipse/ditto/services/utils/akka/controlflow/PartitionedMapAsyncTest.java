@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.akka.controlflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import akka.actor.ActorSystem;
+import akka.stream.javadsl.Source;
+import akka.stream.testkit.TestSubscriber;
+import akka.stream.testkit.javadsl.TestSink;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link PartitionedMapAsync}.
+ */
+public final class PartitionedMapAsyncTest {
+
+    private final Map<String, CompletableFuture<String>> mappings = new ConcurrentHashMap<>();
+    private final Queue<String> started = new ConcurrentLinkedQueue<>();
+    private final Queue<Duration> headOfLineWaitSaved = new ConcurrentLinkedQueue<>();
+
+    private ActorSystem system;
+
+    @Before
+    public void setup() {
+        system = ActorSystem.create();
+    }
+
+    @After
+    public void tearDown() {
+        if (system != null) {
+            TestKit.shutdownActorSystem(system);
+            system = null;
+        }
+    }
+
+    @Test
+    public void slowElementDelaysOnlyItsPartition() {
+        final TestSubscriber.Probe<String> sinkProbe = run(4, "a1", "a2", "b1", "c1");
+        sinkProbe.request(4);
+
+        mapping("b1").complete("b1");
+        mapping("c1").complete("c1");
+        assertThat(List.of(sinkProbe.expectNext(), sinkProbe.expectNext())).containsExactlyInAnyOrder("b1", "c1");
+        assertThat(started).doesNotContain("a2");
+
+        mapping("a1").complete("a1");
+        sinkProbe.expectNext("a1");
+        mapping("a2").complete("a2");
+        sinkProbe.expectNext("a2");
+        sinkProbe.expectComplete();
+
+        assertThat(headOfLineWaitSaved).hasSize(2);
+    }
+
+    @Test
+    public void mapsAtMostParallelismElementsAtOnce() {
+        new TestKit(system) {{
+            final TestSubscriber.Probe<String> sinkProbe = run(2, "a", "b", "c");
+            sinkProbe.request(3);
+
+            awaitCond(() -> started.size() == 2);
+            sinkProbe.expectNoMessage(Duration.ofMillis(200));
+            assertThat(started).containsExactly("a", "b");
+
+            mapping("b").complete("b");
+            sinkProbe.expectNext("b");
+            awaitCond(() -> started.contains("c"));
+            mapping("c").complete("c");
+            sinkProbe.expectNext("c");
+            mapping("a").complete("a");
+            sinkProbe.expectNext("a");
+            sinkProbe.expectComplete();
+        }};
+    }
+
+    @Test
+    public void dropsNullMappings() {
+        final TestSubscriber.Probe<String> sinkProbe = run(2, "a", "b");
+        sinkProbe.request(2);
+
+        mapping("a").complete(null);
+        mapping("b").complete("b");
+        sinkProbe.expectNext("b");
+        sinkProbe.expectComplete();
+    }
+
+    @Test
+    public void failsIfMappingFails() {
+        final TestSubscriber.Probe<String> sinkProbe = run(2, "a", "b");
+        sinkProbe.request(2);
+
+        final IllegalStateException error = new IllegalStateException("mapping failed");
+        mapping("a").completeExceptionally(error);
+        assertThat(sinkProbe.expectError()).isEqualTo(error);
+    }
+
+    private TestSubscriber.Probe<String> run(final int parallelism, final String... elements) {
+        return Source.from(List.of(elements))
+                .via(PartitionedMapAsync.of(parallelism, element -> element.charAt(0), element -> {
+                    started.add(element);
+                    return mapping(element);
+                }, headOfLineWaitSaved::add))
+                .runWith(TestSink.probe(system), system);
+    }
+
+    private CompletableFuture<String> mapping(final String element) {
+        return mappings.computeIfAbsent(element, e -> new CompletableFuture<>());
+    }
+
+}
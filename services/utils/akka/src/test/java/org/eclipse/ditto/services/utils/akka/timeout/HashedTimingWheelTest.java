@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.akka.timeout;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import akka.actor.Cancellable;
+
+/**
+ * Tests {@link HashedTimingWheel}.
+ */
+public final class HashedTimingWheelTest {
+
+    private static final long START = 1_000_000L;
+    private static final long TICK = Duration.ofMillis(10).toNanos();
+
+    private final HashedTimingWheel<String> underTest = new HashedTimingWheel<>(Duration.ofNanos(TICK), 4, START);
+
+    @Test
+    public void expiresDeadlinesAfterTheirTick() {
+        underTest.schedule(START, Duration.ofMillis(25), "25ms");
+        underTest.schedule(START, Duration.ofMillis(5), "5ms");
+
+        assertThat(payloads(underTest.advance(START + TICK - 1))).isEmpty();
+        assertThat(payloads(underTest.advance(START + TICK))).containsExactly("5ms");
+        assertThat(payloads(underTest.advance(START + 2 * TICK))).isEmpty();
+        assertThat(payloads(underTest.advance(START + 3 * TICK))).containsExactly("25ms");
+        assertThat(underTest.getPendingDeadlines()).isZero();
+    }
+
+    @Test
+    public void expiresDeadlinesBeyondOneRoundOfTheWheel() {
+        underTest.schedule(START, Duration.ofMillis(95), "95ms");
+
+        assertThat(payloads(underTest.advance(START + 9 * TICK))).isEmpty();
+        assertThat(payloads(underTest.advance(START + 10 * TICK))).containsExactly("95ms");
+    }
+
+    @Test
+    public void expiresAllDeadlinesOfPassedTicksInOneBatch() {
+        underTest.schedule(START, Duration.ofMillis(5), "5ms");
+        underTest.schedule(START, Duration.ofMillis(15), "15ms");
+        underTest.schedule(START, Duration.ofMillis(55), "55ms");
+
+        final List<HashedTimingWheel.Expired<String>> expired = underTest.advance(START + 6 * TICK);
+
+        assertThat(payloads(expired)).containsExactly("5ms", "15ms", "55ms");
+        assertThat(expired.get(0).getLagNanos()).isEqualTo(6 * TICK - Duration.ofMillis(5).toNanos());
+    }
+
+    @Test
+    public void cancelledDeadlinesDoNotExpire() {
+        final Cancellable cancelledBeforeTransfer = underTest.schedule(START, Duration.ofMillis(15), "cancelled-1");
+        underTest.schedule(START, Duration.ofMillis(15), "15ms");
+        final Cancellable cancelledAfterTransfer = underTest.schedule(START, Duration.ofMillis(15), "cancelled-2");
+
+        assertThat(cancelledBeforeTransfer.cancel()).isTrue();
+        assertThat(payloads(underTest.advance(START + TICK))).isEmpty();
+        assertThat(cancelledAfterTransfer.cancel()).isTrue();
+        assertThat(cancelledAfterTransfer.cancel()).isFalse();
+
+        assertThat(underTest.getPendingDeadlines()).isOne();
+        assertThat(payloads(underTest.advance(START + 2 * TICK))).containsExactly("15ms");
+        assertThat(cancelledAfterTransfer.isCancelled()).isTrue();
+    }
+
+    @Test
+    public void expiredDeadlinesCannotBeCancelled() {
+        final Cancellable deadline = underTest.schedule(START, Duration.ZERO, "0ms");
+        underTest.advance(START + TICK);
+
+        assertThat(deadline.cancel()).isFalse();
+        assertThat(deadline.isCancelled()).isFalse();
+        assertThat(underTest.getPendingDeadlines()).isZero();
+    }
+
+    @Test
+    public void deadlinesScheduledLateExpireWithTheNextTick() {
+        underTest.advance(START + 3 * TICK);
+        underTest.schedule(START, Duration.ofMillis(5), "overdue");
+
+        assertThat(payloads(underTest.advance(START + 4 * TICK))).containsExactly("overdue");
+    }
+
+    private static List<String> payloads(final List<HashedTimingWheel.Expired<String>> expired) {
+        return expired.stream().map(HashedTimingWheel.Expired::getPayload).collect(Collectors.toList());
+    }
+
+}
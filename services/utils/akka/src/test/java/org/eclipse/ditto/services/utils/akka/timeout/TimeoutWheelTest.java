@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.akka.timeout;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import akka.actor.ActorSystem;
+import akka.actor.Cancellable;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link TimeoutWheel}.
+ */
+public final class TimeoutWheelTest {
+
+    private ActorSystem system;
+
+    @Before
+    public void setup() {
+        system = ActorSystem.create();
+    }
+
+    @After
+    public void tearDown() {
+        if (system != null) {
+            TestKit.shutdownActorSystem(system);
+            system = null;
+        }
+    }
+
+    @Test
+    public void sendsTimeoutMessage() {
+        new TestKit(system) {{
+            TimeoutWheel.get(system).schedule(Duration.ofMillis(50), getRef(), "timeout");
+
+            expectMsg("timeout");
+            assertThat(getLastSender()).isEqualTo(system.deadLetters());
+        }};
+    }
+
+    @Test
+    public void doesNotSendCancelledTimeoutMessage() {
+        new TestKit(system) {{
+            final Cancellable timeout = TimeoutWheel.get(system).schedule(Duration.ofMillis(50), getRef(), "timeout");
+            timeout.cancel();
+
+            expectNoMessage(Duration.ofMillis(200));
+        }};
+    }
+
+}
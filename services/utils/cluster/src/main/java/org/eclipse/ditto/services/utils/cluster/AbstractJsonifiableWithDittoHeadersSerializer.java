@@ -21,15 +21,18 @@ import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
 
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
 import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonKey;
 import org.eclipse.ditto.json.JsonObject;
-import org.eclipse.ditto.json.JsonObjectBuilder;
 import org.eclipse.ditto.json.JsonParseException;
 import org.eclipse.ditto.json.JsonRuntimeException;
 import org.eclipse.ditto.json.JsonValue;
@@ -44,6 +47,7 @@ import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.model.base.json.Jsonifiable;
 import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.services.utils.metrics.instruments.histogram.Histogram;
 import org.eclipse.ditto.signals.base.JsonParsable;
 import org.eclipse.ditto.signals.commands.base.Command;
 import org.slf4j.Logger;
@@ -71,11 +75,15 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
 
     protected static final Charset CHARSET = StandardCharsets.UTF_8;
 
+    private static final JsonKey DITTO_HEADERS_KEY = JsonKey.of("dittoHeaders");
+
     private static final JsonFieldDefinition<JsonObject> JSON_DITTO_HEADERS =
-            JsonFactory.newJsonObjectFieldDefinition("dittoHeaders");
+            JsonFactory.newJsonObjectFieldDefinition(DITTO_HEADERS_KEY);
+
+    private static final JsonKey PAYLOAD_KEY = JsonKey.of("payload");
 
     private static final JsonFieldDefinition<JsonValue> JSON_PAYLOAD =
-            JsonFactory.newJsonValueFieldDefinition("payload");
+            JsonFactory.newJsonValueFieldDefinition(PAYLOAD_KEY);
 
     private static final String CONFIG_DIRECT_BUFFER_SIZE = "akka.actor.serializers-json.direct-buffer-size";
     private static final String CONFIG_DIRECT_BUFFER_POOL_LIMIT =
@@ -86,6 +94,8 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
             .withValue(CONFIG_DIRECT_BUFFER_POOL_LIMIT, ConfigValueFactory.fromAnyRef("500"));
 
     private static final String METRIC_NAME_SUFFIX = "_serializer_messages";
+    private static final String MESSAGE_SIZE_METRIC_NAME_SUFFIX = "_serializer_message_bytes";
+    private static final String BYTES_COPIED_METRIC_NAME_SUFFIX = "_serializer_bytes_copied";
     private static final String METRIC_DIRECTION = "direction";
 
     private final int identifier;
@@ -95,6 +105,10 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
     private final Long defaultBufferSize;
     private final Counter inCounter;
     private final Counter outCounter;
+    private final Histogram inMessageBytes;
+    private final Histogram outMessageBytes;
+    private final Histogram inBytesCopied;
+    private final Histogram outBytesCopied;
     private final String serializerName;
 
     /**
@@ -125,6 +139,14 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
                 .tag(METRIC_DIRECTION, "in");
         outCounter = DittoMetrics.counter(serializerName.toLowerCase() + METRIC_NAME_SUFFIX)
                 .tag(METRIC_DIRECTION, "out");
+        inMessageBytes = DittoMetrics.histogram(serializerName.toLowerCase() + MESSAGE_SIZE_METRIC_NAME_SUFFIX)
+                .tag(METRIC_DIRECTION, "in");
+        outMessageBytes = DittoMetrics.histogram(serializerName.toLowerCase() + MESSAGE_SIZE_METRIC_NAME_SUFFIX)
+                .tag(METRIC_DIRECTION, "out");
+        inBytesCopied = DittoMetrics.histogram(serializerName.toLowerCase() + BYTES_COPIED_METRIC_NAME_SUFFIX)
+                .tag(METRIC_DIRECTION, "in");
+        outBytesCopied = DittoMetrics.histogram(serializerName.toLowerCase() + BYTES_COPIED_METRIC_NAME_SUFFIX)
+                .tag(METRIC_DIRECTION, "out");
     }
 
     @Override
@@ -139,10 +161,16 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
 
     @Override
     public void toBinary(final Object object, final ByteBuffer buf) {
+        final int bytesWritten = serializeWithDittoHeaders(object, buf);
+        outMessageBytes.record((long) bytesWritten);
+        // serialized directly into the buffer of Akka
+        outBytesCopied.record(0L);
+    }
+
+    private int serializeWithDittoHeaders(final Object object, final ByteBuffer buf) {
+        final int startPosition = buf.position();
         if (object instanceof Jsonifiable) {
-            final JsonObjectBuilder jsonObjectBuilder = JsonObject.newBuilder();
             final DittoHeaders dittoHeaders = getDittoHeadersOrEmpty(object);
-            jsonObjectBuilder.set(JSON_DITTO_HEADERS, dittoHeaders.toJson());
 
             final JsonValue jsonValue;
 
@@ -155,21 +183,25 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
                 jsonValue = ((Jsonifiable<?>) object).toJson();
             }
 
-            jsonObjectBuilder.set(JSON_PAYLOAD, jsonValue);
-            final JsonObject jsonObject = jsonObjectBuilder.build();
+            final List<JsonField> envelopeFields = Arrays.asList(
+                    JsonField.newInstance(DITTO_HEADERS_KEY, dittoHeaders.toJson(), JSON_DITTO_HEADERS),
+                    JsonField.newInstance(PAYLOAD_KEY, jsonValue, JSON_PAYLOAD));
             try {
-                serializeIntoByteBuffer(jsonObject, buf);
-                LOG.trace("toBinary jsonStr about to send 'out': {}", jsonObject);
+                serializeIntoByteBuffer(envelopeFields, buf);
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("toBinary jsonStr about to send 'out': {}", JsonFactory.newObject(envelopeFields));
+                }
                 outCounter.increment();
             } catch (final BufferOverflowException e) {
                 final String errorMessage = MessageFormat.format(
-                        "Could not put bytes of JSON string <{0}> into ByteBuffer due to BufferOverflow", jsonObject);
+                        "Could not put bytes of JSON string <{0}> into ByteBuffer due to BufferOverflow",
+                        JsonFactory.newObject(envelopeFields));
                 LOG.error(errorMessage, e);
                 throw new IllegalArgumentException(errorMessage, e);
             } catch (final IOException e) {
                 final String errorMessage = MessageFormat.format(
                         "Serialization failed with {} on Jsonifiable with string representation <{}>",
-                        e.getClass().getName(), jsonObject);
+                        e.getClass().getName(), JsonFactory.newObject(envelopeFields));
                 LOG.warn(errorMessage, e);
                 throw new RuntimeException(errorMessage, e);
             }
@@ -179,6 +211,23 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
             final String error = new NotSerializableException(object.getClass().getName()).getMessage();
             buf.put(CHARSET.encode(error));
         }
+        return buf.position() - startPosition;
+    }
+
+    /**
+     * Serializes the JSON object consisting of the passed {@code envelopeFields} into the passed {@code byteBuffer}.
+     * The default implementation builds the JSON object and delegates to
+     * {@link #serializeIntoByteBuffer(JsonObject, ByteBuffer)}; implementations should override this method if they
+     * are able to serialize the fields without building the JSON object first.
+     *
+     * @param envelopeFields the fields of the JSON object to serialize, i. e. the DittoHeaders and the payload.
+     * @param byteBuffer the ByteBuffer to serialize into.
+     * @throws IOException in case writing to the ByteBuffer fails.
+     */
+    protected void serializeIntoByteBuffer(final List<JsonField> envelopeFields, final ByteBuffer byteBuffer)
+            throws IOException {
+
+        serializeIntoByteBuffer(JsonFactory.newObject(envelopeFields), byteBuffer);
     }
 
     /**
@@ -195,10 +244,12 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
         final ByteBuffer buf = byteBufferPool.acquire();
 
         try {
-            toBinary(object, buf);
+            final int bytesWritten = serializeWithDittoHeaders(object, buf);
             buf.flip();
             final byte[] bytes = new byte[buf.remaining()];
             buf.get(bytes);
+            outMessageBytes.record((long) bytesWritten);
+            outBytesCopied.record((long) bytes.length);
             return bytes;
         } catch (final BufferOverflowException e) {
             final String errorMessage =
@@ -225,8 +276,24 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
 
     @Override
     public Object fromBinary(final ByteBuffer buf, final String manifest) {
+        inMessageBytes.record((long) buf.remaining());
+        // Akka reuses the buffer once this method returns, thus the deserialized value must not reference it
+        inBytesCopied.record((long) buf.remaining());
+        return fromBinary(buf, manifest, this::deserializeFromByteBuffer);
+    }
+
+    @Override
+    public Object fromBinary(final byte[] bytes, final String manifest) {
+        inMessageBytes.record((long) bytes.length);
+        inBytesCopied.record(keepsByteArrayOnDeserialization() ? 0L : bytes.length);
+        return fromBinary(ByteBuffer.wrap(bytes), manifest, byteBuffer -> deserializeFromByteArray(bytes));
+    }
+
+    private Object fromBinary(final ByteBuffer buf, final String manifest,
+            final Function<ByteBuffer, JsonValue> deserializer) {
+
         try {
-            final Jsonifiable<?> jsonifiable = tryToCreateKnownJsonifiableFrom(manifest, buf);
+            final Jsonifiable<?> jsonifiable = tryToCreateKnownJsonifiableFrom(manifest, buf, deserializer);
             if (LOG.isTraceEnabled()) {
                 LOG.trace("fromBinary {} which got 'in': {}", serializerName,
                         BinaryToHexConverter.createDebugMessageByTryingToConvertToHexString(buf));
@@ -238,15 +305,10 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
         }
     }
 
-    @Override
-    public Object fromBinary(final byte[] bytes, final String manifest) {
-        return fromBinary(ByteBuffer.wrap(bytes), manifest);
-    }
-
-    private Jsonifiable<?> tryToCreateKnownJsonifiableFrom(final String manifest, final ByteBuffer byteBuffer)
-            throws NotSerializableException {
+    private Jsonifiable<?> tryToCreateKnownJsonifiableFrom(final String manifest, final ByteBuffer byteBuffer,
+            final Function<ByteBuffer, JsonValue> deserializer) throws NotSerializableException {
         try {
-            return createJsonifiableFrom(manifest, byteBuffer);
+            return createJsonifiableFrom(manifest, byteBuffer, deserializer);
         } catch (final DittoRuntimeException | JsonRuntimeException e) {
             LOG.error(
                     "Got <{}> during deserialization for manifest <{}> and serializer {} while processing message: <{}>.",
@@ -256,10 +318,10 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
         }
     }
 
-    private Jsonifiable<?> createJsonifiableFrom(final String manifest, final ByteBuffer bytebuffer)
-            throws NotSerializableException {
+    private Jsonifiable<?> createJsonifiableFrom(final String manifest, final ByteBuffer bytebuffer,
+            final Function<ByteBuffer, JsonValue> deserializer) throws NotSerializableException {
 
-        final JsonValue jsonValue = deserializeFromByteBuffer(bytebuffer);
+        final JsonValue jsonValue = deserializer.apply(bytebuffer);
 
         final JsonObject jsonObject;
         if (jsonValue.isObject()) {
@@ -308,6 +370,29 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
      */
     protected abstract JsonValue deserializeFromByteBuffer(ByteBuffer byteBuffer);
 
+    /**
+     * Deserializes the passed {@code bytes} into a JsonValue.
+     * The default implementation wraps the bytes in a ByteBuffer and delegates to
+     * {@link #deserializeFromByteBuffer(ByteBuffer)}.
+     *
+     * @param bytes the bytes to deserialize. They are owned by this serializer, i. e. they may be referenced by the
+     * returned JsonValue.
+     * @return the deserialized JsonValue.
+     */
+    protected JsonValue deserializeFromByteArray(final byte[] bytes) {
+        return deserializeFromByteBuffer(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Indicates whether {@link #deserializeFromByteArray(byte[])} keeps the passed bytes as backing store of the
+     * deserialized JsonValue instead of copying them. This is only used for reporting the bytes copied per message.
+     *
+     * @return {@code true} if the bytes are not copied on deserialization.
+     */
+    protected boolean keepsByteArrayOnDeserialization() {
+        return false;
+    }
+
     private static JsonObject getPayload(final JsonObject sourceJsonObject) {
         final JsonObject result;
 
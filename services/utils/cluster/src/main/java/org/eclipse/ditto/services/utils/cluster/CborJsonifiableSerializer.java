@@ -14,10 +14,12 @@ package org.eclipse.ditto.services.utils.cluster;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.List;
 import java.util.ServiceLoader;
 import java.util.stream.StreamSupport;
 
 import org.eclipse.ditto.json.CborFactory;
+import org.eclipse.ditto.json.JsonField;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonValue;
 
@@ -58,8 +60,28 @@ public final class CborJsonifiableSerializer extends AbstractJsonifiableWithDitt
         CBOR_FACTORY.writeToByteBuffer(jsonObject, byteBuffer);
     }
 
+    @Override
+    protected void serializeIntoByteBuffer(final List<JsonField> envelopeFields, final ByteBuffer byteBuffer)
+            throws IOException {
+
+        CBOR_FACTORY.writeFieldsToByteBuffer(envelopeFields, byteBuffer);
+    }
+
     @Override
     protected JsonValue deserializeFromByteBuffer(final ByteBuffer byteBuffer) {
-        return CBOR_FACTORY.readFrom(byteBuffer);
+        // copy once so that all nested values may reference the copy instead of each copying their own CBOR range
+        final byte[] bytes = new byte[byteBuffer.remaining()];
+        byteBuffer.duplicate().get(bytes);
+        return CBOR_FACTORY.readFrom(bytes);
+    }
+
+    @Override
+    protected JsonValue deserializeFromByteArray(final byte[] bytes) {
+        return CBOR_FACTORY.readFrom(bytes);
+    }
+
+    @Override
+    protected boolean keepsByteArrayOnDeserialization() {
+        return true;
     }
 }
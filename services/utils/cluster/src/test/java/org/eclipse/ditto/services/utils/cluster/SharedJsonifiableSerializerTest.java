@@ -14,6 +14,7 @@ package org.eclipse.ditto.services.utils.cluster;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.nio.ByteBuffer;
 import java.util.Map;
 
 import org.assertj.core.api.AutoCloseableSoftAssertions;
@@ -131,6 +132,31 @@ public final class SharedJsonifiableSerializerTest {
             assertThat(deserialized).isEqualTo(createThing);
         }
 
+        @Test
+        public void thingCommandSerializationViaReusedByteBufferWorksAsExpected() {
+            final CreateThing createThing = CreateThing.of(thing, null, DITTO_HEADERS);
+            final ByteBuffer byteBuffer = ByteBuffer.allocateDirect(64 * 1024);
+
+            underTest.toBinary(createThing, byteBuffer);
+            byteBuffer.flip();
+            final Object deserialized = underTest.fromBinary(byteBuffer, underTest.manifest(createThing));
+            byteBuffer.clear();
+            underTest.toBinary(CreateThing.of(Thing.newBuilder().setId(ThingId.generateRandom()).build(), null,
+                    DITTO_HEADERS), byteBuffer);
+
+            assertThat(deserialized).isEqualTo(createThing);
+        }
+
+        @Test
+        public void reserializingDeserializedThingCommandYieldsSameBytes() {
+            final CreateThing createThing = CreateThing.of(thing, null, DITTO_HEADERS);
+
+            final byte[] serialized = underTest.toBinary(createThing);
+            final Object deserialized = underTest.fromBinary(serialized, underTest.manifest(createThing));
+
+            assertThat(underTest.toBinary(deserialized)).isEqualTo(serialized);
+        }
+
         @Test
         public void thingCommandResponseSerializationWorksAsExpected() {
             final CreateThingResponse createThingResponse = CreateThingResponse.of(thing, DITTO_HEADERS);
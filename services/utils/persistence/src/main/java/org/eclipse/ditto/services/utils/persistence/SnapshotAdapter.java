@@ -12,6 +12,8 @@
  */
 package org.eclipse.ditto.services.utils.persistence;
 
+import java.util.Optional;
+
 import javax.annotation.Nullable;
 
 import akka.persistence.SelectedSnapshot;
@@ -54,4 +56,32 @@ public interface SnapshotAdapter<T> {
     @Nullable
     T fromSnapshotStore(SelectedSnapshot selectedSnapshot);
 
+    /**
+     * Converts a "domain model snapshot" type to a delta snapshot containing only the changes since a previous
+     * snapshot. Adapters not supporting delta snapshots return an empty Optional, whereupon a full snapshot is taken.
+     *
+     * @param snapshot the domain model type to do a Snapshot for.
+     * @param previousSnapshot the domain model type of the previous snapshot.
+     * @param previousChain the position of the previous snapshot in its delta chain.
+     * @return the delta snapshot to persist into the Snapshot-Store, or an empty Optional if the changes cannot be
+     * expressed as delta.
+     * @since 2.0.0
+     */
+    default Optional<Object> toDeltaSnapshotStore(final T snapshot, final T previousSnapshot,
+            final SnapshotDeltaChain previousChain) {
+
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the position of an offered snapshot in its delta chain.
+     *
+     * @param snapshotOffer the SnapshotOffer as offered from Akka Persistence including the db snapshot.
+     * @return the position of the offered snapshot in its delta chain.
+     * @since 2.0.0
+     */
+    default SnapshotDeltaChain getDeltaChain(final SnapshotOffer snapshotOffer) {
+        return SnapshotDeltaChain.full(snapshotOffer.metadata().sequenceNr());
+    }
+
 }
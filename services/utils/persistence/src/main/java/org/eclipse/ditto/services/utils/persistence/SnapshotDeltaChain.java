@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence;
+
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Position of a snapshot in a chain of delta snapshots: A full snapshot starts a chain of length 0; each delta snapshot
+ * contains only the changes since the previous snapshot of the chain and increments the length.
+ * A snapshot can only be restored as long as the full snapshot at the start of its chain exists.
+ *
+ * @since 2.0.0
+ */
+@Immutable
+public final class SnapshotDeltaChain {
+
+    private final long sequenceNumber;
+    private final long baseSequenceNumber;
+    private final int length;
+
+    private SnapshotDeltaChain(final long sequenceNumber, final long baseSequenceNumber, final int length) {
+        this.sequenceNumber = sequenceNumber;
+        this.baseSequenceNumber = baseSequenceNumber;
+        this.length = length;
+    }
+
+    /**
+     * Create the chain position of a full snapshot.
+     *
+     * @param sequenceNumber the sequence number of the snapshot.
+     * @return the chain position.
+     */
+    public static SnapshotDeltaChain full(final long sequenceNumber) {
+        return new SnapshotDeltaChain(sequenceNumber, sequenceNumber, 0);
+    }
+
+    /**
+     * Create the chain position of a delta snapshot.
+     *
+     * @param sequenceNumber the sequence number of the snapshot.
+     * @param baseSequenceNumber the sequence number of the full snapshot at the start of the chain.
+     * @param length the number of delta snapshots in the chain up to and including the snapshot.
+     * @return the chain position.
+     */
+    public static SnapshotDeltaChain delta(final long sequenceNumber, final long baseSequenceNumber,
+            final int length) {
+
+        return new SnapshotDeltaChain(sequenceNumber, baseSequenceNumber, length);
+    }
+
+    /**
+     * Create the chain position of a delta snapshot following the snapshot at this position.
+     *
+     * @param nextSequenceNumber the sequence number of the delta snapshot.
+     * @return the chain position of the delta snapshot.
+     */
+    public SnapshotDeltaChain next(final long nextSequenceNumber) {
+        return new SnapshotDeltaChain(nextSequenceNumber, baseSequenceNumber, length + 1);
+    }
+
+    /**
+     * @return the sequence number of the snapshot.
+     */
+    public long getSequenceNumber() {
+        return sequenceNumber;
+    }
+
+    /**
+     * @return the sequence number of the full snapshot at the start of the chain.
+     */
+    public long getBaseSequenceNumber() {
+        return baseSequenceNumber;
+    }
+
+    /**
+     * @return the number of delta snapshots in the chain up to and including the snapshot; 0 for a full snapshot.
+     */
+    public int getLength() {
+        return length;
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final SnapshotDeltaChain that = (SnapshotDeltaChain) o;
+        return sequenceNumber == that.sequenceNumber &&
+                baseSequenceNumber == that.baseSequenceNumber &&
+                length == that.length;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sequenceNumber, baseSequenceNumber, length);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "sequenceNumber=" + sequenceNumber +
+                ", baseSequenceNumber=" + baseSequenceNumber +
+                ", length=" + length +
+                "]";
+    }
+
+}
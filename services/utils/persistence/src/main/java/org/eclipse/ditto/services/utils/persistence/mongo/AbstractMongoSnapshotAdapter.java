@@ -15,6 +15,7 @@ package org.eclipse.ditto.services.utils.persistence.mongo;
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 
 import java.text.MessageFormat;
+import java.util.Optional;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
@@ -28,6 +29,7 @@ import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.json.FieldType;
 import org.eclipse.ditto.model.base.json.Jsonifiable;
 import org.eclipse.ditto.services.utils.persistence.SnapshotAdapter;
+import org.eclipse.ditto.services.utils.persistence.SnapshotDeltaChain;
 import org.slf4j.Logger;
 
 import akka.persistence.SelectedSnapshot;
@@ -35,6 +37,8 @@ import akka.persistence.SnapshotOffer;
 
 /**
  * Abstract implementation of a MongoDB specific {@link SnapshotAdapter} for a {@link Jsonifiable}.
+ * Delta snapshots are JSON merge patches against the previous snapshot; restoring them requires the snapshot store
+ * {@link DeltaMongoSnapshots}.
  *
  * @param <T> the jsonifiable type to snapshot.
  */
@@ -58,6 +62,19 @@ public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFie
         return dittoBsonJson.parse(json);
     }
 
+    @Override
+    public Optional<Object> toDeltaSnapshotStore(final T snapshotEntity, final T previousSnapshotEntity,
+            final SnapshotDeltaChain previousChain) {
+
+        final JsonObject json = convertToJson(checkNotNull(snapshotEntity, "snapshot entity"));
+        final JsonObject previousJson = convertToJson(checkNotNull(previousSnapshotEntity, "previous snapshot entity"));
+        final Optional<JsonObject> delta = SnapshotDelta.diff(previousJson, json, previousChain);
+        delta.ifPresent(d -> onSnapshotStoreConversion(snapshotEntity, json));
+
+        final DittoBsonJson dittoBsonJson = DittoBsonJson.getInstance();
+        return delta.map(dittoBsonJson::parse);
+    }
+
     /**
      * This method is called exactly once when a snapshot is created.
      * It does nothing by default.
@@ -80,6 +97,11 @@ public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFie
         return convertSnapshotToJsonifiable(selectedSnapshot.snapshot());
     }
 
+    @Override
+    public SnapshotDeltaChain getDeltaChain(final SnapshotOffer snapshotOffer) {
+        return SnapshotDelta.getChain(snapshotOffer.snapshot(), snapshotOffer.metadata().sequenceNr());
+    }
+
     /**
      * Converts the specified snapshot entity to its {@link JsonObject} representation.
      *
@@ -98,10 +120,13 @@ public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFie
      * @param rawSnapshotEntity the snapshot entity to be converted.
      * @return a Jsonifiable whose origin is {@code rawSnapshotEntity} or {@code null}.
      * @throws NullPointerException if {@code rawSnapshotEntity} is {@code null}.
+     * @throws IllegalStateException if {@code rawSnapshotEntity} is a delta snapshot which was not resolved by the
+     * snapshot store.
      */
     @Nullable
     private T convertSnapshotToJsonifiable(final Object rawSnapshotEntity) {
-        return tryToCreateJsonifiableFrom(convertSnapshotEntityToJson(rawSnapshotEntity));
+        final JsonObject snapshotJson = convertSnapshotEntityToJson(rawSnapshotEntity);
+        return tryToCreateJsonifiableFrom(SnapshotDelta.removeDeltaField(snapshotJson));
     }
 
     private static JsonObject convertSnapshotEntityToJson(final Object rawSnapshotEntity) {
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo;
+
+import java.text.MessageFormat;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.bson.BsonValue;
+import org.eclipse.ditto.json.JsonObject;
+
+import com.typesafe.config.Config;
+
+import akka.contrib.persistence.mongodb.MongoSnapshots;
+import akka.persistence.SelectedSnapshot;
+import akka.persistence.SnapshotSelectionCriteria;
+import scala.Option;
+import scala.concurrent.Future;
+import scala.jdk.javaapi.FutureConverters;
+import scala.jdk.javaapi.OptionConverters;
+
+/**
+ * MongoDB snapshot store plugin supporting delta snapshots written by {@link AbstractMongoSnapshotAdapter}:
+ * When the loaded snapshot is a delta snapshot, the previous snapshots of its chain are loaded back to the full
+ * snapshot at the start of the chain and the deltas are applied in order. The persistence actor is offered the
+ * resolved snapshot as if it were a full snapshot.
+ * <p>
+ * Full snapshots are offered unchanged, so that this plugin can replace {@code akka.contrib.persistence.mongodb
+ * .MongoSnapshots} for existing snapshot collections.
+ *
+ * @since 2.0.0
+ */
+public final class DeltaMongoSnapshots extends MongoSnapshots {
+
+    /**
+     * Create the snapshot store plugin. Called by reflection by Akka persistence.
+     *
+     * @param config the config of the snapshot store plugin.
+     */
+    @SuppressWarnings("unused")
+    public DeltaMongoSnapshots(final Config config) {
+        super(config);
+    }
+
+    @Override
+    public Future<Option<SelectedSnapshot>> loadAsync(final String persistenceId,
+            final SnapshotSelectionCriteria criteria) {
+
+        final CompletionStage<Optional<SelectedSnapshot>> resolvedSnapshot =
+                FutureConverters.asJava(super.loadAsync(persistenceId, criteria))
+                        .thenCompose(snapshot -> resolveIfDelta(persistenceId, OptionConverters.toJava(snapshot)));
+
+        return FutureConverters.asScala(resolvedSnapshot.thenApply(OptionConverters::toScala));
+    }
+
+    private CompletionStage<Optional<SelectedSnapshot>> resolveIfDelta(final String persistenceId,
+            final Optional<SelectedSnapshot> selectedSnapshot) {
+
+        if (selectedSnapshot.isPresent() && SnapshotDelta.isDelta(selectedSnapshot.get().snapshot())) {
+            final SelectedSnapshot delta = selectedSnapshot.get();
+            return resolve(persistenceId, toJson(delta.snapshot()))
+                    .thenApply(resolved -> Optional.of(
+                            SelectedSnapshot.create(delta.metadata(), DittoBsonJson.getInstance().parse(resolved))));
+        } else {
+            return CompletableFuture.completedFuture(selectedSnapshot);
+        }
+    }
+
+    private CompletionStage<JsonObject> resolve(final String persistenceId, final JsonObject delta) {
+        final long previousSequenceNumber = SnapshotDelta.getPreviousSequenceNumber(delta);
+        final SnapshotSelectionCriteria previousCriteria =
+                SnapshotSelectionCriteria.create(previousSequenceNumber, Long.MAX_VALUE, previousSequenceNumber, 0L);
+
+        return FutureConverters.asJava(super.loadAsync(persistenceId, previousCriteria))
+                .thenCompose(loadedSnapshot -> {
+                    final SelectedSnapshot previous = OptionConverters.toJava(loadedSnapshot)
+                            .filter(snapshot -> snapshot.metadata().sequenceNr() == previousSequenceNumber)
+                            .orElseThrow(() -> new IllegalStateException(MessageFormat.format(
+                                    "Snapshot <{0}> of <{1}> required by a delta snapshot does not exist.",
+                                    String.valueOf(previousSequenceNumber), persistenceId)));
+                    final JsonObject previousJson = toJson(previous.snapshot());
+                    final CompletionStage<JsonObject> resolvedPrevious = SnapshotDelta.isDelta(previousJson)
+                            ? resolve(persistenceId, previousJson)
+                            : CompletableFuture.completedFuture(previousJson);
+                    return resolvedPrevious.thenApply(resolved -> SnapshotDelta.apply(resolved, delta));
+                });
+    }
+
+    private static JsonObject toJson(final Object snapshot) {
+        return DittoBsonJson.getInstance().serialize((BsonValue) snapshot).asObject();
+    }
+
+}
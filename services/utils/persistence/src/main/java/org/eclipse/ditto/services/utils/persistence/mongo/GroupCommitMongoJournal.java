@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.histogram.Histogram;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultGroupCommitConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.GroupCommitConfig;
+
+import com.typesafe.config.Config;
+
+import akka.contrib.persistence.mongodb.MongoJournal;
+import akka.dispatch.Futures;
+import akka.japi.pf.ReceiveBuilder;
+import akka.persistence.AtomicWrite;
+import scala.PartialFunction;
+import scala.collection.immutable.Seq;
+import scala.concurrent.Future;
+import scala.jdk.javaapi.CollectionConverters;
+import scala.runtime.BoxedUnit;
+import scala.util.Try;
+
+/**
+ * MongoDB journal plugin writing the events of all persistence actors using the plugin in group commits:
+ * The {@code AtomicWrite}s of different persistence actors arriving within a short window are combined into one
+ * bulk insert instead of one insert per persistence actor.
+ * <p>
+ * At most one bulk insert is in progress at any time. Writes arriving meanwhile are collected and written in the
+ * next bulk insert as soon as the previous one finished, so that the writes of each persistence ID reach the database
+ * in the order in which they were sent. The result of each {@code AtomicWrite} is reported to its persistence actor
+ * exactly as if it were written alone: rejected writes are rejected individually, and if the bulk insert fails at the
+ * document of one persistence actor, only that persistence actor gets the write failure, which triggers the usual
+ * persist failure handling. As the plugin inserts the documents of a bulk in order, the writes before the failed one
+ * were inserted and succeed, and the writes after it were not attempted and are written again with the next bulk.
+ * Any other failure of a bulk insert, e. g. a timeout or a write concern error, fails the writes of all persistence
+ * actors in it. If the plugin uses suffixed collection names, the documents of a bulk are inserted by several bulk
+ * inserts, thus every failure fails the whole bulk.
+ * <p>
+ * To enable group commit, configure this class as {@code class} of the journal plugin instead of
+ * {@code akka.contrib.persistence.mongodb.MongoJournal}. The settings are read from the section {@code group-commit}
+ * of the plugin config.
+ *
+ * @since 2.0.0
+ */
+public final class GroupCommitMongoJournal extends MongoJournal {
+
+    private static final String MONGO_SETTINGS_PATH = "akka.contrib.persistence.mongodb.mongo";
+    private static final String SUFFIX_BUILDER_CLASS_PATH = "suffix-builder.class";
+
+    private final GroupCommitConfig groupCommitConfig;
+    private final Histogram bulkSizeHistogram;
+    private final GroupCommitQueue queue;
+    private boolean bulkInProgress;
+    private boolean flushScheduled;
+
+    /**
+     * Create the journal plugin. Called by reflection by Akka persistence.
+     *
+     * @param config the config of the journal plugin.
+     */
+    @SuppressWarnings("unused")
+    public GroupCommitMongoJournal(final Config config) {
+        super(config);
+        groupCommitConfig = DefaultGroupCommitConfig.of(config);
+        bulkSizeHistogram = DittoMetrics.histogram("mongo_journal_group_commit_size")
+                .tag("journal", self().path().name());
+        queue = new GroupCommitQueue(groupCommitConfig.getMaxBatchSize(),
+                !usesSuffixedCollectionNames(config, context().system().settings().config()));
+        bulkInProgress = false;
+        flushScheduled = false;
+    }
+
+    private static boolean usesSuffixedCollectionNames(final Config config, final Config systemConfig) {
+        final String systemPath = MONGO_SETTINGS_PATH + "." + SUFFIX_BUILDER_CLASS_PATH;
+        final String suffixBuilderClass;
+        if (config.hasPath(SUFFIX_BUILDER_CLASS_PATH)) {
+            suffixBuilderClass = config.getString(SUFFIX_BUILDER_CLASS_PATH);
+        } else if (systemConfig.hasPath(systemPath)) {
+            suffixBuilderClass = systemConfig.getString(systemPath);
+        } else {
+            suffixBuilderClass = "";
+        }
+        return !suffixBuilderClass.trim().isEmpty();
+    }
+
+    @Override
+    public Future<Seq<Try<BoxedUnit>>> asyncWriteMessages(final Seq<AtomicWrite> messages) {
+        final Future<Seq<Try<BoxedUnit>>> result = queue.add(CollectionConverters.asJava(messages));
+        if (!bulkInProgress) {
+            if (queue.isFull()) {
+                writeBulk();
+            } else if (!flushScheduled) {
+                flushScheduled = true;
+                context().system()
+                        .scheduler()
+                        .scheduleOnce(groupCommitConfig.getWindow(), self(), Control.FLUSH, context().dispatcher(),
+                                self());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public PartialFunction<Object, BoxedUnit> receivePluginInternal() {
+        return ReceiveBuilder.create()
+                .matchEquals(Control.FLUSH, flush -> {
+                    flushScheduled = false;
+                    if (!bulkInProgress) {
+                        writeBulk();
+                    }
+                })
+                .match(BulkDone.class, bulkDone -> {
+                    bulkInProgress = false;
+                    if (null != bulkDone.notWritten) {
+                        queue.requeue(bulkDone.notWritten);
+                    }
+                    writeBulk();
+                })
+                .build()
+                .onMessage()
+                .orElse(super.receivePluginInternal());
+    }
+
+    private void writeBulk() {
+        queue.pollBulk().ifPresent(bulk -> {
+            bulkInProgress = true;
+            bulkSizeHistogram.record((long) bulk.getAtomicWrites().size());
+            Future<Seq<Try<BoxedUnit>>> bulkWrite;
+            try {
+                bulkWrite = super.asyncWriteMessages(CollectionConverters.asScala(bulk.getAtomicWrites()).toList());
+            } catch (final RuntimeException e) {
+                bulkWrite = Futures.failed(e);
+            }
+            bulkWrite.onComplete(result -> {
+                final GroupCommitQueue.Bulk notWritten = bulk.complete(result).orElse(null);
+                self().tell(new BulkDone(notWritten), self());
+                return BoxedUnit.UNIT;
+            }, context().dispatcher());
+        });
+    }
+
+    private enum Control {
+        FLUSH
+    }
+
+    private static final class BulkDone {
+
+        @Nullable private final GroupCommitQueue.Bulk notWritten;
+
+        private BulkDone(@Nullable final GroupCommitQueue.Bulk notWritten) {
+            this.notWritten = notWritten;
+        }
+    }
+
+}
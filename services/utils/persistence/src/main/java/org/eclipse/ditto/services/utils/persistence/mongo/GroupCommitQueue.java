@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+import com.mongodb.MongoBulkWriteException;
+
+import akka.persistence.AtomicWrite;
+import scala.collection.immutable.Seq;
+import scala.concurrent.Future;
+import scala.concurrent.Promise;
+import scala.jdk.javaapi.CollectionConverters;
+import scala.runtime.BoxedUnit;
+import scala.util.Success;
+import scala.util.Try;
+
+/**
+ * Queue of the {@code WriteMessages} requests waiting for the next group commit of {@link GroupCommitMongoJournal}.
+ * It splits the pending requests into bulks of a maximum number of {@code AtomicWrite}s and reports the result of a
+ * bulk back to each request in it.
+ * <p>
+ * If a bulk is written by a single ordered bulk insert which fails with a write error, all atomic writes before the
+ * failed one were inserted and all atomic writes after it were not attempted. Thus only the request of the failed
+ * atomic write fails, the requests before it succeed and the requests after it are queued again.
+ * </p>
+ */
+@NotThreadSafe
+final class GroupCommitQueue {
+
+    private final int maxBatchSize;
+    private final boolean singleOrderedInsert;
+    private final Deque<PendingWrite> pendingWrites;
+    private int pendingAtomicWrites;
+
+    /**
+     * Create an empty queue.
+     *
+     * @param maxBatchSize the maximum number of atomic writes in a bulk. A single request with more atomic writes
+     * forms a bulk on its own.
+     * @param singleOrderedInsert whether each bulk is written by a single ordered bulk insert, which is not the case
+     * if the journal uses suffixed collection names. Only then write errors can be attributed to their requests,
+     * otherwise a failed bulk fails all of its requests.
+     */
+    GroupCommitQueue(final int maxBatchSize, final boolean singleOrderedInsert) {
+        this.maxBatchSize = maxBatchSize;
+        this.singleOrderedInsert = singleOrderedInsert;
+        pendingWrites = new ArrayDeque<>();
+        pendingAtomicWrites = 0;
+    }
+
+    /**
+     * Enqueue the atomic writes of a {@code WriteMessages} request.
+     *
+     * @param atomicWrites the atomic writes.
+     * @return the future result of the atomic writes, which completes once the bulk containing them is completed.
+     */
+    Future<Seq<Try<BoxedUnit>>> add(final List<AtomicWrite> atomicWrites) {
+        final PendingWrite pendingWrite = new PendingWrite(atomicWrites);
+        pendingWrites.add(pendingWrite);
+        pendingAtomicWrites += atomicWrites.size();
+        return pendingWrite.promise.future();
+    }
+
+    /**
+     * @return whether the pending atomic writes fill at least one bulk.
+     */
+    boolean isFull() {
+        return pendingAtomicWrites >= maxBatchSize;
+    }
+
+    /**
+     * Remove the next bulk from the queue. The bulk consists of the oldest requests whose atomic writes do not exceed
+     * the maximum batch size together.
+     *
+     * @return the bulk, or an empty optional if no request is pending.
+     */
+    Optional<Bulk> pollBulk() {
+        final List<PendingWrite> bulk = new ArrayList<>();
+        final List<AtomicWrite> atomicWrites = new ArrayList<>();
+        while (!pendingWrites.isEmpty() && (atomicWrites.isEmpty() ||
+                atomicWrites.size() + pendingWrites.peek().atomicWrites.size() <= maxBatchSize)) {
+
+            final PendingWrite pendingWrite = pendingWrites.poll();
+            bulk.add(pendingWrite);
+            atomicWrites.addAll(pendingWrite.atomicWrites);
+        }
+        if (bulk.isEmpty()) {
+            return Optional.empty();
+        }
+        pendingAtomicWrites -= atomicWrites.size();
+        return Optional.of(new Bulk(bulk, atomicWrites, singleOrderedInsert));
+    }
+
+    /**
+     * Put the requests of a bulk which were not written back to the head of the queue, so that they are written with
+     * the next bulk before any request which arrived later.
+     *
+     * @param bulk the requests which were not written.
+     */
+    void requeue(final Bulk bulk) {
+        for (int i = bulk.pendingWrites.size() - 1; i >= 0; i--) {
+            pendingWrites.addFirst(bulk.pendingWrites.get(i));
+        }
+        pendingAtomicWrites += bulk.atomicWrites.size();
+    }
+
+    /**
+     * The atomic writes of several {@code WriteMessages} requests to be written at once.
+     */
+    static final class Bulk {
+
+        private final List<PendingWrite> pendingWrites;
+        private final List<AtomicWrite> atomicWrites;
+        private final boolean singleOrderedInsert;
+
+        private Bulk(final List<PendingWrite> pendingWrites, final List<AtomicWrite> atomicWrites,
+                final boolean singleOrderedInsert) {
+
+            this.pendingWrites = pendingWrites;
+            this.atomicWrites = Collections.unmodifiableList(atomicWrites);
+            this.singleOrderedInsert = singleOrderedInsert;
+        }
+
+        /**
+         * @return the atomic writes of all requests in the bulk in the order of the requests.
+         */
+        List<AtomicWrite> getAtomicWrites() {
+            return atomicWrites;
+        }
+
+        /**
+         * Report the result of writing the bulk to its requests. Each request receives the results of its own atomic
+         * writes. If the bulk insert failed with a write error, only the request of the failed atomic write fails;
+         * the requests before it succeed and the requests after it were not written. Any other failure of the bulk
+         * fails every request.
+         *
+         * @param result the result of writing the bulk with one result per atomic write.
+         * @return the requests which were not written and have to be {@link #requeue(Bulk) queued again}, or an
+         * empty optional if every request was completed.
+         */
+        Optional<Bulk> complete(final Try<Seq<Try<BoxedUnit>>> result) {
+            if (result.isSuccess()) {
+                final List<Try<BoxedUnit>> results = CollectionConverters.asJava(result.get());
+                int offset = 0;
+                for (final PendingWrite pendingWrite : pendingWrites) {
+                    final int end = offset + pendingWrite.atomicWrites.size();
+                    final List<Try<BoxedUnit>> resultsOfPendingWrite = results.subList(offset, end);
+                    pendingWrite.promise.trySuccess(CollectionConverters.asScala(resultsOfPendingWrite).toList());
+                    offset = end;
+                }
+                return Optional.empty();
+            }
+            final Throwable error = result.failed().get();
+            final int failedIndex = getIndexOfFailedAtomicWrite(error);
+            if (0 > failedIndex) {
+                pendingWrites.forEach(pendingWrite -> pendingWrite.promise.tryFailure(error));
+                return Optional.empty();
+            }
+            final List<PendingWrite> notWritten = new ArrayList<>();
+            final List<AtomicWrite> notWrittenAtomicWrites = new ArrayList<>();
+            int offset = 0;
+            for (final PendingWrite pendingWrite : pendingWrites) {
+                final int end = offset + pendingWrite.atomicWrites.size();
+                if (end <= failedIndex) {
+                    pendingWrite.promise.trySuccess(successes(pendingWrite.atomicWrites.size()));
+                } else if (offset <= failedIndex) {
+                    pendingWrite.promise.tryFailure(error);
+                } else {
+                    notWritten.add(pendingWrite);
+                    notWrittenAtomicWrites.addAll(pendingWrite.atomicWrites);
+                }
+                offset = end;
+            }
+            if (notWritten.isEmpty()) {
+                return Optional.empty();
+            }
+            return Optional.of(new Bulk(notWritten, notWrittenAtomicWrites, singleOrderedInsert));
+        }
+
+        /**
+         * Determine the atomic write at which an ordered bulk insert stopped. Without a write concern error the
+         * atomic writes before it are known to be inserted.
+         *
+         * @return the index of the failed atomic write or -1 if the failure cannot be attributed to one.
+         */
+        private int getIndexOfFailedAtomicWrite(final Throwable error) {
+            if (singleOrderedInsert && error instanceof MongoBulkWriteException) {
+                final MongoBulkWriteException bulkWriteException = (MongoBulkWriteException) error;
+                if (null == bulkWriteException.getWriteConcernError() &&
+                        !bulkWriteException.getWriteErrors().isEmpty()) {
+
+                    return bulkWriteException.getWriteErrors().get(0).getIndex();
+                }
+            }
+            return -1;
+        }
+
+        private static Seq<Try<BoxedUnit>> successes(final int count) {
+            final List<Try<BoxedUnit>> results = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                results.add(new Success<>(BoxedUnit.UNIT));
+            }
+            return CollectionConverters.asScala(results).toList();
+        }
+
+    }
+
+    private static final class PendingWrite {
+
+        private final List<AtomicWrite> atomicWrites;
+        private final Promise<Seq<Try<BoxedUnit>>> promise;
+
+        private PendingWrite(final List<AtomicWrite> atomicWrites) {
+            this.atomicWrites = atomicWrites;
+            promise = Promise.apply();
+        }
+    }
+
+}
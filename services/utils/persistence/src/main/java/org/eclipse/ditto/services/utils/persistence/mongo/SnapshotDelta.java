@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo;
+
+import java.util.Optional;
+
+import org.bson.BsonDocument;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.services.utils.persistence.SnapshotDeltaChain;
+
+/**
+ * Package-private functions for delta snapshots. A delta snapshot is a JSON merge patch
+ * (<a href="https://tools.ietf.org/html/rfc7396">RFC 7396</a>) against the previous snapshot of the same entity with
+ * the additional field {@value #DELTA_FIELD} pointing to the previous snapshot. All top-level fields of the entity
+ * which are not JSON objects are always included so that streaming the newest snapshots sees the same revision,
+ * policy ID, lifecycle etc. as for full snapshots.
+ */
+final class SnapshotDelta {
+
+    /**
+     * The field marking a delta snapshot.
+     */
+    static final String DELTA_FIELD = "__delta";
+
+    private static final String BASE_FIELD = "base";
+    private static final String LENGTH_FIELD = "length";
+
+    private static final JsonFieldDefinition<Long> PREVIOUS = JsonFactory.newLongFieldDefinition("previous");
+    private static final JsonFieldDefinition<Long> BASE = JsonFactory.newLongFieldDefinition(BASE_FIELD);
+    private static final JsonFieldDefinition<Integer> LENGTH = JsonFactory.newIntFieldDefinition(LENGTH_FIELD);
+    private static final JsonFieldDefinition<Boolean> RESOLVED = JsonFactory.newBooleanFieldDefinition("resolved");
+
+    private SnapshotDelta() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Compute the delta snapshot of an entity.
+     *
+     * @param previous JSON of the previous snapshot.
+     * @param current JSON of the entity.
+     * @param previousChain the chain position of the previous snapshot.
+     * @return the delta snapshot, or an empty Optional if the changes contain JSON null values, which a merge patch
+     * cannot express.
+     */
+    static Optional<JsonObject> diff(final JsonObject previous, final JsonObject current,
+            final SnapshotDeltaChain previousChain) {
+
+        return diffObjects(previous, current).map(patch -> {
+            final JsonObjectBuilder builder = patch.toBuilder();
+            for (final JsonField field : current) {
+                final JsonValue value = field.getValue();
+                if (!value.isObject() && !value.isNull()) {
+                    builder.set(field);
+                }
+            }
+            return builder.set(DELTA_FIELD, JsonObject.newBuilder()
+                    .set(PREVIOUS, previousChain.getSequenceNumber())
+                    .set(BASE, previousChain.getBaseSequenceNumber())
+                    .set(LENGTH, previousChain.getLength() + 1)
+                    .build())
+                    .build();
+        });
+    }
+
+    /**
+     * Apply a delta snapshot to the resolved previous snapshot.
+     *
+     * @param previous JSON of the resolved previous snapshot.
+     * @param delta the delta snapshot.
+     * @return the resolved snapshot.
+     */
+    static JsonObject apply(final JsonObject previous, final JsonObject delta) {
+        final JsonObject deltaField = delta.getValue(DELTA_FIELD)
+                .filter(JsonValue::isObject)
+                .map(JsonValue::asObject)
+                .orElseThrow(() -> new IllegalArgumentException("Not a delta snapshot: " + delta));
+        final JsonObject patch = delta.remove(DELTA_FIELD);
+        final JsonObject resolved = JsonFactory.mergeJsonValues(patch, previous.remove(DELTA_FIELD)).asObject();
+        return resolved.setValue(DELTA_FIELD, deltaField.set(RESOLVED, true));
+    }
+
+    /**
+     * Remove the delta field of a resolved snapshot.
+     *
+     * @param snapshot JSON of a full or resolved snapshot.
+     * @return the JSON of the entity.
+     * @throws IllegalStateException if the snapshot is a delta snapshot which was not resolved.
+     */
+    static JsonObject removeDeltaField(final JsonObject snapshot) {
+        final Optional<JsonValue> deltaField = snapshot.getValue(DELTA_FIELD);
+        if (deltaField.isPresent()) {
+            final boolean resolved = deltaField.filter(JsonValue::isObject)
+                    .flatMap(delta -> delta.asObject().getValue(RESOLVED))
+                    .orElse(false);
+            if (!resolved) {
+                throw new IllegalStateException("Got an unresolved delta snapshot. Delta snapshots require the " +
+                        "snapshot store <" + DeltaMongoSnapshots.class.getName() + ">.");
+            }
+            return snapshot.remove(DELTA_FIELD);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Test whether a snapshot loaded from the snapshot store is a delta snapshot.
+     *
+     * @param snapshot the snapshot.
+     * @return whether it is a delta snapshot.
+     */
+    static boolean isDelta(final Object snapshot) {
+        return snapshot instanceof BsonDocument && ((BsonDocument) snapshot).containsKey(DELTA_FIELD);
+    }
+
+    /**
+     * Test whether a snapshot is a delta snapshot.
+     *
+     * @param snapshot JSON of the snapshot.
+     * @return whether it is a delta snapshot.
+     */
+    static boolean isDelta(final JsonObject snapshot) {
+        return snapshot.contains(DELTA_FIELD);
+    }
+
+    /**
+     * Read the sequence number of the previous snapshot of a delta snapshot.
+     *
+     * @param delta JSON of the delta snapshot.
+     * @return the sequence number of the previous snapshot.
+     */
+    static long getPreviousSequenceNumber(final JsonObject delta) {
+        return getDeltaField(delta).getValueOrThrow(PREVIOUS);
+    }
+
+    /**
+     * Read the chain position of a snapshot loaded from the snapshot store.
+     *
+     * @param snapshot the snapshot.
+     * @param sequenceNumber the sequence number of the snapshot.
+     * @return the chain position.
+     */
+    static SnapshotDeltaChain getChain(final Object snapshot, final long sequenceNumber) {
+        if (isDelta(snapshot)) {
+            final BsonDocument deltaField = ((BsonDocument) snapshot).getDocument(DELTA_FIELD);
+            return SnapshotDeltaChain.delta(sequenceNumber, deltaField.getNumber(BASE_FIELD).longValue(),
+                    deltaField.getNumber(LENGTH_FIELD).intValue());
+        }
+        return SnapshotDeltaChain.full(sequenceNumber);
+    }
+
+    private static JsonObject getDeltaField(final JsonObject snapshot) {
+        return snapshot.getValueOrThrow(JsonFactory.newJsonObjectFieldDefinition(DELTA_FIELD));
+    }
+
+    private static Optional<JsonObject> diffObjects(final JsonObject previous, final JsonObject current) {
+        final JsonObjectBuilder builder = JsonObject.newBuilder();
+        for (final JsonField field : current) {
+            final JsonValue value = field.getValue();
+            final Optional<JsonValue> previousValue = previous.getValue(field.getKey());
+            if (previousValue.isPresent() && previousValue.get().equals(value)) {
+                continue;
+            }
+            if (previousValue.isPresent() && isNonNullObject(previousValue.get()) && isNonNullObject(value)) {
+                final Optional<JsonObject> nestedPatch = diffObjects(previousValue.get().asObject(), value.asObject());
+                if (nestedPatch.isEmpty()) {
+                    return Optional.empty();
+                }
+                builder.set(field.getKey(), nestedPatch.get());
+            } else if (containsNull(value)) {
+                return Optional.empty();
+            } else {
+                builder.set(field.getKey(), value);
+            }
+        }
+        for (final JsonField field : previous) {
+            if (!current.contains(field.getKey())) {
+                builder.set(field.getKey(), JsonValue.nullLiteral());
+            }
+        }
+        return Optional.of(builder.build());
+    }
+
+    private static boolean isNonNullObject(final JsonValue value) {
+        return value.isObject() && !value.isNull();
+    }
+
+    private static boolean containsNull(final JsonValue value) {
+        if (value.isNull()) {
+            return true;
+        } else if (value.isObject()) {
+            for (final JsonField field : value.asObject()) {
+                if (containsNull(field.getValue())) {
+                    return true;
+                }
+            }
+        } else if (value.isArray()) {
+            for (final JsonValue element : value.asArray()) {
+                if (containsNull(element)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.config;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for the group commit of events written by different persistence actors.
+ *
+ * @since 2.0.0
+ */
+@Immutable
+public interface GroupCommitConfig {
+
+    /**
+     * Returns the maximum number of atomic writes combined into one bulk insert.
+     *
+     * @return the maximum batch size.
+     */
+    int getMaxBatchSize();
+
+    /**
+     * Returns how long to collect atomic writes before writing them if no bulk insert is in progress.
+     *
+     * @return the window.
+     */
+    Duration getWindow();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code GroupCommitConfig}.
+     */
+    enum GroupCommitConfigValue implements KnownConfigValue {
+
+        /**
+         * The maximum number of atomic writes combined into one bulk insert.
+         */
+        MAX_BATCH_SIZE("max-batch-size", 500),
+
+        /**
+         * How long to collect atomic writes before writing them if no bulk insert is in progress.
+         */
+        WINDOW("window", Duration.ofMillis(5L));
+
+        private final String path;
+        private final Object defaultValue;
+
+        GroupCommitConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
@@ -38,6 +38,15 @@ public interface SnapshotConfig {
      */
     long getThreshold();
 
+    /**
+     * Returns the maximum number of delta snapshots following a full snapshot. A delta snapshot contains only the
+     * changes since the previous snapshot. If the maximum is 0, only full snapshots are taken.
+     *
+     * @return the maximum length of a delta snapshot chain.
+     * @since 2.0.0
+     */
+    int getMaxDeltaChainLength();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code SnapshotConfig}.
@@ -52,7 +61,14 @@ public interface SnapshotConfig {
         /**
          * The threshold after how many changes to an entity to do a snapshot.
          */
-        THRESHOLD("threshold", 500L);
+        THRESHOLD("threshold", 500L),
+
+        /**
+         * The maximum number of delta snapshots following a full snapshot.
+         *
+         * @since 2.0.0
+         */
+        MAX_DELTA_CHAIN_LENGTH("max-delta-chain-length", 0);
 
         private final String path;
         private final Object defaultValue;
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.eclipse.ditto.services.utils.test.mongo.MongoDbResource;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigValueFactory;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Props;
+import akka.persistence.AbstractPersistentActor;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link GroupCommitMongoJournal} against MongoDB and compares its write throughput with that of the
+ * {@code MongoJournal} for 1 to 64 concurrent writers.
+ */
+public final class GroupCommitMongoJournalIT {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GroupCommitMongoJournalIT.class);
+
+    private static final String MONGO_DB = "groupCommitMongoJournalIT";
+    private static final String JOURNAL = "akka-contrib-mongodb-persistence-test-journal";
+    private static final String GROUP_COMMIT_JOURNAL = "akka-contrib-mongodb-persistence-test-group-commit-journal";
+    private static final int EVENTS_PER_WRITER = 200;
+
+    @ClassRule
+    public static final MongoDbResource MONGO_RESOURCE = new MongoDbResource();
+
+    private ActorSystem actorSystem;
+
+    @Before
+    public void setUp() {
+        final String mongoUri =
+                String.format("mongodb://%s:%d/%s", MONGO_RESOURCE.getBindIp(), MONGO_RESOURCE.getPort(), MONGO_DB);
+        final Config config = ConfigFactory.load("group-commit-journal-test")
+                .withValue("akka.contrib.persistence.mongodb.mongo.mongouri", ConfigValueFactory.fromAnyRef(mongoUri));
+        actorSystem = ActorSystem.create("AkkaTestSystem", config);
+    }
+
+    @After
+    public void tearDown() {
+        if (null != actorSystem) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void eventsOfConcurrentWritersAreRecoveredInOrder() {
+        new TestKit(actorSystem) {{
+            final List<String> persistenceIds = IntStream.range(0, 16)
+                    .mapToObj(i -> "thing:" + UUID.randomUUID())
+                    .collect(Collectors.toList());
+
+            writeConcurrently(GROUP_COMMIT_JOURNAL, persistenceIds, 50);
+
+            for (final String persistenceId : persistenceIds) {
+                final ActorRef reader = actorSystem.actorOf(Writer.props(persistenceId, GROUP_COMMIT_JOURNAL));
+                reader.tell(Writer.GET_RECOVERED_EVENTS, getRef());
+                final List<String> expectedEvents = IntStream.range(0, 50)
+                        .mapToObj(i -> persistenceId + ":" + i)
+                        .collect(Collectors.toList());
+                expectMsg(Duration.ofSeconds(10L), expectedEvents);
+            }
+        }};
+    }
+
+    @Test
+    public void compareThroughputFor1To64ConcurrentWriters() {
+        // warm up connections and indexes
+        measureEventsPerSecond(JOURNAL, 8);
+        measureEventsPerSecond(GROUP_COMMIT_JOURNAL, 8);
+
+        for (int writers = 1; writers <= 64; writers *= 2) {
+            final double plain = measureEventsPerSecond(JOURNAL, writers);
+            final double groupCommit = measureEventsPerSecond(GROUP_COMMIT_JOURNAL, writers);
+            LOGGER.info("writers={} MongoJournal={} events/s GroupCommitMongoJournal={} events/s", writers,
+                    Math.round(plain), Math.round(groupCommit));
+            assertThat(groupCommit).isPositive();
+        }
+    }
+
+    private double measureEventsPerSecond(final String journal, final int writers) {
+        final List<String> persistenceIds = IntStream.range(0, writers)
+                .mapToObj(i -> "thing:" + UUID.randomUUID())
+                .collect(Collectors.toList());
+        final long start = System.nanoTime();
+        writeConcurrently(journal, persistenceIds, EVENTS_PER_WRITER);
+        final long elapsedNanos = System.nanoTime() - start;
+        return writers * EVENTS_PER_WRITER * 1e9 / elapsedNanos;
+    }
+
+    private void writeConcurrently(final String journal, final List<String> persistenceIds, final int eventsPerWriter) {
+        final TestKit probe = new TestKit(actorSystem);
+        final List<ActorRef> writers = new ArrayList<>();
+        for (final String persistenceId : persistenceIds) {
+            writers.add(actorSystem.actorOf(Writer.props(persistenceId, journal)));
+        }
+        writers.forEach(writer -> writer.tell(eventsPerWriter, probe.getRef()));
+        for (int i = 0; i < writers.size(); i++) {
+            probe.expectMsg(Duration.ofMinutes(1L), Writer.DONE);
+        }
+        writers.forEach(actorSystem::stop);
+    }
+
+    /**
+     * Persistence actor writing events one after another like a thing receiving one modify command after another.
+     */
+    private static final class Writer extends AbstractPersistentActor {
+
+        private static final String DONE = "done";
+        private static final String GET_RECOVERED_EVENTS = "getRecoveredEvents";
+
+        private final String persistenceId;
+        private final String journalPluginId;
+        private final List<String> recoveredEvents = new ArrayList<>();
+
+        private Writer(final String persistenceId, final String journalPluginId) {
+            this.persistenceId = persistenceId;
+            this.journalPluginId = journalPluginId;
+        }
+
+        private static Props props(final String persistenceId, final String journalPluginId) {
+            return Props.create(Writer.class, () -> new Writer(persistenceId, journalPluginId));
+        }
+
+        @Override
+        public String persistenceId() {
+            return persistenceId;
+        }
+
+        @Override
+        public String journalPluginId() {
+            return journalPluginId;
+        }
+
+        @Override
+        public Receive createReceiveRecover() {
+            return receiveBuilder()
+                    .match(String.class, recoveredEvents::add)
+                    .build();
+        }
+
+        @Override
+        public Receive createReceive() {
+            return receiveBuilder()
+                    .match(Integer.class, count -> writeEvents(0, count))
+                    .matchEquals(GET_RECOVERED_EVENTS, get -> getSender().tell(recoveredEvents, getSelf()))
+                    .build();
+        }
+
+        private void writeEvents(final int index, final int count) {
+            if (index < count) {
+                persist(persistenceId + ":" + index, event -> writeEvents(index + 1, count));
+            } else {
+                getSender().tell(DONE, getSelf());
+            }
+        }
+    }
+
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.annotation.Nullable;
+
+import org.bson.BsonDocument;
+import org.junit.Test;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.WriteConcernError;
+
+import akka.actor.ActorRef;
+import akka.persistence.AtomicWrite;
+import akka.persistence.PersistentRepr;
+import scala.collection.immutable.Seq;
+import scala.concurrent.Future;
+import scala.jdk.javaapi.CollectionConverters;
+import scala.runtime.BoxedUnit;
+import scala.util.Failure;
+import scala.util.Success;
+import scala.util.Try;
+
+/**
+ * Unit test for {@link GroupCommitQueue}.
+ */
+public final class GroupCommitQueueTest {
+
+    private static final Try<BoxedUnit> OK = new Success<>(BoxedUnit.UNIT);
+
+    @Test
+    public void splitsPendingWritesIntoBulksOfMaxBatchSize() {
+        final GroupCommitQueue underTest = new GroupCommitQueue(3, true);
+        underTest.add(atomicWrites("a", 2));
+        underTest.add(atomicWrites("b", 1));
+        underTest.add(atomicWrites("c", 2));
+        underTest.add(atomicWrites("d", 4));
+
+        assertThat(underTest.isFull()).isTrue();
+        assertThat(persistenceIds(underTest.pollBulk().orElseThrow())).containsExactly("a", "a", "b");
+        assertThat(persistenceIds(underTest.pollBulk().orElseThrow())).containsExactly("c", "c");
+        assertThat(underTest.isFull()).isTrue();
+        // a request larger than the maximum batch size forms a bulk on its own
+        assertThat(persistenceIds(underTest.pollBulk().orElseThrow())).containsExactly("d", "d", "d", "d");
+        assertThat(underTest.isFull()).isFalse();
+        assertThat(underTest.pollBulk()).isEmpty();
+    }
+
+    @Test
+    public void isNotFullBelowMaxBatchSize() {
+        final GroupCommitQueue underTest = new GroupCommitQueue(3, true);
+        underTest.add(atomicWrites("a", 2));
+
+        assertThat(underTest.isFull()).isFalse();
+        assertThat(persistenceIds(underTest.pollBulk().orElseThrow())).containsExactly("a", "a");
+    }
+
+    @Test
+    public void reportsResultsOfPartiallyRejectedBulkPerRequest() {
+        final GroupCommitQueue underTest = new GroupCommitQueue(10, true);
+        final Future<Seq<Try<BoxedUnit>>> first = underTest.add(atomicWrites("a", 2));
+        final Future<Seq<Try<BoxedUnit>>> second = underTest.add(atomicWrites("b", 1));
+        final Try<BoxedUnit> rejected = new Failure<>(new IllegalArgumentException("not serializable"));
+
+        underTest.pollBulk().orElseThrow().complete(new Success<>(seq(OK, rejected, OK)));
+
+        assertThat(first.value().get().get()).isEqualTo(seq(OK, rejected));
+        assertThat(second.value().get().get()).isEqualTo(seq(OK));
+    }
+
+    @Test
+    public void failedBulkFailsAllRequestsInIt() {
+        final GroupCommitQueue underTest = new GroupCommitQueue(2, true);
+        final Future<Seq<Try<BoxedUnit>>> first = underTest.add(atomicWrites("a", 1));
+        final Future<Seq<Try<BoxedUnit>>> second = underTest.add(atomicWrites("b", 1));
+        final Future<Seq<Try<BoxedUnit>>> third = underTest.add(atomicWrites("c", 1));
+        final IllegalStateException error = new IllegalStateException("bulk insert failed");
+
+        underTest.pollBulk().orElseThrow().complete(new Failure<>(error));
+
+        assertThat(first.value().get().failed().get()).isSameAs(error);
+        assertThat(second.value().get().failed().get()).isSameAs(error);
+        assertThat(third.isCompleted()).describedAs("request of the next bulk").isFalse();
+    }
+
+    @Test
+    public void writeErrorFailsOnlyItsRequestAndRequeuesTheRequestsAfterIt() {
+        final GroupCommitQueue underTest = new GroupCommitQueue(10, true);
+        final Future<Seq<Try<BoxedUnit>>> first = underTest.add(atomicWrites("a", 1));
+        final Future<Seq<Try<BoxedUnit>>> second = underTest.add(atomicWrites("b", 2));
+        final Future<Seq<Try<BoxedUnit>>> third = underTest.add(atomicWrites("c", 1));
+        final Future<Seq<Try<BoxedUnit>>> fourth = underTest.add(atomicWrites("d", 1));
+        final GroupCommitQueue.Bulk bulk = underTest.pollBulk().orElseThrow();
+        underTest.add(atomicWrites("e", 1));
+        // the second atomic write of "b" failed, "a" and the first atomic write of "b" were inserted
+        final MongoBulkWriteException error = bulkWriteException(2, 2, null);
+
+        final Optional<GroupCommitQueue.Bulk> notWritten = bulk.complete(new Failure<>(error));
+
+        assertThat(first.value().get().get()).isEqualTo(seq(OK));
+        assertThat(second.value().get().failed().get()).isSameAs(error);
+        assertThat(third.isCompleted()).isFalse();
+        assertThat(fourth.isCompleted()).isFalse();
+        assertThat(notWritten).isPresent();
+        underTest.requeue(notWritten.get());
+        assertThat(persistenceIds(underTest.pollBulk().orElseThrow())).containsExactly("c", "d", "e");
+    }
+
+    @Test
+    public void writeErrorOfLastRequestLeavesNothingToRequeue() {
+        final GroupCommitQueue underTest = new GroupCommitQueue(10, true);
+        final Future<Seq<Try<BoxedUnit>>> first = underTest.add(atomicWrites("a", 2));
+        final Future<Seq<Try<BoxedUnit>>> second = underTest.add(atomicWrites("b", 1));
+        final MongoBulkWriteException error = bulkWriteException(2, 2, null);
+
+        final Optional<GroupCommitQueue.Bulk> notWritten =
+                underTest.pollBulk().orElseThrow().complete(new Failure<>(error));
+
+        assertThat(first.value().get().get()).isEqualTo(seq(OK, OK));
+        assertThat(second.value().get().failed().get()).isSameAs(error);
+        assertThat(notWritten).isEmpty();
+    }
+
+    @Test
+    public void writeErrorFailsAllRequestsIfNotWrittenBySingleOrderedInsert() {
+        final GroupCommitQueue underTest = new GroupCommitQueue(10, false);
+        final Future<Seq<Try<BoxedUnit>>> first = underTest.add(atomicWrites("a", 1));
+        final Future<Seq<Try<BoxedUnit>>> second = underTest.add(atomicWrites("b", 1));
+        final MongoBulkWriteException error = bulkWriteException(1, 1, null);
+
+        final Optional<GroupCommitQueue.Bulk> notWritten =
+                underTest.pollBulk().orElseThrow().complete(new Failure<>(error));
+
+        assertThat(first.value().get().failed().get()).isSameAs(error);
+        assertThat(second.value().get().failed().get()).isSameAs(error);
+        assertThat(notWritten).isEmpty();
+    }
+
+    @Test
+    public void writeConcernErrorFailsAllRequests() {
+        final GroupCommitQueue underTest = new GroupCommitQueue(10, true);
+        final Future<Seq<Try<BoxedUnit>>> first = underTest.add(atomicWrites("a", 1));
+        final Future<Seq<Try<BoxedUnit>>> second = underTest.add(atomicWrites("b", 1));
+        final MongoBulkWriteException error = bulkWriteException(1, 1,
+                new WriteConcernError(64, "WriteConcernFailed", "waiting for replication timed out",
+                        new BsonDocument()));
+
+        final Optional<GroupCommitQueue.Bulk> notWritten =
+                underTest.pollBulk().orElseThrow().complete(new Failure<>(error));
+
+        assertThat(first.value().get().failed().get()).isSameAs(error);
+        assertThat(second.value().get().failed().get()).isSameAs(error);
+        assertThat(notWritten).isEmpty();
+    }
+
+    private static MongoBulkWriteException bulkWriteException(final int insertedCount, final int failedIndex,
+            @Nullable final WriteConcernError writeConcernError) {
+
+        final BulkWriteError writeError = new BulkWriteError(11000, "E11000 duplicate key error", new BsonDocument(),
+                failedIndex);
+        return new MongoBulkWriteException(
+                BulkWriteResult.acknowledged(insertedCount, 0, 0, null, List.of(), List.of()),
+                List.of(writeError), writeConcernError, new ServerAddress());
+    }
+
+    private static List<AtomicWrite> atomicWrites(final String persistenceId, final int count) {
+        return IntStream.rangeClosed(1, count)
+                .mapToObj(sequenceNr -> AtomicWrite.apply(PersistentRepr.apply("event", sequenceNr, persistenceId,
+                        "", false, ActorRef.noSender(), "writer")))
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> persistenceIds(final GroupCommitQueue.Bulk bulk) {
+        return bulk.getAtomicWrites().stream().map(AtomicWrite::persistenceId).collect(Collectors.toList());
+    }
+
+    @SafeVarargs
+    private static Seq<Try<BoxedUnit>> seq(final Try<BoxedUnit>... results) {
+        return CollectionConverters.asScala(List.of(results)).toList();
+    }
+
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.services.utils.persistence.SnapshotDeltaChain;
+import org.junit.Test;
+
+/**
+ * Tests {@link SnapshotDelta}.
+ */
+public final class SnapshotDeltaTest {
+
+    private static final JsonObject PREVIOUS = JsonObject.of("{" +
+            "\"thingId\":\"ns:thing\"," +
+            "\"policyId\":\"ns:policy\"," +
+            "\"_revision\":5," +
+            "\"attributes\":{\"location\":\"kitchen\",\"tags\":[\"a\",\"b\"]}," +
+            "\"features\":{" +
+            "\"lamp\":{\"properties\":{\"on\":false,\"brightness\":10}}," +
+            "\"sensor\":{\"properties\":{\"temperature\":20.5,\"humidity\":40}}," +
+            "\"unchanged\":{\"properties\":{\"large\":\"value\"}}" +
+            "}}");
+
+    private static final JsonObject CURRENT = JsonObject.of("{" +
+            "\"thingId\":\"ns:thing\"," +
+            "\"policyId\":\"ns:policy\"," +
+            "\"_revision\":9," +
+            "\"attributes\":{\"tags\":[\"a\"],\"floor\":2}," +
+            "\"features\":{" +
+            "\"lamp\":{\"properties\":{\"on\":true,\"brightness\":10}}," +
+            "\"unchanged\":{\"properties\":{\"large\":\"value\"}}," +
+            "\"new\":{\"properties\":{\"x\":{\"y\":1}}}" +
+            "}}");
+
+    private static final SnapshotDeltaChain PREVIOUS_CHAIN = SnapshotDeltaChain.delta(5L, 2L, 1);
+
+    @Test
+    public void deltaContainsChangesAndTopLevelScalars() {
+        final JsonObject delta = SnapshotDelta.diff(PREVIOUS, CURRENT, PREVIOUS_CHAIN).orElseThrow();
+
+        assertThat(delta).isEqualTo(JsonObject.of("{" +
+                "\"thingId\":\"ns:thing\"," +
+                "\"policyId\":\"ns:policy\"," +
+                "\"_revision\":9," +
+                "\"attributes\":{\"tags\":[\"a\"],\"floor\":2,\"location\":null}," +
+                "\"features\":{" +
+                "\"lamp\":{\"properties\":{\"on\":true}}," +
+                "\"new\":{\"properties\":{\"x\":{\"y\":1}}}," +
+                "\"sensor\":null" +
+                "}," +
+                "\"__delta\":{\"previous\":5,\"base\":2,\"length\":2}" +
+                "}"));
+    }
+
+    @Test
+    public void applyingDeltaRestoresCurrentSnapshot() {
+        final JsonObject delta = SnapshotDelta.diff(PREVIOUS, CURRENT, PREVIOUS_CHAIN).orElseThrow();
+
+        final JsonObject resolved = SnapshotDelta.apply(PREVIOUS, delta);
+
+        assertThat(SnapshotDelta.removeDeltaField(resolved)).isEqualTo(CURRENT);
+    }
+
+    @Test
+    public void applyingDeltaToResolvedDeltaRestoresCurrentSnapshot() {
+        final JsonObject intermediate = PREVIOUS.setValue("_revision", 7).remove("attributes");
+        final JsonObject firstDelta =
+                SnapshotDelta.diff(PREVIOUS, intermediate, SnapshotDeltaChain.full(5L)).orElseThrow();
+        final JsonObject secondDelta =
+                SnapshotDelta.diff(intermediate, CURRENT, SnapshotDeltaChain.delta(7L, 5L, 1)).orElseThrow();
+
+        final JsonObject resolved = SnapshotDelta.apply(SnapshotDelta.apply(PREVIOUS, firstDelta), secondDelta);
+
+        assertThat(SnapshotDelta.removeDeltaField(resolved)).isEqualTo(CURRENT);
+        assertThat(resolved.getValue("__delta/length")).contains(JsonValue.of(2));
+    }
+
+    @Test
+    public void changedNullValuesRequireFullSnapshot() {
+        final JsonObject current = CURRENT.setValue("/attributes/floor", JsonValue.nullLiteral());
+
+        assertThat(SnapshotDelta.diff(PREVIOUS, current, PREVIOUS_CHAIN)).isEmpty();
+    }
+
+    @Test
+    public void unchangedNullValuesAreRetained() {
+        final JsonObject previous = PREVIOUS.setValue("/attributes/nothing", JsonValue.nullLiteral());
+        final JsonObject current = CURRENT.setValue("/attributes/nothing", JsonValue.nullLiteral());
+        final JsonObject delta = SnapshotDelta.diff(previous, current, PREVIOUS_CHAIN).orElseThrow();
+
+        assertThat(SnapshotDelta.removeDeltaField(SnapshotDelta.apply(previous, delta))).isEqualTo(current);
+    }
+
+    @Test
+    public void unresolvedDeltaIsRejected() {
+        final JsonObject delta = SnapshotDelta.diff(PREVIOUS, CURRENT, PREVIOUS_CHAIN).orElseThrow();
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> SnapshotDelta.removeDeltaField(delta));
+    }
+
+    @Test
+    public void chainOfDeltaSnapshotIsRead() {
+        final JsonObject delta = SnapshotDelta.diff(PREVIOUS, CURRENT, PREVIOUS_CHAIN).orElseThrow();
+
+        assertThat(SnapshotDelta.getChain(DittoBsonJson.getInstance().parse(delta), 9L))
+                .isEqualTo(SnapshotDeltaChain.delta(9L, 2L, 2));
+        assertThat(SnapshotDelta.getChain(DittoBsonJson.getInstance().parse(CURRENT), 9L))
+                .isEqualTo(SnapshotDeltaChain.full(9L));
+    }
+
+}
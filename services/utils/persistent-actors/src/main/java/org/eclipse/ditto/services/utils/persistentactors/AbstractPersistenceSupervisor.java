@@ -103,6 +103,17 @@ public abstract class AbstractPersistenceSupervisor<E extends EntityId> extends
      */
     protected abstract DittoRuntimeExceptionBuilder<?> getUnavailableExceptionBuilder(@Nullable E entityId);
 
+    /**
+     * Create the behavior for messages which this actor handles itself instead of forwarding them to the supervised
+     * persistence actor while it is active. Handles no message by default.
+     *
+     * @return the behavior for messages handled by this actor.
+     * @since 2.0.0
+     */
+    protected Receive activeBehavior() {
+        return ReceiveBuilder.create().build();
+    }
+
     /**
      * Return a preferably static supervisor strategy for this actor. By default, child actor is stopped when killed
      * or failing, triggering restart after exponential back-off.
@@ -138,12 +149,12 @@ public abstract class AbstractPersistenceSupervisor<E extends EntityId> extends
     }
 
     private void becomeActive(final ShutdownBehaviour shutdownBehaviour) {
-        getContext().become(shutdownBehaviour.createReceive()
+        getContext().become(activeBehavior().orElse(shutdownBehaviour.createReceive()
                 .match(Terminated.class, this::childTerminated)
                 .matchEquals(Control.START_CHILD, this::startChild)
                 .matchEquals(Control.PASSIVATE, this::passivate)
                 .matchAny(this::forwardToChildIfAvailable)
-                .build());
+                .build()));
     }
 
     private void becomeCorrupted() {
@@ -13,6 +13,7 @@
 package org.eclipse.ditto.services.utils.persistentactors;
 
 import java.time.Duration;
+import java.util.Optional;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -27,6 +28,7 @@ import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.services.utils.akka.logging.DittoDiagnosticLoggingAdapter;
 import org.eclipse.ditto.services.utils.persistence.SnapshotAdapter;
+import org.eclipse.ditto.services.utils.persistence.SnapshotDeltaChain;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.ActivityCheckConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.SnapshotConfig;
 import org.eclipse.ditto.services.utils.persistentactors.commands.CommandStrategy;
@@ -68,6 +70,14 @@ public abstract class AbstractShardedPersistenceActor<
     private final Receive handleCleanups;
     private long lastSnapshotRevision;
     private long confirmedSnapshotRevision;
+    @Nullable private SnapshotDeltaChain confirmedSnapshotChain;
+    @Nullable private SnapshotDeltaChain pendingSnapshotChain;
+
+    /**
+     * The entity of the latest confirmed and of the pending snapshot; only retained if delta snapshots are enabled.
+     */
+    @Nullable private S confirmedSnapshotEntity;
+    @Nullable private S pendingSnapshotEntity;
 
     /**
      * The current entity, or null if it was never created.
@@ -471,7 +481,18 @@ public abstract class AbstractShardedPersistenceActor<
                     revision,
                     reason);
 
-            final Object snapshotSubject = snapshotAdapter.toSnapshotStore(entity);
+            final Optional<Object> deltaSnapshot = mayTakeDeltaSnapshot()
+                    ? snapshotAdapter.toDeltaSnapshotStore(entity, confirmedSnapshotEntity, confirmedSnapshotChain)
+                    : Optional.empty();
+            final Object snapshotSubject;
+            if (deltaSnapshot.isPresent()) {
+                snapshotSubject = deltaSnapshot.get();
+                pendingSnapshotChain = confirmedSnapshotChain.next(revision);
+            } else {
+                snapshotSubject = snapshotAdapter.toSnapshotStore(entity);
+                pendingSnapshotChain = SnapshotDeltaChain.full(revision);
+            }
+            pendingSnapshotEntity = isDeltaSnapshotEnabled() ? entity : null;
             saveSnapshot(snapshotSubject);
 
             lastSnapshotRevision = revision;
@@ -483,6 +504,22 @@ public abstract class AbstractShardedPersistenceActor<
         }
     }
 
+    /**
+     * A delta snapshot refers to the latest confirmed snapshot. It is not taken while another snapshot is pending,
+     * because the pending snapshot could start a new chain and cause the cleanup to delete the confirmed one.
+     */
+    private boolean mayTakeDeltaSnapshot() {
+        return isDeltaSnapshotEnabled() &&
+                pendingSnapshotChain == null &&
+                confirmedSnapshotEntity != null &&
+                confirmedSnapshotChain != null &&
+                confirmedSnapshotChain.getLength() < getSnapshotConfig().getMaxDeltaChainLength();
+    }
+
+    private boolean isDeltaSnapshotEnabled() {
+        return getSnapshotConfig().getMaxDeltaChainLength() > 0;
+    }
+
     private boolean snapshotThresholdPassed() {
         return getRevisionNumber() - lastSnapshotRevision >= getSnapshotConfig().getThreshold();
     }
@@ -507,16 +544,36 @@ public abstract class AbstractShardedPersistenceActor<
 
     private void saveSnapshotSuccess(final SaveSnapshotSuccess s) {
         log.debug("Got {}", s);
-        confirmedSnapshotRevision = s.metadata().sequenceNr();
+        if (isPendingSnapshot(s.metadata().sequenceNr())) {
+            confirmSnapshot(pendingSnapshotEntity, pendingSnapshotChain);
+            pendingSnapshotEntity = null;
+            pendingSnapshotChain = null;
+        }
     }
 
     private void saveSnapshotFailure(final SaveSnapshotFailure s) {
         log.error(s.cause(), "Got {}", s);
+        if (isPendingSnapshot(s.metadata().sequenceNr())) {
+            pendingSnapshotEntity = null;
+            pendingSnapshotChain = null;
+        }
+    }
+
+    private boolean isPendingSnapshot(final long sequenceNumber) {
+        return pendingSnapshotChain != null && pendingSnapshotChain.getSequenceNumber() == sequenceNumber;
+    }
+
+    private void confirmSnapshot(@Nullable final S snapshotEntity, final SnapshotDeltaChain snapshotChain) {
+        confirmedSnapshotEntity = isDeltaSnapshotEnabled() ? snapshotEntity : null;
+        confirmedSnapshotChain = snapshotChain;
+        // the cleanup must keep the full snapshot at the start of the chain
+        confirmedSnapshotRevision = snapshotChain.getBaseSequenceNumber();
     }
 
     private void recoverFromSnapshotOffer(final SnapshotOffer snapshotOffer) {
         entity = snapshotAdapter.fromSnapshotStore(snapshotOffer);
-        lastSnapshotRevision = confirmedSnapshotRevision = snapshotOffer.metadata().sequenceNr();
+        lastSnapshotRevision = snapshotOffer.metadata().sequenceNr();
+        confirmSnapshot(entity, snapshotAdapter.getDeltaChain(snapshotOffer));
     }
 
     @Override
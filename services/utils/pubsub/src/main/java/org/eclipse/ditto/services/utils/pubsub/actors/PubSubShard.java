@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.pubsub.actors;
+
+import java.time.Duration;
+
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
+import org.eclipse.ditto.signals.base.Signal;
+
+import akka.actor.AbstractActor;
+import akka.actor.ActorCell;
+import akka.actor.ActorPath;
+import akka.actor.Props;
+import akka.routing.ConsistentHashingPool;
+import akka.routing.ConsistentHashingRouter;
+
+/**
+ * Metrics of one of several publisher or subscriber actors on a node, together with the router distributing
+ * messages among them.
+ * <p>
+ * A router created by {@link #pool(int, Props, ConsistentHashingRouter.ConsistentHashMapper)} selects the shard of a
+ * message in the thread of the sender, so that the router itself has no mailbox to saturate. Messages to all shards
+ * are sent wrapped in {@link akka.routing.Broadcast}.
+ */
+final class PubSubShard {
+
+    /**
+     * How often each shard reports the size of its mailbox.
+     */
+    static final Duration MAILBOX_SIZE_SAMPLE_INTERVAL = Duration.ofSeconds(5L);
+
+    private final Counter messageCounter;
+    private final Gauge mailboxSizeGauge;
+
+    private PubSubShard(final Counter messageCounter, final Gauge mailboxSizeGauge) {
+        this.messageCounter = messageCounter;
+        this.mailboxSizeGauge = mailboxSizeGauge;
+    }
+
+    /**
+     * Create the metrics of a shard.
+     *
+     * @param shardPath path of the shard actor; the shard is a routee of a router started by a pub-sub supervisor.
+     * @return the metrics of the shard.
+     */
+    static PubSubShard of(final ActorPath shardPath) {
+        final String supervisor = shardPath.parent().parent().name();
+        final String shard = shardPath.name();
+        return new PubSubShard(
+                DittoMetrics.counter("pubsub-shard-messages").tag("supervisor", supervisor).tag("shard", shard),
+                DittoMetrics.gauge("pubsub-shard-mailbox-size").tag("supervisor", supervisor).tag("shard", shard));
+    }
+
+    /**
+     * Create Props of a router starting a number of shards and selecting the shard of each message by consistent
+     * hashing.
+     *
+     * @param shards how many shards to start.
+     * @param shardProps Props of each shard.
+     * @param hashMapper extractor of the hash key of each routed message.
+     * @return Props of the router.
+     */
+    static Props pool(final int shards, final Props shardProps,
+            final ConsistentHashingRouter.ConsistentHashMapper hashMapper) {
+
+        return new ConsistentHashingPool(shards).withHashMapper(hashMapper).props(shardProps);
+    }
+
+    /**
+     * Get the hash key of a signal so that signals of the same entity are processed by the same shard.
+     *
+     * @param signal the signal.
+     * @return its hash key.
+     */
+    static Object getHashKey(final Signal<?> signal) {
+        return String.valueOf(signal.getEntityId());
+    }
+
+    /**
+     * Count a message processed by this shard.
+     */
+    void countMessage() {
+        messageCounter.increment();
+    }
+
+    /**
+     * Report the current mailbox size of the shard.
+     *
+     * @param context context of the shard actor.
+     */
+    void reportMailboxSize(final AbstractActor.ActorContext context) {
+        if (context instanceof ActorCell) {
+            mailboxSizeGauge.set((long) ((ActorCell) context).numberOfMessages());
+        }
+    }
+
+}
@@ -15,12 +15,16 @@ package org.eclipse.ditto.services.utils.pubsub.actors;
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.services.utils.pubsub.DistributedAcks;
+import org.eclipse.ditto.services.utils.pubsub.config.PubSubConfig;
 import org.eclipse.ditto.services.utils.pubsub.ddata.DData;
+import org.eclipse.ditto.services.utils.pubsub.ddata.DDataReader;
 
 import akka.actor.ActorRef;
 import akka.actor.Props;
 import akka.actor.Terminated;
+import akka.cluster.ddata.Replicator;
 import akka.japi.pf.ReceiveBuilder;
+import akka.routing.Broadcast;
 
 /**
  * Supervisor of actors dealing with publications.
@@ -45,6 +49,8 @@ import akka.japi.pf.ReceiveBuilder;
  *         +--------------------> DDataReplicator
  * }
  * </pre>
+ * The publisher is a router of {@link PubSubConfig#getShards()} publishers. This supervisor subscribes to changes of
+ * the distributed data and broadcasts the resulting index of remote subscribers to all publishers.
  */
 public final class PubSupervisor extends AbstractPubSubSupervisor {
 
@@ -53,6 +59,7 @@ public final class PubSupervisor extends AbstractPubSubSupervisor {
 
     @Nullable private ActorRef publisher;
     @Nullable private ActorRef updater;
+    private PublisherIndex<Long> publisherIndex = PublisherIndex.empty();
 
     @SuppressWarnings("unused")
     private PubSupervisor(final DData<ActorRef, ?, ?> ddata, final DistributedAcks distributedAcks) {
@@ -77,6 +84,7 @@ public final class PubSupervisor extends AbstractPubSubSupervisor {
         return ReceiveBuilder.create()
                 .match(Publisher.Request.class, this::isPublisherAvailable, this::publish)
                 .match(Publisher.Request.class, this::publisherUnavailable)
+                .match(Replicator.Changed.class, this::topicSubscribersChanged)
                 .match(Terminated.class, this::childTerminated)
                 .build();
     }
@@ -86,10 +94,18 @@ public final class PubSupervisor extends AbstractPubSubSupervisor {
         publisher = null;
     }
 
+    @Override
+    public void preStart() {
+        ddata.getReader().receiveChanges(getSelf());
+        super.preStart();
+    }
+
     @Override
     protected void startChildren() {
         updater = startChild(PubUpdater.props(ddata.getWriter()), PubUpdater.ACTOR_NAME_PREFIX);
-        publisher = startChild(Publisher.props(ddata.getReader(), distributedAcks), Publisher.ACTOR_NAME_PREFIX);
+        publisher = startChild(PubSubShard.pool(config.getShards(), Publisher.props(ddata.getReader(), distributedAcks),
+                Publisher::getHashKey), Publisher.ACTOR_NAME_PREFIX);
+        publisher.tell(new Broadcast(publisherIndex), getSelf());
     }
 
     private boolean isPublisherAvailable() {
@@ -105,6 +121,15 @@ public final class PubSupervisor extends AbstractPubSubSupervisor {
         log.error("Publisher unavailable. Dropping <{}>", publish);
     }
 
+    @SuppressWarnings("unchecked")
+    private void topicSubscribersChanged(final Replicator.Changed<?> event) {
+        // compute the index once for all publishers
+        publisherIndex = Publisher.toPublisherIndex((DDataReader<ActorRef, String>) ddata.getReader(), event);
+        if (publisher != null) {
+            publisher.tell(new Broadcast(publisherIndex), getSelf());
+        }
+    }
+
     private void childTerminated(final Terminated terminated) {
         if (terminated.getActor().equals(updater)) {
             log.error("Updater terminated, restart scheduled: <{}>", terminated.getActor());
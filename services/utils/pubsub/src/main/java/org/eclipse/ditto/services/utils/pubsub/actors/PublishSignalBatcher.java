@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.pubsub.actors;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.histogram.Histogram;
+import org.eclipse.ditto.services.utils.metrics.instruments.timer.PreparedTimer;
+import org.eclipse.ditto.services.utils.pubsub.api.PublishSignal;
+import org.eclipse.ditto.services.utils.pubsub.api.PublishSignalBatch;
+import org.eclipse.ditto.services.utils.pubsub.config.PublishBatchConfig;
+
+import akka.actor.ActorRef;
+import akka.serialization.Serialization;
+
+/**
+ * Buffer of a publisher combining signals to the same remote subscriber into {@link PublishSignalBatch}es.
+ * Signals to local subscribers are never buffered. A batch is sent when it reaches the maximum number of signals
+ * or the maximum size; incomplete batches are sent when the publisher calls {@link #flush()} after the configured
+ * linger duration.
+ * <p>
+ * The signals of all batches of one publisher are routed to the same remote subscriber shard in the order of
+ * publication.
+ */
+@NotThreadSafe
+final class PublishSignalBatcher {
+
+    private final PublishBatchConfig config;
+    private final String serializedPublisher;
+    private final Map<ActorRef, Batch> batches = new LinkedHashMap<>();
+    private final Histogram batchSizeHistogram;
+    private final PreparedTimer lingerTimer;
+
+    private PublishSignalBatcher(final PublishBatchConfig config, final ActorRef publisher) {
+        this.config = config;
+        serializedPublisher = Serialization.serializedActorPath(publisher);
+        batchSizeHistogram = DittoMetrics.histogram("pubsub-batch-size").tag("publisher", publisher.path().name());
+        lingerTimer = DittoMetrics.timer("pubsub-batch-linger").tag("publisher", publisher.path().name());
+    }
+
+    /**
+     * Create a batcher for a publisher.
+     *
+     * @param config the batch config.
+     * @param publisher the publisher sending the batches.
+     * @return the batcher.
+     */
+    static PublishSignalBatcher of(final PublishBatchConfig config, final ActorRef publisher) {
+        return new PublishSignalBatcher(config, publisher);
+    }
+
+    /**
+     * Send a signal to a subscriber directly if the subscriber is local, or add it to the batch of the subscriber
+     * otherwise.
+     *
+     * @param subscriber the subscriber.
+     * @param publishSignal the signal to publish.
+     * @param sender the sender of the signal.
+     */
+    void tell(final ActorRef subscriber, final PublishSignal publishSignal, @Nullable final ActorRef sender) {
+        if (subscriber.path().address().hasLocalScope()) {
+            subscriber.tell(publishSignal, sender);
+            return;
+        }
+        final Batch batch = batches.computeIfAbsent(subscriber, ref -> new Batch(System.nanoTime()));
+        batch.add(PublishSignalBatch.Entry.of(publishSignal, serializeSender(sender)));
+        if (batch.entries.size() >= config.getMaxCount() || batch.bytes >= config.getMaxBytes()) {
+            batches.remove(subscriber);
+            send(subscriber, batch);
+        }
+    }
+
+    /**
+     * @return whether there are batches not yet sent.
+     */
+    boolean hasPendingBatches() {
+        return !batches.isEmpty();
+    }
+
+    /**
+     * Send all incomplete batches.
+     */
+    void flush() {
+        batches.forEach(this::send);
+        batches.clear();
+    }
+
+    private void send(final ActorRef subscriber, final Batch batch) {
+        batchSizeHistogram.record((long) batch.entries.size());
+        lingerTimer.record(System.nanoTime() - batch.startNanos, TimeUnit.NANOSECONDS);
+        subscriber.tell(PublishSignalBatch.of(serializedPublisher, batch.entries), ActorRef.noSender());
+    }
+
+    private static String serializeSender(@Nullable final ActorRef sender) {
+        if (sender == null) {
+            return "";
+        } else {
+            return Serialization.serializedActorPath(sender);
+        }
+    }
+
+    private static final class Batch {
+
+        private final long startNanos;
+        private final List<PublishSignalBatch.Entry> entries = new ArrayList<>();
+        private int bytes = 0;
+
+        private Batch(final long startNanos) {
+            this.startNanos = startNanos;
+        }
+
+        private void add(final PublishSignalBatch.Entry entry) {
+            entries.add(entry);
+            bytes += entry.getSize();
+        }
+    }
+}
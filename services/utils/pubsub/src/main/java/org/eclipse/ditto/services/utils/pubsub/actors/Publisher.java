@@ -18,6 +18,8 @@ import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import javax.annotation.Nullable;
+
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.acks.AcknowledgementLabel;
@@ -31,13 +33,15 @@ import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
 import org.eclipse.ditto.services.utils.pubsub.DistributedAcks;
 import org.eclipse.ditto.services.utils.pubsub.api.PublishSignal;
 import org.eclipse.ditto.services.utils.pubsub.api.RemoteAcksChanged;
+import org.eclipse.ditto.services.utils.pubsub.config.PubSubConfig;
+import org.eclipse.ditto.services.utils.pubsub.config.PublishBatchConfig;
 import org.eclipse.ditto.services.utils.pubsub.ddata.DDataReader;
 import org.eclipse.ditto.services.utils.pubsub.ddata.ack.Grouped;
 import org.eclipse.ditto.services.utils.pubsub.extractors.AckExtractor;
 import org.eclipse.ditto.signals.acks.base.Acknowledgements;
 import org.eclipse.ditto.signals.base.Signal;
 
-import akka.actor.AbstractActor;
+import akka.actor.AbstractActorWithTimers;
 import akka.actor.ActorRef;
 import akka.actor.Props;
 import akka.cluster.ddata.Replicator;
@@ -46,9 +50,12 @@ import akka.japi.pf.ReceiveBuilder;
 import scala.jdk.javaapi.CollectionConverters;
 
 /**
- * Publishes messages according to topic distributed data.
+ * Publishes messages according to topic distributed data. Each node runs a configurable number of publishers
+ * selected by the entity ID of each message; they share the index of remote subscribers computed by the
+ * {@link PubSupervisor}. If batching is enabled, signals to remote subscribers are sent in
+ * {@link org.eclipse.ditto.services.utils.pubsub.api.PublishSignalBatch}es.
  */
-public final class Publisher extends AbstractActor {
+public final class Publisher extends AbstractActorWithTimers {
 
     /**
      * Prefix of this actor's name.
@@ -61,6 +68,9 @@ public final class Publisher extends AbstractActor {
 
     private final Counter messageCounter = DittoMetrics.counter("pubsub-published-messages");
     private final Counter topicCounter = DittoMetrics.counter("pubsub-published-topics");
+    private final PubSubShard shard;
+    private final PublishBatchConfig batchConfig;
+    @Nullable private final PublishSignalBatcher batcher;
 
     private PublisherIndex<Long> publisherIndex = PublisherIndex.empty();
     private RemoteAcksChanged remoteAcks = RemoteAcksChanged.of(Map.of());
@@ -68,12 +78,17 @@ public final class Publisher extends AbstractActor {
     @SuppressWarnings("unused")
     private Publisher(final DDataReader<ActorRef, String> ddataReader, final DistributedAcks distributedAcks) {
         this.ddataReader = ddataReader;
-        ddataReader.receiveChanges(getSelf());
+        shard = PubSubShard.of(getSelf().path());
+        batchConfig = PubSubConfig.of(getContext().getSystem()).getPublishBatchConfig();
+        batcher = batchConfig.isEnabled() ? PublishSignalBatcher.of(batchConfig, getSelf()) : null;
         distributedAcks.receiveDistributedDeclaredAcks(getSelf());
+        timers().startTimerWithFixedDelay(Control.REPORT_MAILBOX_SIZE, Control.REPORT_MAILBOX_SIZE,
+                PubSubShard.MAILBOX_SIZE_SAMPLE_INTERVAL);
     }
 
     /**
-     * Create Props for this actor.
+     * Create Props for this actor. The actor does not subscribe for changes of the distributed data; it expects
+     * {@link PublisherIndex} computed by {@link #toPublisherIndex(DDataReader, Replicator.Changed)} instead.
      *
      * @param <T> representation of topics in the distributed data.
      * @param ddataReader reader of remote subscriptions.
@@ -115,22 +130,70 @@ public final class Publisher extends AbstractActor {
         return new PublishWithAck(topics, message, ackRequests, entityId, dittoHeaders);
     }
 
+    /**
+     * Compute the index of remote subscribers from a change of the distributed data.
+     *
+     * @param ddataReader reader of remote subscriptions.
+     * @param event the change.
+     * @return the index to send to each publisher.
+     */
+    static PublisherIndex<Long> toPublisherIndex(final DDataReader<ActorRef, String> ddataReader,
+            final Replicator.Changed<?> event) {
+
+        final Map<ActorRef, scala.collection.immutable.Set<String>> mmap =
+                CollectionConverters.asJava(event.get(ddataReader.getKey()).entries());
+        final Map<ActorRef, List<Grouped<Long>>> deserializedMMap = mmap.entrySet()
+                .stream()
+                .map(entry -> Pair.create(entry.getKey(), deserializeGroupedHashes(entry.getValue())))
+                .collect(Collectors.toMap(Pair::first, Pair::second));
+        return PublisherIndex.fromDeserializedMMap(deserializedMMap);
+    }
+
+    /**
+     * Get the key by which requests are distributed among publishers.
+     *
+     * @param message a message to the publishers.
+     * @return the hash key of the message, or {@code null} if it is not a request.
+     */
+    @Nullable
+    static Object getHashKey(final Object message) {
+        if (message instanceof Publish) {
+            return PubSubShard.getHashKey(((Publish) message).message);
+        } else if (message instanceof PublishWithAck) {
+            return PubSubShard.getHashKey(((PublishWithAck) message).message);
+        } else {
+            return null;
+        }
+    }
+
+    @Override
+    public void postStop() throws Exception {
+        if (batcher != null) {
+            batcher.flush();
+        }
+        super.postStop();
+    }
+
     @Override
     public Receive createReceive() {
         return ReceiveBuilder.create()
                 .match(Publish.class, this::publish)
                 .match(PublishWithAck.class, this::publishWithAck)
                 .match(RemoteAcksChanged.class, this::declaredAcksChanged)
-                .match(Replicator.Changed.class, this::topicSubscribersChanged)
+                .match(PublisherIndex.class, this::topicSubscribersChanged)
+                .matchEquals(Control.REPORT_MAILBOX_SIZE, this::reportMailboxSize)
+                .matchEquals(Control.FLUSH_BATCHES, this::flushBatches)
                 .matchAny(this::logUnhandled)
                 .build();
     }
 
     private void publish(final Publish publish) {
+        shard.countMessage();
         doPublish(publish.topics, publish.message);
     }
 
     private void publishWithAck(final PublishWithAck publishWithAck) {
+        shard.countMessage();
         final List<Pair<ActorRef, PublishSignal>> subscribers =
                 doPublish(publishWithAck.topics, publishWithAck.message);
 
@@ -162,7 +225,14 @@ public final class Publisher extends AbstractActor {
         final ActorRef sender = getSender();
         final List<Pair<ActorRef, PublishSignal>> subscribers =
                 publisherIndex.assignGroupsToSubscribers(signal, hashes);
-        subscribers.forEach(pair -> pair.first().tell(pair.second(), sender));
+        if (batcher == null) {
+            subscribers.forEach(pair -> pair.first().tell(pair.second(), sender));
+        } else {
+            subscribers.forEach(pair -> batcher.tell(pair.first(), pair.second(), sender));
+            if (batcher.hasPendingBatches() && !timers().isTimerActive(Control.FLUSH_BATCHES)) {
+                timers().startSingleTimer(Control.FLUSH_BATCHES, Control.FLUSH_BATCHES, batchConfig.getLinger());
+            }
+        }
         return subscribers;
     }
 
@@ -170,14 +240,19 @@ public final class Publisher extends AbstractActor {
         remoteAcks = event;
     }
 
-    private void topicSubscribersChanged(final Replicator.Changed<?> event) {
-        final Map<ActorRef, scala.collection.immutable.Set<String>> mmap =
-                CollectionConverters.asJava(event.get(ddataReader.getKey()).entries());
-        final Map<ActorRef, List<Grouped<Long>>> deserializedMMap = mmap.entrySet()
-                .stream()
-                .map(entry -> Pair.create(entry.getKey(), deserializeGroupedHashes(entry.getValue())))
-                .collect(Collectors.toMap(Pair::first, Pair::second));
-        publisherIndex = PublisherIndex.fromDeserializedMMap(deserializedMMap);
+    @SuppressWarnings("unchecked")
+    private void topicSubscribersChanged(final PublisherIndex<?> publisherIndex) {
+        this.publisherIndex = (PublisherIndex<Long>) publisherIndex;
+    }
+
+    private void reportMailboxSize(final Control reportMailboxSize) {
+        shard.reportMailboxSize(getContext());
+    }
+
+    private void flushBatches(final Control flushBatches) {
+        if (batcher != null) {
+            batcher.flush();
+        }
     }
 
     private void logUnhandled(final Object message) {
@@ -190,6 +265,11 @@ public final class Publisher extends AbstractActor {
                 .collect(Collectors.toList());
     }
 
+    private enum Control {
+        REPORT_MAILBOX_SIZE,
+        FLUSH_BATCHES
+    }
+
     /**
      * Requests to a publisher actor.
      */
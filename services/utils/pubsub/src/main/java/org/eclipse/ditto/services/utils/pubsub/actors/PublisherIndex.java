@@ -36,6 +36,7 @@ import akka.japi.Pair;
 
 /**
  * Index for publishing to a set of subscribers with groups.
+ * Instances are not modified after creation, so that one index is shared among all publisher or subscriber shards.
  *
  * @param <T> the type of topics.
  */
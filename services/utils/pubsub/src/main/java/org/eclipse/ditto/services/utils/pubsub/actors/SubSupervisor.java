@@ -56,6 +56,9 @@ import akka.japi.pf.ReceiveBuilder;
  *          +----------------->DDataReplicator
  * }
  * </pre>
+ * The subscriber is a router of {@link org.eclipse.ditto.services.utils.pubsub.config.PubSubConfig#getShards()}
+ * subscribers. Its reference is the one written into the distributed data, so that remote publishers send to the
+ * router and the router selects a subscriber in the thread of the sender.
  *
  * @param <T> type of messages subscribed for.
  */
@@ -127,7 +130,8 @@ public final class SubSupervisor<T> extends AbstractPubSubSupervisor {
 
     @Override
     protected void startChildren() {
-        subscriber = startChild(Subscriber.props(messageClass, topicExtractor, ackExtractor, distributedAcks),
+        final Props subscriberProps = Subscriber.props(messageClass, topicExtractor, ackExtractor, distributedAcks);
+        subscriber = startChild(PubSubShard.pool(config.getShards(), subscriberProps, Subscriber::getHashKey),
                 Subscriber.ACTOR_NAME_PREFIX);
         updater = startChild(SubUpdater.props(config, subscriber, topicsDData), SubUpdater.ACTOR_NAME_PREFIX);
     }
@@ -49,6 +49,7 @@ import akka.actor.Status;
 import akka.actor.Terminated;
 import akka.cluster.ddata.Replicator;
 import akka.japi.pf.ReceiveBuilder;
+import akka.routing.Broadcast;
 
 /**
  * Manages local subscriptions. Request distributed data update at regular intervals at the highest write consistency
@@ -186,7 +187,8 @@ public final class SubUpdater extends akka.actor.AbstractActorWithTimers {
         flushSubAcks(opSuccess.seqNr);
         // race condition possible -- some published messages may arrive before the acknowledgement
         // could solve it by having pubSubSubscriber forward acknowledgements. probably not worth it.
-        subscriber.tell(opSuccess.payload, getSelf());
+        // compute the index once for all subscribers
+        subscriber.tell(new Broadcast(PublisherIndex.fromSubscriptionsReader(opSuccess.payload)), getSelf());
 
         // reset changed flags if there are no more pending changes
         if (awaitSubAck.isEmpty() && awaitUpdate.isEmpty()) {
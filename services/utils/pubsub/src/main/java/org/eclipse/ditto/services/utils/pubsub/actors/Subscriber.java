@@ -14,6 +14,8 @@ package org.eclipse.ditto.services.utils.pubsub.actors;
 
 import java.time.Duration;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -27,8 +29,8 @@ import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
 import org.eclipse.ditto.services.utils.pubsub.DistributedAcks;
 import org.eclipse.ditto.services.utils.pubsub.api.LocalAcksChanged;
 import org.eclipse.ditto.services.utils.pubsub.api.PublishSignal;
+import org.eclipse.ditto.services.utils.pubsub.api.PublishSignalBatch;
 import org.eclipse.ditto.services.utils.pubsub.config.PubSubConfig;
-import org.eclipse.ditto.services.utils.pubsub.ddata.SubscriptionsReader;
 import org.eclipse.ditto.services.utils.pubsub.ddata.ack.GroupedSnapshot;
 import org.eclipse.ditto.services.utils.pubsub.extractors.AckExtractor;
 import org.eclipse.ditto.services.utils.pubsub.extractors.PubSubTopicExtractor;
@@ -37,13 +39,17 @@ import org.eclipse.ditto.signals.base.Signal;
 
 import akka.actor.AbstractActorWithTimers;
 import akka.actor.ActorRef;
+import akka.actor.ActorRefProvider;
+import akka.actor.ExtendedActorSystem;
 import akka.actor.Props;
 import akka.actor.Terminated;
 import akka.japi.Pair;
 import akka.japi.pf.ReceiveBuilder;
 
 /**
- * Actor that distributes messages to local subscribers
+ * Actor that distributes messages to local subscribers. Each node runs a configurable number of subscribers
+ * selected by the entity ID of each message; they share the index of local subscriptions computed by the
+ * {@link SubUpdater}. Signals in a {@link PublishSignalBatch} are published in order, each with its original sender.
  *
  * @param <T> type of messages.
  */
@@ -62,6 +68,7 @@ public final class Subscriber<T extends Signal<?>> extends AbstractActorWithTime
     private final Counter truePositiveCounter = DittoMetrics.counter("pubsub-true-positive");
     private final Counter falsePositiveCounter = DittoMetrics.counter("pubsub-false-positive");
     private final DittoDiagnosticLoggingAdapter logger = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
+    private final PubSubShard shard;
 
     private PublisherIndex<String> publisherIndex = PublisherIndex.empty();
     private GroupedSnapshot<ActorRef, String> declaredAcks = GroupedSnapshot.empty();
@@ -77,7 +84,10 @@ public final class Subscriber<T extends Signal<?>> extends AbstractActorWithTime
         this.topicExtractor = topicExtractor;
         this.ackExtractor = ackExtractor;
         this.distributedAcks = distributedAcks;
+        shard = PubSubShard.of(getSelf().path());
         distributedAcks.receiveLocalDeclaredAcks(getSelf());
+        timers().startTimerWithFixedDelay(Control.REPORT_MAILBOX_SIZE, Control.REPORT_MAILBOX_SIZE,
+                PubSubShard.MAILBOX_SIZE_SAMPLE_INTERVAL);
     }
 
     /**
@@ -95,15 +105,35 @@ public final class Subscriber<T extends Signal<?>> extends AbstractActorWithTime
         return Props.create(Subscriber.class, messageClass, topicExtractor, ackExtractor, distributedAcks);
     }
 
+    /**
+     * Get the key by which published signals are distributed among subscribers.
+     *
+     * @param message a message to the subscribers.
+     * @return the hash key of the message, or {@code null} if it is not a published signal.
+     */
+    @Nullable
+    static Object getHashKey(final Object message) {
+        if (message instanceof PublishSignal) {
+            return PubSubShard.getHashKey(((PublishSignal) message).getSignal());
+        } else if (message instanceof PublishSignalBatch) {
+            // all batches of a publisher go to the same shard to keep the order of their signals
+            return ((PublishSignalBatch) message).getPublisher();
+        } else {
+            return null;
+        }
+    }
+
     @Override
     public Receive createReceive() {
         return ReceiveBuilder.create()
-                .match(PublishSignal.class, this::broadcastToLocalSubscribers)
-                .match(SubscriptionsReader.class, this::updateLocalSubscriptions)
+                .match(PublishSignal.class, command -> broadcastToLocalSubscribers(command, getSender()))
+                .match(PublishSignalBatch.class, this::broadcastBatchToLocalSubscribers)
+                .match(PublisherIndex.class, this::updateLocalSubscriptions)
                 .match(LocalAcksChanged.class, this::updateLocalAcks)
                 .match(Terminated.class, this::terminated)
                 .matchEquals(ActorEvent.ACK_UPDATER_NOT_AVAILABLE, this::scheduleReceiveLocalDeclaredAcks)
                 .matchEquals(Control.RECEIVE_LOCAL_DECLARED_ACKS, this::receiveLocalDeclaredAcks)
+                .matchEquals(Control.REPORT_MAILBOX_SIZE, this::reportMailboxSize)
                 .build();
     }
 
@@ -128,7 +158,23 @@ public final class Subscriber<T extends Signal<?>> extends AbstractActorWithTime
         }
     }
 
-    private void broadcastToLocalSubscribers(final PublishSignal command) {
+    private void reportMailboxSize(final Control reportMailboxSize) {
+        shard.reportMailboxSize(getContext());
+    }
+
+    private void broadcastBatchToLocalSubscribers(final PublishSignalBatch batch) {
+        final ActorRefProvider provider = ((ExtendedActorSystem) getContext().getSystem()).provider();
+        final Map<String, ActorRef> senders = new HashMap<>();
+        for (final PublishSignalBatch.Entry entry : batch.getEntries()) {
+            final ActorRef sender = entry.getSender().isEmpty()
+                    ? ActorRef.noSender()
+                    : senders.computeIfAbsent(entry.getSender(), provider::resolveActorRef);
+            broadcastToLocalSubscribers(entry.getPublishSignal(), sender);
+        }
+    }
+
+    private void broadcastToLocalSubscribers(final PublishSignal command, @Nullable final ActorRef sender) {
+        shard.countMessage();
         final T message = messageClass.cast(command.getSignal());
         final Collection<String> topics = topicExtractor.getTopics(message);
         final Set<ActorRef> localSubscribers =
@@ -141,29 +187,30 @@ public final class Subscriber<T extends Signal<?>> extends AbstractActorWithTime
         } else {
             truePositiveCounter.increment();
             for (final ActorRef localSubscriber : localSubscribers) {
-                localSubscriber.tell(message, getSender());
+                localSubscriber.tell(message, sender);
             }
         }
-        replyWeakAck(message, command, localSubscribers, getSender());
+        replyWeakAck(message, command, localSubscribers, sender);
     }
 
     private void replyWeakAck(final T message, final PublishSignal command, final Set<ActorRef> localSubscribers,
-            final ActorRef sender) {
+            @Nullable final ActorRef sender) {
         final Set<String> responsibleAcks = declaredAcks.getValues(command.getGroups().keySet());
         final Collection<AcknowledgementLabel> declaredCustomAcks =
                 ackExtractor.getDeclaredCustomAcksRequestedBy(message, responsibleAcks::contains);
         final Collection<AcknowledgementLabel> declaredCustomAcksWithoutSubscribers = declaredCustomAcks.stream()
                 .filter(label -> disjoint(localSubscribers, declaredAcks.getKeys(label.toString())))
                 .collect(Collectors.toList());
-        if (!declaredCustomAcksWithoutSubscribers.isEmpty()) {
+        if (!declaredCustomAcksWithoutSubscribers.isEmpty() && sender != null) {
             final Acknowledgements acknowledgements =
                     ackExtractor.toWeakAcknowledgements(message, declaredCustomAcksWithoutSubscribers);
             sender.tell(acknowledgements, ActorRef.noSender());
         }
     }
 
-    private void updateLocalSubscriptions(final SubscriptionsReader subscriptionsReader) {
-        this.publisherIndex = PublisherIndex.fromSubscriptionsReader(subscriptionsReader);
+    @SuppressWarnings("unchecked")
+    private void updateLocalSubscriptions(final PublisherIndex<?> publisherIndex) {
+        this.publisherIndex = (PublisherIndex<String>) publisherIndex;
 
         // no need to watch the subUpdater -- the supervisor takes care of restarting on termination.
         subUpdater = getSender();
@@ -195,7 +242,8 @@ public final class Subscriber<T extends Signal<?>> extends AbstractActorWithTime
     }
 
     private enum Control {
-        RECEIVE_LOCAL_DECLARED_ACKS
+        RECEIVE_LOCAL_DECLARED_ACKS,
+        REPORT_MAILBOX_SIZE
     }
 
 }
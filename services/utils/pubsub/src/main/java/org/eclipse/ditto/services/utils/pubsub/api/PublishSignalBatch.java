@@ -0,0 +1,282 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.pubsub.api;
+
+import java.io.NotSerializableException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.entity.id.DefaultEntityId;
+import org.eclipse.ditto.model.base.entity.id.EntityId;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.base.json.JsonParsableCommand;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.signals.base.JsonParsable;
+import org.eclipse.ditto.signals.commands.base.AbstractCommand;
+
+/**
+ * Command from Publisher to Subscriber to publish several signals to local subscribers.
+ * Each signal is published as if it were sent in a {@link PublishSignal} by its own sender.
+ *
+ * @since 2.0.0
+ */
+@JsonParsableCommand(typePrefix = PublishSignal.TYPE_PREFIX, name = PublishSignalBatch.NAME)
+public final class PublishSignalBatch extends AbstractCommand<PublishSignalBatch> {
+
+    /**
+     * Name of this command.
+     */
+    public static final String NAME = "publishBatch";
+
+    private static final String TYPE = PublishSignal.TYPE_PREFIX + NAME;
+
+    private final String publisher;
+    private final List<Entry> entries;
+
+    private PublishSignalBatch(final String publisher, final List<Entry> entries) {
+        super(TYPE, DittoHeaders.empty(), Category.MODIFY);
+        this.publisher = publisher;
+        this.entries = Collections.unmodifiableList(new ArrayList<>(entries));
+    }
+
+    /**
+     * Create a batch of signals to publish.
+     *
+     * @param publisher serialized actor path of the publisher sending the batch.
+     * @param entries the signals to publish in the order of publication.
+     * @return the batch.
+     */
+    public static PublishSignalBatch of(final String publisher, final List<Entry> entries) {
+        return new PublishSignalBatch(publisher, entries);
+    }
+
+    /**
+     * Deserialize this command.
+     *
+     * @param jsonObject the JSON representation of this command.
+     * @param dittoHeaders the Ditto headers of the batch.
+     * @param parseInnerJson function to parse the inner JSON.
+     * @return the deserialized command.
+     */
+    @SuppressWarnings("unused") // called by reflection in AnnotationBasedJsonParsable.parse
+    public static PublishSignalBatch fromJson(final JsonObject jsonObject,
+            final DittoHeaders dittoHeaders,
+            final JsonParsable.ParseInnerJson parseInnerJson) {
+
+        final JsonArray entriesJson = jsonObject.getValueOrThrow(JsonFields.ENTRIES);
+        final List<Entry> entries = new ArrayList<>(entriesJson.getSize());
+        try {
+            for (final JsonValue entryJson : entriesJson) {
+                entries.add(Entry.fromJson(entryJson.asObject(), parseInnerJson));
+            }
+        } catch (final NotSerializableException e) {
+            throw new JsonParseException(e.getMessage());
+        }
+        return new PublishSignalBatch(jsonObject.getValueOrThrow(JsonFields.PUBLISHER), entries);
+    }
+
+    /**
+     * @return serialized actor path of the publisher sending this batch.
+     */
+    public String getPublisher() {
+        return publisher;
+    }
+
+    /**
+     * @return the signals to publish in the order of publication.
+     */
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    @Override
+    protected void appendPayload(final JsonObjectBuilder jsonObjectBuilder,
+            final JsonSchemaVersion schemaVersion,
+            final Predicate<JsonField> predicate) {
+
+        jsonObjectBuilder.set(JsonFields.PUBLISHER, publisher)
+                .set(JsonFields.ENTRIES, entries.stream()
+                        .map(entry -> entry.json)
+                        .collect(JsonCollectors.valuesToArray()));
+    }
+
+    @Override
+    public String getTypePrefix() {
+        return PublishSignal.TYPE_PREFIX;
+    }
+
+    @Override
+    public Category getCategory() {
+        return Category.MODIFY;
+    }
+
+    @Override
+    public PublishSignalBatch setDittoHeaders(final DittoHeaders dittoHeaders) {
+        return this;
+    }
+
+    @Override
+    public EntityId getEntityId() {
+        return DefaultEntityId.dummy();
+    }
+
+    @Override
+    public JsonPointer getResourcePath() {
+        return JsonPointer.empty();
+    }
+
+    @Override
+    public String getResourceType() {
+        return PublishSignal.TYPE_PREFIX;
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object other) {
+        if (other instanceof PublishSignalBatch) {
+            final PublishSignalBatch that = (PublishSignalBatch) other;
+            return Objects.equals(publisher, that.publisher) && Objects.equals(entries, that.entries);
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(publisher, entries);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[publisher=" + publisher + ", entries=" + entries + "]";
+    }
+
+    /**
+     * A signal in a batch together with the sender to publish it with.
+     * The entry is serialized on creation, including the Ditto headers of the signal which the batch does not carry.
+     */
+    public static final class Entry {
+
+        private final PublishSignal publishSignal;
+        private final String sender;
+        private final JsonObject json;
+
+        private Entry(final PublishSignal publishSignal, final String sender, final JsonObject json) {
+            this.publishSignal = publishSignal;
+            this.sender = sender;
+            this.json = json;
+        }
+
+        /**
+         * Create an entry of a batch.
+         *
+         * @param publishSignal the signal to publish.
+         * @param sender serialized actor path of the sender, or the empty string for no sender.
+         * @return the entry.
+         */
+        public static Entry of(final PublishSignal publishSignal, final String sender) {
+            final DittoHeaders dittoHeaders = publishSignal.getDittoHeaders();
+            final JsonSchemaVersion schemaVersion = dittoHeaders.getSchemaVersion().orElse(JsonSchemaVersion.LATEST);
+            final JsonObject json = JsonFactory.newObjectBuilder()
+                    .set(JsonFields.HEADERS, dittoHeaders.toJson())
+                    .set(JsonFields.SIGNAL, publishSignal.toJson(schemaVersion, FieldType.regularOrSpecial()))
+                    .set(JsonFields.SENDER, sender)
+                    .build();
+            return new Entry(publishSignal, sender, json);
+        }
+
+        private static Entry fromJson(final JsonObject json, final JsonParsable.ParseInnerJson parseInnerJson)
+                throws NotSerializableException {
+
+            final DittoHeaders dittoHeaders = DittoHeaders.newBuilder(json.getValueOrThrow(JsonFields.HEADERS)).build();
+            final PublishSignal publishSignal =
+                    (PublishSignal) parseInnerJson.parseInnerJson(json.getValueOrThrow(JsonFields.SIGNAL));
+            return new Entry(publishSignal.setDittoHeaders(dittoHeaders), json.getValueOrThrow(JsonFields.SENDER),
+                    json);
+        }
+
+        /**
+         * @return the signal to publish.
+         */
+        public PublishSignal getPublishSignal() {
+            return publishSignal;
+        }
+
+        /**
+         * @return serialized actor path of the sender, or the empty string for no sender.
+         */
+        public String getSender() {
+            return sender;
+        }
+
+        /**
+         * @return approximate size of the serialized entry in bytes.
+         */
+        public int getSize() {
+            return json.toString().length();
+        }
+
+        @Override
+        public boolean equals(@Nullable final Object other) {
+            if (other instanceof Entry) {
+                final Entry that = (Entry) other;
+                return Objects.equals(publishSignal, that.publishSignal) && Objects.equals(sender, that.sender);
+            } else {
+                return false;
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(publishSignal, sender);
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + "[publishSignal=" + publishSignal + ", sender=" + sender + "]";
+        }
+    }
+
+    private static final class JsonFields {
+
+        private static final JsonFieldDefinition<String> PUBLISHER =
+                JsonFactory.newStringFieldDefinition("publisher");
+
+        private static final JsonFieldDefinition<JsonArray> ENTRIES =
+                JsonFactory.newJsonArrayFieldDefinition("entries");
+
+        private static final JsonFieldDefinition<JsonObject> HEADERS =
+                JsonFactory.newJsonObjectFieldDefinition("headers");
+
+        private static final JsonFieldDefinition<JsonObject> SIGNAL =
+                JsonFactory.newJsonObjectFieldDefinition("signal");
+
+        private static final JsonFieldDefinition<String> SENDER =
+                JsonFactory.newStringFieldDefinition("sender");
+    }
+}
@@ -39,11 +39,15 @@ final class DefaultPubSubConfig implements PubSubConfig {
     private final String seed;
     private final Duration restartDelay;
     private final Duration updateInterval;
+    private final int shards;
+    private final PublishBatchConfig publishBatchConfig;
 
     private DefaultPubSubConfig(final ConfigWithFallback config) {
         seed = config.getString(ConfigValue.SEED.getConfigPath());
         restartDelay = config.getDuration(ConfigValue.RESTART_DELAY.getConfigPath());
         updateInterval = config.getDuration(ConfigValue.UPDATE_INTERVAL.getConfigPath());
+        shards = config.getPositiveIntOrThrow(ConfigValue.SHARDS);
+        publishBatchConfig = DefaultPublishBatchConfig.of(config);
     }
 
     static PubSubConfig of(final Config config) {
@@ -65,12 +69,22 @@ final class DefaultPubSubConfig implements PubSubConfig {
         return updateInterval;
     }
 
+    @Override
+    public int getShards() {
+        return shards;
+    }
+
+    @Override
+    public PublishBatchConfig getPublishBatchConfig() {
+        return publishBatchConfig;
+    }
+
     private String[] getFieldNames() {
-        return new String[]{"seed", "restartDelay", "updateInterval"};
+        return new String[]{"seed", "restartDelay", "updateInterval", "shards", "publishBatchConfig"};
     }
 
     private Object[] getFieldValues() {
-        return new Object[]{seed, restartDelay, updateInterval};
+        return new Object[]{seed, restartDelay, updateInterval, shards, publishBatchConfig};
     }
 
     @Override
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.pubsub.config;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.services.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of {@link PublishBatchConfig}.
+ */
+@Immutable
+final class DefaultPublishBatchConfig implements PublishBatchConfig {
+
+    private static final String CONFIG_PATH = "batch";
+
+    private final boolean enabled;
+    private final int maxCount;
+    private final int maxBytes;
+    private final Duration linger;
+
+    private DefaultPublishBatchConfig(final ScopedConfig config) {
+        enabled = config.getBoolean(ConfigValue.ENABLED.getConfigPath());
+        maxCount = config.getPositiveIntOrThrow(ConfigValue.MAX_COUNT);
+        maxBytes = config.getPositiveIntOrThrow(ConfigValue.MAX_BYTES);
+        linger = config.getDuration(ConfigValue.LINGER.getConfigPath());
+    }
+
+    /**
+     * Returns an instance of the default publish batch config based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the batch config at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    static DefaultPublishBatchConfig of(final Config config) {
+        return new DefaultPublishBatchConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, ConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public int getMaxCount() {
+        return maxCount;
+    }
+
+    @Override
+    public int getMaxBytes() {
+        return maxBytes;
+    }
+
+    @Override
+    public Duration getLinger() {
+        return linger;
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultPublishBatchConfig that = (DefaultPublishBatchConfig) o;
+        return enabled == that.enabled &&
+                maxCount == that.maxCount &&
+                maxBytes == that.maxBytes &&
+                Objects.equals(linger, that.linger);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, maxCount, maxBytes, linger);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", maxCount=" + maxCount +
+                ", maxBytes=" + maxBytes +
+                ", linger=" + linger +
+                "]";
+    }
+
+}
@@ -41,6 +41,23 @@ public interface PubSubConfig {
      */
     Duration getUpdateInterval();
 
+    /**
+     * Returns the number of publisher and subscriber actors per node. Signals are distributed among them by their
+     * entity ID so that signals of the same entity keep their order.
+     *
+     * @return the number of publisher and subscriber shards.
+     * @since 2.0.0
+     */
+    int getShards();
+
+    /**
+     * Returns the config of batching signals published to remote subscribers.
+     *
+     * @return the batch config.
+     * @since 2.0.0
+     */
+    PublishBatchConfig getPublishBatchConfig();
+
     /**
      * Create a {@code PubSubConfig} object from a {@code Config} object at the key {@code pubsub}.
      *
@@ -85,7 +102,12 @@ public interface PubSubConfig {
         /**
          * How often to flush local subscriptions to the distributed data replicator.
          */
-        UPDATE_INTERVAL("update-interval", Duration.ofSeconds(3L));
+        UPDATE_INTERVAL("update-interval", Duration.ofSeconds(3L)),
+
+        /**
+         * How many publisher and subscriber actors to start on each node.
+         */
+        SHARDS("shards", 1);
 
         private final String path;
         private final Object defaultValue;
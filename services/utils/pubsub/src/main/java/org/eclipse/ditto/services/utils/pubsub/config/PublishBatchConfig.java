@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.pubsub.config;
+
+import java.time.Duration;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Configuration for batching signals published to remote subscribers.
+ *
+ * @since 2.0.0
+ */
+public interface PublishBatchConfig {
+
+    /**
+     * @return whether signals to remote subscribers are sent in batches.
+     */
+    boolean isEnabled();
+
+    /**
+     * @return maximum number of signals in a batch.
+     */
+    int getMaxCount();
+
+    /**
+     * @return maximum approximate size of the signals of a batch in bytes.
+     */
+    int getMaxBytes();
+
+    /**
+     * @return how long to wait for further signals before sending an incomplete batch.
+     */
+    Duration getLinger();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values.
+     */
+    enum ConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether signals to remote subscribers are sent in batches.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * Maximum number of signals in a batch.
+         */
+        MAX_COUNT("max-count", 100),
+
+        /**
+         * Maximum approximate size of the signals of a batch in bytes.
+         */
+        MAX_BYTES("max-bytes", 65536),
+
+        /**
+         * How long to wait for further signals before sending an incomplete batch.
+         */
+        LINGER("linger", Duration.ofMillis(10L));
+
+        private final String path;
+        private final Object defaultValue;
+
+        ConfigValue(final String path, final Object defaultValue) {
+            this.path = path;
+            this.defaultValue = defaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.pubsub;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Tests Ditto pub-sub as a whole with signals to remote subscribers sent in batches.
+ * The maximum batch size is small so that both full and lingering batches are sent.
+ */
+public final class BatchingPubSubFactoryTest extends PubSubFactoryTest {
+
+    @Override
+    protected Config getTestConf() {
+        return ConfigFactory.parseString("ditto.pubsub.batch {\n" +
+                "  enabled = true\n" +
+                "  max-count = 7\n" +
+                "  linger = 50ms\n" +
+                "}")
+                .withFallback(super.getTestConf());
+    }
+
+}
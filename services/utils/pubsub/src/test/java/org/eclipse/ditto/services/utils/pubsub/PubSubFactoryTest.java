@@ -74,7 +74,7 @@ import scala.concurrent.duration.Duration;
 /**
  * Tests Ditto pub-sub as a whole.
  */
-public final class PubSubFactoryTest {
+public class PubSubFactoryTest {
 
     private ActorSystem system1;
     private ActorSystem system2;
@@ -88,7 +88,7 @@ public final class PubSubFactoryTest {
     private Map<String, ThingId> thingIdMap;
     private Map<String, DittoHeaders> dittoHeadersMap;
 
-    private Config getTestConf() {
+    protected Config getTestConf() {
         return ConfigFactory.load("pubsub-factory-test.conf");
     }
 
@@ -13,6 +13,7 @@
 package org.eclipse.ditto.services.utils.pubsub.config;
 
 import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.AllowedReason.provided;
 import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
 
 import java.time.Duration;
@@ -44,7 +45,8 @@ public final class DefaultPubSubConfigTest {
 
     @Test
     public void assertImmutability() {
-        assertInstancesOf(DefaultPubSubConfig.class, areImmutable());
+        assertInstancesOf(DefaultPubSubConfig.class, areImmutable(),
+                provided(PublishBatchConfig.class).isAlsoImmutable());
     }
 
     @Test
@@ -67,6 +69,26 @@ public final class DefaultPubSubConfigTest {
         softly.assertThat(underTest.getUpdateInterval())
                 .as(PubSubConfig.ConfigValue.UPDATE_INTERVAL.getConfigPath())
                 .isEqualTo(Duration.ofSeconds(3L));
+
+        softly.assertThat(underTest.getShards())
+                .as(PubSubConfig.ConfigValue.SHARDS.getConfigPath())
+                .isEqualTo(1);
+
+        softly.assertThat(underTest.getPublishBatchConfig().isEnabled())
+                .as(PublishBatchConfig.ConfigValue.ENABLED.getConfigPath())
+                .isFalse();
+
+        softly.assertThat(underTest.getPublishBatchConfig().getMaxCount())
+                .as(PublishBatchConfig.ConfigValue.MAX_COUNT.getConfigPath())
+                .isEqualTo(100);
+
+        softly.assertThat(underTest.getPublishBatchConfig().getMaxBytes())
+                .as(PublishBatchConfig.ConfigValue.MAX_BYTES.getConfigPath())
+                .isEqualTo(65536);
+
+        softly.assertThat(underTest.getPublishBatchConfig().getLinger())
+                .as(PublishBatchConfig.ConfigValue.LINGER.getConfigPath())
+                .isEqualTo(Duration.ofMillis(10L));
     }
 
     @Test
@@ -84,6 +106,26 @@ public final class DefaultPubSubConfigTest {
         softly.assertThat(underTest.getUpdateInterval())
                 .as(PubSubConfig.ConfigValue.UPDATE_INTERVAL.getConfigPath())
                 .isEqualTo(Duration.ofSeconds(4L));
+
+        softly.assertThat(underTest.getShards())
+                .as(PubSubConfig.ConfigValue.SHARDS.getConfigPath())
+                .isEqualTo(4);
+
+        softly.assertThat(underTest.getPublishBatchConfig().isEnabled())
+                .as(PublishBatchConfig.ConfigValue.ENABLED.getConfigPath())
+                .isTrue();
+
+        softly.assertThat(underTest.getPublishBatchConfig().getMaxCount())
+                .as(PublishBatchConfig.ConfigValue.MAX_COUNT.getConfigPath())
+                .isEqualTo(50);
+
+        softly.assertThat(underTest.getPublishBatchConfig().getMaxBytes())
+                .as(PublishBatchConfig.ConfigValue.MAX_BYTES.getConfigPath())
+                .isEqualTo(32768);
+
+        softly.assertThat(underTest.getPublishBatchConfig().getLinger())
+                .as(PublishBatchConfig.ConfigValue.LINGER.getConfigPath())
+                .isEqualTo(Duration.ofMillis(5L));
     }
 
 }